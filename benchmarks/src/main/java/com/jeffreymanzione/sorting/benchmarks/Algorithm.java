@@ -0,0 +1,70 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import com.jeffreymanzione.sorting.AbstractParallelSort;
+import com.jeffreymanzione.sorting.AbstractSort;
+import com.jeffreymanzione.sorting.sorts.AmericanFlagSort;
+import com.jeffreymanzione.sorting.sorts.Heapsort;
+import com.jeffreymanzione.sorting.sorts.InsertionSort;
+import com.jeffreymanzione.sorting.sorts.Introsort;
+import com.jeffreymanzione.sorting.sorts.MergeSort;
+import com.jeffreymanzione.sorting.sorts.Quicksort;
+import com.jeffreymanzione.sorting.sorts.TimSort;
+
+/**
+ * Algorithm.java
+ * 
+ * The sorts which are benchmarked. The SAMPLE_ variants split the whole range of a parallel sort with a parallel
+ * sample sort step.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+public enum Algorithm {
+
+	INSERTION_SORT, HEAPSORT, QUICKSORT, INTROSORT, SAMPLE_QUICKSORT, SAMPLE_INTROSORT, MERGE_SORT, TIM_SORT,
+	AMERICAN_FLAG_SORT;
+
+	/**
+	 * @return A new instance of the sort.
+	 */
+	public AbstractSort<Integer> create() {
+		switch (this) {
+		case INSERTION_SORT:
+			return new InsertionSort<>();
+		case HEAPSORT:
+			return new Heapsort<>();
+		case QUICKSORT:
+			return new Quicksort<>();
+		case SAMPLE_QUICKSORT:
+			Quicksort<Integer> quicksort = new Quicksort<>();
+			quicksort.setParallelPartitioning(true);
+			return quicksort;
+		case SAMPLE_INTROSORT:
+			Introsort<Integer> introsort = new Introsort<>();
+			introsort.setParallelPartitioning(true);
+			return introsort;
+		case MERGE_SORT:
+			return new MergeSort<>();
+		case TIM_SORT:
+			return new TimSort<>();
+		case AMERICAN_FLAG_SORT:
+			return new AmericanFlagSort<>(Integer::intValue);
+		default:
+			return new Introsort<>();
+		}
+	}
+
+	/**
+	 * @return A new instance of the sort.
+	 * @throws IllegalStateException
+	 *             If the sort is not parallel.
+	 */
+	public AbstractParallelSort<Integer> createParallel() {
+		AbstractSort<Integer> sort = create();
+		if (!(sort instanceof AbstractParallelSort)) {
+			throw new IllegalStateException(this + " is not a parallel sort.");
+		}
+		return (AbstractParallelSort<Integer>) sort;
+	}
+}
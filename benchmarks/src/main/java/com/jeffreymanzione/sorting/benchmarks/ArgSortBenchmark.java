@@ -0,0 +1,116 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.sorts.ArgSort;
+import com.jeffreymanzione.sorting.sorts.Introsort;
+
+/**
+ * ArgSortBenchmark.java
+ * 
+ * Measures co-sorting an int key column with a long and a double column using ArgSort against wrapping every row in
+ * an object, sorting the rows with Introsort and unwrapping them.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgSortBenchmark {
+
+	@Param({ "1000000" })
+	public int size;
+
+	@Param({ "RANDOM", "FEW_UNIQUE" })
+	public Distribution distribution;
+
+	private ArgSort argSort;
+	private Introsort<Row> introsort;
+	private int[] source, keys;
+	private long[] longs;
+	private double[] doubles;
+
+	/**
+	 * A row of the columns.
+	 */
+	private static final class Row implements Comparable<Row> {
+
+		private final int key;
+		private final long longValue;
+		private final double doubleValue;
+
+		private Row(int key, long longValue, double doubleValue) {
+			this.key = key;
+			this.longValue = longValue;
+			this.doubleValue = doubleValue;
+		}
+
+		@Override
+		public int compareTo(Row o) {
+			return Integer.compare(key, o.key);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		argSort = new ArgSort();
+		introsort = new Introsort<>();
+		source = distribution.generate(size, size);
+		keys = new int[size];
+		longs = new long[size];
+		doubles = new double[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		for (int i = 0; i < size; i++) {
+			keys[i] = source[i];
+			longs[i] = i;
+			doubles[i] = i;
+		}
+	}
+
+	@Benchmark
+	public int[] argsort() {
+		return argSort.argsort(keys);
+	}
+
+	@Benchmark
+	public int[] coSort() {
+		argSort.coSort(keys, longs, doubles);
+		return keys;
+	}
+
+	@Benchmark
+	public int[] wrapSortUnwrap() {
+		Row[] rows = new Row[size];
+		for (int i = 0; i < size; i++) {
+			rows[i] = new Row(keys[i], longs[i], doubles[i]);
+		}
+		introsort.sort(rows);
+		for (int i = 0; i < size; i++) {
+			keys[i] = rows[i].key;
+			longs[i] = rows[i].longValue;
+			doubles[i] = rows[i].doubleValue;
+		}
+		return keys;
+	}
+}
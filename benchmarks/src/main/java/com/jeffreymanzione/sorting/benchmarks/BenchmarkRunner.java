@@ -0,0 +1,26 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchmarkRunner.java
+ * 
+ * Entry point of the benchmarks jar. Accepts the regular JMH command line options and always attaches the
+ * {@link GCProfiler} so that the allocation rate is reported next to the throughput and average time.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+public class BenchmarkRunner {
+
+	public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+		new Runner(new OptionsBuilder().parent(new CommandLineOptions(args)).addProfiler(GCProfiler.class).build())
+				.run();
+	}
+}
@@ -0,0 +1,117 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.sorts.CompositeSort;
+import com.jeffreymanzione.sorting.sorts.CompositeSort.Column;
+import com.jeffreymanzione.sorting.sorts.Introsort;
+
+/**
+ * CompositeSortBenchmark.java
+ * 
+ * Measures sorting report rows by (region, day, score descending, id) with CompositeSort over the columns against
+ * sorting row objects with Introsort and a chained comparator.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositeSortBenchmark {
+
+	@Param({ "1000000" })
+	public int size;
+
+	@Param({ "16" })
+	public int regions;
+
+	private CompositeSort compositeSort;
+	private Introsort<Row> introsort;
+	private Column[] columns;
+	private Row[] source, rows;
+
+	/**
+	 * A row of the report.
+	 */
+	private static final class Row implements Comparable<Row> {
+
+		private final String region;
+		private final int day;
+		private final double score;
+		private final long id;
+
+		private Row(String region, int day, double score, long id) {
+			this.region = region;
+			this.day = day;
+			this.score = score;
+			this.id = id;
+		}
+
+		@Override
+		public int compareTo(Row o) {
+			return Long.compare(id, o.id);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		Random random = new Random(size);
+		String[] regionColumn = new String[size];
+		int[] dayColumn = new int[size];
+		double[] scoreColumn = new double[size];
+		long[] idColumn = new long[size];
+		source = new Row[size];
+		for (int i = 0; i < size; i++) {
+			regionColumn[i] = "region-" + random.nextInt(regions);
+			dayColumn[i] = random.nextInt(365);
+			scoreColumn[i] = random.nextInt(100);
+			idColumn[i] = random.nextLong();
+			source[i] = new Row(regionColumn[i], dayColumn[i], scoreColumn[i], idColumn[i]);
+		}
+		columns = new Column[] { Column.of(regionColumn), Column.ofInts(dayColumn),
+				Column.ofDoubles(scoreColumn).descending(), Column.ofLongs(idColumn) };
+
+		compositeSort = new CompositeSort();
+		introsort = new Introsort<>();
+		introsort.setComparator(Comparator.comparing((Row row) -> row.region).thenComparingInt(row -> row.day)
+				.thenComparing(Comparator.comparingDouble((Row row) -> row.score).reversed())
+				.thenComparingLong(row -> row.id));
+		rows = new Row[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(source, 0, rows, 0, size);
+	}
+
+	@Benchmark
+	public int[] compositeSort() {
+		return compositeSort.argsort(columns);
+	}
+
+	@Benchmark
+	public Row[] chainedComparator() {
+		introsort.sort(rows);
+		return rows;
+	}
+}
@@ -0,0 +1,93 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Distribution.java
+ * 
+ * The shapes of input the benchmarks sort. Every distribution is generated from a seed so that every algorithm is
+ * measured against the same data.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+public enum Distribution {
+
+	/**
+	 * Uniformly random values.
+	 */
+	RANDOM,
+	/**
+	 * Values already in ascending order.
+	 */
+	SORTED,
+	/**
+	 * Values in descending order.
+	 */
+	REVERSED,
+	/**
+	 * Ascending values where one element in a hundred has been swapped with a random other element.
+	 */
+	NEARLY_SORTED,
+	/**
+	 * Random values drawn from only sixteen distinct keys.
+	 */
+	FEW_UNIQUE;
+
+	/**
+	 * Generates the values of this distribution.
+	 * 
+	 * @param size
+	 *            The number of values
+	 * @param seed
+	 *            The seed of the random values
+	 * @return The generated values.
+	 */
+	public int[] generate(int size, long seed) {
+		Random random = new Random(seed);
+		int[] values = new int[size];
+		for (int i = 0; i < size; i++) {
+			switch (this) {
+			case RANDOM:
+				values[i] = random.nextInt();
+				break;
+			case REVERSED:
+				values[i] = size - i;
+				break;
+			case FEW_UNIQUE:
+				values[i] = random.nextInt(16);
+				break;
+			default:
+				values[i] = i;
+			}
+		}
+		if (this == NEARLY_SORTED) {
+			for (int i = 0; i < size / 100; i++) {
+				int j = random.nextInt(size), k = random.nextInt(size);
+				int tmp = values[j];
+				values[j] = values[k];
+				values[k] = tmp;
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * Generates the values of this distribution boxed for the object sorts.
+	 * 
+	 * @param size
+	 *            The number of values
+	 * @param seed
+	 *            The seed of the random values
+	 * @return The generated values.
+	 */
+	public Integer[] generateBoxed(int size, long seed) {
+		int[] values = generate(size, seed);
+		Integer[] boxed = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			boxed[i] = values[i];
+		}
+		return boxed;
+	}
+}
@@ -0,0 +1,68 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.sorts.Heapsort;
+
+/**
+ * HeapsortBenchmark.java
+ * 
+ * Measures Heapsort with binary, 4-ary and 8-ary heaps, on an array which fits in the caches and on one far larger
+ * than the last level cache of most machines. Run it with {@code -prof perfnorm} on Linux to see the cache misses per
+ * operation alongside the time.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class HeapsortBenchmark {
+
+	@Param({ "2", "4", "8" })
+	public int arity;
+
+	@Param({ "100000", "10000000" })
+	public int size;
+
+	@Param({ "RANDOM" })
+	public Distribution distribution;
+
+	private Heapsort<Integer> heapsort;
+	private Integer[] source, arr;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		heapsort = new Heapsort<>(arity);
+		source = distribution.generateBoxed(size, size);
+		arr = new Integer[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(source, 0, arr, 0, size);
+	}
+
+	@Benchmark
+	public Integer[] sort() {
+		heapsort.sort(arr);
+		return arr;
+	}
+}
@@ -0,0 +1,64 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.AbstractSort;
+
+/**
+ * InsertionSortBenchmark.java
+ * 
+ * Measures InsertionSort over every input distribution. It is kept apart from {@link SortBenchmark} because its
+ * quadratic element moves make the larger sizes of that benchmark impractical.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InsertionSortBenchmark {
+
+	@Param({ "16", "1000", "10000" })
+	public int size;
+
+	@Param({ "RANDOM", "SORTED", "REVERSED", "NEARLY_SORTED", "FEW_UNIQUE" })
+	public Distribution distribution;
+
+	private AbstractSort<Integer> sort;
+	private Integer[] source, arr;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		sort = Algorithm.INSERTION_SORT.create();
+		source = distribution.generateBoxed(size, size);
+		arr = new Integer[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(source, 0, arr, 0, size);
+	}
+
+	@Benchmark
+	public Integer[] sort() {
+		sort.sort(arr);
+		return arr;
+	}
+}
@@ -0,0 +1,86 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.sorts.Introsort;
+import com.jeffreymanzione.sorting.sorts.KWayMerge;
+
+/**
+ * KWayMergeBenchmark.java
+ * 
+ * Measures combining sorted shards with the loser tree of KWayMerge against concatenating them and sorting the result
+ * with Introsort.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KWayMergeBenchmark {
+
+	@Param({ "16", "1000" })
+	public int shards;
+
+	@Param({ "1000000" })
+	public int size;
+
+	private KWayMerge<Integer> merge;
+	private Introsort<Integer> introsort;
+	private Integer[][] sources;
+	private Integer[] out;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		merge = new KWayMerge<>();
+		introsort = new Introsort<>();
+		Integer[] values = Distribution.RANDOM.generateBoxed(size, size);
+		sources = new Integer[shards][];
+		for (int i = 0; i < shards; i++) {
+			sources[i] = Arrays.copyOfRange(values, (int) ((long) i * size / shards),
+					(int) ((long) (i + 1) * size / shards));
+			Arrays.sort(sources[i]);
+		}
+		out = new Integer[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		Arrays.fill(out, null);
+	}
+
+	@Benchmark
+	public Integer[] merge() {
+		merge.merge(sources, out);
+		return out;
+	}
+
+	@Benchmark
+	public Integer[] concatenateAndSort() {
+		int dest = 0;
+		for (Integer[] source : sources) {
+			System.arraycopy(source, 0, out, dest, source.length);
+			dest += source.length;
+		}
+		introsort.sort(out);
+		return out;
+	}
+}
@@ -0,0 +1,127 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.kernels.SortKernel;
+import com.jeffreymanzione.sorting.kernels.SortKernels;
+import com.jeffreymanzione.sorting.sorts.Introsort;
+
+/**
+ * KernelBenchmark.java
+ * 
+ * Compares Introsort, whose comparisons all go through the shared AbstractSort.compare call site, with the specialized
+ * kernels of {@link SortKernels}. With the polluted profile, the trial first sorts strings, longs and integers by their
+ * natural orderings and by several comparators, so that the shared call sites are megamorphic by the time the measured
+ * integers are sorted; the same warm-up is run through kernels of their own for the kernel benchmark. The last
+ * benchmark runs Introsort with {@link Introsort#setSpecializedKernels(boolean)}, which hands the whole serial sort to
+ * the kernel of its comparator.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KernelBenchmark {
+
+	private static final Comparator<Integer> BY_VALUE = (a, b) -> Integer.compare(a, b);
+
+	@Param({ "CLEAN", "POLLUTED" })
+	public String profile;
+
+	@Param({ "100000" })
+	public int size;
+
+	@Param({ "RANDOM" })
+	public Distribution distribution;
+
+	private Introsort<Integer> introsort, introsortWithKernels;
+	private SortKernel<Integer> kernel;
+	private Integer[] source, arr;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		if ("POLLUTED".equals(profile)) {
+			pollute();
+		}
+		introsort = new Introsort<>();
+		introsort.setComparator(BY_VALUE);
+		kernel = SortKernels.comparing(BY_VALUE);
+		introsortWithKernels = new Introsort<>();
+		introsortWithKernels.setComparator(BY_VALUE);
+		introsortWithKernels.setSpecializedKernels(true);
+		source = distribution.generateBoxed(size, size);
+		arr = new Integer[size];
+	}
+
+	/**
+	 * Sorts other element types and orderings through both Introsort and kernels until they are compiled.
+	 */
+	private static void pollute() {
+		int[] values = Distribution.RANDOM.generate(10_000, 0);
+		Integer[] integers = new Integer[values.length];
+		Long[] longs = new Long[values.length];
+		String[] strings = new String[values.length];
+		for (int round = 0; round < 200; round++) {
+			for (int i = 0; i < values.length; i++) {
+				integers[i] = values[i];
+				longs[i] = (long) values[i] << 16;
+				strings[i] = Integer.toHexString(values[i]);
+			}
+			new Introsort<String>().sort(strings);
+			new Introsort<Long>().sort(longs);
+			Introsort<Integer> reversed = new Introsort<>();
+			reversed.setComparator(Comparator.reverseOrder());
+			reversed.sort(integers);
+			Introsort<String> byLength = new Introsort<>();
+			byLength.setComparator(Comparator.comparingInt(String::length));
+			byLength.sort(strings);
+
+			SortKernels.naturalOrder(String.class).sort(strings);
+			SortKernels.naturalOrder(Long.class).sort(longs);
+			SortKernels.<Integer> comparing(Comparator.reverseOrder()).sort(integers);
+			SortKernels.<String> comparing(Comparator.comparingInt(String::length)).sort(strings);
+		}
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(source, 0, arr, 0, size);
+	}
+
+	@Benchmark
+	public Integer[] introsort() {
+		introsort.sort(arr);
+		return arr;
+	}
+
+	@Benchmark
+	public Integer[] kernel() {
+		kernel.sort(arr);
+		return arr;
+	}
+
+	@Benchmark
+	public Integer[] introsortWithKernels() {
+		introsortWithKernels.sort(arr);
+		return arr;
+	}
+}
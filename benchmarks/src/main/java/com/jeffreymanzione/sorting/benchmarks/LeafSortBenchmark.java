@@ -0,0 +1,87 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.sorts.Introsort;
+import com.jeffreymanzione.sorting.sorts.LeafSort;
+import com.jeffreymanzione.sorting.sorts.PrimitiveIntrosort;
+
+/**
+ * LeafSortBenchmark.java
+ * 
+ * Measures Introsort and PrimitiveIntrosort with each leaf sort over several leaf thresholds.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeafSortBenchmark {
+
+	@Param({ "INSERTION_SORT", "SORTING_NETWORK" })
+	public LeafSort leafSort;
+
+	@Param({ "8", "16", "32" })
+	public int leafThreshold;
+
+	@Param({ "1000000" })
+	public int size;
+
+	@Param({ "RANDOM", "FEW_UNIQUE" })
+	public Distribution distribution;
+
+	private Introsort<Integer> introsort;
+	private PrimitiveIntrosort primitiveIntrosort;
+	private Integer[] boxedSource, boxed;
+	private int[] source, ints;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		introsort = new Introsort<>();
+		introsort.setLeafSort(leafSort);
+		introsort.setLeafThreshold(leafThreshold);
+		primitiveIntrosort = new PrimitiveIntrosort();
+		primitiveIntrosort.setLeafSort(leafSort);
+		primitiveIntrosort.setLeafThreshold(leafThreshold);
+		source = distribution.generate(size, size);
+		boxedSource = distribution.generateBoxed(size, size);
+		ints = new int[size];
+		boxed = new Integer[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(source, 0, ints, 0, size);
+		System.arraycopy(boxedSource, 0, boxed, 0, size);
+	}
+
+	@Benchmark
+	public Integer[] introsort() {
+		introsort.sort(boxed);
+		return boxed;
+	}
+
+	@Benchmark
+	public int[] primitiveIntrosort() {
+		primitiveIntrosort.sort(ints);
+		return ints;
+	}
+}
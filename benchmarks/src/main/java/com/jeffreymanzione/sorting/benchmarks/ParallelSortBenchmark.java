@@ -0,0 +1,87 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.AbstractParallelSort;
+
+/**
+ * ParallelSortBenchmark.java
+ * 
+ * Measures {@link AbstractParallelSort#sortParallel(Comparable[])} followed by
+ * {@link AbstractParallelSort#awaitCompletion()} over every input distribution, parallel threshold and number of
+ * threads. Each trial runs its sort on a dedicated pool with the given number of threads.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelSortBenchmark {
+
+	@Param({ "QUICKSORT", "INTROSORT", "SAMPLE_QUICKSORT", "SAMPLE_INTROSORT", "MERGE_SORT", "TIM_SORT",
+			"AMERICAN_FLAG_SORT" })
+	public Algorithm algorithm;
+
+	@Param({ "1000000" })
+	public int size;
+
+	@Param({ "RANDOM", "SORTED", "REVERSED", "NEARLY_SORTED", "FEW_UNIQUE" })
+	public Distribution distribution;
+
+	@Param({ "2048", "16384", "131072" })
+	public int parallelThreshold;
+
+	@Param({ "1", "2", "4", "8" })
+	public int threads;
+
+	private ForkJoinPool pool;
+	private AbstractParallelSort<Integer> sort;
+	private Integer[] source, arr;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		pool = new ForkJoinPool(threads);
+		sort = algorithm.createParallel();
+		sort.setPool(pool);
+		sort.setParallelThreshold(parallelThreshold);
+		source = distribution.generateBoxed(size, size);
+		arr = new Integer[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(source, 0, arr, 0, size);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public Integer[] sortParallel() {
+		sort.sortParallel(arr);
+		sort.awaitCompletion();
+		return arr;
+	}
+}
@@ -0,0 +1,106 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.sorts.Introsort;
+import com.jeffreymanzione.sorting.sorts.PartialSort;
+import com.jeffreymanzione.sorting.sorts.SortedView;
+
+/**
+ * PartialSortBenchmark.java
+ * 
+ * Measures selecting the smallest k elements with PartialSort, by partial sorting the array, by iterating over a
+ * lazily sorted view of it and by streaming it through the bounded heap, against fully sorting it with Introsort.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartialSortBenchmark {
+
+	@Param({ "100", "10000" })
+	public int k;
+
+	@Param({ "1000000" })
+	public int size;
+
+	@Param({ "RANDOM", "FEW_UNIQUE" })
+	public Distribution distribution;
+
+	private PartialSort<Integer> partialSort;
+	private Introsort<Integer> introsort;
+	private Integer[] source, arr;
+	private List<Integer> list;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		partialSort = new PartialSort<>();
+		introsort = new Introsort<>();
+		source = distribution.generateBoxed(size, size);
+		list = Arrays.asList(source);
+		arr = new Integer[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(source, 0, arr, 0, size);
+	}
+
+	@Benchmark
+	public Integer[] partialSort() {
+		partialSort.partialSort(arr, k);
+		return arr;
+	}
+
+	@Benchmark
+	public Integer sortedView() {
+		SortedView<Integer> view = partialSort.sortedView(arr);
+		Integer last = null;
+		for (int i = 0; i < k; i++) {
+			last = view.next();
+		}
+		return last;
+	}
+
+	@Benchmark
+	public Integer sortedViewFull() {
+		SortedView<Integer> view = partialSort.sortedView(arr);
+		Integer last = null;
+		while (view.hasNext()) {
+			last = view.next();
+		}
+		return last;
+	}
+
+	@Benchmark
+	public List<Integer> topK() {
+		return partialSort.topK(list, k);
+	}
+
+	@Benchmark
+	public Integer[] fullSort() {
+		introsort.sort(arr);
+		return arr;
+	}
+}
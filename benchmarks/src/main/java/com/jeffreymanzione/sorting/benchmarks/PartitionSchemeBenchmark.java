@@ -0,0 +1,79 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.sorts.Introsort;
+import com.jeffreymanzione.sorting.sorts.PartitionScheme;
+import com.jeffreymanzione.sorting.sorts.Quicksort;
+
+/**
+ * PartitionSchemeBenchmark.java
+ * 
+ * Measures Quicksort and Introsort with each partitioning scheme, in particular over the duplicate-heavy
+ * {@link Distribution#FEW_UNIQUE} input.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PartitionSchemeBenchmark {
+
+	@Param({ "QUICKSORT", "INTROSORT" })
+	public Algorithm algorithm;
+
+	@Param({ "HOARE", "THREE_WAY", "DUAL_PIVOT" })
+	public PartitionScheme partitionScheme;
+
+	@Param({ "1000000" })
+	public int size;
+
+	@Param({ "RANDOM", "FEW_UNIQUE" })
+	public Distribution distribution;
+
+	private Quicksort<Integer> quicksort;
+	private Introsort<Integer> introsort;
+	private Integer[] source, arr;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		quicksort = new Quicksort<>(partitionScheme);
+		introsort = new Introsort<>();
+		introsort.setPartitionScheme(partitionScheme);
+		source = distribution.generateBoxed(size, size);
+		arr = new Integer[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(source, 0, arr, 0, size);
+	}
+
+	@Benchmark
+	public Integer[] sort() {
+		if (algorithm == Algorithm.QUICKSORT) {
+			quicksort.sort(arr);
+		} else {
+			introsort.sort(arr);
+		}
+		return arr;
+	}
+}
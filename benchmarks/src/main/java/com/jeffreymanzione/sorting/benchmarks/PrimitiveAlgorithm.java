@@ -0,0 +1,31 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import com.jeffreymanzione.sorting.AbstractParallelPrimitiveSort;
+import com.jeffreymanzione.sorting.sorts.PrimitiveIntrosort;
+import com.jeffreymanzione.sorting.sorts.PrimitiveRadixSort;
+
+/**
+ * PrimitiveAlgorithm.java
+ * 
+ * The primitive sorts which are benchmarked.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+public enum PrimitiveAlgorithm {
+
+	INTROSORT, RADIX_SORT;
+
+	/**
+	 * @return A new instance of the sort.
+	 */
+	public AbstractParallelPrimitiveSort create() {
+		switch (this) {
+		case RADIX_SORT:
+			return new PrimitiveRadixSort();
+		default:
+			return new PrimitiveIntrosort();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.AbstractParallelPrimitiveSort;
+
+/**
+ * RadixSortBenchmark.java
+ * 
+ * Compares the radix sort of int and long arrays with Introsort on large arrays, serially and in parallel. The long
+ * values spread the generated int values over all 64 bits so that no byte of the key can be skipped. A trial of 100
+ * million longs needs about 2 GB of heap for the source, the array and the radix buffer.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class RadixSortBenchmark {
+
+	@Param({ "INTROSORT", "RADIX_SORT" })
+	public PrimitiveAlgorithm algorithm;
+
+	@Param({ "10000000", "100000000" })
+	public int size;
+
+	@Param({ "RANDOM", "FEW_UNIQUE" })
+	public Distribution distribution;
+
+	@Param({ "false", "true" })
+	public boolean parallel;
+
+	@Param({ "4" })
+	public int threads;
+
+	private ForkJoinPool pool;
+	private AbstractParallelPrimitiveSort sort;
+	private int[] intSource, ints;
+	private long[] longSource, longs;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		pool = new ForkJoinPool(threads);
+		sort = algorithm.create();
+		sort.setPool(pool);
+		sort.setParallelThreshold(1 << 16);
+		intSource = distribution.generate(size, size);
+		longSource = new long[size];
+		for (int i = 0; i < size; i++) {
+			longSource[i] = intSource[i] * 0x9E3779B97F4A7C15L;
+		}
+		ints = new int[size];
+		longs = new long[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(intSource, 0, ints, 0, size);
+		System.arraycopy(longSource, 0, longs, 0, size);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public int[] sortInts() {
+		if (parallel) {
+			sort.sortParallel(ints);
+			sort.awaitCompletion();
+		} else {
+			sort.sort(ints);
+		}
+		return ints;
+	}
+
+	@Benchmark
+	public long[] sortLongs() {
+		if (parallel) {
+			sort.sortParallel(longs);
+			sort.awaitCompletion();
+		} else {
+			sort.sort(longs);
+		}
+		return longs;
+	}
+}
@@ -0,0 +1,113 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.external.RecordSort;
+import com.jeffreymanzione.sorting.sorts.Introsort;
+
+/**
+ * RecordSortBenchmark.java
+ * 
+ * Measures sorting fixed-width records in a direct buffer in place with RecordSort against decoding them into
+ * objects, sorting those with Introsort and encoding them back.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RecordSortBenchmark {
+
+	private static final int WIDTH = 32;
+
+	@Param({ "1000000" })
+	public int size;
+
+	@Param({ "INT", "BYTES" })
+	public String key;
+
+	private RecordSort recordSort;
+	private Introsort<Event> introsort;
+	private ByteBuffer source, records;
+
+	/**
+	 * A decoded record: an int key and the rest of the record.
+	 */
+	private static final class Event implements Comparable<Event> {
+
+		private final int key;
+		private final byte[] payload = new byte[WIDTH - Integer.BYTES];
+
+		private Event(int key) {
+			this.key = key;
+		}
+
+		@Override
+		public int compareTo(Event o) {
+			return Integer.compare(key, o.key);
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		recordSort = "INT".equals(key) ? RecordSort.byIntKey(WIDTH, 0) : RecordSort.byBytesKey(WIDTH, 0, 16);
+		introsort = new Introsort<>();
+		source = ByteBuffer.allocateDirect(size * WIDTH);
+		Random random = new Random(size);
+		for (int i = 0; i < size * WIDTH; i += Integer.BYTES) {
+			source.putInt(i, random.nextInt());
+		}
+		records = ByteBuffer.allocateDirect(size * WIDTH);
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		source.clear();
+		records.clear();
+		records.put(source);
+		records.clear();
+	}
+
+	@Benchmark
+	public ByteBuffer recordSort() {
+		recordSort.sort(records);
+		return records;
+	}
+
+	@Benchmark
+	public ByteBuffer decodeSortEncode() {
+		Event[] events = new Event[size];
+		for (int i = 0; i < size; i++) {
+			events[i] = new Event(records.getInt());
+			records.get(events[i].payload);
+		}
+		introsort.sort(events);
+		records.clear();
+		for (Event event : events) {
+			records.putInt(event.key);
+			records.put(event.payload);
+		}
+		records.clear();
+		return records;
+	}
+}
@@ -0,0 +1,67 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.AbstractSort;
+
+/**
+ * SortBenchmark.java
+ * 
+ * Measures the serial sorts over every input distribution. The input is copied before each invocation, outside of the
+ * measurement, since every sort works in place.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+	@Param({ "HEAPSORT", "QUICKSORT", "INTROSORT", "MERGE_SORT", "TIM_SORT", "AMERICAN_FLAG_SORT" })
+	public Algorithm algorithm;
+
+	@Param({ "10000", "1000000" })
+	public int size;
+
+	@Param({ "RANDOM", "SORTED", "REVERSED", "NEARLY_SORTED", "FEW_UNIQUE" })
+	public Distribution distribution;
+
+	private AbstractSort<Integer> sort;
+	private Integer[] source, arr;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		sort = algorithm.create();
+		source = distribution.generateBoxed(size, size);
+		arr = new Integer[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		System.arraycopy(source, 0, arr, 0, size);
+	}
+
+	@Benchmark
+	public Integer[] sort() {
+		sort.sort(arr);
+		return arr;
+	}
+}
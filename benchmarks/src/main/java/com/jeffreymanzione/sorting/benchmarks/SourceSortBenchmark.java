@@ -0,0 +1,111 @@
+package com.jeffreymanzione.sorting.benchmarks;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.jeffreymanzione.sorting.SortableSource;
+import com.jeffreymanzione.sorting.SortableSources;
+import com.jeffreymanzione.sorting.sorts.Introsort;
+import com.jeffreymanzione.sorting.sorts.PrimitiveIntrosort;
+
+/**
+ * SourceSortBenchmark.java
+ * 
+ * Measures sorting an ArrayList and a direct IntBuffer in place through their {@link SortableSource} adapters against
+ * copying them into an array, sorting the array and copying it back.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+@State(Scope.Thread)
+@BenchmarkMode({ Mode.Throughput, Mode.AverageTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SourceSortBenchmark {
+
+	@Param({ "10000", "1000000" })
+	public int size;
+
+	private Introsort<Integer> introsort;
+	private PrimitiveIntrosort primitiveIntrosort;
+	private Integer[] boxed;
+	private int[] ints;
+	private List<Integer> list;
+	private IntBuffer buffer;
+
+	@Setup(Level.Trial)
+	public void setUpTrial() {
+		introsort = new Introsort<>();
+		primitiveIntrosort = new PrimitiveIntrosort();
+		boxed = Distribution.RANDOM.generateBoxed(size, size);
+		ints = new int[size];
+		for (int i = 0; i < size; i++) {
+			ints[i] = boxed[i];
+		}
+		list = new ArrayList<>(size);
+		buffer = ByteBuffer.allocateDirect(4 * size).asIntBuffer();
+	}
+
+	@Setup(Level.Invocation)
+	public void setUpInvocation() {
+		list.clear();
+		list.addAll(Arrays.asList(boxed));
+		buffer.clear();
+		buffer.put(ints).flip();
+	}
+
+	@Benchmark
+	public List<Integer> listSource() {
+		introsort.sort(SortableSources.of(list));
+		return list;
+	}
+
+	@Benchmark
+	public List<Integer> listCopy() {
+		Integer[] arr = list.toArray(new Integer[list.size()]);
+		introsort.sort(arr);
+		ListIterator<Integer> iterator = list.listIterator();
+		for (Integer element : arr) {
+			iterator.next();
+			iterator.set(element);
+		}
+		return list;
+	}
+
+	@Benchmark
+	public IntBuffer bufferSource() {
+		introsort.sort(SortableSources.of(buffer));
+		return buffer;
+	}
+
+	@Benchmark
+	public IntBuffer bufferCopy() {
+		int[] arr = new int[buffer.remaining()];
+		buffer.get(arr);
+		primitiveIntrosort.sort(arr);
+		buffer.clear();
+		buffer.put(arr).flip();
+		return buffer;
+	}
+}
@@ -0,0 +1,514 @@
+package com.jeffreymanzione.sorting;
+
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * AbstractParallelPrimitiveSort.java
+ * 
+ * An abstract implementation of the parallel primitive sorts. It is the primitive counterpart of
+ * {@link AbstractParallelSort} and uses the same fork/join engine: ranges passed to
+ * {@link #subsort(int[], int, int, int, int, boolean)} are forked as {@link CountedCompleter}s onto the pool of the
+ * sort, which is {@link ForkJoinPool#commonPool()} unless another pool is specified.
+ * 
+ * Every invocation has a {@link SortContext} which carries its cancellation. Subsorts check it before sorting their
+ * range, and sorts may check it between long passes with {@link #checkCancelled()}. As in the object engine, a subsort
+ * which throws records the exception with {@link SortContext#fail(Throwable)} and completes as usual, so that an
+ * invocation started by {@link #sortAsync(int[], int, int)} only fails its {@link SortHandle} once none of its subsorts
+ * is still writing to the array.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see AbstractParallelSort
+ */
+public abstract class AbstractParallelPrimitiveSort extends AbstractPrimitiveSort implements ParallelIntSort,
+		ParallelLongSort, ParallelFloatSort, ParallelDoubleSort {
+
+	/*
+	 * Parallel fields
+	 */
+	private volatile ForkJoinPool pool;
+	private final Queue<Subsort> invocations;
+	private int parallelThreshold;
+
+	/**
+	 * The subsort currently being computed by each thread. Forked subsorts are attached to it.
+	 */
+	private final ThreadLocal<Subsort> currentSubsort;
+
+	protected AbstractParallelPrimitiveSort() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructor which sets the pool that executes the subsorts.
+	 * 
+	 * @param pool
+	 *            The fork/join pool used for parallel sorting.
+	 */
+	protected AbstractParallelPrimitiveSort(ForkJoinPool pool) {
+		super();
+		this.pool = pool;
+		invocations = new ConcurrentLinkedQueue<>();
+		currentSubsort = new ThreadLocal<>();
+		parallelThreshold = ParallelSort.DEFAULT_PARALLEL_THRESHOLD;
+	}
+
+	/**
+	 * Fork/join task sorting a range of a primitive array. The task completes once its own range has been handled and
+	 * every subsort forked while handling it has completed.
+	 * 
+	 * @author Jeffrey J. Manzione
+	 * 
+	 */
+	private static class Subsort extends CountedCompleter<Void> {
+
+		private static final long serialVersionUID = 4318546410235935270L;
+
+		private final AbstractParallelPrimitiveSort sort;
+		private final Object arr;
+		private final int start, end, recursionDepth, originalLength;
+		private final SortContext context;
+
+		/** The handle of the invocation, only set on the root subsort of sortAsync. */
+		private SortHandle<Object> handle;
+
+		public Subsort(Subsort parent, AbstractParallelPrimitiveSort sort, Object arr, int start, int end,
+				int recursionDepth, int originalLength, SortContext context) {
+			super(parent);
+			this.context = context;
+			this.sort = sort;
+			this.arr = arr;
+			this.start = start;
+			this.end = end;
+			this.recursionDepth = recursionDepth;
+			this.originalLength = originalLength;
+		}
+
+		@Override
+		public void compute() {
+			Subsort previous = sort.currentSubsort.get();
+			sort.currentSubsort.set(this);
+			try {
+				context.checkCancelled();
+				if (arr instanceof int[]) {
+					sort.sortImplementation((int[]) arr, start, end, recursionDepth, originalLength, true);
+				} else if (arr instanceof long[]) {
+					sort.sortImplementation((long[]) arr, start, end, recursionDepth, originalLength, true);
+				} else if (arr instanceof float[]) {
+					sort.sortImplementation((float[]) arr, start, end, recursionDepth, originalLength, true);
+				} else if (arr instanceof double[]) {
+					sort.sortImplementation((double[]) arr, start, end, recursionDepth, originalLength, true);
+				}
+			} catch (Throwable e) {
+				/* Abandon the other ranges, but complete as usual so that the invocation waits for them to return. */
+				context.fail(e);
+			} finally {
+				sort.currentSubsort.set(previous);
+			}
+			tryComplete();
+		}
+
+		@Override
+		public void onCompletion(CountedCompleter<?> caller) {
+			if (handle != null && getCompleter() == null) {
+				Throwable failure = context.getFailure();
+				if (failure == null) {
+					handle.complete(arr);
+				} else {
+					handle.completeExceptionally(failure);
+				}
+				handle.stopped();
+			}
+		}
+	}
+
+	private void execute(Subsort invocation) {
+		invocations.add(invocation);
+		pool.execute(invocation);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <A> SortHandle<A> submit(A arr, int start, int end) {
+		SortContext context = new SortContext(end - start);
+		Subsort invocation = new Subsort(null, this, arr, start, end, 0, end - start, context);
+		invocation.handle = new SortHandle<>(context::cancel);
+		pool.execute(invocation);
+		return (SortHandle<A>) invocation.handle;
+	}
+
+	private void fork(Subsort parent, Subsort task) {
+		parent.addToPendingCount(1);
+		if (ForkJoinTask.getPool() == pool) {
+			task.fork();
+		} else {
+			pool.execute(task);
+		}
+	}
+
+	@Override
+	public void sortParallel(int[] arr) {
+		sortParallel(arr, 0, arr.length);
+	}
+
+	@Override
+	public void sortParallel(int[] arr, int start, int end) {
+		execute(new Subsort(null, this, arr, start, end, 0, end - start, new SortContext(end - start)));
+	}
+
+	@Override
+	public SortHandle<int[]> sortAsync(int[] arr) {
+		return sortAsync(arr, 0, arr.length);
+	}
+
+	@Override
+	public SortHandle<int[]> sortAsync(int[] arr, int start, int end) {
+		return submit(arr, start, end);
+	}
+
+	@Override
+	public void sortParallel(long[] arr) {
+		sortParallel(arr, 0, arr.length);
+	}
+
+	@Override
+	public void sortParallel(long[] arr, int start, int end) {
+		execute(new Subsort(null, this, arr, start, end, 0, end - start, new SortContext(end - start)));
+	}
+
+	@Override
+	public SortHandle<long[]> sortAsync(long[] arr) {
+		return sortAsync(arr, 0, arr.length);
+	}
+
+	@Override
+	public SortHandle<long[]> sortAsync(long[] arr, int start, int end) {
+		return submit(arr, start, end);
+	}
+
+	@Override
+	public void sortParallel(float[] arr) {
+		sortParallel(arr, 0, arr.length);
+	}
+
+	@Override
+	public void sortParallel(float[] arr, int start, int end) {
+		execute(new Subsort(null, this, arr, start, end, 0, end - start, new SortContext(end - start)));
+	}
+
+	@Override
+	public SortHandle<float[]> sortAsync(float[] arr) {
+		return sortAsync(arr, 0, arr.length);
+	}
+
+	@Override
+	public SortHandle<float[]> sortAsync(float[] arr, int start, int end) {
+		return submit(arr, start, end);
+	}
+
+	@Override
+	public void sortParallel(double[] arr) {
+		sortParallel(arr, 0, arr.length);
+	}
+
+	@Override
+	public void sortParallel(double[] arr, int start, int end) {
+		execute(new Subsort(null, this, arr, start, end, 0, end - start, new SortContext(end - start)));
+	}
+
+	@Override
+	public SortHandle<double[]> sortAsync(double[] arr) {
+		return sortAsync(arr, 0, arr.length);
+	}
+
+	@Override
+	public SortHandle<double[]> sortAsync(double[] arr, int start, int end) {
+		return submit(arr, start, end);
+	}
+
+	/**
+	 * Forks a task sorting a range of an array onto the fork/join pool. When called outside of a parallel sort, the
+	 * range is sorted on the calling thread.
+	 * 
+	 * @param arr
+	 *            The source array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected void subsort(int[] arr, int start, int end, int recursionDepth, int originalLength, boolean isParallel) {
+		Subsort parent = isParallel ? currentSubsort.get() : null;
+		if (parent != null) {
+			fork(parent, new Subsort(parent, this, arr, start, end, recursionDepth, originalLength, parent.context));
+		} else {
+			this.sortImplementation(arr, start, end, recursionDepth, originalLength, isParallel);
+		}
+	}
+
+	/**
+	 * Forks a task sorting a range of an array onto the fork/join pool. When called outside of a parallel sort, the
+	 * range is sorted on the calling thread.
+	 * 
+	 * @param arr
+	 *            The source array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected void subsort(long[] arr, int start, int end, int recursionDepth, int originalLength, boolean isParallel) {
+		Subsort parent = isParallel ? currentSubsort.get() : null;
+		if (parent != null) {
+			fork(parent, new Subsort(parent, this, arr, start, end, recursionDepth, originalLength, parent.context));
+		} else {
+			this.sortImplementation(arr, start, end, recursionDepth, originalLength, isParallel);
+		}
+	}
+
+	/**
+	 * Forks a task sorting a range of an array onto the fork/join pool. When called outside of a parallel sort, the
+	 * range is sorted on the calling thread.
+	 * 
+	 * @param arr
+	 *            The source array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected void subsort(float[] arr, int start, int end, int recursionDepth, int originalLength, boolean isParallel) {
+		Subsort parent = isParallel ? currentSubsort.get() : null;
+		if (parent != null) {
+			fork(parent, new Subsort(parent, this, arr, start, end, recursionDepth, originalLength, parent.context));
+		} else {
+			this.sortImplementation(arr, start, end, recursionDepth, originalLength, isParallel);
+		}
+	}
+
+	/**
+	 * Forks a task sorting a range of an array onto the fork/join pool. When called outside of a parallel sort, the
+	 * range is sorted on the calling thread.
+	 * 
+	 * @param arr
+	 *            The source array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected void subsort(double[] arr, int start, int end, int recursionDepth, int originalLength, boolean isParallel) {
+		Subsort parent = isParallel ? currentSubsort.get() : null;
+		if (parent != null) {
+			fork(parent, new Subsort(parent, this, arr, start, end, recursionDepth, originalLength, parent.context));
+		} else {
+			this.sortImplementation(arr, start, end, recursionDepth, originalLength, isParallel);
+		}
+	}
+
+	/**
+	 * The implementation of the parallel sort which is indirectly called by {@link #sort(int[])} and
+	 * {@link #sortParallel(int[])}. Ranges larger than {@link #getParallelThreshold()} should be passed to
+	 * {@link #subsort(int[], int, int, int, int, boolean)}.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected abstract void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel);
+
+	@Override
+	protected void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength) {
+		this.sortImplementation(arr, start, end, recursionDepth, originalLength, false);
+	}
+
+	/**
+	 * The implementation of the parallel sort which is indirectly called by {@link #sort(long[])} and
+	 * {@link #sortParallel(long[])}. Ranges larger than {@link #getParallelThreshold()} should be passed to
+	 * {@link #subsort(long[], int, int, int, int, boolean)}.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected abstract void sortImplementation(long[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel);
+
+	@Override
+	protected void sortImplementation(long[] arr, int start, int end, int recursionDepth, int originalLength) {
+		this.sortImplementation(arr, start, end, recursionDepth, originalLength, false);
+	}
+
+	/**
+	 * The implementation of the parallel sort which is indirectly called by {@link #sort(float[])} and
+	 * {@link #sortParallel(float[])}. Ranges larger than {@link #getParallelThreshold()} should be passed to
+	 * {@link #subsort(float[], int, int, int, int, boolean)}.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected abstract void sortImplementation(float[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel);
+
+	@Override
+	protected void sortImplementation(float[] arr, int start, int end, int recursionDepth, int originalLength) {
+		this.sortImplementation(arr, start, end, recursionDepth, originalLength, false);
+	}
+
+	/**
+	 * The implementation of the parallel sort which is indirectly called by {@link #sort(double[])} and
+	 * {@link #sortParallel(double[])}. Ranges larger than {@link #getParallelThreshold()} should be passed to
+	 * {@link #subsort(double[], int, int, int, int, boolean)}.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected abstract void sortImplementation(double[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel);
+
+	@Override
+	protected void sortImplementation(double[] arr, int start, int end, int recursionDepth, int originalLength) {
+		this.sortImplementation(arr, start, end, recursionDepth, originalLength, false);
+	}
+
+	/**
+	 * Aborts the calling range if the parallel invocation it belongs to was cancelled or failed. Sorts call it between
+	 * long passes over a range, such as the passes of a radix sort, which no subsort boundary interrupts. Outside of a
+	 * parallel sort it has no effect.
+	 * 
+	 * @throws CancellationException
+	 *             If the invocation was cancelled or failed.
+	 */
+	protected void checkCancelled() {
+		Subsort current = currentSubsort.get();
+		if (current != null) {
+			current.context.checkCancelled();
+		}
+	}
+
+	@Override
+	public void setParallelThreshold(int minNumElements) {
+		parallelThreshold = minNumElements;
+	}
+
+	@Override
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Sets the fork/join pool which executes the subsorts of subsequent parallel sorts.
+	 * 
+	 * @param pool
+	 *            The fork/join pool used for parallel sorting.
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Gets the fork/join pool which executes the subsorts.
+	 * 
+	 * @return The fork/join pool used for parallel sorting. By default {@link ForkJoinPool#commonPool()}.
+	 */
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Blocks until every invocation of sortParallel on this instance which started before the call is completed. As in
+	 * {@link AbstractParallelSort#awaitCompletion()}, an invocation is only removed once it has completed, and the
+	 * exception of the first failed invocation is rethrown once every invocation has completed.
+	 */
+	@Override
+	public void awaitCompletion() {
+		Throwable failure = null;
+		for (Subsort invocation : invocations) {
+			try {
+				invocation.join();
+				invocation.context.rethrowFailure();
+			} catch (RuntimeException | Error e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+			invocations.remove(invocation);
+		}
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		} else if (failure != null) {
+			throw (RuntimeException) failure;
+		}
+	}
+
+}
@@ -1,190 +1,633 @@
-package com.jeffreymanzione.sorting;
-
-import java.util.List;
-import java.util.Vector;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-
-/**
- * AbstractSort.java
- * 
- * An abstract implementation of <b>ParallelSort</b>. Implements the core functionality and helper methods of a
- * ParallelSort. Provides the thread pool for parallel sorts via {@link #subsort(Comparable[], int, int, int, int)}
- * which creates a task for specified sort and pushes it on the thread pool queue. Parallel sorts will use the number of
- * threads equal to the number of available processors as returned {@link Runtime#availableProcessors()}.
- * 
- * @author Jeffrey J. Manzione
- * @version 0.1
- * @since October 23, 2014
- * @see Sort
- * @param <T>
- *            The parameterized type
- */
-public abstract class AbstractParallelSort<T extends Comparable<T>> extends AbstractSort<T> implements ParallelSort<T> {
-
-	/*
-	 * Parallel fields
-	 */
-	private ExecutorService executor;
-	private List<Future<?>> futures;
-	private int parallelThreshold;
-
-	
-	protected AbstractParallelSort() {
-		super();
-		futures = new Vector<>();
-		parallelThreshold = ParallelSort.DEFAULT_PARALLEL_THRESHOLD;
-		executor = Executors.newCachedThreadPool();
-	}
-
-	/**
-	 * Runnable task to be passed to and executed by the internal thread pool.
-	 * 
-	 * @author Jeffrey J. Manzione
-	 *
-	 */
-	private class Subsort implements Runnable {
-
-		private AbstractSort<T> sort;
-		private T[] arr;
-		private int start, end, recursionDepth, originalLength;
-
-		public Subsort(AbstractSort<T> sort, T[] arr, int start, int end, int recursionDepth, int originalLength) {
-			this.sort = sort;
-			this.arr = arr;
-			this.start = start;
-			this.end = end;
-			this.recursionDepth = recursionDepth;
-			this.originalLength = originalLength;
-		}
-
-		@Override
-		public void run() {
-			sort.sortImplementation(arr, start, end, recursionDepth, originalLength);
-		}
-	}
-
-	@Override
-	public void sortParallel(T[] arr, int start, int end) {
-		super.sort(arr, start, end);
-	}
-
-	@Override
-	public void sortParallel(T[] arr) {
-		sortParallel(arr, 0, arr.length);
-	}
-
-	/**
-	 * Adds a range of an array to be sorted onto the thread pool queue. The sort specified can be the parent sort
-	 * instance or can be any other non-interfering instance.
-	 * 
-	 * @param sort
-	 *            Sort to sort the range
-	 * @param arr
-	 *            The source array to sort
-	 * @param start
-	 *            The start of the range inclusive
-	 * @param end
-	 *            The end of the range exclusive
-	 * @param recursionDepth
-	 *            The number of recurrences of the sort before this iteration.
-	 * @param originalLength
-	 *            The original length of the array to be sorted.
-	 * @param isParallel
-	 *            Is the sort parallel?
-	 */
-	protected void subsort(AbstractSort<T> sort, T[] arr, int start, int end, int recursionDepth, int originalLength,
-			boolean isParallel) {
-		if (isParallel) {
-			futures.add(executor.submit(new Subsort(sort, arr, start, end, recursionDepth, originalLength)));
-		} else {
-			this.sortImplementation(arr, start, end, recursionDepth, originalLength, isParallel);
-		}
-	}
-
-	/**
-	 * Adds a range of an array to be sorted onto the thread pool queue.
-	 * 
-	 * @param arr
-	 *            The source array to sort
-	 * @param start
-	 *            The start of the range inclusive
-	 * @param end
-	 *            The end of the range exclusive
-	 * @param recursionDepth
-	 *            The number of recurrences of the sort before this iteration.
-	 * @param originalLength
-	 *            The original length of the array to be sorted.
-	 * @param isParallel
-	 *            Is the sort parallel?
-	 */
-	protected void subsort(T[] arr, int start, int end, int recursionDepth, int originalLength, boolean isParallel) {
-		this.subsort(this, arr, start, end, recursionDepth, originalLength, isParallel);
-	}
-
-	/**
-	 * The implementation of the parallel sort which is indirectly called by {@link #sort(Comparable[])} and
-	 * {@link #sort(Comparable[], int, int)}. The proper implementation of this function should uphold the contract that
-	 * it sorts the list using the {@link #compare(Comparable, Comparable)} method. There is no built-in check as to
-	 * whether the sort successfully sorted the elements in the specified range. The implementation is not required to
-	 * block the return of this method in the case of pending subsorts as {@link #sort(Comparable[])} and
-	 * {@link #sort(Comparable[], int, int)} will wait for the completion of all pending subsorts before returning.
-	 * 
-	 * @param arr
-	 *            The array to be sorted
-	 * @param start
-	 *            The starting index of the portion of the array to be sorted inclusive
-	 * @param end
-	 *            The ending index of the portion of the array to be sorted exclusive
-	 * @param recursionDepth
-	 *            the number of recursion on this sort before this iteration of sorting is called. (This is for sorts
-	 *            where recursion depth matters such as with Introsort)
-	 * @param originalLength
-	 *            The original length of the array to be sorted.
-	 * @param isParallel
-	 *            Is the sort parallel?
-	 * 
-	 */
-	protected abstract void sortImplementation(T[] arr, int start, int end, int recursionDepth, int originalLength,
-			boolean isParallel);
-
-	@Override
-	protected void sortImplementation(T[] arr, int start, int end, int recursionDepth, int originalLength) {
-		this.sortImplementation(arr, start, end, recursionDepth, originalLength, false);
-	}
-
-	@Override
-	public void setParallelThreshold(int minNumElements) {
-		// if (setParallelLock.tryLock()) {
-		// try {
-		parallelThreshold = minNumElements;
-		// } finally {
-		// setParallelLock.unlock();
-		// }
-		// } else {
-		// throw new CannotModifyFieldDuringExecutionException();
-		// }
-
-	}
-
-	@Override
-	public int getParallelThreshold() {
-		return parallelThreshold;
-	}
-
-	@Override
-	public void awaitCompletion() {
-		while (!futures.isEmpty()) {
-			try {
-				futures.remove(0).get();
-			} catch (InterruptedException e) {
-				e.printStackTrace();
-			} catch (ExecutionException e) {
-				e.printStackTrace();
-			}
-		}
-	}
-
-}
+package com.jeffreymanzione.sorting;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+
+/**
+ * AbstractParallelSort.java
+ * 
+ * An abstract implementation of <b>ParallelSort</b>. Implements the core functionality and helper methods of a
+ * ParallelSort. Provides the fork/join engine for parallel sorts via
+ * {@link #subsort(Comparable[], int, int, int, SortContext, boolean)} which forks a task for the specified range onto
+ * the {@link ForkJoinPool} of the sort. Unless another pool is specified, parallel sorts share
+ * {@link ForkJoinPool#commonPool()} whose parallelism is by default one less than the number of available processors
+ * as returned by {@link Runtime#availableProcessors()}.
+ * 
+ * Subsorts are {@link CountedCompleter}s: each forked range registers itself with the task that forked it, and a task
+ * only completes once all of the ranges it forked have completed. Completion of an invocation is therefore tracked
+ * without any lock, and a thread waiting in {@link #awaitCompletion()} helps execute the pending subsorts instead of
+ * idling.
+ * 
+ * {@link #sortAsync(Comparable[], int, int)} returns a {@link SortHandle} of the invocation alone instead. If a subsort
+ * of an invocation throws, it records the exception with {@link SortContext#fail(Throwable)}, which makes the other
+ * subsorts abandon their ranges, and completes as usual. The invocation therefore only fails its handle, or rethrows
+ * from {@link #awaitCompletion()}, once none of its subsorts is still writing to the array.
+ * 
+ * Parallel invocations emit a {@link SortEvent} spanning from their submission to their completion, and every subsort
+ * emits a {@link SubsortEvent}, when a flight recording enables them.
+ * 
+ * Partitioning sorts can also split the whole range in parallel from the first pass with
+ * {@link #sampleSort(Comparable[], int, int, int, SortContext)}, rather than partitioning it on a single thread
+ * before any subsort is forked.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 23, 2014
+ * @see Sort
+ * @param <T>
+ *            The parameterized type
+ */
+public abstract class AbstractParallelSort<T extends Comparable<T>> extends AbstractSort<T> implements ParallelSort<T> {
+
+	/**
+	 * The number of sampled elements per bucket of a sample sort step.
+	 */
+	private static final int OVERSAMPLING = 16;
+
+	/**
+	 * The maximum number of splitters of a sample sort step, so that a bucket index fits in a byte.
+	 */
+	private static final int MAX_SPLITTERS = 127;
+
+	/*
+	 * Parallel fields
+	 */
+	private volatile ForkJoinPool pool;
+	private final Queue<Subsort> invocations;
+	private int parallelThreshold;
+
+	/**
+	 * The subsort currently being computed by each thread. Subsorts forked by
+	 * {@link #subsort(AbstractSort, Comparable[], int, int, int, SortContext, boolean)} are attached to it.
+	 */
+	private final ThreadLocal<Subsort> currentSubsort;
+
+	protected AbstractParallelSort() {
+		this(ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructor which sets the pool that executes the subsorts.
+	 * 
+	 * @param pool
+	 *            The fork/join pool used for parallel sorting.
+	 */
+	protected AbstractParallelSort(ForkJoinPool pool) {
+		super();
+		this.pool = pool;
+		invocations = new ConcurrentLinkedQueue<>();
+		currentSubsort = new ThreadLocal<>();
+		parallelThreshold = ParallelSort.DEFAULT_PARALLEL_THRESHOLD;
+	}
+
+	/**
+	 * Fork/join task sorting a range of an array. The task completes once its own range has been handled and every
+	 * subsort forked while handling it has completed.
+	 * 
+	 * @author Jeffrey J. Manzione
+	 * 
+	 */
+	private class Subsort extends CountedCompleter<Void> {
+
+		private static final long serialVersionUID = -6620542718569327434L;
+
+		private final AbstractSort<T> sort;
+		private final T[] arr;
+		private final int start, end, recursionDepth;
+		private final SortContext context;
+
+		/** The handle of the invocation, only set on the root subsort of {@link #sortAsync(Comparable[], int, int)}. */
+		private SortHandle<T[]> handle;
+
+		/** The flight recorder event of the invocation, only set on the root subsort. */
+		private SortEvents.Invocation sortEvent;
+		private final SortEvents.Range event = SortEvents.forked();
+
+		public Subsort(Subsort parent, AbstractSort<T> sort, T[] arr, int start, int end, int recursionDepth,
+				SortContext context) {
+			super(parent);
+			this.sort = sort;
+			this.arr = arr;
+			this.start = start;
+			this.end = end;
+			this.recursionDepth = recursionDepth;
+			this.context = context;
+		}
+
+		@Override
+		public void compute() {
+			Subsort previous = currentSubsort.get();
+			currentSubsort.set(this);
+			SortMetrics metrics = context.getMetrics();
+			SortMetrics previousMetrics = metrics != null ? bindMetrics(metrics) : null;
+			if (event != null) {
+				event.started();
+			}
+			try {
+				context.checkCancelled();
+				if (sort instanceof AbstractParallelSort) {
+					((AbstractParallelSort<T>) sort).sortImplementation(arr, start, end, recursionDepth, context,
+							true);
+				} else {
+					sort.sortImplementation(arr, start, end, recursionDepth, context);
+				}
+			} catch (Throwable e) {
+				/* Abandon the other ranges, but complete as usual so that the invocation waits for them to return. */
+				context.fail(e);
+			} finally {
+				currentSubsort.set(previous);
+				if (metrics != null) {
+					bindMetrics(previousMetrics);
+				}
+			}
+			if (event != null) {
+				event.completed(sort, end - start, recursionDepth);
+			}
+			tryComplete();
+		}
+
+		@Override
+		public void onCompletion(CountedCompleter<?> caller) {
+			if (getCompleter() == null) {
+				Throwable failure = context.getFailure();
+				closeContext(context);
+				sortEvent.commit(AbstractParallelSort.this, end - start, true, pool.getParallelism(),
+						failure != null);
+				if (handle != null) {
+					if (failure == null) {
+						handle.complete(arr);
+					} else {
+						handle.completeExceptionally(failure);
+					}
+					handle.stopped();
+				}
+			}
+		}
+
+		@Override
+		public boolean onExceptionalCompletion(Throwable ex, CountedCompleter<?> caller) {
+			/* Only reached if a task attached with fork(CountedCompleter) throws rather than failing the context. */
+			if (getCompleter() == null) {
+				context.cancel();
+				sortEvent.commit(AbstractParallelSort.this, end - start, true, pool.getParallelism(), true);
+				if (handle != null) {
+					handle.completeExceptionally(ex);
+					handle.stopped();
+				}
+			}
+			return true;
+		}
+	}
+
+	@Override
+	public void sortParallel(T[] arr, int start, int end) {
+		Subsort invocation = new Subsort(null, this, arr, start, end, 0, openContext(arr, start, end));
+		invocation.sortEvent = SortEvents.begin();
+		invocations.add(invocation);
+		pool.execute(invocation);
+	}
+
+	@Override
+	public void sortParallel(T[] arr) {
+		sortParallel(arr, 0, arr.length);
+	}
+
+	@Override
+	public SortHandle<T[]> sortAsync(T[] arr, int start, int end) {
+		SortContext context = openContext(arr, start, end);
+		Subsort invocation = new Subsort(null, this, arr, start, end, 0, context);
+		invocation.handle = new SortHandle<>(context::cancel);
+		invocation.sortEvent = SortEvents.begin();
+		pool.execute(invocation);
+		return invocation.handle;
+	}
+
+	@Override
+	public SortHandle<T[]> sortAsync(T[] arr) {
+		return sortAsync(arr, 0, arr.length);
+	}
+
+	/**
+	 * Forks a task sorting a range of an array onto the fork/join pool. The sort specified can be the parent sort
+	 * instance or can be any other non-interfering instance. When called outside of a parallel sort, the range is
+	 * sorted on the calling thread.
+	 * 
+	 * @param sort
+	 *            Sort to sort the range
+	 * @param arr
+	 *            The source array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param context
+	 *            The context of the invocation of the sort.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected void subsort(AbstractSort<T> sort, T[] arr, int start, int end, int recursionDepth, SortContext context,
+			boolean isParallel) {
+		Subsort parent = isParallel ? currentSubsort.get() : null;
+		if (parent != null) {
+			fork(new Subsort(parent, sort, arr, start, end, recursionDepth, context));
+		} else if (sort instanceof AbstractParallelSort) {
+			((AbstractParallelSort<T>) sort).sortImplementation(arr, start, end, recursionDepth, context, isParallel);
+		} else {
+			sort.sortImplementation(arr, start, end, recursionDepth, context);
+		}
+	}
+
+	/**
+	 * Gets the subsort being computed by the calling thread. Sorts which need work to happen after their subranges are
+	 * sorted, such as a merge, attach their own {@link CountedCompleter}s to it and start them with
+	 * {@link #fork(CountedCompleter)}; the invocation then only completes once those tasks have completed as well.
+	 * 
+	 * @return The task of the invocation being computed by the calling thread, or null outside of a parallel sort.
+	 */
+	protected CountedCompleter<?> currentTask() {
+		return currentSubsort.get();
+	}
+
+	/**
+	 * Registers a task with its completer and forks it onto the fork/join pool of the sort. A task which fails should
+	 * record its exception with {@link SortContext#fail(Throwable)} and complete as usual rather than throw, so that
+	 * the invocation waits for its other tasks to return before it reports the failure.
+	 * 
+	 * @param task
+	 *            The task to fork. Its completer must be {@link #currentTask()} or a task descending from it.
+	 */
+	protected void fork(CountedCompleter<?> task) {
+		SortMetrics metrics = this.metrics();
+		if (metrics != null) {
+			metrics.recordSubsort();
+		}
+		task.getCompleter().addToPendingCount(1);
+		/*
+		 * Threads helping from outside of the pool (see awaitCompletion) must not fork: it would push the task onto the
+		 * common pool rather than onto this sort's pool.
+		 */
+		if (ForkJoinTask.getPool() == pool) {
+			task.fork();
+		} else {
+			pool.execute(task);
+		}
+	}
+
+	/**
+	 * Forks a task sorting a range of an array onto the fork/join pool.
+	 * 
+	 * @param arr
+	 *            The source array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param context
+	 *            The context of the invocation of the sort.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected void subsort(T[] arr, int start, int end, int recursionDepth, SortContext context, boolean isParallel) {
+		this.subsort(this, arr, start, end, recursionDepth, context, isParallel);
+	}
+
+	/**
+	 * Sorts the ranges left by a partition step of the range [start, end). Ranges larger than the parallel threshold
+	 * are forked first so that other threads can start on them, then the remaining ranges are sorted on the calling
+	 * thread.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param start
+	 *            The start of the partitioned range inclusive
+	 * @param end
+	 *            The end of the partitioned range exclusive
+	 * @param bounds
+	 *            The bounds returned by the partition step, see {@link Partition}
+	 * @param sortMiddle
+	 *            Whether the middle range between two pivots remains to be sorted
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before the partition step.
+	 * @param context
+	 *            The context of the invocation of the sort.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 */
+	protected void sortPartitions(T[] arr, int start, int end, long bounds, boolean sortMiddle, int recursionDepth,
+			SortContext context, boolean isParallel) {
+		int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+		int middleStart = Partition.middleStart(bounds), middleEnd = Partition.middleEnd(bounds);
+		int threshold = getParallelThreshold();
+		SortMetrics metrics = this.metrics();
+		if (metrics != null) {
+			metrics.recordRecursionDepth(recursionDepth + 1);
+		}
+
+		if (end - upperStart > threshold) {
+			this.subsort(arr, upperStart, end, recursionDepth + 1, context, isParallel);
+		}
+		if (sortMiddle && middleEnd - middleStart > threshold) {
+			this.subsort(arr, middleStart, middleEnd, recursionDepth + 1, context, isParallel);
+		}
+
+		if (lowerEnd - start > threshold) {
+			this.subsort(arr, start, lowerEnd, recursionDepth + 1, context, isParallel);
+		} else {
+			this.sortImplementation(arr, start, lowerEnd, recursionDepth + 1, context);
+		}
+
+		if (sortMiddle && middleEnd - middleStart <= threshold) {
+			this.sortImplementation(arr, middleStart, middleEnd, recursionDepth + 1, context);
+		}
+		if (end - upperStart <= threshold) {
+			this.sortImplementation(arr, upperStart, end, recursionDepth + 1, context);
+		}
+	}
+
+	/**
+	 * Whether a range is large enough for {@link #sampleSort(Comparable[], int, int, int, SortContext)} to be worth it:
+	 * only the whole range of a parallel invocation is, once it spans several parallel thresholds.
+	 * 
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 * @return <b>true</b> if the range should be split by a sample sort step.
+	 */
+	protected boolean isSampleSortable(int start, int end, int recursionDepth, boolean isParallel) {
+		return isParallel && recursionDepth == 0 && this.currentTask() != null && pool.getParallelism() > 1
+				&& (end - start) / 2 > getParallelThreshold();
+	}
+
+	/**
+	 * Sorts a range by a parallel sample sort step. Splitters are picked from a random sample of the range, then the
+	 * range is split in chunks which are classified into the buckets between the splitters and scattered into a
+	 * buffer concurrently, so that every thread of the pool is busy from the first pass. The elements equal to a
+	 * splitter get a bucket of their own which needs no further sorting, which keeps inputs with few distinct keys
+	 * balanced. The other buckets are then sorted as subsorts of the range.
+	 * 
+	 * Unlike in-place partitioning, the step allocates a buffer of the length of the range and a byte per element.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param context
+	 *            The context of the invocation of the sort.
+	 */
+	protected void sampleSort(T[] arr, int start, int end, int recursionDepth, SortContext context) {
+		context.checkCancelled();
+		int length = end - start, threshold = Math.max(1, getParallelThreshold());
+		int chunks = Math.max(1, Math.min(length / threshold, 4 * pool.getParallelism()));
+		int numSplitters = Math.max(1, Math.min(MAX_SPLITTERS, 4 * pool.getParallelism() - 1));
+		int buckets = 2 * numSplitters + 1;
+
+		/*
+		 * Pick every OVERSAMPLING-th element of a sorted random sample as a splitter.
+		 */
+		T[] sample = newArray(Math.min(length, (numSplitters + 1) * OVERSAMPLING));
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		for (int i = 0; i < sample.length; i++) {
+			sample[i] = arr[start + random.nextInt(length)];
+		}
+		this.sortImplementation(sample, 0, sample.length, recursionDepth + 1, context, false);
+		T[] splitters = newArray(numSplitters);
+		for (int i = 0; i < numSplitters; i++) {
+			splitters[i] = sample[(int) ((long) (i + 1) * sample.length / (numSplitters + 1))];
+		}
+
+		/*
+		 * Classify every element and count the buckets of every chunk.
+		 */
+		byte[] bucketOf = new byte[length];
+		int[][] counts = new int[chunks][buckets];
+		SortMetrics metrics = this.metrics();
+		forEachChunk(chunks, chunk -> {
+			SortMetrics previous = metrics != null ? bindMetrics(metrics) : null;
+			try {
+				int[] count = counts[chunk];
+				int chunkEnd = chunkStart(chunk + 1, chunks, length);
+				for (int i = chunkStart(chunk, chunks, length); i < chunkEnd; i++) {
+					int bucket = this.bucket(splitters, arr[start + i]);
+					bucketOf[i] = (byte) bucket;
+					count[bucket]++;
+				}
+			} finally {
+				if (metrics != null) {
+					bindMetrics(previous);
+				}
+			}
+		});
+
+		/*
+		 * Lay the buckets out in order and, within a bucket, the chunks in order: every chunk then owns a disjoint slice
+		 * of every bucket.
+		 */
+		int[] bucketStarts = new int[buckets + 1];
+		int offset = 0;
+		for (int bucket = 0; bucket < buckets; bucket++) {
+			bucketStarts[bucket] = offset;
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				int count = counts[chunk][bucket];
+				counts[chunk][bucket] = offset;
+				offset += count;
+			}
+		}
+		bucketStarts[buckets] = offset;
+
+		T[] buffer = newArray(length);
+		forEachChunk(chunks, chunk -> {
+			int[] offsets = counts[chunk];
+			int chunkEnd = chunkStart(chunk + 1, chunks, length);
+			for (int i = chunkStart(chunk, chunks, length); i < chunkEnd; i++) {
+				buffer[offsets[bucketOf[i] & 0xFF]++] = arr[start + i];
+			}
+		});
+		forEachChunk(chunks, chunk -> {
+			int chunkStart = chunkStart(chunk, chunks, length);
+			System.arraycopy(buffer, chunkStart, arr, start + chunkStart, chunkStart(chunk + 1, chunks, length)
+					- chunkStart);
+		});
+
+		/*
+		 * Fork the large buckets first, then sort the small ones on the calling thread. Odd buckets hold the elements
+		 * equal to a splitter and are already sorted.
+		 */
+		for (int bucket = 0; bucket < buckets; bucket += 2) {
+			if (bucketStarts[bucket + 1] - bucketStarts[bucket] > threshold) {
+				this.subsort(arr, start + bucketStarts[bucket], start + bucketStarts[bucket + 1], recursionDepth + 1,
+						context, true);
+			}
+		}
+		for (int bucket = 0; bucket < buckets; bucket += 2) {
+			if (bucketStarts[bucket + 1] - bucketStarts[bucket] <= threshold) {
+				this.sortImplementation(arr, start + bucketStarts[bucket], start + bucketStarts[bucket + 1],
+						recursionDepth + 1, context);
+			}
+		}
+	}
+
+	/**
+	 * @return The bucket of the element: 2i if it lies between splitters i - 1 and i, and 2i + 1 if it is equal to
+	 *         splitter i.
+	 */
+	private int bucket(T[] splitters, T element) {
+		int low = 0, high = splitters.length;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compare(splitters[mid], element) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low < splitters.length && compare(element, splitters[low]) == 0 ? 2 * low + 1 : 2 * low;
+	}
+
+	private static int chunkStart(int chunk, int chunks, int length) {
+		return (int) ((long) chunk * length / chunks);
+	}
+
+	private void forEachChunk(int chunks, IntConsumer task) {
+		if (chunks == 1) {
+			task.accept(0);
+		} else {
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				final int c = chunk;
+				tasks.add(ForkJoinTask.adapt(() -> task.accept(c)));
+			}
+			/* As in fork: a thread helping from outside of the pool would run the chunks on the common pool. */
+			if (ForkJoinTask.getPool() == pool) {
+				ForkJoinTask.invokeAll(tasks);
+			} else {
+				pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T[] newArray(int length) {
+		return (T[]) new Comparable<?>[length];
+	}
+
+	/**
+	 * The implementation of the parallel sort which is indirectly called by {@link #sort(Comparable[])} and
+	 * {@link #sort(Comparable[], int, int)}. The proper implementation of this function should uphold the contract that
+	 * it sorts the list using the {@link #compare(Comparable, Comparable)} method. There is no built-in check as to
+	 * whether the sort successfully sorted the elements in the specified range. The implementation is not required to
+	 * block the return of this method in the case of pending subsorts as {@link #sort(Comparable[])} and
+	 * {@link #sort(Comparable[], int, int)} will wait for the completion of all pending subsorts before returning.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called. (This is for sorts
+	 *            where recursion depth matters such as with Introsort)
+	 * @param context
+	 *            The context of the invocation of the sort.
+	 * @param isParallel
+	 *            Is the sort parallel?
+	 * 
+	 */
+	protected abstract void sortImplementation(T[] arr, int start, int end, int recursionDepth, SortContext context,
+			boolean isParallel);
+
+	@Override
+	protected void sortImplementation(T[] arr, int start, int end, int recursionDepth, SortContext context) {
+		this.sortImplementation(arr, start, end, recursionDepth, context, false);
+	}
+
+	@Override
+	public void setParallelThreshold(int minNumElements) {
+		// if (setParallelLock.tryLock()) {
+		// try {
+		parallelThreshold = minNumElements;
+		// } finally {
+		// setParallelLock.unlock();
+		// }
+		// } else {
+		// throw new CannotModifyFieldDuringExecutionException();
+		// }
+
+	}
+
+	@Override
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * Sets the fork/join pool which executes the subsorts of subsequent calls to {@link #sortParallel(Comparable[])}.
+	 * 
+	 * @param pool
+	 *            The fork/join pool used for parallel sorting.
+	 */
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+	/**
+	 * Gets the fork/join pool which executes the subsorts.
+	 * 
+	 * @return The fork/join pool used for parallel sorting. By default {@link ForkJoinPool#commonPool()}.
+	 */
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Blocks until every invocation of {@link #sortParallel(Comparable[], int, int)} on this instance which started
+	 * before the call is completed. An invocation is only removed once it has completed, so that concurrent callers
+	 * sharing the instance cannot return before their own invocations are completed. The exception of the first
+	 * failed invocation is rethrown once every invocation has completed, with those of the others suppressed, whether
+	 * it is an exception or an error such as an {@link AssertionError} thrown by a comparator.
+	 */
+	@Override
+	public void awaitCompletion() {
+		Throwable failure = null;
+		for (Subsort invocation : invocations) {
+			try {
+				/* Joining a completer helps with its pending subsorts when possible rather than idling. */
+				invocation.join();
+				invocation.context.rethrowFailure();
+			} catch (RuntimeException | Error e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+			invocations.remove(invocation);
+		}
+		if (failure instanceof Error) {
+			throw (Error) failure;
+		} else if (failure != null) {
+			throw (RuntimeException) failure;
+		}
+	}
+
+}
@@ -0,0 +1,157 @@
+package com.jeffreymanzione.sorting;
+
+/**
+ * AbstractPrimitiveSort.java
+ * 
+ * An abstract implementation of <b>IntSort</b>, <b>LongSort</b>, <b>FloatSort</b> and <b>DoubleSort</b>. It is the
+ * primitive counterpart of {@link AbstractSort}: each element type has its own
+ * {@link #sortImplementation(int[], int, int, int, int)} so that the hot loops compare elements directly instead of
+ * through boxed {@link Comparable} instances.
+ * 
+ * Floating point elements are ordered with {@link #compare(float, float)} and {@link #compare(double, double)}, the
+ * total order of {@link Float#compare(float, float)} and {@link Double#compare(double, double)}.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see AbstractSort
+ */
+public abstract class AbstractPrimitiveSort implements IntSort, LongSort, FloatSort, DoubleSort {
+
+	/**
+	 * Compares the specified elements by the total order of {@link Float#compare(float, float)}.
+	 * 
+	 * @param f1
+	 *            The first element
+	 * @param f2
+	 *            The second element
+	 * @return a negative integer, zero, or a positive integer as the first argument is less than, equal to, or greater
+	 *         than the second.
+	 */
+	protected static int compare(float f1, float f2) {
+		return Float.compare(f1, f2);
+	}
+
+	/**
+	 * Compares the specified elements by the total order of {@link Double#compare(double, double)}.
+	 * 
+	 * @param d1
+	 *            The first element
+	 * @param d2
+	 *            The second element
+	 * @return a negative integer, zero, or a positive integer as the first argument is less than, equal to, or greater
+	 *         than the second.
+	 */
+	protected static int compare(double d1, double d2) {
+		return Double.compare(d1, d2);
+	}
+
+	@Override
+	public void sort(int[] arr) {
+		sort(arr, 0, arr.length);
+	}
+
+	@Override
+	public void sort(int[] arr, int start, int end) {
+		sortImplementation(arr, start, end, 0, end - start);
+	}
+
+	@Override
+	public void sort(long[] arr) {
+		sort(arr, 0, arr.length);
+	}
+
+	@Override
+	public void sort(long[] arr, int start, int end) {
+		sortImplementation(arr, start, end, 0, end - start);
+	}
+
+	@Override
+	public void sort(float[] arr) {
+		sort(arr, 0, arr.length);
+	}
+
+	@Override
+	public void sort(float[] arr, int start, int end) {
+		sortImplementation(arr, start, end, 0, end - start);
+	}
+
+	@Override
+	public void sort(double[] arr) {
+		sort(arr, 0, arr.length);
+	}
+
+	@Override
+	public void sort(double[] arr, int start, int end) {
+		sortImplementation(arr, start, end, 0, end - start);
+	}
+
+	/**
+	 * The implementation of the sort which is indirectly called by {@link #sort(int[])} and
+	 * {@link #sort(int[], int, int)}.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 */
+	protected abstract void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength);
+
+	/**
+	 * The implementation of the sort which is indirectly called by {@link #sort(long[])} and
+	 * {@link #sort(long[], int, int)}.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 */
+	protected abstract void sortImplementation(long[] arr, int start, int end, int recursionDepth, int originalLength);
+
+	/**
+	 * The implementation of the sort which is indirectly called by {@link #sort(float[])} and
+	 * {@link #sort(float[], int, int)}.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 */
+	protected abstract void sortImplementation(float[] arr, int start, int end, int recursionDepth, int originalLength);
+
+	/**
+	 * The implementation of the sort which is indirectly called by {@link #sort(double[])} and
+	 * {@link #sort(double[], int, int)}.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called.
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 */
+	protected abstract void sortImplementation(double[] arr, int start, int end, int recursionDepth, int originalLength);
+
+}
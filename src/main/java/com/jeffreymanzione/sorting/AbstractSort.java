@@ -1,111 +1,294 @@
-package com.jeffreymanzione.sorting;
-
-import java.util.Comparator;
-
-/**
- * AbstractSort.java
- * 
- * An abstract implementation of <b>Sort</b>. Implements the core functionality and helper methods of a Sort.
- * 
- * @author Jeffrey J. Manzione
- * @version 0.1
- * @since August 24, 2014
- * @see Sort
- * @param <T>
- *            The parameterized type
- */
-public abstract class AbstractSort<T extends Comparable<T>> implements Sort<T> {
-
-	/*
-	 * Comparators fields
-	 */
-	private Comparator<T> comparator;
-	private boolean hasComparator;
-
-	protected AbstractSort() {
-		hasComparator = false;
-	}
-
-	protected AbstractSort(Comparator<T> comparator) {
-		this();
-		this.setComparator(comparator);
-	}
-
-	/**
-	 * Compares the specified elements. Works the same as {@link Comparator#compare(Object, Object)}. The purpose is to
-	 * abstract the comparator from the developer.
-	 * 
-	 * @param t1
-	 *            The first element to be sorted
-	 * @param t2
-	 *            The second element t
-	 * @return a negative integer, zero, or a positive integer as the first argument is less than, equal to, or greater
-	 *         than the second.
-	 */
-	protected int compare(T t1, T t2) {
-		if (hasComparator) {
-			return comparator.compare(t1, t2);
-		} else {
-			return t1.compareTo(t2);
-		}
-	}
-
-	@Override
-	public void setComparator(Comparator<T> comparator) {
-		if (comparator != null) {
-			this.comparator = comparator;
-			hasComparator = true;
-		}
-	}
-
-	@Override
-	public Comparator<T> getComparator() {
-		return comparator;
-	}
-
-	@Override
-	public boolean removeComparator() {
-		if (hasComparator) {
-			this.comparator = null;
-			hasComparator = false;
-			return true;
-		} else {
-			return false;
-		}
-	}
-
-	@Override
-	public void sort(T[] arr) {
-		sort(arr, 0, arr.length);
-
-	}
-
-	@Override
-	public void sort(T[] arr, int start, int end) {
-		sortImplementation(arr, start, end, 0, end - start);
-	}
-
-	/**
-	 * The implementation of the sort which is indirectly called by {@link #sort(Comparable[])} and
-	 * {@link #sort(Comparable[], int, int)}. The proper implementation of this function should uphold the contract that
-	 * it sorts the list using the {@link #compare(Comparable, Comparable)} method. There is no built-in check as to
-	 * whether the sort successfully sorted the elements in the specified range. The implementation is not required to
-	 * block the return of this method in the case of pending subsorts as {@link #sort(Comparable[])} and
-	 * {@link #sort(Comparable[], int, int)} will wait for the completion of all pending subsorts before returning.
-	 * 
-	 * @param arr
-	 *            The array to be sorted
-	 * @param start
-	 *            The starting index of the portion of the array to be sorted inclusive
-	 * @param end
-	 *            The ending index of the portion of the array to be sorted exclusive
-	 * @param recursionDepth
-	 *            the number of recursion on this sort before this iteration of sorting is called. (This is for sorts
-	 *            where recursion depth matters such as with Introsort)
-	 * @param originalLength
-	 *            The original length of the array to be sorted.
-	 * 
-	 */
-	protected abstract void sortImplementation(T[] arr, int start, int end, int recursionDepth, int originalLength);
-
-}
+package com.jeffreymanzione.sorting;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+/**
+ * AbstractSort.java
+ * 
+ * An abstract implementation of <b>Sort</b>. Implements the core functionality and helper methods of a Sort.
+ * 
+ * A sort can be instrumented by setting a metrics listener: every invocation then counts its comparisons, swaps and
+ * other events in its own {@link SortMetrics}, and passes a snapshot of them to the listener once it completes. The
+ * metrics of the invocation are bound to the threads sorting it, so that helper sorts invoked on its behalf count into
+ * the same metrics. An uninstrumented sort only pays for a field read per comparison.
+ * 
+ * Every invocation also emits a {@link SortEvent} to the flight recorder when a recording enables it. On runtimes
+ * without the flight recorder, the events are left out, see {@link SortEvents}.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since August 24, 2014
+ * @see Sort
+ * @param <T>
+ *            The parameterized type
+ */
+public abstract class AbstractSort<T extends Comparable<T>> implements Sort<T> {
+
+	/*
+	 * Comparators fields
+	 */
+	private Comparator<T> comparator;
+	private boolean hasComparator;
+
+	/*
+	 * Metrics fields
+	 */
+	private static final ThreadLocal<SortMetrics> CURRENT_METRICS = new ThreadLocal<>();
+	private volatile Consumer<SortMetrics.Snapshot> metricsListener;
+	private boolean instrumented;
+
+	protected AbstractSort() {
+		hasComparator = false;
+	}
+
+	protected AbstractSort(Comparator<T> comparator) {
+		this();
+		this.setComparator(comparator);
+	}
+
+	/**
+	 * Compares the specified elements. Works the same as {@link Comparator#compare(Object, Object)}. The purpose is to
+	 * abstract the comparator from the developer.
+	 * 
+	 * @param t1
+	 *            The first element to be sorted
+	 * @param t2
+	 *            The second element t
+	 * @return a negative integer, zero, or a positive integer as the first argument is less than, equal to, or greater
+	 *         than the second.
+	 */
+	protected int compare(T t1, T t2) {
+		if (instrumented) {
+			SortMetrics metrics = CURRENT_METRICS.get();
+			if (metrics != null) {
+				metrics.recordComparison();
+			}
+		}
+		if (hasComparator) {
+			return comparator.compare(t1, t2);
+		} else {
+			return t1.compareTo(t2);
+		}
+	}
+
+	@Override
+	public void setComparator(Comparator<T> comparator) {
+		if (comparator != null) {
+			this.comparator = comparator;
+			hasComparator = true;
+		}
+	}
+
+	@Override
+	public Comparator<T> getComparator() {
+		return comparator;
+	}
+
+	@Override
+	public boolean removeComparator() {
+		if (hasComparator) {
+			this.comparator = null;
+			hasComparator = false;
+			return true;
+		} else {
+			return false;
+		}
+	}
+
+	@Override
+	public void sort(T[] arr) {
+		sort(arr, 0, arr.length);
+
+	}
+
+	/**
+	 * Exchanges two elements of the array.
+	 * 
+	 * @param arr
+	 *            The array
+	 * @param i
+	 *            The index of the first element
+	 * @param j
+	 *            The index of the second element
+	 */
+	protected final void swap(T[] arr, int i, int j) {
+		if (instrumented) {
+			SortMetrics metrics = CURRENT_METRICS.get();
+			if (metrics != null) {
+				metrics.recordSwap();
+			}
+		}
+		T tmp = arr[i];
+		arr[i] = arr[j];
+		arr[j] = tmp;
+	}
+
+	/**
+	 * Sets the listener which receives the metrics of every invocation of the sort once it completes, which
+	 * instruments the sort. Sorts which delegate ranges to helper sorts pass the listener on to them so that the
+	 * helpers are instrumented as well; a helper invoked on behalf of an instrumented invocation counts into the
+	 * metrics of that invocation rather than reporting its own.
+	 * 
+	 * @param metricsListener
+	 *            The listener, or null to stop instrumenting the sort.
+	 */
+	public void setMetricsListener(Consumer<SortMetrics.Snapshot> metricsListener) {
+		this.metricsListener = metricsListener;
+		this.instrumented = metricsListener != null;
+	}
+
+	/**
+	 * @return The listener which receives the metrics of every invocation, or null if the sort is not instrumented.
+	 */
+	public Consumer<SortMetrics.Snapshot> getMetricsListener() {
+		return metricsListener;
+	}
+
+	/**
+	 * Gets the metrics of the invocation being sorted by the calling thread, to count events specific to a sort.
+	 * 
+	 * @return The metrics, or null if the sort is not instrumented.
+	 */
+	protected SortMetrics metrics() {
+		return instrumented ? CURRENT_METRICS.get() : null;
+	}
+
+	/**
+	 * Binds metrics to the calling thread. Tasks which sort ranges of an instrumented invocation outside of
+	 * {@link #sort(Comparable[], int, int)} bind the metrics of its context while they run, and restore the previous
+	 * binding afterwards.
+	 * 
+	 * @param metrics
+	 *            The metrics to bind, or null to unbind them
+	 * @return The metrics previously bound to the calling thread.
+	 */
+	protected static SortMetrics bindMetrics(SortMetrics metrics) {
+		SortMetrics previous = CURRENT_METRICS.get();
+		if (metrics != null) {
+			CURRENT_METRICS.set(metrics);
+		} else {
+			CURRENT_METRICS.remove();
+		}
+		return previous;
+	}
+
+	@Override
+	public void sort(T[] arr, int start, int end) {
+		SortContext context = createContext(arr, start, end);
+		invoke(context, 1, () -> sortImplementation(arr, start, end, 0, context));
+	}
+
+	/**
+	 * Runs an invocation of the sort on the calling thread, which sorts a range or does any other work of the sort
+	 * such as a merge. The invocation is instrumented and recorded by the flight recorder like the invocations of
+	 * {@link #sort(Comparable[], int, int)}: its metrics are bound to the calling thread while it runs, and reported to
+	 * the metrics listener once it has returned. Parts of the invocation running on other threads must bind the
+	 * metrics of the context with {@link #bindMetrics(SortMetrics)}.
+	 * 
+	 * @param context
+	 *            The context of the invocation, which gets its own metrics if the sort is instrumented
+	 * @param threads
+	 *            The number of threads the invocation runs on
+	 * @param invocation
+	 *            The work of the invocation
+	 */
+	protected void invoke(SortContext context, int threads, Runnable invocation) {
+		SortEvents.Invocation event = SortEvents.begin();
+		attachMetrics(context);
+		SortMetrics metrics = context.getMetrics();
+		SortMetrics previous = metrics != null ? bindMetrics(metrics) : null;
+		boolean failed = true;
+		try {
+			invocation.run();
+			failed = false;
+		} finally {
+			if (metrics != null) {
+				bindMetrics(previous);
+			}
+			try {
+				closeContext(context);
+			} finally {
+				event.commit(this, context.getOriginalLength(), threads > 1, threads, failed);
+			}
+		}
+	}
+
+	/**
+	 * Creates the context of an invocation with {@link #createContext(Comparable[], int, int)}, with its own metrics if
+	 * the sort is instrumented and the invocation is not nested in another instrumented invocation.
+	 */
+	SortContext openContext(T[] arr, int start, int end) {
+		return attachMetrics(createContext(arr, start, end));
+	}
+
+	private SortContext attachMetrics(SortContext context) {
+		if (metricsListener != null && CURRENT_METRICS.get() == null) {
+			context.setMetrics(new SortMetrics());
+		}
+		return context;
+	}
+
+	/**
+	 * Completes the context of an invocation with {@link #completeContext(SortContext)} and reports its metrics.
+	 */
+	void closeContext(SortContext context) {
+		completeContext(context);
+		Consumer<SortMetrics.Snapshot> listener = metricsListener;
+		if (context.getMetrics() != null && listener != null) {
+			listener.accept(context.getMetrics().snapshot());
+		}
+	}
+
+	/**
+	 * Creates the context of a single invocation of the sort. Sorts which keep state for the duration of a call, such
+	 * as a recursion depth threshold or a scratch buffer, should override this method rather than storing the state in
+	 * instance fields.
+	 * 
+	 * @param arr
+	 *            The array to be sorted.
+	 * @param start
+	 *            The start of the range to be sorted inclusive
+	 * @param end
+	 *            The end of the range to be sorted exclusive
+	 * @return The context passed to every range sorted by the invocation.
+	 */
+	protected SortContext createContext(T[] arr, int start, int end) {
+		return new SortContext(end - start);
+	}
+
+	/**
+	 * Called once an invocation of the sort has completed normally, after every range of the invocation has been
+	 * sorted. Sorts which acquire resources in {@link #createContext(Comparable[], int, int)} release them here. Does
+	 * nothing by default.
+	 * 
+	 * @param context
+	 *            The context of the completed invocation.
+	 */
+	protected void completeContext(SortContext context) {
+	}
+
+	/**
+	 * The implementation of the sort which is indirectly called by {@link #sort(Comparable[])} and
+	 * {@link #sort(Comparable[], int, int)}. The proper implementation of this function should uphold the contract that
+	 * it sorts the list using the {@link #compare(Comparable, Comparable)} method. There is no built-in check as to
+	 * whether the sort successfully sorted the elements in the specified range. The implementation is not required to
+	 * block the return of this method in the case of pending subsorts as {@link #sort(Comparable[])} and
+	 * {@link #sort(Comparable[], int, int)} will wait for the completion of all pending subsorts before returning.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The starting index of the portion of the array to be sorted inclusive
+	 * @param end
+	 *            The ending index of the portion of the array to be sorted exclusive
+	 * @param recursionDepth
+	 *            the number of recursion on this sort before this iteration of sorting is called. (This is for sorts
+	 *            where recursion depth matters such as with Introsort)
+	 * @param context
+	 *            The context of the invocation of the sort.
+	 * 
+	 */
+	protected abstract void sortImplementation(T[] arr, int start, int end, int recursionDepth, SortContext context);
+
+}
@@ -0,0 +1,39 @@
+package com.jeffreymanzione.sorting;
+
+/**
+ * DoubleSort.java
+ * 
+ * An interface describing the functionality of a sort over <b>double</b> arrays. It is the primitive counterpart of
+ * {@link Sort}: the elements are compared directly rather than through {@link Comparable#compareTo(Object)} on boxed
+ * Double instances.
+ * 
+ * Elements are ordered by the total order of {@link Double#compare(double, double)}: -0.0 is ordered before 0.0 and NaN
+ * is ordered after every other value, including positive infinity.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see Sort
+ */
+public interface DoubleSort {
+
+	/**
+	 * Sorts the entire specified array.
+	 * 
+	 * @param arr
+	 *            The array to sort.
+	 */
+	public void sort(double[] arr);
+
+	/**
+	 * Sorts the specified range of the specified array.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The start of the range to be sorted in the array
+	 * @param end
+	 *            The end of the range to be sorted in the array
+	 */
+	public void sort(double[] arr, int start, int end);
+}
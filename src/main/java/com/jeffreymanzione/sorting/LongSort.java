@@ -0,0 +1,36 @@
+package com.jeffreymanzione.sorting;
+
+/**
+ * LongSort.java
+ * 
+ * An interface describing the functionality of a sort over <b>long</b> arrays. It is the primitive counterpart of
+ * {@link Sort}: the elements are compared directly rather than through {@link Comparable#compareTo(Object)} on boxed
+ * Long instances.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see Sort
+ */
+public interface LongSort {
+
+	/**
+	 * Sorts the entire specified array.
+	 * 
+	 * @param arr
+	 *            The array to sort.
+	 */
+	public void sort(long[] arr);
+
+	/**
+	 * Sorts the specified range of the specified array.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The start of the range to be sorted in the array
+	 * @param end
+	 *            The end of the range to be sorted in the array
+	 */
+	public void sort(long[] arr, int start, int end);
+}
@@ -0,0 +1,92 @@
+package com.jeffreymanzione.sorting;
+
+import com.jeffreymanzione.sorting.exceptions.SortIsNotParallelException;
+
+/**
+ * ParallelLongSort.java
+ * 
+ * An interface describing the functionality of a parallel sort over <b>long</b> arrays. It is the primitive counterpart
+ * of {@link ParallelSort} and follows the same threshold model.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see ParallelSort
+ */
+public interface ParallelLongSort extends LongSort {
+
+	/**
+	 * Blocks until the sorting is completed. If an invocation failed, its exception is rethrown once every invocation
+	 * has completed.
+	 */
+	public void awaitCompletion();
+
+	/**
+	 * Sorts the entire specified array in parallel. Note that this method does not block. It triggers the sorting, and
+	 * then, it returns.
+	 * 
+	 * @param arr
+	 *            The array to sort.
+	 * 
+	 * @see #sortParallel(long[], int, int)
+	 */
+	public void sortParallel(long[] arr);
+
+	/**
+	 * Sorts the specified range of the specified array in parallel. Note that this method does not block. It triggers
+	 * the sorting, and then, it returns.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The start of the range to be sorted in the array
+	 * @param end
+	 *            The end of the range to be sorted in the array
+	 */
+	public void sortParallel(long[] arr, int start, int end);
+
+	/**
+	 * Sorts the entire specified array in parallel and returns the handle of this invocation alone. Note that this
+	 * method does not block.
+	 * 
+	 * @param arr
+	 *            The array to sort.
+	 * @return The handle which completes with the sorted array.
+	 * 
+	 * @see #sortAsync(long[], int, int)
+	 */
+	public SortHandle<long[]> sortAsync(long[] arr);
+
+	/**
+	 * Sorts the specified range of the specified array in parallel and returns the handle of this invocation alone.
+	 * Note that this method does not block. The invocation is not waited for by {@link #awaitCompletion()}.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The start of the range to be sorted in the array
+	 * @param end
+	 *            The end of the range to be sorted in the array
+	 * @return The handle which completes with the sorted array.
+	 * @see ParallelSort#sortAsync(Comparable[], int, int)
+	 */
+	public SortHandle<long[]> sortAsync(long[] arr, int start, int end);
+
+	/**
+	 * Sets the parallel threshold for the sort.
+	 * 
+	 * @param minNumElements
+	 *            The threshold for converting to serial from parallel sorting.
+	 * @throws SortIsNotParallelException
+	 *             If the sort is not capable of being parallel.
+	 */
+	public void setParallelThreshold(int minNumElements) throws SortIsNotParallelException;
+
+	/**
+	 * Gets the parallel threshold for the sort.
+	 * 
+	 * @return The parallel threshold. By default {@link ParallelSort#DEFAULT_PARALLEL_THRESHOLD}.
+	 */
+	public int getParallelThreshold();
+
+}
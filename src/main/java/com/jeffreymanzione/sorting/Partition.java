@@ -0,0 +1,71 @@
+package com.jeffreymanzione.sorting;
+
+/**
+ * Partition.java
+ * 
+ * The protocol shared by the partitioning sorts to return the result of a partition step without allocating. A
+ * partition of the range [start, end) leaves a lower range [start, lowerEnd) and an upper range [upperStart, end)
+ * which remain to be sorted, and the two bounds are packed into a single long. Either range may be empty when the
+ * partition step already sorted it.
+ * 
+ * A partition around two pivots additionally leaves the middle range between them, from {@link #middleStart(long)} to
+ * {@link #middleEnd(long)}, with the pivots themselves at lowerEnd and upperStart - 1.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+public final class Partition {
+
+	private Partition() {
+	}
+
+	/**
+	 * Packs the bounds of a partitioned range.
+	 * 
+	 * @param lowerEnd
+	 *            The end of the lower range exclusive
+	 * @param upperStart
+	 *            The start of the upper range inclusive
+	 * @return The packed bounds.
+	 */
+	public static long bounds(int lowerEnd, int upperStart) {
+		return ((long) lowerEnd << 32) | (upperStart & 0xFFFF_FFFFL);
+	}
+
+	/**
+	 * @param bounds
+	 *            Bounds returned by a partition
+	 * @return The end of the lower range exclusive.
+	 */
+	public static int lowerEnd(long bounds) {
+		return (int) (bounds >>> 32);
+	}
+
+	/**
+	 * @param bounds
+	 *            Bounds returned by a partition
+	 * @return The start of the upper range inclusive.
+	 */
+	public static int upperStart(long bounds) {
+		return (int) bounds;
+	}
+
+	/**
+	 * @param bounds
+	 *            Bounds returned by a partition around two pivots
+	 * @return The start of the middle range inclusive.
+	 */
+	public static int middleStart(long bounds) {
+		return lowerEnd(bounds) + 1;
+	}
+
+	/**
+	 * @param bounds
+	 *            Bounds returned by a partition around two pivots
+	 * @return The end of the middle range exclusive.
+	 */
+	public static int middleEnd(long bounds) {
+		return upperStart(bounds) - 1;
+	}
+}
@@ -0,0 +1,141 @@
+package com.jeffreymanzione.sorting;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+/**
+ * SortContext.java
+ * 
+ * The state of a single invocation of a sort. Every call to {@link Sort#sort(Comparable[], int, int)} or
+ * {@link ParallelSort#sortParallel(Comparable[], int, int)} creates its own context, which is passed down to every
+ * range and subsort of that call. Sorts keep their per-call state here rather than in instance fields so that a single
+ * instance can serve any number of concurrent calls.
+ * 
+ * A context also carries the cancellation of its invocation. Sorts call {@link #checkCancelled()} at the start of
+ * every subsort and partition step, so that a cancelled or failed parallel invocation stops promptly. A range which
+ * fails records its exception with {@link #fail(Throwable)} rather than throwing it up the fork/join tree, so that the
+ * invocation only completes once every other range has returned.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see AbstractSort#createContext(Comparable[], int, int)
+ */
+public class SortContext {
+
+	private final int originalLength;
+	private final int recursionDepthThreshold;
+	private volatile boolean cancelled;
+	private volatile Throwable failure;
+	private SortMetrics metrics;
+
+	/**
+	 * Constructor for a context without a recursion depth threshold.
+	 * 
+	 * @param originalLength
+	 *            The original length of the range to be sorted.
+	 */
+	public SortContext(int originalLength) {
+		this(originalLength, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Constructor for a context with a recursion depth threshold.
+	 * 
+	 * @param originalLength
+	 *            The original length of the range to be sorted.
+	 * @param recursionDepthThreshold
+	 *            The recursion depth at which the sort changes strategy (This is for sorts where recursion depth matters
+	 *            such as with Introsort)
+	 */
+	public SortContext(int originalLength, int recursionDepthThreshold) {
+		this.originalLength = originalLength;
+		this.recursionDepthThreshold = recursionDepthThreshold;
+	}
+
+	/**
+	 * @return The original length of the range to be sorted.
+	 */
+	public int getOriginalLength() {
+		return originalLength;
+	}
+
+	/**
+	 * @return The recursion depth at which the sort changes strategy, {@link Integer#MAX_VALUE} if none.
+	 */
+	public int getRecursionDepthThreshold() {
+		return recursionDepthThreshold;
+	}
+
+	/**
+	 * @return The metrics of the invocation, or null if the sort is not instrumented.
+	 */
+	public SortMetrics getMetrics() {
+		return metrics;
+	}
+
+	void setMetrics(SortMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Signals the invocation to stop. The ranges being sorted are abandoned at their next cancellation check.
+	 */
+	public void cancel() {
+		cancelled = true;
+	}
+
+	/**
+	 * Signals the invocation to stop because one of its ranges failed. Only the first failure is kept; it is reported
+	 * by the invocation once every range has returned.
+	 * 
+	 * @param cause
+	 *            The exception thrown while sorting a range.
+	 */
+	public synchronized void fail(Throwable cause) {
+		if (failure == null && !(cancelled && cause instanceof CancellationException)) {
+			failure = cause;
+		}
+		cancelled = true;
+	}
+
+	/**
+	 * @return The first exception recorded by {@link #fail(Throwable)}, or null if no range failed.
+	 */
+	public Throwable getFailure() {
+		return failure;
+	}
+
+	/**
+	 * Rethrows the failure recorded by {@link #fail(Throwable)}, if any, wrapping it if it is a checked exception.
+	 */
+	void rethrowFailure() {
+		Throwable cause = failure;
+		if (cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		} else if (cause instanceof Error) {
+			throw (Error) cause;
+		} else if (cause != null) {
+			throw new CompletionException(cause);
+		}
+	}
+
+	/**
+	 * @return <b>true</b> if the invocation was cancelled.
+	 */
+	public boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * Aborts the calling range if the invocation was cancelled.
+	 * 
+	 * @throws CancellationException
+	 *             If the invocation was cancelled.
+	 */
+	public void checkCancelled() {
+		if (cancelled) {
+			throw new CancellationException("The sort was cancelled.");
+		}
+	}
+}
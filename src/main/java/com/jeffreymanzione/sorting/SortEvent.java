@@ -0,0 +1,73 @@
+package com.jeffreymanzione.sorting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * SortEvent.java
+ * 
+ * Flight recorder event of a single invocation of a sort. The duration of the event spans the invocation: for a
+ * parallel invocation, from its submission to the completion of its last subsort. Sorts create it through
+ * {@link SortEvents}, which hands out an event that does nothing unless a recording enables this one.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see SubsortEvent
+ */
+@Name("com.jeffreymanzione.sorting.Sort")
+@Label("Sort")
+@Category("Sorting")
+@Description("An invocation of a sort")
+public final class SortEvent extends Event implements SortEvents.Invocation {
+
+	@Label("Algorithm")
+	@Description("The class of the sort")
+	String algorithm;
+
+	@Label("Size")
+	@Description("The number of elements sorted")
+	int size;
+
+	@Label("Parallel")
+	boolean parallel;
+
+	@Label("Threads")
+	@Description("The parallelism of the pool of a parallel invocation, 1 otherwise")
+	int threads;
+
+	@Label("Failed")
+	@Description("Whether the invocation failed or was cancelled")
+	boolean failed;
+
+	/**
+	 * Creates the event of an invocation and begins it, or returns null if the event is disabled.
+	 */
+	static SortEvent begun() {
+		SortEvent event = new SortEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.begin();
+		return event;
+	}
+
+	/**
+	 * Commits the event if it is enabled and its duration is over its threshold.
+	 */
+	@Override
+	public void commit(Sort<?> sort, int size, boolean parallel, int threads, boolean failed) {
+		this.end();
+		if (this.shouldCommit()) {
+			this.algorithm = sort.getClass().getName();
+			this.size = size;
+			this.parallel = parallel;
+			this.threads = threads;
+			this.failed = failed;
+			this.commit();
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.jeffreymanzione.sorting;
+
+/**
+ * SortEvents.java
+ * 
+ * Creates the flight recorder events of the sorts. The events extend jdk.jfr.Event, which is missing from Java 8
+ * runtimes older than 8u262 and from runtimes linked without the jdk.jfr module. The sorts only refer to the events
+ * through the interfaces of this class, and {@link SortEvent} and {@link SubsortEvent} are only loaded once the flight
+ * recorder is known to be available. Otherwise the events do nothing.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see SortEvent
+ * @see SubsortEvent
+ */
+final class SortEvents {
+
+	/**
+	 * The event of a single invocation of a sort.
+	 */
+	interface Invocation {
+
+		/**
+		 * Ends the event and commits it if it is enabled and its duration is over its threshold.
+		 */
+		void commit(Sort<?> sort, int size, boolean parallel, int threads, boolean failed);
+	}
+
+	/**
+	 * The event of a subsort task of a parallel invocation.
+	 */
+	interface Range {
+
+		/**
+		 * Starts the timing of the task once it runs.
+		 */
+		void started();
+
+		/**
+		 * Ends the event and commits it if its duration is over its threshold.
+		 */
+		void completed(Sort<?> sort, int rangeSize, int recursionDepth);
+	}
+
+	private static final boolean AVAILABLE = isAvailable();
+
+	private static final Invocation NO_INVOCATION = (sort, size, parallel, threads, failed) -> {
+	};
+
+	private SortEvents() {
+	}
+
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, SortEvents.class.getClassLoader());
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Begins the event of an invocation.
+	 * 
+	 * @return The event, which does nothing if the flight recorder is not available or the event is disabled.
+	 */
+	static Invocation begin() {
+		Invocation event = AVAILABLE ? SortEvent.begun() : null;
+		return event != null ? event : NO_INVOCATION;
+	}
+
+	/**
+	 * Creates the event of a subsort task at its fork.
+	 * 
+	 * @return The event, or null if the event is disabled or the flight recorder is not available.
+	 */
+	static Range forked() {
+		return AVAILABLE ? SubsortEvent.forked() : null;
+	}
+}
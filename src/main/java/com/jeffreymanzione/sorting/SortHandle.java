@@ -0,0 +1,87 @@
+package com.jeffreymanzione.sorting;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SortHandle.java
+ * 
+ * The handle of a single asynchronous invocation of a parallel sort, as returned by
+ * {@link ParallelSort#sortAsync(Comparable[], int, int)} and its primitive counterparts. The handle completes with the
+ * sorted array once every range of the invocation has been sorted, and only that invocation: other calls on the same
+ * sort instance do not delay it. Being a {@link CompletableFuture}, it composes with other asynchronous work.
+ * 
+ * If the comparator or the sort throws, the remaining ranges of the invocation are abandoned and the handle completes
+ * exceptionally with that exception once every range being sorted has returned, so that nothing writes to the array
+ * after the handle is done. {@link #cancel(boolean)} likewise stops the invocation: the sort checks for cancellation
+ * before every subsort and partition step, so the threads of the pool are released shortly afterwards. A cancelled
+ * handle is done at once, as for any future, while the ranges being sorted may still be writing to the array until
+ * their next check; {@link #await(long, TimeUnit)} waits for them to return. The array is left partially sorted either
+ * way.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @param <A>
+ *            The type of the sorted array
+ */
+public class SortHandle<A> extends CompletableFuture<A> {
+
+	private final Runnable canceller;
+	private final CountDownLatch stopped = new CountDownLatch(1);
+
+	/**
+	 * Constructor.
+	 * 
+	 * @param canceller
+	 *            Signals the invocation to stop when the handle is cancelled.
+	 */
+	SortHandle(Runnable canceller) {
+		super();
+		this.canceller = canceller;
+	}
+
+	/**
+	 * Cancels the invocation. The ranges being sorted when the handle is cancelled are abandoned at their next
+	 * cancellation check.
+	 * 
+	 * @param mayInterruptIfRunning
+	 *            Ignored: the sort is stopped cooperatively rather than interrupted.
+	 * @return <b>true</b> if the handle is now cancelled.
+	 */
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		boolean cancelled = super.cancel(mayInterruptIfRunning);
+		if (cancelled) {
+			canceller.run();
+		}
+		return cancelled;
+	}
+
+	/**
+	 * Signals that no range of the invocation is being sorted any more. Called by the sort once the invocation has
+	 * completed, failed or been abandoned after a cancellation.
+	 */
+	void stopped() {
+		stopped.countDown();
+	}
+
+	/**
+	 * Blocks until no range of the invocation is being sorted any more or the timeout elapses, whichever comes first.
+	 * Unlike {@link #get(long, TimeUnit)}, it does not throw if the invocation failed or was cancelled, and after a
+	 * cancellation it also waits for the ranges being sorted to be abandoned, after which the array can safely be
+	 * reused.
+	 * 
+	 * @param timeout
+	 *            The maximum time to wait
+	 * @param unit
+	 *            The unit of the timeout
+	 * @return <b>true</b> if the invocation has stopped, <b>false</b> if the timeout elapsed first.
+	 * @throws InterruptedException
+	 *             If the calling thread is interrupted while waiting.
+	 */
+	public boolean await(long timeout, TimeUnit unit) throws InterruptedException {
+		return stopped.await(timeout, unit);
+	}
+}
@@ -0,0 +1,160 @@
+package com.jeffreymanzione.sorting;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SortMetrics.java
+ * 
+ * The counters of a single invocation of an instrumented sort, see
+ * {@link AbstractSort#setMetricsListener(java.util.function.Consumer)}. The counters are striped {@link LongAdder}s so
+ * that the threads of a parallel invocation can update them without contending with each other. Once the invocation
+ * completes, an immutable {@link Snapshot} of its counters is passed to the listener of the sort.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+public class SortMetrics {
+
+	private final LongAdder comparisons = new LongAdder();
+	private final LongAdder swaps = new LongAdder();
+	private final LongAccumulator maxRecursionDepth = new LongAccumulator(Math::max, 0);
+	private final LongAdder heapsortFallbacks = new LongAdder();
+	private final LongAdder insertionSortFallbacks = new LongAdder();
+	private final LongAdder subsorts = new LongAdder();
+
+	/**
+	 * Counts a comparison of two elements.
+	 */
+	public void recordComparison() {
+		comparisons.increment();
+	}
+
+	/**
+	 * Counts an exchange of two elements.
+	 */
+	public void recordSwap() {
+		swaps.increment();
+	}
+
+	/**
+	 * Records that a range was reached at the recursion depth.
+	 * 
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before the range.
+	 */
+	public void recordRecursionDepth(int recursionDepth) {
+		maxRecursionDepth.accumulate(recursionDepth);
+	}
+
+	/**
+	 * Counts a range handed over to Heapsort because the recursion depth threshold was reached.
+	 */
+	public void recordHeapsortFallback() {
+		heapsortFallbacks.increment();
+	}
+
+	/**
+	 * Counts a range handed over to insertion sort because it was small.
+	 */
+	public void recordInsertionSortFallback() {
+		insertionSortFallbacks.increment();
+	}
+
+	/**
+	 * Counts a task forked onto the fork/join pool.
+	 */
+	public void recordSubsort() {
+		subsorts.increment();
+	}
+
+	/**
+	 * @return The current values of the counters. The snapshot of a running invocation is not atomic across counters.
+	 */
+	public Snapshot snapshot() {
+		return new Snapshot(comparisons.sum(), swaps.sum(), maxRecursionDepth.get(), heapsortFallbacks.sum(),
+				insertionSortFallbacks.sum(), subsorts.sum());
+	}
+
+	/**
+	 * The values of the counters of an invocation.
+	 */
+	public static final class Snapshot {
+
+		private final long comparisons, swaps, maxRecursionDepth, heapsortFallbacks, insertionSortFallbacks, subsorts;
+
+		private Snapshot(long comparisons, long swaps, long maxRecursionDepth, long heapsortFallbacks,
+				long insertionSortFallbacks, long subsorts) {
+			this.comparisons = comparisons;
+			this.swaps = swaps;
+			this.maxRecursionDepth = maxRecursionDepth;
+			this.heapsortFallbacks = heapsortFallbacks;
+			this.insertionSortFallbacks = insertionSortFallbacks;
+			this.subsorts = subsorts;
+		}
+
+		/**
+		 * @return The number of comparisons of elements.
+		 */
+		public long getComparisons() {
+			return comparisons;
+		}
+
+		/**
+		 * @return The number of exchanges of elements by partitioning and heap sorting.
+		 */
+		public long getSwaps() {
+			return swaps;
+		}
+
+		/**
+		 * @return The deepest recursion depth reached by a range.
+		 */
+		public long getMaxRecursionDepth() {
+			return maxRecursionDepth;
+		}
+
+		/**
+		 * @return The number of ranges handed over to Heapsort by Introsort.
+		 */
+		public long getHeapsortFallbacks() {
+			return heapsortFallbacks;
+		}
+
+		/**
+		 * @return The number of small ranges handed over to insertion sort.
+		 */
+		public long getInsertionSortFallbacks() {
+			return insertionSortFallbacks;
+		}
+
+		/**
+		 * @return The number of tasks forked onto the fork/join pool.
+		 */
+		public long getSubsorts() {
+			return subsorts;
+		}
+
+		/**
+		 * @return The counters by name, in a stable order, for export to a metrics system.
+		 */
+		public Map<String, Long> toMap() {
+			Map<String, Long> map = new LinkedHashMap<>();
+			map.put("comparisons", comparisons);
+			map.put("swaps", swaps);
+			map.put("maxRecursionDepth", maxRecursionDepth);
+			map.put("heapsortFallbacks", heapsortFallbacks);
+			map.put("insertionSortFallbacks", insertionSortFallbacks);
+			map.put("subsorts", subsorts);
+			return map;
+		}
+
+		@Override
+		public String toString() {
+			return toMap().toString();
+		}
+	}
+}
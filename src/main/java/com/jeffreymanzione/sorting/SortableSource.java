@@ -0,0 +1,48 @@
+package com.jeffreymanzione.sorting;
+
+/**
+ * SortableSource.java
+ * 
+ * A store of elements which a {@link SourceSort} sorts in place through their indices, without copying them into an
+ * array and back: lists, columnar buffers, record stores. Indices run from 0 to {@link #size()} exclusive. See
+ * {@link SortableSources} for adapters of common stores.
+ * 
+ * Sorts only compare and swap elements by index, so the store decides how its elements are read and ordered.
+ * Implementations need not be thread-safe: sources are sorted on the calling thread.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see SourceSort
+ */
+public interface SortableSource {
+
+	/**
+	 * Gets the number of elements of the source.
+	 * 
+	 * @return The number of elements.
+	 */
+	public int size();
+
+	/**
+	 * Compares two elements of the source. Works the same as {@link java.util.Comparator#compare(Object, Object)}.
+	 * 
+	 * @param i
+	 *            The index of the first element
+	 * @param j
+	 *            The index of the second element
+	 * @return A negative integer, zero, or a positive integer as the first element is less than, equal to, or greater
+	 *         than the second.
+	 */
+	public int compare(int i, int j);
+
+	/**
+	 * Swaps two elements of the source.
+	 * 
+	 * @param i
+	 *            The index of the first element
+	 * @param j
+	 *            The index of the second element
+	 */
+	public void swap(int i, int j);
+}
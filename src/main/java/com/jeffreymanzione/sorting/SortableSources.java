@@ -0,0 +1,135 @@
+package com.jeffreymanzione.sorting;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.Comparator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * SortableSources.java
+ * 
+ * Adapters of common stores to {@link SortableSource}, so that they can be sorted in place by a {@link SourceSort}.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+public final class SortableSources {
+
+	private SortableSources() {
+	}
+
+	/**
+	 * Adapts a list to a source ordered by the natural order of its elements.
+	 * 
+	 * @param list
+	 *            The list, which must support random access and {@link List#set(int, Object)}
+	 * @return A source over the elements of the list.
+	 * @throws IllegalArgumentException
+	 *             If the list does not implement {@link RandomAccess}.
+	 */
+	public static <T extends Comparable<? super T>> SortableSource of(List<T> list) {
+		return of(list, null);
+	}
+
+	/**
+	 * Adapts a list to a source ordered by a comparator.
+	 * 
+	 * @param list
+	 *            The list, which must support random access and {@link List#set(int, Object)}
+	 * @param comparator
+	 *            The order of the elements, or null for their natural order like the comparator of a {@link Sort}
+	 * @return A source over the elements of the list.
+	 * @throws IllegalArgumentException
+	 *             If the list does not implement {@link RandomAccess}: every access of a sequential list takes linear
+	 *             time.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> SortableSource of(List<T> list, Comparator<? super T> comparator) {
+		if (!(list instanceof RandomAccess)) {
+			throw new IllegalArgumentException("Cannot sort a list without random access in place, copy it first.");
+		}
+		Comparator<? super T> order = comparator != null ? comparator
+				: (t1, t2) -> ((Comparable<? super T>) t1).compareTo(t2);
+		return new SortableSource() {
+
+			@Override
+			public int size() {
+				return list.size();
+			}
+
+			@Override
+			public int compare(int i, int j) {
+				return order.compare(list.get(i), list.get(j));
+			}
+
+			@Override
+			public void swap(int i, int j) {
+				list.set(i, list.set(j, list.get(i)));
+			}
+		};
+	}
+
+	/**
+	 * Adapts the remaining elements of a buffer to a source in ascending order. Index 0 is the position of the buffer,
+	 * which is left unchanged.
+	 * 
+	 * @param buffer
+	 *            The buffer, which must not be read-only
+	 * @return A source over the elements between the position and the limit of the buffer.
+	 */
+	public static SortableSource of(IntBuffer buffer) {
+		int offset = buffer.position(), size = buffer.remaining();
+		return new SortableSource() {
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public int compare(int i, int j) {
+				return Integer.compare(buffer.get(offset + i), buffer.get(offset + j));
+			}
+
+			@Override
+			public void swap(int i, int j) {
+				int tmp = buffer.get(offset + i);
+				buffer.put(offset + i, buffer.get(offset + j));
+				buffer.put(offset + j, tmp);
+			}
+		};
+	}
+
+	/**
+	 * Adapts the remaining elements of a buffer to a source in ascending order. Index 0 is the position of the buffer,
+	 * which is left unchanged.
+	 * 
+	 * @param buffer
+	 *            The buffer, which must not be read-only
+	 * @return A source over the elements between the position and the limit of the buffer.
+	 */
+	public static SortableSource of(LongBuffer buffer) {
+		int offset = buffer.position(), size = buffer.remaining();
+		return new SortableSource() {
+
+			@Override
+			public int size() {
+				return size;
+			}
+
+			@Override
+			public int compare(int i, int j) {
+				return Long.compare(buffer.get(offset + i), buffer.get(offset + j));
+			}
+
+			@Override
+			public void swap(int i, int j) {
+				long tmp = buffer.get(offset + i);
+				buffer.put(offset + i, buffer.get(offset + j));
+				buffer.put(offset + j, tmp);
+			}
+		};
+	}
+}
@@ -0,0 +1,36 @@
+package com.jeffreymanzione.sorting;
+
+/**
+ * SourceSort.java
+ * 
+ * An interface describing the functionality of a sort over a {@link SortableSource}. It is the counterpart of
+ * {@link Sort} for stores which are not arrays: the elements are compared and swapped by index, in the order of the
+ * source, so the comparator of the sort does not apply.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see Sort
+ */
+public interface SourceSort {
+
+	/**
+	 * Sorts the entire specified source.
+	 * 
+	 * @param source
+	 *            The source to sort.
+	 */
+	public void sort(SortableSource source);
+
+	/**
+	 * Sorts the specified range of the specified source.
+	 * 
+	 * @param source
+	 *            The source to be sorted
+	 * @param start
+	 *            The start of the range to be sorted in the source
+	 * @param end
+	 *            The end of the range to be sorted in the source
+	 */
+	public void sort(SortableSource source, int start, int end);
+}
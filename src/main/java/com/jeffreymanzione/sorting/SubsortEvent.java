@@ -0,0 +1,79 @@
+package com.jeffreymanzione.sorting;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * SubsortEvent.java
+ * 
+ * Flight recorder event of a subsort task of a parallel invocation. The duration of the event is the time the task
+ * spent sorting its own range, excluding the subsorts it forked, and the queue wait is the time between the fork of
+ * the task and the start of its execution. Sorts create it through {@link SortEvents}.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see SortEvent
+ */
+@Name("com.jeffreymanzione.sorting.Subsort")
+@Label("Subsort")
+@Category("Sorting")
+@Description("A range of a parallel sort sorted by a fork/join task")
+public final class SubsortEvent extends Event implements SortEvents.Range {
+
+	@Label("Algorithm")
+	@Description("The class of the sort of the range")
+	String algorithm;
+
+	@Label("Range Size")
+	int rangeSize;
+
+	@Label("Recursion Depth")
+	int recursionDepth;
+
+	@Label("Queue Wait")
+	@Timespan(Timespan.NANOSECONDS)
+	long queueWait;
+
+	/** The time the task was forked at, as returned by {@link System#nanoTime()}. */
+	private transient long forkedAt;
+
+	/**
+	 * Creates the event of a task at its fork, or returns null if the event is disabled.
+	 */
+	static SubsortEvent forked() {
+		SubsortEvent event = new SubsortEvent();
+		if (!event.isEnabled()) {
+			return null;
+		}
+		event.forkedAt = System.nanoTime();
+		return event;
+	}
+
+	/**
+	 * Starts the timing of the task once it runs.
+	 */
+	@Override
+	public void started() {
+		this.queueWait = System.nanoTime() - forkedAt;
+		this.begin();
+	}
+
+	/**
+	 * Commits the event if its duration is over its threshold.
+	 */
+	@Override
+	public void completed(Sort<?> sort, int rangeSize, int recursionDepth) {
+		this.end();
+		if (this.shouldCommit()) {
+			this.algorithm = sort.getClass().getName();
+			this.rangeSize = rangeSize;
+			this.recursionDepth = recursionDepth;
+			this.commit();
+		}
+	}
+}
@@ -1,18 +1,18 @@
-package com.jeffreymanzione.sorting.exceptions;
-
-/**
- * The top-level Sorting Exception
- * 
- * @author Jeffrey J. Manzione
- * @version 0.1
- * @since October 13, 2014
- *
- */
-public class SortingException extends Exception {
-
-	/**
-	 * 
-	 */
-	private static final long serialVersionUID = -286857679833457946L;
-
-}
+package com.jeffreymanzione.sorting.exceptions;
+
+/**
+ * The top-level Sorting Exception
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 13, 2014
+ *
+ */
+public class SortingException extends Exception {
+
+	/**
+	 * 
+	 */
+	private static final long serialVersionUID = -286857679833457946L;
+
+}
@@ -0,0 +1,394 @@
+package com.jeffreymanzione.sorting.external;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+
+import com.jeffreymanzione.sorting.ParallelSort;
+import com.jeffreymanzione.sorting.sorts.Heapsort;
+import com.jeffreymanzione.sorting.sorts.Introsort;
+
+/**
+ * ExternalSort.java
+ * 
+ * External merge sort of files of records which do not fit in memory. The input file is read through memory-mapped
+ * windows in chunks which fit in the memory budget and the run size. Every chunk is sorted in memory with a
+ * {@link ParallelSort}, by default {@link Introsort}, and spilled to a temporary run file. The runs are then merged
+ * with a heap of run readers, at most fan-in runs at a time: while there are more runs than the fan-in, groups of runs
+ * are merged into longer intermediate runs, and the final merge writes the output file. Run files are deleted as soon
+ * as they have been merged, and on failure.
+ * 
+ * Records are converted to and from bytes by a {@link RecordSerializer}. The input file must consist of records
+ * written by the same serializer, and so does the output file. The order is the order of the sort, including any
+ * comparator set on it.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @param <T>
+ *            The type of the records
+ */
+public class ExternalSort<T extends Comparable<T>> {
+
+	/**
+	 * The default maximum number of serialized bytes of the records of a run: 64 MB.
+	 */
+	public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+
+	/**
+	 * The default maximum number of records of a run.
+	 */
+	public static final int DEFAULT_RUN_SIZE = 1 << 24;
+
+	/**
+	 * The default maximum number of runs merged at once.
+	 */
+	public static final int DEFAULT_FAN_IN = 64;
+
+	/**
+	 * The default maximum number of bytes of a file mapped at once: 256 MB.
+	 */
+	public static final int DEFAULT_MAP_WINDOW = 1 << 28;
+
+	private final RecordSerializer<T> serializer;
+	private final ParallelSort<T> sort;
+
+	private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+	private int runSize = DEFAULT_RUN_SIZE;
+	private int fanIn = DEFAULT_FAN_IN;
+	private int mapWindow = DEFAULT_MAP_WINDOW;
+	private Path tempDirectory;
+
+	/**
+	 * Constructor which sorts the runs with {@link Introsort}.
+	 * 
+	 * @param serializer
+	 *            The serializer of the records
+	 */
+	public ExternalSort(RecordSerializer<T> serializer) {
+		this(serializer, new Introsort<>());
+	}
+
+	/**
+	 * Constructor which sets the sort of the runs.
+	 * 
+	 * @param serializer
+	 *            The serializer of the records
+	 * @param sort
+	 *            The sort of the runs. Its comparator, if any, also orders the merge.
+	 */
+	public ExternalSort(RecordSerializer<T> serializer, ParallelSort<T> sort) {
+		this.serializer = serializer;
+		this.sort = sort;
+	}
+
+	/**
+	 * Sets the maximum number of serialized bytes of the records of a run. The records of a run take more memory than
+	 * their serialized size once in the heap, so the budget should be a fraction of the heap.
+	 * 
+	 * @param memoryBudget
+	 *            The number of bytes. By default {@link #DEFAULT_MEMORY_BUDGET}.
+	 */
+	public void setMemoryBudget(long memoryBudget) {
+		if (memoryBudget <= 0) {
+			throw new IllegalArgumentException("The memory budget must be positive: " + memoryBudget);
+		}
+		this.memoryBudget = memoryBudget;
+	}
+
+	public long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Sets the maximum number of records of a run.
+	 * 
+	 * @param runSize
+	 *            The number of records. By default {@link #DEFAULT_RUN_SIZE}.
+	 */
+	public void setRunSize(int runSize) {
+		if (runSize <= 0) {
+			throw new IllegalArgumentException("The run size must be positive: " + runSize);
+		}
+		this.runSize = runSize;
+	}
+
+	public int getRunSize() {
+		return runSize;
+	}
+
+	/**
+	 * Sets the maximum number of runs merged at once. A larger fan-in means fewer merge passes over the data but more
+	 * files read at once.
+	 * 
+	 * @param fanIn
+	 *            The number of runs, at least 2. By default {@link #DEFAULT_FAN_IN}.
+	 */
+	public void setFanIn(int fanIn) {
+		if (fanIn < 2) {
+			throw new IllegalArgumentException("The fan-in must be at least 2: " + fanIn);
+		}
+		this.fanIn = fanIn;
+	}
+
+	public int getFanIn() {
+		return fanIn;
+	}
+
+	/**
+	 * Sets the maximum number of bytes of a file mapped at once. Must be larger than any serialized record.
+	 * 
+	 * @param mapWindow
+	 *            The number of bytes. By default {@link #DEFAULT_MAP_WINDOW}.
+	 */
+	public void setMapWindow(int mapWindow) {
+		if (mapWindow <= 0) {
+			throw new IllegalArgumentException("The map window must be positive: " + mapWindow);
+		}
+		this.mapWindow = mapWindow;
+	}
+
+	public int getMapWindow() {
+		return mapWindow;
+	}
+
+	/**
+	 * Sets the directory of the run files.
+	 * 
+	 * @param tempDirectory
+	 *            The directory, or null for the default temporary-file directory.
+	 */
+	public void setTempDirectory(Path tempDirectory) {
+		this.tempDirectory = tempDirectory;
+	}
+
+	public Path getTempDirectory() {
+		return tempDirectory;
+	}
+
+	/**
+	 * Sorts the records of the input file into the output file. The output file is created or replaced.
+	 * 
+	 * @param input
+	 *            The file of records to sort
+	 * @param output
+	 *            The file of sorted records
+	 * @throws IOException
+	 *             If a file cannot be read or written.
+	 * @throws RuntimeException
+	 *             If the sort of a run fails, for instance if its comparator throws. The run files are deleted.
+	 */
+	public void sort(Path input, Path output) throws IOException {
+		Set<Path> spilled = new LinkedHashSet<>();
+		try {
+			List<Path> runs = this.createRuns(input, spilled);
+
+			while (runs.size() > fanIn) {
+				List<Path> merged = new ArrayList<>();
+				for (int i = 0; i < runs.size(); i += fanIn) {
+					List<Path> group = runs.subList(i, Math.min(i + fanIn, runs.size()));
+					if (group.size() == 1) {
+						merged.add(group.get(0));
+					} else {
+						Path run = this.createRunFile(spilled);
+						this.merge(group, run);
+						this.delete(group, spilled);
+						merged.add(run);
+					}
+				}
+				runs = merged;
+			}
+
+			if (runs.isEmpty()) {
+				Files.newByteChannel(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+						StandardOpenOption.TRUNCATE_EXISTING).close();
+			} else if (runs.size() == 1) {
+				Files.move(runs.get(0), output, StandardCopyOption.REPLACE_EXISTING);
+				spilled.remove(runs.get(0));
+			} else {
+				this.merge(runs, output);
+			}
+		} finally {
+			for (Path run : spilled) {
+				Files.deleteIfExists(run);
+			}
+		}
+	}
+
+	/**
+	 * Reads the input in chunks bounded by the memory budget and the run size, and sorts and spills every chunk.
+	 * 
+	 * @return The run files, in the order of the input.
+	 */
+	private List<Path> createRuns(Path input, Set<Path> spilled) throws IOException {
+		List<Path> runs = new ArrayList<>();
+		try (MappedRecordReader<T> reader = new MappedRecordReader<>(input, serializer, mapWindow)) {
+			T[] chunk = newArray(Math.min(runSize, 1 << 10));
+			boolean exhausted = false;
+			while (!exhausted) {
+				int n = 0;
+				long bytes = 0;
+				while (n < runSize && bytes < memoryBudget) {
+					T record = reader.next();
+					if (record == null) {
+						exhausted = true;
+						break;
+					}
+					if (n == chunk.length) {
+						chunk = Arrays.copyOf(chunk, (int) Math.min(runSize, 2L * n));
+					}
+					chunk[n++] = record;
+					bytes += serializer.serializedSize(record);
+				}
+				if (n == 0) {
+					break;
+				}
+
+				this.sortRun(chunk, n);
+
+				Path run = this.createRunFile(spilled);
+				try (RecordWriter<T> writer = new RecordWriter<>(run, serializer)) {
+					for (int i = 0; i < n; i++) {
+						writer.write(chunk[i]);
+					}
+				}
+				runs.add(run);
+				Arrays.fill(chunk, 0, n, null);
+			}
+		}
+		return runs;
+	}
+
+	/**
+	 * Sorts the first n records of the chunk in parallel and waits for this invocation alone. A failure of the sort,
+	 * such as an exception of its comparator, is rethrown rather than leaving the run unsorted.
+	 */
+	private void sortRun(T[] chunk, int n) {
+		try {
+			sort.sortAsync(chunk, 0, n).join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			} else if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * Merges the runs into the output with a heap of their readers.
+	 */
+	private void merge(List<Path> runs, Path output) throws IOException {
+		List<MappedRecordReader<T>> readers = new ArrayList<>(runs.size());
+		try (RecordWriter<T> writer = new RecordWriter<>(output, serializer)) {
+			@SuppressWarnings("unchecked")
+			Head<T>[] heap = (Head<T>[]) new Head<?>[runs.size()];
+			int size = 0;
+			for (Path run : runs) {
+				MappedRecordReader<T> reader = new MappedRecordReader<>(run, serializer, mapWindow);
+				readers.add(reader);
+				T record = reader.next();
+				if (record != null) {
+					heap[size++] = new Head<>(reader, record);
+				}
+			}
+
+			MergeHeap<T> mergeHeap = new MergeHeap<>(this.order());
+			if (size > 1) {
+				mergeHeap.heapify(heap, 0, size);
+			}
+			while (size > 0) {
+				Head<T> head = heap[0];
+				writer.write(head.record);
+				head.record = head.reader.next();
+				if (head.record == null) {
+					heap[0] = heap[--size];
+					heap[size] = null;
+				}
+				if (size > 1) {
+					mergeHeap.sift(heap, 0, size);
+				}
+			}
+		} finally {
+			for (MappedRecordReader<T> reader : readers) {
+				reader.close();
+			}
+		}
+	}
+
+	private Comparator<T> order() {
+		Comparator<T> comparator = sort.getComparator();
+		return comparator != null ? comparator : Comparator.naturalOrder();
+	}
+
+	private Path createRunFile(Set<Path> spilled) throws IOException {
+		Path run = tempDirectory != null ? Files.createTempFile(tempDirectory, "run", ".tmp") : Files.createTempFile(
+				"run", ".tmp");
+		spilled.add(run);
+		return run;
+	}
+
+	private void delete(List<Path> runs, Set<Path> spilled) throws IOException {
+		for (Path run : runs) {
+			Files.delete(run);
+			spilled.remove(run);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T[] newArray(int length) {
+		return (T[]) new Comparable<?>[length];
+	}
+
+	/**
+	 * The next record of a run being merged.
+	 */
+	private static class Head<T extends Comparable<T>> implements Comparable<Head<T>> {
+
+		private final MappedRecordReader<T> reader;
+		private T record;
+
+		private Head(MappedRecordReader<T> reader, T record) {
+			this.reader = reader;
+			this.record = record;
+		}
+
+		@Override
+		public int compareTo(Head<T> o) {
+			return record.compareTo(o.record);
+		}
+	}
+
+	/**
+	 * Heap of the heads of the runs, built and maintained with the heapify and sift steps of {@link Heapsort}. Heapsort
+	 * keeps a max heap, so the order of the heads is reversed to keep the smallest record at the root.
+	 */
+	private static class MergeHeap<T extends Comparable<T>> extends Heapsort<Head<T>> {
+
+		private MergeHeap(Comparator<T> order) {
+			super();
+			this.setComparator((h1, h2) -> order.compare(h2.record, h1.record));
+		}
+
+		@Override
+		protected void heapify(Head<T>[] arr, int start, int end) {
+			super.heapify(arr, start, end);
+		}
+
+		@Override
+		protected void sift(Head<T>[] arr, int start, int end) {
+			super.sift(arr, start, end);
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.jeffreymanzione.sorting.external;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * MappedRecordReader.java
+ * 
+ * Reads the records of a file through a window of memory-mapped bytes which slides along the file, so that files
+ * larger than a single mapping can be read. The window is remapped from the first incomplete record whenever the
+ * current window does not hold it entirely.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @param <T>
+ *            The type of the records
+ */
+class MappedRecordReader<T> implements Closeable {
+
+	private final FileChannel channel;
+	private final RecordSerializer<T> serializer;
+	private final long size;
+	private final int window;
+
+	/** The offset in the file of the start of the mapped window. */
+	private long mapped;
+	private MappedByteBuffer buffer;
+
+	/**
+	 * Opens the file for reading.
+	 * 
+	 * @param path
+	 *            The file to read
+	 * @param serializer
+	 *            The serializer of the records
+	 * @param window
+	 *            The maximum number of bytes mapped at once. Must be larger than any record.
+	 * @throws IOException
+	 *             If the file cannot be opened.
+	 */
+	MappedRecordReader(Path path, RecordSerializer<T> serializer, int window) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.READ);
+		this.serializer = serializer;
+		this.size = channel.size();
+		this.window = window;
+		this.mapped = 0;
+		this.map();
+	}
+
+	private void map() throws IOException {
+		buffer = channel.map(MapMode.READ_ONLY, mapped, Math.min(window, size - mapped));
+	}
+
+	/**
+	 * @return The next record of the file, or null at the end of the file.
+	 * @throws IOException
+	 *             If the file cannot be read or ends with an incomplete record.
+	 */
+	T next() throws IOException {
+		T record = serializer.read(buffer);
+		if (record == null && buffer.hasRemaining()) {
+			long position = mapped + buffer.position();
+			if (buffer.position() == 0) {
+				throw new IOException("Incomplete record at offset " + position + ": either the file is truncated or "
+						+ "the record is larger than the mapping window of " + window + " bytes.");
+			}
+			mapped = position;
+			this.map();
+			record = this.next();
+		} else if (record == null && mapped + buffer.limit() < size) {
+			mapped += buffer.limit();
+			this.map();
+			record = this.next();
+		}
+		return record;
+	}
+
+	@Override
+	public void close() throws IOException {
+		buffer = null;
+		channel.close();
+	}
+}
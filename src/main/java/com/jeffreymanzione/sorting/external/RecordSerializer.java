@@ -0,0 +1,47 @@
+package com.jeffreymanzione.sorting.external;
+
+import java.nio.ByteBuffer;
+
+/**
+ * RecordSerializer.java
+ * 
+ * Converts the records of an external sort to and from bytes. Records may be of a fixed or of a variable length: a
+ * variable length format must encode the length of each record, e.g. with a length prefix, so that
+ * {@link #read(ByteBuffer)} can tell whether a buffer holds a complete record.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see RecordSerializers
+ * @param <T>
+ *            The type of the records
+ */
+public interface RecordSerializer<T> {
+
+	/**
+	 * @param record
+	 *            The record to serialize
+	 * @return The number of bytes {@link #write(Object, ByteBuffer)} writes for the record.
+	 */
+	public int serializedSize(T record);
+
+	/**
+	 * Writes the record at the position of the buffer and advances its position past it.
+	 * 
+	 * @param record
+	 *            The record to serialize
+	 * @param buffer
+	 *            The buffer, with at least {@link #serializedSize(Object)} bytes remaining
+	 */
+	public void write(T record, ByteBuffer buffer);
+
+	/**
+	 * Reads the record at the position of the buffer and advances its position past it.
+	 * 
+	 * @param buffer
+	 *            The buffer to read from
+	 * @return The record, or null without moving the position of the buffer if the remaining bytes do not hold a
+	 *         complete record.
+	 */
+	public T read(ByteBuffer buffer);
+}
@@ -0,0 +1,101 @@
+package com.jeffreymanzione.sorting.external;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RecordSerializers.java
+ * 
+ * Serializers for common record types: fixed length ints and longs, and variable length strings.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see RecordSerializer
+ */
+public final class RecordSerializers {
+
+	private RecordSerializers() {
+	}
+
+	/**
+	 * @return A serializer of ints as 4 big-endian bytes.
+	 */
+	public static RecordSerializer<Integer> ints() {
+		return new RecordSerializer<Integer>() {
+
+			@Override
+			public int serializedSize(Integer record) {
+				return Integer.BYTES;
+			}
+
+			@Override
+			public void write(Integer record, ByteBuffer buffer) {
+				buffer.putInt(record);
+			}
+
+			@Override
+			public Integer read(ByteBuffer buffer) {
+				return buffer.remaining() < Integer.BYTES ? null : buffer.getInt();
+			}
+		};
+	}
+
+	/**
+	 * @return A serializer of longs as 8 big-endian bytes.
+	 */
+	public static RecordSerializer<Long> longs() {
+		return new RecordSerializer<Long>() {
+
+			@Override
+			public int serializedSize(Long record) {
+				return Long.BYTES;
+			}
+
+			@Override
+			public void write(Long record, ByteBuffer buffer) {
+				buffer.putLong(record);
+			}
+
+			@Override
+			public Long read(ByteBuffer buffer) {
+				return buffer.remaining() < Long.BYTES ? null : buffer.getLong();
+			}
+		};
+	}
+
+	/**
+	 * @return A serializer of strings as their length in bytes, on 4 big-endian bytes, followed by their UTF-8 bytes.
+	 */
+	public static RecordSerializer<String> strings() {
+		return new RecordSerializer<String>() {
+
+			@Override
+			public int serializedSize(String record) {
+				return Integer.BYTES + record.getBytes(StandardCharsets.UTF_8).length;
+			}
+
+			@Override
+			public void write(String record, ByteBuffer buffer) {
+				byte[] bytes = record.getBytes(StandardCharsets.UTF_8);
+				buffer.putInt(bytes.length);
+				buffer.put(bytes);
+			}
+
+			@Override
+			public String read(ByteBuffer buffer) {
+				if (buffer.remaining() < Integer.BYTES) {
+					return null;
+				}
+				int length = buffer.getInt(buffer.position());
+				if (buffer.remaining() < Integer.BYTES + length) {
+					return null;
+				}
+				byte[] bytes = new byte[length];
+				buffer.getInt();
+				buffer.get(bytes);
+				return new String(bytes, StandardCharsets.UTF_8);
+			}
+		};
+	}
+}
@@ -0,0 +1,366 @@
+package com.jeffreymanzione.sorting.external;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+import com.jeffreymanzione.sorting.ParallelSort;
+import com.jeffreymanzione.sorting.SortableSource;
+import com.jeffreymanzione.sorting.sorts.Introsort;
+import com.jeffreymanzione.sorting.sorts.PackedKeySort;
+
+/**
+ * RecordSort.java
+ * 
+ * Sorts fixed-width records in place in a {@link ByteBuffer}, direct or mapped from a file, without turning them into
+ * objects. A record is a struct of recordWidth bytes, and its key is either an int or a long at an offset of the
+ * record, in the byte order of the buffer, or a run of bytes compared as unsigned bytes in lexicographic order.
+ * 
+ * The key of every record is read once into a long whose unsigned order is the order of the keys: ints and longs are
+ * offset by their minimum value, byte keys are read as an unsigned big-endian number of their first eight bytes at
+ * most, so that keys of a few bytes span a range of as many bits. When the keys span few enough values, each is
+ * packed with the number of its record into a single long which is sorted by {@link PackedKeySort}, like the
+ * primitive keys of {@link com.jeffreymanzione.sorting.sorts.KeySort}. Otherwise the keys and record numbers are sorted
+ * together with {@link Introsort}, and byte keys longer than eight bytes are compared on the rest of their bytes in the
+ * buffer when their first eight are equal. Either way, records with equal keys keep their order.
+ * 
+ * The sorted order is an index of record numbers, see {@link #sortedIndex(ByteBuffer)}. {@link #sort(ByteBuffer)}
+ * then permutes the records in place by following the cycles of the index, holding a single record aside, so that it
+ * needs no second buffer.
+ * 
+ * Buffers of more than twice the parallel threshold records read their keys and radix sort them in parallel on the
+ * pool of the sort. The comparison sort of wide keys and the permutation run on the calling thread.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see ExternalSort
+ */
+public final class RecordSort {
+
+	private enum KeyType {
+		INT, LONG, BYTES
+	}
+
+	/* Private fields */
+	private final PackedKeySort packedSort = new PackedKeySort();
+	private final int recordWidth, keyOffset, keyLength;
+	private final KeyType keyType;
+
+	private RecordSort(int recordWidth, int keyOffset, int keyLength, KeyType keyType) {
+		if (recordWidth <= 0 || keyLength <= 0 || keyOffset < 0 || keyOffset > recordWidth - keyLength) {
+			throw new IllegalArgumentException("Cannot sort records of " + recordWidth + " bytes by a key of "
+					+ keyLength + " bytes at offset " + keyOffset + ".");
+		}
+		this.recordWidth = recordWidth;
+		this.keyOffset = keyOffset;
+		this.keyLength = keyLength;
+		this.keyType = keyType;
+	}
+
+	/**
+	 * Creates a sort of records by a signed int key.
+	 * 
+	 * @param recordWidth
+	 *            The number of bytes of a record
+	 * @param keyOffset
+	 *            The offset of the key in a record
+	 * @return The record sort.
+	 * @throws IllegalArgumentException
+	 *             If the key does not fit in a record.
+	 */
+	public static RecordSort byIntKey(int recordWidth, int keyOffset) {
+		return new RecordSort(recordWidth, keyOffset, Integer.BYTES, KeyType.INT);
+	}
+
+	/**
+	 * Creates a sort of records by a signed long key.
+	 * 
+	 * @param recordWidth
+	 *            The number of bytes of a record
+	 * @param keyOffset
+	 *            The offset of the key in a record
+	 * @return The record sort.
+	 * @throws IllegalArgumentException
+	 *             If the key does not fit in a record.
+	 */
+	public static RecordSort byLongKey(int recordWidth, int keyOffset) {
+		return new RecordSort(recordWidth, keyOffset, Long.BYTES, KeyType.LONG);
+	}
+
+	/**
+	 * Creates a sort of records by a key of bytes compared as unsigned bytes in lexicographic order.
+	 * 
+	 * @param recordWidth
+	 *            The number of bytes of a record
+	 * @param keyOffset
+	 *            The offset of the key in a record
+	 * @param keyLength
+	 *            The number of bytes of the key
+	 * @return The record sort.
+	 * @throws IllegalArgumentException
+	 *             If the key does not fit in a record.
+	 */
+	public static RecordSort byBytesKey(int recordWidth, int keyOffset, int keyLength) {
+		return new RecordSort(recordWidth, keyOffset, keyLength, KeyType.BYTES);
+	}
+
+	/**
+	 * Gets the width of the records.
+	 * 
+	 * @return The number of bytes of a record.
+	 */
+	public int getRecordWidth() {
+		return recordWidth;
+	}
+
+	/**
+	 * Sorts the records between the position and the limit of the buffer in place. The position and limit are left
+	 * unchanged.
+	 * 
+	 * @param records
+	 *            The buffer of records, which must not be read-only
+	 * @throws IllegalArgumentException
+	 *             If the remaining bytes of the buffer are not a whole number of records.
+	 */
+	public void sort(ByteBuffer records) {
+		int[] index = this.sortedIndex(records);
+		this.permute(records, records.position(), index);
+	}
+
+	/**
+	 * Sorts the records of a file in place through a memory mapping of the file, with int and long keys in big-endian
+	 * byte order.
+	 * 
+	 * @param file
+	 *            The file of records
+	 * @throws IOException
+	 *             If the file cannot be mapped.
+	 * @throws IllegalArgumentException
+	 *             If the file is not a whole number of records, or is too large to be mapped at once, in which case it
+	 *             can be sorted with {@link ExternalSort}.
+	 */
+	public void sort(Path file) throws IOException {
+		sort(file, ByteOrder.BIG_ENDIAN);
+	}
+
+	/**
+	 * Sorts the records of a file in place through a memory mapping of the file.
+	 * 
+	 * @param file
+	 *            The file of records
+	 * @param order
+	 *            The byte order of int and long keys
+	 * @throws IOException
+	 *             If the file cannot be mapped.
+	 * @throws IllegalArgumentException
+	 *             If the file is not a whole number of records, or is too large to be mapped at once, in which case it
+	 *             can be sorted with {@link ExternalSort}.
+	 */
+	public void sort(Path file, ByteOrder order) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+			long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				throw new IllegalArgumentException("Cannot map " + size + " bytes at once.");
+			}
+			MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+			records.order(order);
+			this.sort(records);
+			records.force();
+		}
+	}
+
+	/**
+	 * Computes the sorted order of the records between the position and the limit of the buffer, without moving them.
+	 * 
+	 * @param records
+	 *            The buffer of records
+	 * @return The numbers of the records in sorted order, where record i starts at the position of the buffer plus i
+	 *         times the record width.
+	 * @throws IllegalArgumentException
+	 *             If the remaining bytes of the buffer are not a whole number of records.
+	 */
+	public int[] sortedIndex(ByteBuffer records) {
+		if (records.remaining() % recordWidth != 0) {
+			throw new IllegalArgumentException("Cannot sort " + records.remaining() + " bytes as records of "
+					+ recordWidth + " bytes.");
+		}
+		int count = records.remaining() / recordWidth, base = records.position();
+		long[] keys = this.sortableKeys(records);
+
+		/* Byte keys longer than a long are never packed, since their first bytes do not order them completely. */
+		int[] index = keyLength <= Long.BYTES ? packedSort.argsort(keys) : null;
+		if (index == null) {
+			index = new int[count];
+			for (int i = 0; i < count; i++) {
+				index[i] = i;
+			}
+			new Introsort<Integer>().sort(new KeyColumns(records, base, keys, index));
+		}
+		return index;
+	}
+
+	/**
+	 * Reads the keys of the records between the position and the limit of the buffer as sortable keys.
+	 */
+	long[] sortableKeys(ByteBuffer records) {
+		int count = records.remaining() / recordWidth, base = records.position();
+		long[] keys = new long[count];
+		packedSort.forEachChunk(count, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				keys[i] = this.sortableKey(records, base + i * recordWidth + keyOffset);
+			}
+		});
+		return keys;
+	}
+
+	/**
+	 * Reads the key at the index of the buffer as a long whose unsigned order is the order of the keys. Byte keys are
+	 * not left-aligned: every key has the same length, and the unused high bits would only widen the range of the keys
+	 * beyond what can be packed.
+	 */
+	private long sortableKey(ByteBuffer records, int index) {
+		switch (keyType) {
+		case INT:
+			return PackedKeySort.sortable(records.getInt(index));
+		case LONG:
+			return PackedKeySort.sortable(records.getLong(index));
+		default:
+			int length = Math.min(keyLength, Long.BYTES);
+			long prefix = 0;
+			for (int b = 0; b < length; b++) {
+				prefix = (prefix << 8) | (records.get(index + b) & 0xFF);
+			}
+			return prefix;
+		}
+	}
+
+	/**
+	 * Moves every record to its position in the sorted order, one cycle of the index at a time.
+	 */
+	private void permute(ByteBuffer records, int base, int[] index) {
+		ByteBuffer held = ByteBuffer.allocate(recordWidth).order(records.order());
+		for (int start = 0; start < index.length; start++) {
+			if (index[start] == start) {
+				continue;
+			}
+			this.copy(records, base + start * recordWidth, held, 0);
+			int position = start;
+			while (true) {
+				int next = index[position];
+				index[position] = position;
+				if (next == start) {
+					this.copy(held, 0, records, base + position * recordWidth);
+					break;
+				}
+				this.copy(records, base + next * recordWidth, records, base + position * recordWidth);
+				position = next;
+			}
+		}
+	}
+
+	/**
+	 * Copies a record with absolute gets and puts, a long at a time.
+	 */
+	private void copy(ByteBuffer from, int fromIndex, ByteBuffer to, int toIndex) {
+		int b = 0;
+		for (; b + Long.BYTES <= recordWidth; b += Long.BYTES) {
+			to.putLong(toIndex + b, from.getLong(fromIndex + b));
+		}
+		for (; b < recordWidth; b++) {
+			to.put(toIndex + b, from.get(fromIndex + b));
+		}
+	}
+
+	/**
+	 * Sets the parallel threshold. Buffers of more than twice as many records are sorted in parallel.
+	 * 
+	 * @param minNumElements
+	 *            The threshold for converting to serial from parallel sorting.
+	 */
+	public void setParallelThreshold(int minNumElements) {
+		packedSort.setParallelThreshold(minNumElements);
+	}
+
+	/**
+	 * Gets the parallel threshold.
+	 * 
+	 * @return The parallel threshold. By default {@link ParallelSort#DEFAULT_PARALLEL_THRESHOLD}.
+	 */
+	public int getParallelThreshold() {
+		return packedSort.getParallelThreshold();
+	}
+
+	/**
+	 * Sets the pool on which the records are sorted in parallel.
+	 * 
+	 * @param pool
+	 *            The fork/join pool used for parallel sorting.
+	 */
+	public void setPool(ForkJoinPool pool) {
+		packedSort.setPool(pool);
+	}
+
+	/**
+	 * Gets the pool on which the records are sorted in parallel.
+	 * 
+	 * @return The fork/join pool used for parallel sorting.
+	 */
+	public ForkJoinPool getPool() {
+		return packedSort.getPool();
+	}
+
+	/**
+	 * The sortable keys and record numbers, sorted together. Ties of the keys are broken by the rest of byte keys, then
+	 * by record number so that equal records keep their order.
+	 */
+	private final class KeyColumns implements SortableSource {
+
+		private final ByteBuffer records;
+		private final int base;
+		private final long[] keys;
+		private final int[] index;
+
+		private KeyColumns(ByteBuffer records, int base, long[] keys, int[] index) {
+			this.records = records;
+			this.base = base;
+			this.keys = keys;
+			this.index = index;
+		}
+
+		@Override
+		public int size() {
+			return keys.length;
+		}
+
+		@Override
+		public int compare(int i, int j) {
+			int cmp = Long.compareUnsigned(keys[i], keys[j]);
+			for (int b = Long.BYTES; cmp == 0 && b < keyLength; b++) {
+				cmp = Integer.compare(records.get(this.keyStart(index[i]) + b) & 0xFF,
+						records.get(this.keyStart(index[j]) + b) & 0xFF);
+			}
+			return cmp != 0 ? cmp : Integer.compare(index[i], index[j]);
+		}
+
+		private int keyStart(int record) {
+			return base + record * recordWidth + keyOffset;
+		}
+
+		@Override
+		public void swap(int i, int j) {
+			long key = keys[i];
+			keys[i] = keys[j];
+			keys[j] = key;
+			int record = index[i];
+			index[i] = index[j];
+			index[j] = record;
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.jeffreymanzione.sorting.external;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * RecordWriter.java
+ * 
+ * Writes records to a file through a direct buffer.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @param <T>
+ *            The type of the records
+ */
+class RecordWriter<T> implements Closeable {
+
+	private static final int BUFFER_SIZE = 1 << 20;
+
+	private final FileChannel channel;
+	private final RecordSerializer<T> serializer;
+	private ByteBuffer buffer;
+
+	/**
+	 * Creates or truncates the file for writing.
+	 * 
+	 * @param path
+	 *            The file to write
+	 * @param serializer
+	 *            The serializer of the records
+	 * @throws IOException
+	 *             If the file cannot be opened.
+	 */
+	RecordWriter(Path path, RecordSerializer<T> serializer) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+		this.serializer = serializer;
+		this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	}
+
+	void write(T record) throws IOException {
+		int size = serializer.serializedSize(record);
+		if (size > buffer.remaining()) {
+			this.flush();
+			if (size > buffer.capacity()) {
+				buffer = ByteBuffer.allocateDirect(size);
+			}
+		}
+		serializer.write(record, buffer);
+	}
+
+	private void flush() throws IOException {
+		/*
+		 * Called through Buffer: compiled on a later JDK, ByteBuffer.flip() and clear() bind to the covariant overrides
+		 * added in Java 9, which do not exist on a Java 8 runtime.
+		 */
+		((Buffer) buffer).flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		((Buffer) buffer).clear();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			this.flush();
+		} finally {
+			channel.close();
+		}
+	}
+}
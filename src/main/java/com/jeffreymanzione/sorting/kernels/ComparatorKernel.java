@@ -0,0 +1,144 @@
+package com.jeffreymanzione.sorting.kernels;
+
+import java.util.Comparator;
+
+/**
+ * ComparatorKernel.java
+ * 
+ * An Introsort kernel which orders elements with a comparator: Hoare partitioning around the median of three,
+ * insertion sort below 16 elements and heapsort once the recursion depth reaches 2*log2(n).
+ * 
+ * {@link SortKernels#comparing(Comparator)} loads a copy of this class for every comparator class. Every comparison is
+ * made directly in the loop which needs it rather than through a shared helper, so each copy compiles to loops whose
+ * only comparator call site is monomorphic and can be inlined. The class is public so that its copies can be
+ * instantiated by the factory; an instance created directly shares its profile with every other such instance.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see NaturalOrderKernel
+ * @param <T>
+ *            The type of the elements
+ */
+public final class ComparatorKernel<T> implements SortKernel<T> {
+
+	private static final int INSERTION_THRESHOLD = 16;
+
+	private final Comparator<? super T> comparator;
+
+	/**
+	 * @param comparator
+	 *            The comparator which orders the elements
+	 */
+	public ComparatorKernel(Comparator<? super T> comparator) {
+		this.comparator = comparator;
+	}
+
+	@Override
+	public void sort(T[] arr, int start, int end) {
+		int length = end - start;
+		if (length > 1) {
+			this.introsort(arr, start, end, 2 * (31 - Integer.numberOfLeadingZeros(length)));
+		}
+	}
+
+	private void introsort(T[] arr, int start, int end, int depth) {
+		while (end - start > INSERTION_THRESHOLD) {
+			if (depth-- == 0) {
+				this.heapsort(arr, start, end);
+				return;
+			}
+			int split = this.partition(arr, start, end);
+			/* Recurse into the smaller side and loop on the larger one. */
+			if (split - start < end - split) {
+				this.introsort(arr, start, split, depth);
+				start = split;
+			} else {
+				this.introsort(arr, split, end, depth);
+				end = split;
+			}
+		}
+		this.insertionSort(arr, start, end);
+	}
+
+	/**
+	 * Partitions the range around the median of its first, middle and last elements.
+	 * 
+	 * @return The split: every element before it is at most the pivot and every element from it on is at least the
+	 *         pivot. Both sides are non-empty.
+	 */
+	private int partition(T[] arr, int start, int end) {
+		int mid = (start + end) >>> 1, last = end - 1;
+		if (comparator.compare(arr[mid], arr[start]) < 0) {
+			swap(arr, mid, start);
+		}
+		if (comparator.compare(arr[last], arr[mid]) < 0) {
+			swap(arr, last, mid);
+			if (comparator.compare(arr[mid], arr[start]) < 0) {
+				swap(arr, mid, start);
+			}
+		}
+		T pivot = arr[mid];
+		int i = start - 1, j = end;
+		while (true) {
+			do {
+				i++;
+			} while (comparator.compare(arr[i], pivot) < 0);
+			do {
+				j--;
+			} while (comparator.compare(arr[j], pivot) > 0);
+			if (i >= j) {
+				return j + 1;
+			}
+			swap(arr, i, j);
+		}
+	}
+
+	private void insertionSort(T[] arr, int start, int end) {
+		for (int i = start + 1; i < end; i++) {
+			T element = arr[i];
+			int j = i - 1;
+			while (j >= start && comparator.compare(element, arr[j]) < 0) {
+				arr[j + 1] = arr[j];
+				j--;
+			}
+			arr[j + 1] = element;
+		}
+	}
+
+	private void heapsort(T[] arr, int start, int end) {
+		int size = end - start;
+		for (int i = size / 2 - 1; i >= 0; i--) {
+			this.siftDown(arr, start, i, size);
+		}
+		for (int i = size - 1; i > 0; i--) {
+			swap(arr, start, start + i);
+			this.siftDown(arr, start, 0, i);
+		}
+	}
+
+	/**
+	 * Sifts the element at the heap index down the heap of the given size rooted at the offset.
+	 */
+	private void siftDown(T[] arr, int offset, int index, int size) {
+		T element = arr[offset + index];
+		int child;
+		while ((child = 2 * index + 1) < size) {
+			if (child + 1 < size && comparator.compare(arr[offset + child], arr[offset + child + 1]) < 0) {
+				child++;
+			}
+			if (comparator.compare(element, arr[offset + child]) >= 0) {
+				break;
+			}
+			arr[offset + index] = arr[offset + child];
+			index = child;
+		}
+		arr[offset + index] = element;
+	}
+
+	private static void swap(Object[] arr, int i, int j) {
+		Object tmp = arr[i];
+		arr[i] = arr[j];
+		arr[j] = tmp;
+	}
+}
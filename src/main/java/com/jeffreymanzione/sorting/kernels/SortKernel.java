@@ -0,0 +1,40 @@
+package com.jeffreymanzione.sorting.kernels;
+
+/**
+ * SortKernel.java
+ * 
+ * A serial sort specialized for a single ordering. Kernels are built by {@link SortKernels}, which gives every
+ * comparator class and every naturally ordered element class a kernel class of its own so that the comparisons in its
+ * hot loops only ever see one receiver type. Kernels are neither parallel, instrumented nor cancellable.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see SortKernels
+ * @param <T>
+ *            The type of the elements
+ */
+public interface SortKernel<T> {
+
+	/**
+	 * Sorts the array.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 */
+	public default void sort(T[] arr) {
+		sort(arr, 0, arr.length);
+	}
+
+	/**
+	 * Sorts the range of the array.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 */
+	public void sort(T[] arr, int start, int end);
+}
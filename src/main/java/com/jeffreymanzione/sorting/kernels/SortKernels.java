@@ -0,0 +1,156 @@
+package com.jeffreymanzione.sorting.kernels;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Comparator;
+
+/**
+ * SortKernels.java
+ * 
+ * Builds {@link SortKernel}s specialized for a single ordering. The sorts of {@link com.jeffreymanzione.sorting.sorts}
+ * make their comparisons through
+ * {@link com.jeffreymanzione.sorting.AbstractSort#compare(Comparable, Comparable)}, whose call sites the JIT profiles
+ * once for the whole JVM: as soon as a few element types or comparators are sorted, they become megamorphic and no
+ * sort loop can inline its comparisons.
+ * 
+ * The factory instead loads a private copy of {@link NaturalOrderKernel} for every element class and of
+ * {@link ComparatorKernel} for every comparator class, each through a class loader of its own. A copy is a distinct
+ * class with its own profile, so its partition and insertion loops only ever see one receiver type. Copies are cached
+ * per element or comparator class and live as long as that class. Comparators of the same class share a copy, e.g.
+ * every comparator returned by {@link Comparator#comparing(java.util.function.Function)}, in which case the key
+ * extractors they call remain polluted.
+ * 
+ * A kernel is a plain serial Introsort, not a replacement for the sorts: it has no parallel path, leaf sorts or
+ * partition schemes, and is neither instrumented nor cancellable. The other sorts keep comparing through
+ * {@link com.jeffreymanzione.sorting.AbstractSort#compare(Comparable, Comparable)}; only
+ * {@link com.jeffreymanzione.sorting.sorts.Introsort} can hand its serial ranges to a kernel, see
+ * {@link com.jeffreymanzione.sorting.sorts.Introsort#setSpecializedKernels(boolean)}.
+ * 
+ * If the class files of the kernels cannot be read, the factory falls back to the shared kernel classes.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see SortKernel
+ */
+public final class SortKernels {
+
+	private static final ClassValue<Constructor<?>> NATURAL_ORDER_KERNELS = new ClassValue<Constructor<?>>() {
+		@Override
+		protected Constructor<?> computeValue(Class<?> type) {
+			return constructor(NaturalOrderKernel.class);
+		}
+	};
+
+	private static final ClassValue<Constructor<?>> COMPARATOR_KERNELS = new ClassValue<Constructor<?>>() {
+		@Override
+		protected Constructor<?> computeValue(Class<?> type) {
+			return constructor(ComparatorKernel.class, Comparator.class);
+		}
+	};
+
+	private SortKernels() {
+	}
+
+	/**
+	 * Builds a kernel which sorts elements of the class by their natural ordering.
+	 * 
+	 * @param type
+	 *            The class of the elements. Arrays mixing subclasses with their own compareTo methods sort correctly,
+	 *            but their comparisons are not monomorphic.
+	 * @return The kernel.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends Comparable<? super T>> SortKernel<T> naturalOrder(Class<T> type) {
+		return (SortKernel<T>) newInstance(NATURAL_ORDER_KERNELS.get(type));
+	}
+
+	/**
+	 * Builds a kernel which sorts elements with the comparator.
+	 * 
+	 * @param comparator
+	 *            The comparator which orders the elements
+	 * @return The kernel.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> SortKernel<T> comparing(Comparator<? super T> comparator) {
+		if (comparator == null) {
+			throw new NullPointerException("comparator");
+		}
+		return (SortKernel<T>) newInstance(COMPARATOR_KERNELS.get(comparator.getClass()), comparator);
+	}
+
+	/**
+	 * Builds a kernel which sorts elements with the comparator, or by their natural ordering if there is none, the
+	 * same way as a {@link com.jeffreymanzione.sorting.Sort} with or without a comparator.
+	 * 
+	 * @param type
+	 *            The class of the elements
+	 * @param comparator
+	 *            The comparator which orders the elements, or null
+	 * @return The kernel.
+	 */
+	public static <T extends Comparable<? super T>> SortKernel<T> of(Class<T> type, Comparator<? super T> comparator) {
+		return comparator != null ? comparing(comparator) : naturalOrder(type);
+	}
+
+	private static Object newInstance(Constructor<?> constructor, Object... args) {
+		try {
+			return constructor.newInstance(args);
+		} catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+			throw new IllegalStateException("Could not instantiate " + constructor.getDeclaringClass(), e);
+		}
+	}
+
+	/**
+	 * Loads a copy of the kernel class and gets its public constructor.
+	 */
+	private static Constructor<?> constructor(Class<?> kernel, Class<?>... parameterTypes) {
+		try {
+			return copy(kernel).getConstructor(parameterTypes);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Kernel " + kernel + " has no public constructor", e);
+		}
+	}
+
+	private static Class<?> copy(Class<?> kernel) {
+		byte[] bytes;
+		try (InputStream in = kernel.getResourceAsStream(kernel.getSimpleName() + ".class")) {
+			if (in == null) {
+				return kernel;
+			}
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			bytes = out.toByteArray();
+		} catch (IOException e) {
+			return kernel;
+		}
+		return new KernelLoader(kernel.getClassLoader()).define(kernel.getName(), bytes);
+	}
+
+	/**
+	 * Defines a single copy of a kernel class and delegates everything else to the loader of the kernels. The copy
+	 * resolves its own name to itself, since a loader finds the classes it has defined before asking its parent.
+	 */
+	private static final class KernelLoader extends ClassLoader {
+
+		static {
+			ClassLoader.registerAsParallelCapable();
+		}
+
+		private KernelLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		private Class<?> define(String name, byte[] bytes) {
+			return defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+}
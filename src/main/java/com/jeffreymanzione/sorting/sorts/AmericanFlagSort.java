@@ -0,0 +1,242 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+import com.jeffreymanzione.sorting.AbstractParallelSort;
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortMetrics;
+
+/**
+ * AmericanFlagSort.java
+ * 
+ * In-place most significant digit radix sort of objects by an extracted int key, as described by McIlroy, Bostic and
+ * McIlroy. The range is distributed in 256 buckets by the most significant byte of the key: the size of every bucket
+ * is counted, then the elements are permuted in place into their buckets by following cycles. Every bucket is then
+ * sorted in the same way by the next byte. The sign bit is flipped when extracting digits so that negative keys order
+ * before positive ones. Performs in O(n) time for a fixed key width and uses no extra space for the elements.
+ * 
+ * The keys are extracted once per call into an array and moved along with the elements, so counting and distributing
+ * the digits never calls the key function. The order is defined by the key: a comparator set on the sort only orders
+ * the elements with equal keys, which are otherwise left in no particular order. Buckets of fewer than
+ * {@link #RADIX_THRESHOLD} elements are sorted by key with {@link Introsort} within the call, which insertion sorts the
+ * smallest of them. In parallel, buckets larger than the parallel threshold are forked.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see PrimitiveRadixSort
+ * 
+ * @param <T>
+ *            Parameterized type implements Comparable of that type
+ */
+public class AmericanFlagSort<T extends Comparable<T>> extends AbstractParallelSort<T> {
+
+	/**
+	 * Buckets with fewer elements than this are sorted with {@link Introsort}.
+	 */
+	public static final int RADIX_THRESHOLD = 128;
+
+	private static final int DIGIT_BITS = 8;
+	private static final int RADIX = 1 << DIGIT_BITS;
+	private static final int DIGIT_MASK = RADIX - 1;
+	private static final int DIGITS = Integer.SIZE / DIGIT_BITS;
+
+	/**
+	 * The recursion depth threshold of the Introsort of the small buckets: 2*log2 of the largest of them.
+	 */
+	private static final int BUCKET_DEPTH_THRESHOLD = 2 * (31 - Integer.numberOfLeadingZeros(RADIX_THRESHOLD));
+
+	/* Private fields */
+	private final ToIntFunction<? super T> key;
+	private final Comparator<T> byKey;
+	private final Introsort<T> introsort = new Introsort<>();
+
+	/**
+	 * The state of a single call: the keys of its elements, extracted once with the sign bit flipped and moved along
+	 * with the elements.
+	 */
+	private static final class FlagContext extends SortContext {
+
+		private final int[] keys;
+		private final int offset;
+
+		private FlagContext(int start, int end, int[] keys) {
+			super(end - start, BUCKET_DEPTH_THRESHOLD);
+			this.keys = keys;
+			this.offset = start;
+		}
+	}
+
+	/**
+	 * The counts and bounds of the buckets of a range, allocated once per digit for every task.
+	 */
+	private static final class Buckets {
+
+		private final int[] count = new int[RADIX];
+
+		/* next[b] is the next free index of bucket b and end[b] its end. */
+		private final int[] next = new int[RADIX], end = new int[RADIX];
+	}
+
+	/**
+	 * Constructor which sets the key the elements are sorted by.
+	 * 
+	 * @param key
+	 *            Extracts the key of an element.
+	 */
+	public AmericanFlagSort(ToIntFunction<? super T> key) {
+		super();
+		this.key = key;
+		this.byKey = (t1, t2) -> Integer.compare(key.applyAsInt(t1), key.applyAsInt(t2));
+		introsort.setComparator(byKey);
+	}
+
+	/**
+	 * Sets the order of the elements with equal keys, which are otherwise left in no particular order. The key still
+	 * orders the elements first.
+	 * 
+	 * @param comparator
+	 *            The order of the elements with equal keys
+	 */
+	@Override
+	public void setComparator(Comparator<T> comparator) {
+		if (comparator != null) {
+			super.setComparator(comparator);
+			introsort.setComparator(byKey.thenComparing(comparator));
+		}
+	}
+
+	@Override
+	public boolean removeComparator() {
+		introsort.setComparator(byKey);
+		return super.removeComparator();
+	}
+
+	@Override
+	public void setMetricsListener(Consumer<SortMetrics.Snapshot> metricsListener) {
+		super.setMetricsListener(metricsListener);
+		introsort.setMetricsListener(metricsListener);
+	}
+
+	@Override
+	protected SortContext createContext(T[] arr, int start, int end) {
+		int[] keys = new int[end - start];
+		for (int i = start; i < end; i++) {
+			keys[i - start] = key.applyAsInt(arr[i]) ^ Integer.MIN_VALUE;
+		}
+		return new FlagContext(start, end, keys);
+	}
+
+	/**
+	 * The recursion depth is the index of the byte of the key the range is distributed by, the most significant byte
+	 * being 0.
+	 */
+	@Override
+	protected void sortImplementation(T[] arr, int start, int end, int recursionDepth, SortContext context,
+			boolean isParallel) {
+		FlagContext flags = context instanceof FlagContext ? (FlagContext) context
+				: (FlagContext) this.createContext(arr, start, end);
+		this.sort(arr, start, end, recursionDepth, context, flags, new Buckets[DIGITS], isParallel);
+	}
+
+	/**
+	 * Sorts the range by the digits of the keys from the digit at the recursion depth on. The buckets of every digit
+	 * are reused by the ranges sorted on the calling thread.
+	 */
+	private void sort(T[] arr, int start, int end, int recursionDepth, SortContext context, FlagContext flags,
+			Buckets[] scratch, boolean isParallel) {
+		int length = end - start;
+		if (length < RADIX_THRESHOLD) {
+			introsort.sortImplementation(arr, start, end, 0, flags, false);
+			return;
+		}
+
+		/* Nested ranges always start at a deeper digit, so they never share the buckets of this range. */
+		if (scratch[recursionDepth] == null) {
+			scratch[recursionDepth] = new Buckets();
+		}
+		Buckets buckets = scratch[recursionDepth];
+		int[] count = buckets.count, next = buckets.next, bucketEnd = buckets.end;
+		int[] keys = flags.keys;
+		int offset = flags.offset;
+		int shift;
+
+		/* Skip the bytes which are the same for every element. */
+		Arrays.fill(count, 0);
+		while (true) {
+			shift = Integer.SIZE - DIGIT_BITS * (recursionDepth + 1);
+			for (int i = start; i < end; i++) {
+				count[digit(keys[i - offset], shift)]++;
+			}
+			if (count[digit(keys[start - offset], shift)] < length) {
+				break;
+			}
+			if (shift == 0) {
+				this.sortTies(arr, start, end, flags);
+				return;
+			}
+			count[digit(keys[start - offset], shift)] = 0;
+			recursionDepth++;
+		}
+
+		int bucketStart = start;
+		for (int b = 0; b < RADIX; b++) {
+			next[b] = bucketStart;
+			bucketStart += count[b];
+			bucketEnd[b] = bucketStart;
+		}
+
+		/* Move every element and its key to its bucket by following the cycles of the permutation. */
+		for (int b = 0; b < RADIX; b++) {
+			while (next[b] < bucketEnd[b]) {
+				T element = arr[next[b]];
+				int elementKey = keys[next[b] - offset];
+				int d = digit(elementKey, shift);
+				while (d != b) {
+					int i = next[d]++;
+					T displaced = arr[i];
+					int displacedKey = keys[i - offset];
+					arr[i] = element;
+					keys[i - offset] = elementKey;
+					element = displaced;
+					elementKey = displacedKey;
+					d = digit(elementKey, shift);
+				}
+				keys[next[b] - offset] = elementKey;
+				arr[next[b]++] = element;
+			}
+		}
+
+		int threshold = getParallelThreshold();
+		bucketStart = start;
+		for (int b = 0; b < RADIX; b++) {
+			int size = bucketEnd[b] - bucketStart;
+			if (shift == 0) {
+				if (size > 1) {
+					this.sortTies(arr, bucketStart, bucketEnd[b], flags);
+				}
+			} else if (size > threshold) {
+				this.subsort(arr, bucketStart, bucketEnd[b], recursionDepth + 1, context, isParallel);
+			} else if (size > 1) {
+				this.sort(arr, bucketStart, bucketEnd[b], recursionDepth + 1, context, flags, scratch, isParallel);
+			}
+			bucketStart = bucketEnd[b];
+		}
+	}
+
+	/**
+	 * Sorts a range of elements with equal keys by the comparator, if any.
+	 */
+	private void sortTies(T[] arr, int start, int end, FlagContext flags) {
+		if (this.getComparator() != null) {
+			introsort.sortImplementation(arr, start, end, 0, flags, false);
+		}
+	}
+
+	private static int digit(int key, int shift) {
+		return (key >>> shift) & DIGIT_MASK;
+	}
+}
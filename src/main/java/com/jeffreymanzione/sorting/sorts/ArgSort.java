@@ -0,0 +1,407 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.lang.reflect.Array;
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import com.jeffreymanzione.sorting.ParallelSort;
+import com.jeffreymanzione.sorting.Partition;
+import com.jeffreymanzione.sorting.SortableSource;
+
+/**
+ * ArgSort.java
+ * 
+ * Sorts column-wise data without wrapper objects. {@link #argsort(int[])} and its overloads return the permutation of
+ * the sorted order, the indices of the keys from the smallest to the largest, without moving the keys.
+ * {@link #coSort(int[], Object...)} and its overloads sort a key array and reorder any number of companion arrays of
+ * the same length in lockstep, primitive or object arrays alike.
+ * 
+ * Primitive keys are mapped to longs which order like the keys. When the keys span few enough values, each is packed
+ * with its index into a single long which is sorted by {@link PackedKeySort}; int keys always fit. Otherwise, and for
+ * object keys, a column of indices is sorted with {@link Introsort} through a {@link SortableSource} which compares
+ * the keys of the indices. Ties are broken by index, so every argsort and co-sort is stable.
+ * 
+ * Ranges of more than twice the parallel threshold map and pack their keys, sort, and permute the companion arrays in
+ * parallel on the pool of the sort. The index columns are split by partitions which are sorted concurrently.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see KeySort
+ */
+public class ArgSort {
+
+	/* Private fields */
+	private final PackedKeySort packedSort = new PackedKeySort();
+	private final Introsort<Integer> columnSort = new Introsort<>();
+	private final Quicksort<Integer> partitioner = new Quicksort<>();
+
+	/**
+	 * Computes the sorted order of the keys.
+	 * 
+	 * @param keys
+	 *            The keys, which are not moved
+	 * @return The indices of the keys in ascending order of the keys.
+	 */
+	public int[] argsort(int[] keys) {
+		long[] sortable = new long[keys.length];
+		packedSort.forEachChunk(keys.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				sortable[i] = PackedKeySort.sortable(keys[i]);
+			}
+		});
+		return this.argsortSortable(sortable);
+	}
+
+	/**
+	 * Computes the sorted order of the keys.
+	 * 
+	 * @param keys
+	 *            The keys, which are not moved
+	 * @return The indices of the keys in ascending order of the keys.
+	 */
+	public int[] argsort(long[] keys) {
+		long[] sortable = new long[keys.length];
+		packedSort.forEachChunk(keys.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				sortable[i] = PackedKeySort.sortable(keys[i]);
+			}
+		});
+		return this.argsortSortable(sortable);
+	}
+
+	/**
+	 * Computes the sorted order of the keys in the order of {@link Double#compare(double, double)}.
+	 * 
+	 * @param keys
+	 *            The keys, which are not moved
+	 * @return The indices of the keys in ascending order of the keys.
+	 */
+	public int[] argsort(double[] keys) {
+		long[] sortable = new long[keys.length];
+		packedSort.forEachChunk(keys.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				sortable[i] = PackedKeySort.sortable(keys[i]);
+			}
+		});
+		return this.argsortSortable(sortable);
+	}
+
+	/**
+	 * Computes the sorted order of the keys in their natural order.
+	 * 
+	 * @param keys
+	 *            The keys, which are not moved
+	 * @return The indices of the keys in ascending order of the keys.
+	 */
+	public <T extends Comparable<? super T>> int[] argsort(T[] keys) {
+		return argsort(keys, null);
+	}
+
+	/**
+	 * Computes the sorted order of the keys in the order of a comparator.
+	 * 
+	 * @param keys
+	 *            The keys, which are not moved
+	 * @param comparator
+	 *            The order of the keys, or null for their natural order like the comparator of a
+	 *            {@link com.jeffreymanzione.sorting.Sort}
+	 * @return The indices of the keys in ascending order of the keys.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> int[] argsort(T[] keys, Comparator<? super T> comparator) {
+		Comparator<? super T> order = comparator != null ? comparator
+				: (t1, t2) -> ((Comparable<? super T>) t1).compareTo(t2);
+		int[] index = identity(keys.length);
+		this.sortColumns(new SortableSource() {
+
+			@Override
+			public int size() {
+				return index.length;
+			}
+
+			@Override
+			public int compare(int i, int j) {
+				int cmp = order.compare(keys[index[i]], keys[index[j]]);
+				return cmp != 0 ? cmp : Integer.compare(index[i], index[j]);
+			}
+
+			@Override
+			public void swap(int i, int j) {
+				int tmp = index[i];
+				index[i] = index[j];
+				index[j] = tmp;
+			}
+		}, index.length);
+		return index;
+	}
+
+	/**
+	 * Sorts the keys and reorders the companion arrays in lockstep.
+	 * 
+	 * @param keys
+	 *            The keys to sort
+	 * @param companions
+	 *            Arrays of any component type and of the length of the keys
+	 * @throws IllegalArgumentException
+	 *             If a companion is not an array of the length of the keys.
+	 */
+	public void coSort(int[] keys, Object... companions) {
+		checkCompanions(keys.length, companions);
+		this.permute(argsort(keys), keys, companions);
+	}
+
+	/**
+	 * Sorts the keys and reorders the companion arrays in lockstep.
+	 * 
+	 * @param keys
+	 *            The keys to sort
+	 * @param companions
+	 *            Arrays of any component type and of the length of the keys
+	 * @throws IllegalArgumentException
+	 *             If a companion is not an array of the length of the keys.
+	 */
+	public void coSort(long[] keys, Object... companions) {
+		checkCompanions(keys.length, companions);
+		this.permute(argsort(keys), keys, companions);
+	}
+
+	/**
+	 * Sorts the keys in the order of {@link Double#compare(double, double)} and reorders the companion arrays in
+	 * lockstep.
+	 * 
+	 * @param keys
+	 *            The keys to sort
+	 * @param companions
+	 *            Arrays of any component type and of the length of the keys
+	 * @throws IllegalArgumentException
+	 *             If a companion is not an array of the length of the keys.
+	 */
+	public void coSort(double[] keys, Object... companions) {
+		checkCompanions(keys.length, companions);
+		this.permute(argsort(keys), keys, companions);
+	}
+
+	/**
+	 * Sorts the keys in their natural order and reorders the companion arrays in lockstep.
+	 * 
+	 * @param keys
+	 *            The keys to sort
+	 * @param companions
+	 *            Arrays of any component type and of the length of the keys
+	 * @throws IllegalArgumentException
+	 *             If a companion is not an array of the length of the keys.
+	 */
+	public <T extends Comparable<? super T>> void coSort(T[] keys, Object... companions) {
+		coSort(null, keys, companions);
+	}
+
+	/**
+	 * Sorts the keys in the order of a comparator and reorders the companion arrays in lockstep. The comparator comes
+	 * first so that calls are not ambiguous with {@link #coSort(Comparable[], Object...)}.
+	 * 
+	 * @param comparator
+	 *            The order of the keys, or null for their natural order
+	 * @param keys
+	 *            The keys to sort
+	 * @param companions
+	 *            Arrays of any component type and of the length of the keys
+	 * @throws IllegalArgumentException
+	 *             If a companion is not an array of the length of the keys.
+	 */
+	public <T> void coSort(Comparator<? super T> comparator, T[] keys, Object... companions) {
+		checkCompanions(keys.length, companions);
+		this.permute(argsort(keys, comparator), keys, companions);
+	}
+
+	private static void checkCompanions(int length, Object[] companions) {
+		for (Object companion : companions) {
+			if (companion == null || !companion.getClass().isArray()
+					|| Array.getLength(companion) != length) {
+				throw new IllegalArgumentException("Expected a companion array of length " + length + ", got "
+						+ companion + ".");
+			}
+		}
+	}
+
+	private static int[] identity(int length) {
+		int[] index = new int[length];
+		for (int i = 0; i < length; i++) {
+			index[i] = i;
+		}
+		return index;
+	}
+
+	/**
+	 * Computes the order of keys whose unsigned order is the order of the elements.
+	 */
+	private int[] argsortSortable(long[] keys) {
+		int[] index = packedSort.argsort(keys);
+		if (index == null) {
+			index = identity(keys.length);
+			this.sortColumns(new KeyColumns(keys, index), keys.length);
+		}
+		return index;
+	}
+
+	private void sortColumns(SortableSource columns, int length) {
+		sortColumns(columns, 0, length);
+	}
+
+	/**
+	 * Sorts a range of a source of columns with Introsort, splitting it by partitions which are sorted concurrently
+	 * while they are larger than the parallel threshold, to a depth of 2*log2(n).
+	 */
+	void sortColumns(SortableSource columns, int start, int end) {
+		int length = end - start;
+		if (packedSort.isParallel(length)) {
+			int depth = 2 * (31 - Integer.numberOfLeadingZeros(length));
+			getPool().invoke(ForkJoinTask.adapt(() -> this.sortColumns(columns, start, end, depth)));
+		} else {
+			columnSort.sort(columns, start, end);
+		}
+	}
+
+	private void sortColumns(SortableSource columns, int start, int end, int depth) {
+		if (end - start <= Math.max(1, getParallelThreshold()) || depth == 0) {
+			columnSort.sort(columns, start, end);
+			return;
+		}
+		long bounds = partitioner.partition(columns, start, end - 1);
+		int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+		ForkJoinTask.invokeAll(ForkJoinTask.adapt(() -> this.sortColumns(columns, start, lowerEnd, depth - 1)),
+				ForkJoinTask.adapt(() -> this.sortColumns(columns, upperStart, end, depth - 1)));
+	}
+
+	/**
+	 * Moves every element of the keys and companions to its position in the sorted order, through a copy of each
+	 * array in turn.
+	 */
+	private void permute(int[] index, Object keys, Object[] companions) {
+		this.permute(index, keys);
+		for (Object companion : companions) {
+			this.permute(index, companion);
+		}
+	}
+
+	/**
+	 * Moves every element of the array to its position in the sorted order, through a copy of the array.
+	 */
+	void permute(int[] index, Object array) {
+		int length = index.length;
+		if (array instanceof int[]) {
+			int[] arr = (int[]) array, copy = arr.clone();
+			packedSort.forEachChunk(length, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					arr[i] = copy[index[i]];
+				}
+			});
+		} else if (array instanceof long[]) {
+			long[] arr = (long[]) array, copy = arr.clone();
+			packedSort.forEachChunk(length, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					arr[i] = copy[index[i]];
+				}
+			});
+		} else if (array instanceof double[]) {
+			double[] arr = (double[]) array, copy = arr.clone();
+			packedSort.forEachChunk(length, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					arr[i] = copy[index[i]];
+				}
+			});
+		} else if (array instanceof Object[]) {
+			Object[] arr = (Object[]) array, copy = arr.clone();
+			packedSort.forEachChunk(length, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					arr[i] = copy[index[i]];
+				}
+			});
+		} else {
+			/* The narrower primitive arrays are rare enough to go through reflection. */
+			Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+			System.arraycopy(array, 0, copy, 0, length);
+			packedSort.forEachChunk(length, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					Array.set(array, i, Array.get(copy, index[i]));
+				}
+			});
+		}
+	}
+
+	/**
+	 * Sets the parallel threshold. Arrays of more than twice as many elements are sorted in parallel.
+	 * 
+	 * @param minNumElements
+	 *            The threshold for converting to serial from parallel sorting.
+	 */
+	public void setParallelThreshold(int minNumElements) {
+		packedSort.setParallelThreshold(minNumElements);
+	}
+
+	/**
+	 * Gets the parallel threshold.
+	 * 
+	 * @return The parallel threshold. By default {@link ParallelSort#DEFAULT_PARALLEL_THRESHOLD}.
+	 */
+	public int getParallelThreshold() {
+		return packedSort.getParallelThreshold();
+	}
+
+	/**
+	 * Sets the fork/join pool which maps the keys, sorts and permutes in parallel.
+	 * 
+	 * @param pool
+	 *            The fork/join pool used for parallel sorting.
+	 */
+	public void setPool(ForkJoinPool pool) {
+		packedSort.setPool(pool);
+	}
+
+	/**
+	 * Gets the fork/join pool which maps the keys, sorts and permutes in parallel.
+	 * 
+	 * @return The fork/join pool used for parallel sorting. By default {@link ForkJoinPool#commonPool()}.
+	 */
+	public ForkJoinPool getPool() {
+		return packedSort.getPool();
+	}
+
+	/**
+	 * Keys whose unsigned order is the order of the elements and their indices, sorted together. Ties of the keys are
+	 * broken by index.
+	 */
+	static final class KeyColumns implements SortableSource {
+
+		private final long[] keys;
+		private final int[] index;
+
+		KeyColumns(long[] keys, int[] index) {
+			this.keys = keys;
+			this.index = index;
+		}
+
+		@Override
+		public int size() {
+			return keys.length;
+		}
+
+		@Override
+		public int compare(int i, int j) {
+			int cmp = Long.compareUnsigned(keys[i], keys[j]);
+			return cmp != 0 ? cmp : Integer.compare(index[i], index[j]);
+		}
+
+		@Override
+		public void swap(int i, int j) {
+			long key = keys[i];
+			keys[i] = keys[j];
+			keys[j] = key;
+			int tmp = index[i];
+			index[i] = index[j];
+			index[j] = tmp;
+		}
+	}
+
+}
@@ -0,0 +1,437 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import com.jeffreymanzione.sorting.ParallelSort;
+
+/**
+ * CompositeSort.java
+ * 
+ * Sorts rows of column-wise data by a composite key of several columns, such as (region, day, score descending, id),
+ * without a chained comparator which compares the leading columns again on every comparison. Each column is described
+ * by a {@link Column}: an int, long, double or object column, its direction, and for object columns whether nulls come
+ * first or last.
+ * 
+ * The rows are sorted one column at a time, most significant first. The first column sorts all the rows; every later
+ * column only sorts the groups of rows which are equal in all the columns before it, and groups of a single row are
+ * never looked at again. Primitive columns are mapped to longs which order like the column, and each group whose keys
+ * span few enough values packs them with the row numbers into longs which are sorted by {@link PackedKeySort}, as
+ * {@link ArgSort} does; other groups sort their keys and rows together with {@link Introsort}. Object columns are
+ * decorated with their rows and sorted with {@link MergeSort}. Ties are broken by row number, so the sort is stable.
+ * 
+ * Groups of more than twice the parallel threshold rows are sorted one at a time with the parallel paths, the smaller
+ * groups concurrently with each other, on the pool of the sort.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see ArgSort
+ */
+public class CompositeSort {
+
+	/* Private fields */
+	private final ArgSort argSort = new ArgSort();
+	private final PackedKeySort packedSort = new PackedKeySort();
+	private final MergeSort<Decorated> mergeSort = new MergeSort<>();
+
+	/**
+	 * A column of a composite key: its values, their order and the placement of nulls. Columns are immutable; the
+	 * methods which change the order return a new column.
+	 */
+	public static final class Column {
+
+		private enum Type {
+			INT, LONG, DOUBLE, OBJECT
+		}
+
+		private final Type type;
+		private final Object values;
+		private final Comparator<Object> comparator;
+		private final boolean descending, nullsFirst;
+
+		private Column(Type type, Object values, Comparator<Object> comparator, boolean descending,
+				boolean nullsFirst) {
+			this.type = type;
+			this.values = values;
+			this.comparator = comparator;
+			this.descending = descending;
+			this.nullsFirst = nullsFirst;
+		}
+
+		/**
+		 * Creates an ascending column of ints.
+		 * 
+		 * @param values
+		 *            The value of every row
+		 * @return The column.
+		 */
+		public static Column ofInts(int[] values) {
+			return new Column(Type.INT, values, null, false, false);
+		}
+
+		/**
+		 * Creates an ascending column of longs.
+		 * 
+		 * @param values
+		 *            The value of every row
+		 * @return The column.
+		 */
+		public static Column ofLongs(long[] values) {
+			return new Column(Type.LONG, values, null, false, false);
+		}
+
+		/**
+		 * Creates an ascending column of doubles, in the order of {@link Double#compare(double, double)}.
+		 * 
+		 * @param values
+		 *            The value of every row
+		 * @return The column.
+		 */
+		public static Column ofDoubles(double[] values) {
+			return new Column(Type.DOUBLE, values, null, false, false);
+		}
+
+		/**
+		 * Creates an ascending column of objects in their natural order, with nulls last.
+		 * 
+		 * @param values
+		 *            The value of every row
+		 * @return The column.
+		 */
+		public static <T extends Comparable<? super T>> Column of(T[] values) {
+			return of(values, Comparator.naturalOrder());
+		}
+
+		/**
+		 * Creates an ascending column of objects in the order of a comparator, with nulls last. The comparator is
+		 * never passed a null.
+		 * 
+		 * @param values
+		 *            The value of every row
+		 * @param comparator
+		 *            The order of the values
+		 * @return The column.
+		 */
+		@SuppressWarnings("unchecked")
+		public static <T> Column of(T[] values, Comparator<? super T> comparator) {
+			return new Column(Type.OBJECT, values, (Comparator<Object>) comparator, false, false);
+		}
+
+		/**
+		 * Gets the column in descending order. Nulls stay where they are.
+		 * 
+		 * @return A descending column of the same values.
+		 */
+		public Column descending() {
+			return new Column(type, values, comparator, true, nullsFirst);
+		}
+
+		/**
+		 * Gets the column with nulls before every other value, whatever the direction.
+		 * 
+		 * @return A column of the same values with nulls first.
+		 */
+		public Column nullsFirst() {
+			return new Column(type, values, comparator, descending, true);
+		}
+
+		/**
+		 * Gets the column with nulls after every other value, whatever the direction. This is the default.
+		 * 
+		 * @return A column of the same values with nulls last.
+		 */
+		public Column nullsLast() {
+			return new Column(type, values, comparator, descending, false);
+		}
+
+		private int length() {
+			return Array.getLength(values);
+		}
+
+		private boolean isPrimitive() {
+			return type != Type.OBJECT;
+		}
+
+		/**
+		 * Maps the value of a row of a primitive column to a long whose unsigned order is the order of the column.
+		 */
+		private long sortableKey(int row) {
+			long key;
+			switch (type) {
+			case INT:
+				key = PackedKeySort.sortable(((int[]) values)[row]);
+				break;
+			case LONG:
+				key = PackedKeySort.sortable(((long[]) values)[row]);
+				break;
+			default:
+				key = PackedKeySort.sortable(((double[]) values)[row]);
+				break;
+			}
+			return descending ? ~key : key;
+		}
+
+		/**
+		 * Compares the values of two rows in the order of the column.
+		 */
+		private int compare(int row1, int row2) {
+			if (this.isPrimitive()) {
+				return Long.compareUnsigned(this.sortableKey(row1), this.sortableKey(row2));
+			}
+			return this.compareValues(((Object[]) values)[row1], ((Object[]) values)[row2]);
+		}
+
+		/**
+		 * Compares two values of an object column in the order of the column.
+		 */
+		private int compareValues(Object value1, Object value2) {
+			if (value1 == null || value2 == null) {
+				if (value1 == value2) {
+					return 0;
+				}
+				return (value1 == null) == nullsFirst ? -1 : 1;
+			}
+			return descending ? comparator.compare(value2, value1) : comparator.compare(value1, value2);
+		}
+	}
+
+	/**
+	 * Computes the sorted order of the rows.
+	 * 
+	 * @param columns
+	 *            The columns of the composite key, most significant first
+	 * @return The row numbers in sorted order.
+	 * @throws IllegalArgumentException
+	 *             If the columns are not all of the same length.
+	 */
+	public int[] argsort(Column... columns) {
+		return argsort(Arrays.asList(columns));
+	}
+
+	/**
+	 * Computes the sorted order of the rows.
+	 * 
+	 * @param columns
+	 *            The columns of the composite key, most significant first
+	 * @return The row numbers in sorted order.
+	 * @throws IllegalArgumentException
+	 *             If the columns are not all of the same length.
+	 */
+	public int[] argsort(List<Column> columns) {
+		int length = columns.isEmpty() ? 0 : columns.get(0).length();
+		for (Column column : columns) {
+			if (column.length() != length) {
+				throw new IllegalArgumentException("Expected columns of length " + length + ", got "
+						+ column.length() + ".");
+			}
+		}
+		int[] index = new int[length];
+		for (int i = 0; i < length; i++) {
+			index[i] = i;
+		}
+
+		/* The groups of rows which are equal in every column so far, as pairs of start and end. */
+		int[] groups = { 0, length };
+		int numGroups = length > 1 ? 1 : 0;
+		long[] keys = new long[length];
+		for (int c = 0; c < columns.size() && numGroups > 0; c++) {
+			Column column = columns.get(c);
+			this.sortGroups(column, index, keys, groups, numGroups);
+			if (c + 1 < columns.size()) {
+				groups = this.refine(column, index, groups, numGroups);
+				numGroups = groups.length / 2;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Sorts the rows and reorders the values of the columns and the companion arrays in lockstep.
+	 * 
+	 * @param columns
+	 *            The columns of the composite key, most significant first
+	 * @param companions
+	 *            Arrays of any component type and of the length of the columns
+	 * @throws IllegalArgumentException
+	 *             If the columns and companions are not all of the same length.
+	 */
+	public void sort(List<Column> columns, Object... companions) {
+		int[] index = argsort(columns);
+		/* A column which shares its array with another column or a companion must be permuted only once. */
+		Set<Object> arrays = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Column column : columns) {
+			arrays.add(column.values);
+		}
+		for (Object companion : companions) {
+			if (companion == null || !companion.getClass().isArray()
+					|| Array.getLength(companion) != index.length) {
+				throw new IllegalArgumentException("Expected a companion array of length " + index.length + ", got "
+						+ companion + ".");
+			}
+			arrays.add(companion);
+		}
+		for (Object array : arrays) {
+			argSort.permute(index, array);
+		}
+	}
+
+	/**
+	 * Sorts every group of rows by the column: the large groups one at a time, each in parallel if it is large
+	 * enough, then the small groups concurrently with each other. The small groups are split into chunks by their
+	 * rows rather than by their number, so that many tiny groups or a few groups just under the parallel size are
+	 * spread evenly over the pool.
+	 */
+	private void sortGroups(Column column, int[] index, long[] keys, int[] groups, int numGroups) {
+		/* The small groups, and the number of rows of the small groups before each of them. */
+		int[] small = new int[numGroups], offsets = new int[numGroups + 1];
+		int numSmall = 0;
+		for (int g = 0; g < numGroups; g++) {
+			int size = groups[2 * g + 1] - groups[2 * g];
+			if (packedSort.isParallel(size)) {
+				this.sortGroup(column, index, keys, groups[2 * g], groups[2 * g + 1]);
+			} else {
+				small[numSmall] = g;
+				offsets[numSmall + 1] = offsets[numSmall] + size;
+				numSmall++;
+			}
+		}
+		int[] smallGroups = small;
+		int smallCount = numSmall;
+		packedSort.forEachChunk(offsets[numSmall], (from, to) -> {
+			/* A chunk sorts the groups whose first row falls within it; groups have at least two rows. */
+			int s = Arrays.binarySearch(offsets, 0, smallCount, from);
+			for (s = s < 0 ? -(s + 1) : s; s < smallCount && offsets[s] < to; s++) {
+				int g = smallGroups[s];
+				this.sortGroup(column, index, keys, groups[2 * g], groups[2 * g + 1]);
+			}
+		});
+	}
+
+	/**
+	 * Sorts the rows of a group by the column, breaking ties by row number. The rows of a group are always in
+	 * ascending order, since every earlier column broke its ties by row number, so a stable sort of the values breaks
+	 * ties the same way.
+	 */
+	private void sortGroup(Column column, int[] index, long[] keys, int start, int end) {
+		if (!column.isPrimitive()) {
+			Object[] values = (Object[]) column.values;
+			Decorated[] decorated = new Decorated[end - start];
+			for (int i = start; i < end; i++) {
+				decorated[i - start] = new Decorated(column, values[index[i]], index[i]);
+			}
+			if (packedSort.isParallel(end - start)) {
+				mergeSort.sortAsync(decorated).join();
+			} else {
+				mergeSort.sort(decorated);
+			}
+			for (int i = start; i < end; i++) {
+				index[i] = decorated[i - start].row;
+			}
+			return;
+		}
+
+		for (int i = start; i < end; i++) {
+			keys[i] = column.sortableKey(index[i]);
+		}
+		if (!packedSort.sort(keys, index, start, end)) {
+			argSort.sortColumns(new ArgSort.KeyColumns(keys, index), start, end);
+		}
+	}
+
+	/**
+	 * Splits every group into the runs of rows which are equal in the column, dropping runs of a single row.
+	 * 
+	 * @return The new groups, as pairs of start and end.
+	 */
+	private int[] refine(Column column, int[] index, int[] groups, int numGroups) {
+		int[] refined = new int[16];
+		int size = 0;
+		for (int g = 0; g < numGroups; g++) {
+			int end = groups[2 * g + 1];
+			for (int runStart = groups[2 * g], i = runStart + 1; i <= end; i++) {
+				if (i == end || column.compare(index[i - 1], index[i]) != 0) {
+					if (i - runStart > 1) {
+						if (size + 2 > refined.length) {
+							refined = Arrays.copyOf(refined, 2 * refined.length);
+						}
+						refined[size++] = runStart;
+						refined[size++] = i;
+					}
+					runStart = i;
+				}
+			}
+		}
+		return Arrays.copyOf(refined, size);
+	}
+
+	/**
+	 * Sets the parallel threshold. Groups of more than twice as many rows are sorted in parallel.
+	 * 
+	 * @param minNumElements
+	 *            The threshold for converting to serial from parallel sorting.
+	 */
+	public void setParallelThreshold(int minNumElements) {
+		argSort.setParallelThreshold(minNumElements);
+		packedSort.setParallelThreshold(minNumElements);
+		mergeSort.setParallelThreshold(minNumElements);
+	}
+
+	/**
+	 * Gets the parallel threshold.
+	 * 
+	 * @return The parallel threshold. By default {@link ParallelSort#DEFAULT_PARALLEL_THRESHOLD}.
+	 */
+	public int getParallelThreshold() {
+		return argSort.getParallelThreshold();
+	}
+
+	/**
+	 * Sets the fork/join pool which sorts the groups in parallel.
+	 * 
+	 * @param pool
+	 *            The fork/join pool used for parallel sorting.
+	 */
+	public void setPool(ForkJoinPool pool) {
+		argSort.setPool(pool);
+		packedSort.setPool(pool);
+		mergeSort.setPool(pool);
+	}
+
+	/**
+	 * Gets the fork/join pool which sorts the groups in parallel.
+	 * 
+	 * @return The fork/join pool used for parallel sorting. By default {@link ForkJoinPool#commonPool()}.
+	 */
+	public ForkJoinPool getPool() {
+		return argSort.getPool();
+	}
+
+	/**
+	 * A value of an object column decorated with its row, ordered by the column.
+	 */
+	private static final class Decorated implements Comparable<Decorated> {
+
+		private final Column column;
+		private final Object value;
+		private final int row;
+
+		private Decorated(Column column, Object value, int row) {
+			this.column = column;
+			this.value = value;
+			this.row = row;
+		}
+
+		@Override
+		public int compareTo(Decorated o) {
+			return column.compareValues(value, o.value);
+		}
+	}
+
+}
@@ -1,203 +1,225 @@
-package com.jeffreymanzione.sorting.sorts;
-
-import com.jeffreymanzione.sorting.AbstractSort;
-
-/**
- * Heapsort.java
- * 
- * An implementation of Heapsort as described first by J. W. J Williams and optimized by Robert W. Floyd. The algorithm
- * works by creating a max heap out of the elements using the rule that the left child and right child of a node n are
- * 2n + 1 and 2n + 2 respectively. Once heapified, the largest element (at index 0) is swapped with the last unsorted
- * and is chopped off of the heap. The heap is reheapified. This is done until the remaining heap is of size 0.
- * 
- * @author Jeffrey J. Manzione
- * @version 0.1
- * @since August 25, 2014
- * 
- * @param <T>
- *            The parameterized type
- */
-public class Heapsort<T extends Comparable<T>> extends AbstractSort<T> {
-
-	@Override
-	protected void sortImplementation(T[] arr, int start, int end, int recursionDepth, int originalLength) {
-		/* Establish the initial heap property */
-		heapify(arr, start, end);
-		/* Sequential remove elements from the heap */
-		while ((end - start) > 1) {
-			/* Decrease the size of the heap */
-			end--;
-			/* Swap the root of the max heap with the element just beyond the size of the heap. */
-			T tmp = arr[start];
-			arr[start] = arr[end];
-			arr[end] = tmp;
-			/* Reestablish the heap property */
-			sift(arr, start, end);
-		}
-
-	}
-
-	/**
-	 * Applied to the array to establish the heap structure at the beginning of the sort.
-	 * 
-	 * @param arr
-	 *            Array to heapify
-	 * @param start
-	 *            The lower bound of the heap inclusive
-	 * @param end
-	 *            The upper bound of the heap exclusive
-	 */
-	protected void heapify(T[] arr, int start, int end) {
-		int i = (int) Math.pow(2, (int) (Math.log10(end - start) / Math.log10(2)) - 1) - 1
-				+ (end - start - (int) Math.pow(2, (int) (Math.log10(end - start) / Math.log10(2))) + 1 + 1) / 2;
-
-		while (i >= 0) {
-			boolean heaped = false;
-			int k = i;
-			while (!heaped) {
-				int left = left(k, start, end), right = right(k, start, end);
-
-				if (left != -1) {
-					if (right != -1) {
-						int cmp = compare(arr[left], arr[right]);
-						if (cmp > 0) {
-							if (compare(arr[left], arr[k]) > 0) {
-								T tmp = arr[left];
-								arr[left] = arr[k];
-								arr[k] = tmp;
-								k = left;
-							} else {
-								heaped = true;
-							}
-						} else if (cmp < 0) {
-							if (compare(arr[right], arr[k]) > 0) {
-								T tmp = arr[right];
-								arr[right] = arr[k];
-								arr[k] = tmp;
-								k = right;
-							} else {
-								heaped = true;
-
-							}
-						} else {
-							heaped = true;
-						}
-					} else {
-						if (compare(arr[left], arr[k]) > 0) {
-							T tmp = arr[left];
-							arr[left] = arr[k];
-							arr[k] = tmp;
-							k = left;
-						} else {
-							heaped = true;
-						}
-					}
-				} else {
-					heaped = true;
-				}
-			}
-			i--;
-		}
-
-	}
-
-	/**
-	 * Sifts the new head (previously the leaf farthest left) down the greedy maximum path and then sifts it back up to
-	 * reestablish the heap property.
-	 * 
-	 * @param arr
-	 *            Array to heapify
-	 * @param start
-	 *            The lower bound of the heap inclusive
-	 * @param end
-	 *            The upper bound of the heap exclusive
-	 */
-	protected void sift(T[] arr, int start, int end) {
-		/*
-		 * Top becomes the element to bubble down.
-		 */
-		int i = start, left, right;
-		T bubble = arr[start];
-		/*
-		 * Sift the root to a leaf via greedy maximum path to minimize the comparisons and swaps. See Floyd's sift-up
-		 * and sift-down.
-		 */
-		while ((left = left(i, start, end)) != -1) {
-			left = left(i, start, end);
-			right = right(i, start, end);
-			if (right == -1 || compare(arr[left], arr[right]) > 0) {
-				arr[i] = arr[left];
-				i = left;
-			} else {
-				arr[i] = arr[right];
-				i = right;
-			}
-		}
-		arr[i] = bubble;
-		int p = parent(i, start, end);
-		/*
-		 * Sift up the node we just brought to the root until it is smaller than its parent.
-		 */
-		while (p >= 0) {
-			if (compare(arr[i], arr[p]) > 0) {
-				/* swap */
-				T tmp = arr[i];
-				arr[i] = arr[p];
-				arr[p] = tmp;
-			} else {
-				break;
-			}
-			/* move up to parent */
-			i = p;
-			p = parent(p, start, end);
-		}
-
-	}
-
-	/**
-	 * Returns the left child of a given node, and if this child does not exist, -1.
-	 * 
-	 * @param index
-	 *            The index of the parent node
-	 * @param start
-	 *            The lower bound of the heap inclusive
-	 * @param end
-	 *            The upper bound of the heap exclusive
-	 * @return the left child of a given node, and if this child does not exist, -1
-	 */
-	private int left(int index, int start, int end) {
-		int val = 2 * (index - start) + 1;
-		return val >= end ? -1 : val;
-	}
-
-	/**
-	 * Returns the right child of a given node, and if this child does not exist, -1.
-	 * 
-	 * @param index
-	 *            The index of the parent node
-	 * @param start
-	 *            The lower bound of the heap inclusive
-	 * @param end
-	 *            The upper bound of the heap exclusive
-	 * @return the right child of a given node, and if this child does not exist, -1
-	 */
-	private int right(int index, int start, int end) {
-		int val = 2 * (index - start) + 2;
-		return val >= end ? -1 : val;
-	}
-
-	/**
-	 * Returns the parent of a given node, and if the node is the root, -1.
-	 * 
-	 * @param index
-	 *            The index of the child node
-	 * @param start
-	 *            The lower bound of the heap inclusive
-	 * @param end
-	 *            The upper bound of the heap exclusive
-	 * @return the parent of a given node, and if the node is the root, -1
-	 */
-	private int parent(int index, int start, int end) {
-		return (index - start == 0) ? -1 : (int) ((index - 1 - start) / 2);
-	}
-}
+package com.jeffreymanzione.sorting.sorts;
+
+import com.jeffreymanzione.sorting.AbstractSort;
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortableSource;
+import com.jeffreymanzione.sorting.SourceSort;
+
+/**
+ * Heapsort.java
+ * 
+ * An implementation of Heapsort as described first by J. W. J Williams and optimized by Robert W. Floyd. The algorithm
+ * works by creating a max heap out of the elements. Once heapified, the largest element (at the start of the range) is
+ * swapped with the last unsorted and is chopped off of the heap. The heap is reheapified. This is done until the
+ * remaining heap is of size 0.
+ * 
+ * The heap is d-ary: the children of node n are dn + 1 to dn + d relative to the start of the range, see
+ * {@link #setArity(int)}. The default 4-ary heap is half as deep as a binary heap, and the children of a node share a
+ * cache line, so that sifting through an array larger than the caches misses about half as often. The new root is
+ * sifted bottom-up: it is first sunk to a leaf along the path of the largest children without being compared, then
+ * sifted back up from there, since it was a leaf and usually belongs near the bottom.
+ * 
+ * A {@link SortableSource} is heapified and sorted with the same d-ary heap, but its nodes are sifted top-down by
+ * swaps since no element can be held aside.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since August 25, 2014
+ * 
+ * @param <T>
+ *            The parameterized type
+ */
+public class Heapsort<T extends Comparable<T>> extends AbstractSort<T> implements SourceSort {
+
+	/**
+	 * The default number of children of a node of the heap.
+	 */
+	public static final int DEFAULT_ARITY = 4;
+
+	private volatile int arity;
+
+	/**
+	 * Default constructor. Uses a heap of arity {@link #DEFAULT_ARITY}.
+	 */
+	public Heapsort() {
+		this(DEFAULT_ARITY);
+	}
+
+	/**
+	 * Constructor which sets the arity of the heap.
+	 * 
+	 * @param arity
+	 *            The number of children of a node of the heap, at least 2.
+	 */
+	public Heapsort(int arity) {
+		super();
+		this.setArity(arity);
+	}
+
+	/**
+	 * Sets the arity of the heap. A binary heap makes the fewest comparisons, wider heaps the fewest cache misses.
+	 * 
+	 * @param arity
+	 *            The number of children of a node of the heap, at least 2.
+	 * @throws IllegalArgumentException
+	 *             If the arity is less than 2.
+	 */
+	public void setArity(int arity) {
+		if (arity < 2) {
+			throw new IllegalArgumentException("The arity of a heap must be at least 2, got " + arity + ".");
+		}
+		this.arity = arity;
+	}
+
+	/**
+	 * Gets the arity of the heap.
+	 * 
+	 * @return The number of children of a node of the heap.
+	 */
+	public int getArity() {
+		return arity;
+	}
+
+	@Override
+	protected void sortImplementation(T[] arr, int start, int end, int recursionDepth, SortContext context) {
+		int arity = this.arity;
+		/* Establish the initial heap property */
+		heapify(arr, start, end, arity);
+		/* Sequential remove elements from the heap */
+		while ((end - start) > 1) {
+			/* Decrease the size of the heap */
+			end--;
+			/* Swap the root of the max heap with the element just beyond the size of the heap. */
+			this.swap(arr, start, end);
+			/* Reestablish the heap property */
+			sift(arr, start, end, arity);
+		}
+
+	}
+
+	/**
+	 * Applied to the array to establish the heap structure at the beginning of the sort.
+	 * 
+	 * @param arr
+	 *            Array to heapify
+	 * @param start
+	 *            The lower bound of the heap inclusive
+	 * @param end
+	 *            The upper bound of the heap exclusive
+	 */
+	protected void heapify(T[] arr, int start, int end) {
+		heapify(arr, start, end, this.arity);
+	}
+
+	/**
+	 * Sifts down every node which has children, from the last one to the root.
+	 */
+	private void heapify(T[] arr, int start, int end, int arity) {
+		int size = end - start;
+		for (int i = (size - 2) / arity; i >= 0 && size > 1; i--) {
+			T bubble = arr[start + i];
+			int index = i, child;
+			while ((child = arity * index + 1) < size) {
+				child = largestChild(arr, start, child, Math.min(child + arity, size));
+				if (compare(arr[start + child], bubble) <= 0) {
+					break;
+				}
+				arr[start + index] = arr[start + child];
+				index = child;
+			}
+			arr[start + index] = bubble;
+		}
+	}
+
+	/**
+	 * Sifts the new root (previously the last leaf) down the greedy maximum path and then sifts it back up to
+	 * reestablish the heap property.
+	 * 
+	 * @param arr
+	 *            Array to heapify
+	 * @param start
+	 *            The lower bound of the heap inclusive
+	 * @param end
+	 *            The upper bound of the heap exclusive
+	 */
+	protected void sift(T[] arr, int start, int end) {
+		sift(arr, start, end, this.arity);
+	}
+
+	private void sift(T[] arr, int start, int end, int arity) {
+		int size = end - start, index = 0, child;
+		T bubble = arr[start];
+		/*
+		 * Sift the root to a leaf via greedy maximum path to minimize the comparisons. See Floyd's sift-up and
+		 * sift-down.
+		 */
+		while ((child = arity * index + 1) < size) {
+			child = largestChild(arr, start, child, Math.min(child + arity, size));
+			arr[start + index] = arr[start + child];
+			index = child;
+		}
+		/*
+		 * Sift the root back up from the leaf until it is no greater than its parent.
+		 */
+		while (index > 0) {
+			int parent = (index - 1) / arity;
+			if (compare(bubble, arr[start + parent]) <= 0) {
+				break;
+			}
+			arr[start + index] = arr[start + parent];
+			index = parent;
+		}
+		arr[start + index] = bubble;
+	}
+
+	@Override
+	public void sort(SortableSource source) {
+		sort(source, 0, source.size());
+	}
+
+	@Override
+	public void sort(SortableSource source, int start, int end) {
+		int arity = this.arity, size = end - start;
+		for (int i = (size - 2) / arity; i >= 0 && size > 1; i--) {
+			siftDown(source, start, i, size, arity);
+		}
+		while (size > 1) {
+			size--;
+			source.swap(start, start + size);
+			siftDown(source, start, 0, size, arity);
+		}
+	}
+
+	/**
+	 * Swaps the node with its largest child, relative to start, until it is no less than every child.
+	 */
+	private static void siftDown(SortableSource source, int start, int index, int size, int arity) {
+		int child;
+		while ((child = arity * index + 1) < size) {
+			int largest = child;
+			for (int last = Math.min(child + arity, size); ++child < last;) {
+				if (source.compare(start + child, start + largest) > 0) {
+					largest = child;
+				}
+			}
+			if (source.compare(start + largest, start + index) <= 0) {
+				break;
+			}
+			source.swap(start + index, start + largest);
+			index = largest;
+		}
+	}
+
+	/**
+	 * Returns the largest of the children [first, last) of a node, relative to start. The first of equal children wins.
+	 */
+	private int largestChild(T[] arr, int start, int first, int last) {
+		int largest = first;
+		for (int child = first + 1; child < last; child++) {
+			if (compare(arr[start + child], arr[start + largest]) > 0) {
+				largest = child;
+			}
+		}
+		return largest;
+	}
+}
@@ -1,75 +1,116 @@
-package com.jeffreymanzione.sorting.sorts;
-
-import com.jeffreymanzione.sorting.AbstractSort;
-
-/**
- * InsertionSort.java
- * 
- * Binary Insertion sort implementation. Note that this sort generally performs
- * in O(nlogn) time. The algorithm works by maintaining a sorted portion on the
- * left side and sequentially inserting elements from left to right into its
- * sorted position via a binary search for the sorted portion of the array.
- * These insertions continue until there are no more unsorted elements.
- * 
- * Text diagram: [ sorted | x | unsorted ]
- * 
- * @author Jeffrey J. Manzione
- * @version 0.1
- * @since August 24, 2014
- *
- * @param <T>
- *            Parameterized type implements Comparable of that type
- */
-public class InsertionSort<T extends Comparable<T>> extends AbstractSort<T> {
-	
-	@Override
-	protected void sortImplementation ( T[] arr, int start, int end, int recursionDepth, int originalLength ) {
-		if ( end - start > 1 ) {
-			T tmp;
-			for ( int i = start + 1; i < end; i++ ) {
-				tmp = arr[i];
-
-				int rangeStart = start, rangeEnd = i;
-				int mid;
-
-				while ( rangeStart < rangeEnd ) {
-					mid = (rangeStart + rangeEnd) / 2;
-					if ( compare( tmp, arr[mid] ) >= 0 ) {
-						rangeStart = mid + 1;
-					} else {
-						rangeEnd = mid;
-					}
-				}
-
-				int k;
-				for ( k = i; k > rangeEnd; k-- ) {
-					arr[k] = arr[k - 1];
-				}
-
-				arr[k] = tmp;
-
-			}
-		}
-
-	}
-
-	@Deprecated
-	protected void sortImplementationNotBinary ( T[] arr, int start, int end ) {
-		if ( end - start > 1 ) {
-			T tmp;
-			for ( int i = start + 1; i < end; i++ ) {
-				tmp = arr[i];
-				int j;
-
-				for ( j = i - 1; j >= start && compare( arr[j], tmp ) > 0; j-- )
-					;
-
-				for ( int k = i; k > j + 1; k-- ) {
-					arr[k] = arr[k - 1];
-				}
-				arr[j + 1] = tmp;
-			}
-		}
-	}
-
-}
+package com.jeffreymanzione.sorting.sorts;
+
+import com.jeffreymanzione.sorting.AbstractSort;
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortableSource;
+import com.jeffreymanzione.sorting.SourceSort;
+
+/**
+ * InsertionSort.java
+ * 
+ * Binary Insertion sort implementation. Note that this sort generally performs
+ * in O(nlogn) time. The algorithm works by maintaining a sorted portion on the
+ * left side and sequentially inserting elements from left to right into its
+ * sorted position via a binary search for the sorted portion of the array.
+ * These insertions continue until there are no more unsorted elements.
+ * 
+ * Text diagram: [ sorted | x | unsorted ]
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since August 24, 2014
+ * 
+ * @param <T>
+ *            Parameterized type implements Comparable of that type
+ */
+public class InsertionSort<T extends Comparable<T>> extends AbstractSort<T> implements SourceSort {
+	
+	@Override
+	protected void sortImplementation ( T[] arr, int start, int end, int recursionDepth, SortContext context ) {
+		if ( end - start > 1 ) {
+			this.insert( arr, start, start + 1, end );
+		}
+
+	}
+
+	/**
+	 * Inserts the elements of [sortedEnd, end) one by one into the sorted
+	 * range [start, sortedEnd). Equal elements keep their relative order.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The start of the sorted range inclusive
+	 * @param sortedEnd
+	 *            The end of the sorted range exclusive
+	 * @param end
+	 *            The end of the range to be sorted exclusive
+	 */
+	protected void insert ( T[] arr, int start, int sortedEnd, int end ) {
+		T tmp;
+		for ( int i = sortedEnd; i < end; i++ ) {
+			tmp = arr[i];
+
+			int rangeStart = start, rangeEnd = i;
+			int mid;
+
+			while ( rangeStart < rangeEnd ) {
+				mid = (rangeStart + rangeEnd) / 2;
+				if ( compare( tmp, arr[mid] ) >= 0 ) {
+					rangeStart = mid + 1;
+				} else {
+					rangeEnd = mid;
+				}
+			}
+
+			int k;
+			for ( k = i; k > rangeEnd; k-- ) {
+				arr[k] = arr[k - 1];
+			}
+
+			arr[k] = tmp;
+
+		}
+
+	}
+
+	@Override
+	public void sort ( SortableSource source ) {
+		this.sort( source, 0, source.size() );
+	}
+
+	/**
+	 * Sorts the range of the source by swapping every element towards the
+	 * start until it is no less than the element before it. A source cannot
+	 * hold an element aside, so there is no binary search: every comparison is
+	 * followed by a swap. Equal elements keep their relative order.
+	 */
+	@Override
+	public void sort ( SortableSource source, int start, int end ) {
+		for ( int i = start + 1; i < end; i++ ) {
+			for ( int j = i; j > start && source.compare( j - 1, j ) > 0; j-- ) {
+				source.swap( j - 1, j );
+			}
+		}
+	}
+
+	@Deprecated
+	protected void sortImplementationNotBinary ( T[] arr, int start, int end ) {
+		if ( end - start > 1 ) {
+			T tmp;
+			for ( int i = start + 1; i < end; i++ ) {
+				tmp = arr[i];
+				int j;
+
+				for ( j = i - 1; j >= start && compare( arr[j], tmp ) > 0; j-- )
+					;
+
+				for ( int k = i; k > j + 1; k-- ) {
+					arr[k] = arr[k - 1];
+				}
+				arr[j + 1] = tmp;
+			}
+		}
+	}
+
+}
@@ -1,152 +1,433 @@
-package com.jeffreymanzione.sorting.sorts;
-
-import java.util.function.IntFunction;
-
-import com.jeffreymanzione.sorting.AbstractParallelSort;
-
-/**
- * Introsort.java
- * 
- * An implementation of Introsort. Introsort is a combination of Quicksort and
- * Heapsort. Quicksort is performed until the specified recursion depth is
- * reached (default is the floor of 2n*log2(n)). Once the number of elements in
- * a partition less than 16, insertion sort is performed. If there are only 2 or
- * 3 elements, they are manually compared and swapped. Guarantees O(nlogn)
- * performance.
- * 
- * @author Jeffrey J. Manzione
- * @version 0.1
- * @since August 31, 2014
- *
- */
-public class Introsort<T extends Comparable<T>> extends AbstractParallelSort<T> {
-
-	/**
-	 * The default scheme for calculating the recursion depth threshold. f(n) -
-	 * {@literal >} floor(2nLog2(n)).
-	 */
-	public static final IntFunction<Integer>	Depth_2nLog2n			= n -> (int) Math.floor( 2 * n * Math.log( n )
-																				/ Math.log( 2 ) );
-
-	/* Private fields */
-	private InsertionSort<T>					insertionSort;
-	private Heapsort<T>							heapsort;
-	private Quicksort<T>						quicksort;
-
-	private IntFunction<Integer>				recursionDepthScheme;
-	private int									recursionDepthThreshold	= -1;
-
-	/**
-	 * Default constructor. Uses 2n*Log2(n) as the default recursion depth
-	 * scheme.
-	 * 
-	 * @see Introsort#Depth_2nLog2n
-	 */
-	public Introsort () {
-		super();
-		this.recursionDepthScheme = Depth_2nLog2n;
-	}
-
-	/**
-	 * Constructor which sets the recursion depth scheme.
-	 * 
-	 * @param recursionDepthScheme
-	 *            The function that should be used to calculate the recursion
-	 *            depth threshold.
-	 */
-	public Introsort ( IntFunction<Integer> recursionDepthScheme ) {
-		super();
-		this.recursionDepthScheme = recursionDepthScheme;
-	}
-
-	/**
-	 * Sets the recursion depth scheme.
-	 * 
-	 * @param recursionDepthScheme
-	 *            The function that should be used to calculate the recursion
-	 *            depth threshold.
-	 */
-	public void setRecursionDepthScheme ( IntFunction<Integer> recursionDepthScheme ) {
-		this.recursionDepthScheme = recursionDepthScheme;
-	}
-
-	/**
-	 * Gets the recursion depth scheme of this instance of Introsort.
-	 * 
-	 * @return The function that should be used to calculate the recursion depth
-	 *         threshold.
-	 */
-	public IntFunction<Integer> getRecursionDepthScheme () {
-		return this.recursionDepthScheme;
-	}
-
-	/**
-	 * Resets the recursion depth scheme to the default.
-	 * 
-	 * @see #Depth_2nLog2n
-	 */
-	public void resetRecursionDepthSceme () {
-		this.recursionDepthScheme = Depth_2nLog2n;
-	}
-
-	@Override
-	protected void sortImplementation ( T[] arr, int start, int end, int recursionDepth, int originalLength, boolean isParallel ) {
-		if ( end - start > 1 ) {
-			if ( this.recursionDepthThreshold == -1 ) {
-				insertionSort = new InsertionSort<>();
-				insertionSort.setComparator( this.getComparator() );
-
-				heapsort = new Heapsort<>();
-				heapsort.setComparator( this.getComparator() );
-
-				quicksort = new Quicksort<>();
-				quicksort.setComparator( this.getComparator() );
-
-				this.recursionDepthThreshold = this.recursionDepthScheme.apply( end - start );
-			}
-
-			/*
-			 * Insertion sort the range if there are 16 elements or fewer.
-			 */
-			if ( end - start < 16 ) {
-				insertionSort.sortImplementation( arr, start, end, recursionDepth + 1, originalLength );
-			}
-			/*
-			 * Heapsort if the recursion depth has reached the specified
-			 * threshold.
-			 */
-			else if ( recursionDepth >= this.recursionDepthThreshold ) {
-				heapsort.sortImplementation( arr, start, end, recursionDepth + 1, originalLength );
-			}
-			/*
-			 * Otherwise use the partition method from quicksort and quicksort
-			 * the elements.
-			 */
-			else {
-				Range[] partitions = quicksort.partition( arr, start, end - 1, recursionDepth, originalLength );
-				if ( partitions != null ) {
-					Range range1 = partitions[0];
-
-					if ( range1.end - range1.start > getParallelThreshold() ) {
-						this.subsort( arr, range1.start, range1.end, recursionDepth + 1, originalLength, isParallel );
-					}
-					if ( partitions.length > 1 ) {
-						Range range2 = partitions[1];
-
-						if ( range2.end - range2.start > getParallelThreshold() ) {
-							this.subsort( arr, range2.start, range2.end, recursionDepth + 1, originalLength, isParallel );
-						} else {
-							this.sortImplementation( arr, range2.start, range2.end, recursionDepth + 1, originalLength );
-						}
-					}
-
-					if ( range1.end - range1.start <= getParallelThreshold() ) {
-						this.sortImplementation( arr, range1.start, range1.end, recursionDepth + 1, originalLength );
-					}
-
-				}
-			}
-		}
-	}
-
-}
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import com.jeffreymanzione.sorting.AbstractParallelSort;
+import com.jeffreymanzione.sorting.Partition;
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortMetrics;
+import com.jeffreymanzione.sorting.SortableSource;
+import com.jeffreymanzione.sorting.SourceSort;
+import com.jeffreymanzione.sorting.kernels.SortKernel;
+import com.jeffreymanzione.sorting.kernels.SortKernels;
+
+/**
+ * Introsort.java
+ * 
+ * An implementation of Introsort. Introsort is a combination of Quicksort and
+ * Heapsort. Quicksort is performed until the specified recursion depth is
+ * reached (default is the floor of 2n*log2(n)). Once the number of elements in
+ * a partition is less than the leaf threshold, 16 by default, the partition is
+ * sorted with the leaf sort: binary insertion sort by default, or a sorting
+ * network, see {@link #setLeafSort(LeafSort)}. Guarantees O(nlogn)
+ * performance.
+ * 
+ * An instance holds no state for a call: the recursion depth threshold is
+ * computed from the length of each call and kept in its {@link SortContext}, so
+ * a single instance can serve any number of concurrent calls.
+ * 
+ * The quicksort phase partitions with any of the schemes of
+ * {@link PartitionScheme}; Hoare partitioning is the default. The whole range
+ * of a parallel sort can also be split by a parallel sample sort step, see
+ * {@link #setParallelPartitioning(boolean)}.
+ * 
+ * A {@link SortableSource} is sorted in place on the calling thread with the
+ * same recursion depth threshold, leaf sort and heap, partitioned as by
+ * {@link Quicksort#sort(SortableSource, int, int)}.
+ * 
+ * The ranges sorted serially can be handed to a {@link SortKernel} of the
+ * ordering of the sort, see {@link #setSpecializedKernels(boolean)}.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since August 31, 2014
+ * 
+ */
+public class Introsort<T extends Comparable<T>> extends AbstractParallelSort<T> implements SourceSort {
+
+	/**
+	 * The default scheme for calculating the recursion depth threshold. f(n) -
+	 * {@literal >} floor(2nLog2(n)).
+	 */
+	public static final IntFunction<Integer>	Depth_2nLog2n			= n -> (int) Math.floor( 2 * n * Math.log( n )
+																				/ Math.log( 2 ) );
+
+	/**
+	 * The default leaf threshold. Ranges with fewer elements are sorted with
+	 * the leaf sort.
+	 */
+	public static final int						DEFAULT_LEAF_THRESHOLD	= 16;
+
+	/* Private fields */
+	private final InsertionSort<T>				insertionSort			= new InsertionSort<>();
+	private final Heapsort<T>					heapsort				= new Heapsort<>();
+	private final Quicksort<T>					quicksort				= new Quicksort<>();
+	private final NetworkSort<T>				networkSort				= new NetworkSort<>();
+
+	private volatile IntFunction<Integer>		recursionDepthScheme;
+	private volatile boolean					parallelPartitioning;
+	private volatile LeafSort					leafSort				= LeafSort.INSERTION_SORT;
+	private volatile int						leafThreshold			= DEFAULT_LEAF_THRESHOLD;
+	private volatile boolean					specializedKernels;
+	private volatile CachedKernel<T>			cachedKernel;
+
+	/**
+	 * The kernel built for the element class of the last array sorted.
+	 */
+	private static final class CachedKernel<T> {
+
+		private final Class<?>		type;
+		private final SortKernel<T>	kernel;
+
+		private CachedKernel ( Class<?> type, SortKernel<T> kernel ) {
+			this.type = type;
+			this.kernel = kernel;
+		}
+	}
+
+	/**
+	 * Default constructor. Uses 2n*Log2(n) as the default recursion depth
+	 * scheme.
+	 * 
+	 * @see Introsort#Depth_2nLog2n
+	 */
+	public Introsort () {
+		super();
+		this.recursionDepthScheme = Depth_2nLog2n;
+	}
+
+	/**
+	 * Constructor which sets the recursion depth scheme.
+	 * 
+	 * @param recursionDepthScheme
+	 *            The function that should be used to calculate the recursion
+	 *            depth threshold.
+	 */
+	public Introsort ( IntFunction<Integer> recursionDepthScheme ) {
+		super();
+		this.recursionDepthScheme = recursionDepthScheme;
+	}
+
+	/**
+	 * Sets the recursion depth scheme.
+	 * 
+	 * @param recursionDepthScheme
+	 *            The function that should be used to calculate the recursion
+	 *            depth threshold.
+	 */
+	public void setRecursionDepthScheme ( IntFunction<Integer> recursionDepthScheme ) {
+		this.recursionDepthScheme = recursionDepthScheme;
+	}
+
+	/**
+	 * Gets the recursion depth scheme of this instance of Introsort.
+	 * 
+	 * @return The function that should be used to calculate the recursion depth
+	 *         threshold.
+	 */
+	public IntFunction<Integer> getRecursionDepthScheme () {
+		return this.recursionDepthScheme;
+	}
+
+	/**
+	 * Resets the recursion depth scheme to the default.
+	 * 
+	 * @see #Depth_2nLog2n
+	 */
+	public void resetRecursionDepthSceme () {
+		this.recursionDepthScheme = Depth_2nLog2n;
+	}
+
+	/**
+	 * Sets the partitioning scheme of the quicksort phase.
+	 * 
+	 * @param partitionScheme
+	 *            The scheme used to partition the ranges.
+	 */
+	public void setPartitionScheme ( PartitionScheme partitionScheme ) {
+		quicksort.setPartitionScheme( partitionScheme );
+	}
+
+	/**
+	 * Gets the partitioning scheme of the quicksort phase.
+	 * 
+	 * @return The scheme used to partition the ranges.
+	 */
+	public PartitionScheme getPartitionScheme () {
+		return quicksort.getPartitionScheme();
+	}
+
+	/**
+	 * Sets whether the whole range of a parallel sort is split by a parallel
+	 * sample sort step rather than by a partition on a single thread.
+	 * 
+	 * @param parallelPartitioning
+	 *            <b>true</b> to split the range in parallel. By default
+	 *            <b>false</b>.
+	 * @see #sampleSort(Comparable[], int, int, int, SortContext)
+	 */
+	public void setParallelPartitioning ( boolean parallelPartitioning ) {
+		this.parallelPartitioning = parallelPartitioning;
+	}
+
+	/**
+	 * Gets whether the whole range of a parallel sort is split by a parallel
+	 * sample sort step.
+	 * 
+	 * @return <b>true</b> if the range is split in parallel.
+	 */
+	public boolean isParallelPartitioning () {
+		return this.parallelPartitioning;
+	}
+
+	/**
+	 * Sets the arity of the heap of the heapsort fallback.
+	 * 
+	 * @param arity
+	 *            The number of children of a node of the heap, at least 2.
+	 *            By default {@link Heapsort#DEFAULT_ARITY}.
+	 * @see Heapsort#setArity(int)
+	 */
+	public void setHeapArity ( int arity ) {
+		heapsort.setArity( arity );
+	}
+
+	/**
+	 * Gets the arity of the heap of the heapsort fallback.
+	 * 
+	 * @return The number of children of a node of the heap.
+	 */
+	public int getHeapArity () {
+		return heapsort.getArity();
+	}
+
+	/**
+	 * Sets the sort applied to the ranges smaller than the leaf threshold.
+	 * 
+	 * @param leafSort
+	 *            The leaf sort. By default {@link LeafSort#INSERTION_SORT}.
+	 */
+	public void setLeafSort ( LeafSort leafSort ) {
+		this.leafSort = leafSort;
+	}
+
+	/**
+	 * Gets the sort applied to the ranges smaller than the leaf threshold.
+	 * 
+	 * @return The leaf sort.
+	 */
+	public LeafSort getLeafSort () {
+		return this.leafSort;
+	}
+
+	/**
+	 * Sets the leaf threshold. Ranges with fewer elements are sorted with the
+	 * leaf sort rather than partitioned.
+	 * 
+	 * @param leafThreshold
+	 *            The leaf threshold. By default
+	 *            {@link #DEFAULT_LEAF_THRESHOLD}.
+	 */
+	public void setLeafThreshold ( int leafThreshold ) {
+		this.leafThreshold = leafThreshold;
+	}
+
+	/**
+	 * Gets the leaf threshold.
+	 * 
+	 * @return The leaf threshold.
+	 */
+	public int getLeafThreshold () {
+		return this.leafThreshold;
+	}
+
+	/**
+	 * Sets whether the ranges sorted serially, i.e. the whole array of a
+	 * serial sort and the ranges of a parallel sort no larger than the parallel
+	 * threshold, are sorted by a kernel of {@link SortKernels} built for the
+	 * comparator of the sort, or for the element class of the array if there is
+	 * none. The comparisons of the kernel are monomorphic, unlike those made
+	 * through {@link #compare(Comparable, Comparable)} once the sorts of the
+	 * JVM have seen several orderings.
+	 * 
+	 * Kernels have their own Introsort, so those ranges ignore the partition
+	 * scheme, leaf sort, leaf threshold, heap arity and recursion depth scheme
+	 * of the sort, and they are not checked for cancellation. Instrumented
+	 * invocations never use kernels, so that their metrics stay complete.
+	 * 
+	 * @param specializedKernels
+	 *            Whether to sort serial ranges with kernels. By default
+	 *            <b>false</b>.
+	 */
+	public void setSpecializedKernels ( boolean specializedKernels ) {
+		this.specializedKernels = specializedKernels;
+	}
+
+	/**
+	 * Gets whether the ranges sorted serially are sorted by kernels.
+	 * 
+	 * @return <b>true</b> if serial ranges are sorted by kernels.
+	 */
+	public boolean isSpecializedKernels () {
+		return this.specializedKernels;
+	}
+
+	@Override
+	public void setComparator ( Comparator<T> comparator ) {
+		super.setComparator( comparator );
+		insertionSort.setComparator( comparator );
+		heapsort.setComparator( comparator );
+		quicksort.setComparator( comparator );
+		networkSort.setComparator( comparator );
+		this.cachedKernel = null;
+	}
+
+	@Override
+	public void setMetricsListener ( Consumer<SortMetrics.Snapshot> metricsListener ) {
+		super.setMetricsListener( metricsListener );
+		insertionSort.setMetricsListener( metricsListener );
+		heapsort.setMetricsListener( metricsListener );
+		quicksort.setMetricsListener( metricsListener );
+		networkSort.setMetricsListener( metricsListener );
+	}
+
+	@Override
+	public boolean removeComparator () {
+		insertionSort.removeComparator();
+		heapsort.removeComparator();
+		quicksort.removeComparator();
+		networkSort.removeComparator();
+		this.cachedKernel = null;
+		return super.removeComparator();
+	}
+
+	/**
+	 * Computes the recursion depth threshold of the call from the length of
+	 * its own range with the recursion depth scheme.
+	 */
+	@Override
+	protected SortContext createContext ( T[] arr, int start, int end ) {
+		int length = end - start;
+		return new SortContext( length, this.recursionDepthScheme.apply( length ) );
+	}
+
+	@Override
+	protected void sortImplementation ( T[] arr, int start, int end, int recursionDepth, SortContext context, boolean isParallel ) {
+		if ( !isParallel && this.specializedKernels && end - start > 1 && this.metrics() == null ) {
+			this.kernel( arr ).sort( arr, start, end );
+			return;
+		}
+		if ( end - start > 1 ) {
+			/*
+			 * Sort the range with the leaf sort if it is under the leaf
+			 * threshold.
+			 */
+			if ( end - start < this.leafThreshold ) {
+				if ( this.leafSort == LeafSort.SORTING_NETWORK ) {
+					networkSort.sortImplementation( arr, start, end, recursionDepth + 1, context );
+				} else {
+					SortMetrics metrics = this.metrics();
+					if ( metrics != null ) {
+						metrics.recordInsertionSortFallback();
+					}
+					insertionSort.sortImplementation( arr, start, end, recursionDepth + 1, context );
+				}
+			}
+			/*
+			 * Heapsort if the recursion depth has reached the specified
+			 * threshold.
+			 */
+			else if ( recursionDepth >= context.getRecursionDepthThreshold() ) {
+				SortMetrics metrics = this.metrics();
+				if ( metrics != null ) {
+					metrics.recordHeapsortFallback();
+				}
+				heapsort.sortImplementation( arr, start, end, recursionDepth + 1, context );
+			}
+			/*
+			 * Split the whole range of a parallel sort in parallel if enabled.
+			 */
+			else if ( this.parallelPartitioning && this.isSampleSortable( start, end, recursionDepth, isParallel ) ) {
+				this.sampleSort( arr, start, end, recursionDepth, context );
+			}
+			/*
+			 * Otherwise use the partition method from quicksort and quicksort
+			 * the elements.
+			 */
+			else {
+				PartitionScheme scheme = quicksort.getPartitionScheme();
+				long bounds = quicksort.partition( scheme, arr, start, end - 1, recursionDepth, context );
+				this.sortPartitions( arr, start, end, bounds, quicksort.sortsMiddle( scheme, arr, bounds ), recursionDepth,
+						context, isParallel );
+			}
+		}
+	}
+
+	/**
+	 * Gets the kernel of the ordering of the sort for the element class of
+	 * the array, building it if the ordering or the element class changed.
+	 */
+	private SortKernel<T> kernel ( T[] arr ) {
+		Class<?> type = arr.getClass().getComponentType();
+		CachedKernel<T> cached = this.cachedKernel;
+		if ( cached == null || cached.type != type ) {
+			Comparator<T> comparator = this.getComparator();
+			cached = new CachedKernel<>( type, comparator != null ? SortKernels.comparing( comparator )
+					: SortKernels.naturalOrder( elementClass( arr ) ) );
+			this.cachedKernel = cached;
+		}
+		return cached.kernel;
+	}
+
+	/**
+	 * The component class of an array of T is a class of T.
+	 */
+	@SuppressWarnings( "unchecked" )
+	private static <T extends Comparable<T>> Class<T> elementClass ( T[] arr ) {
+		return (Class<T>) arr.getClass().getComponentType();
+	}
+
+	@Override
+	public void sort ( SortableSource source ) {
+		this.sort( source, 0, source.size() );
+	}
+
+	@Override
+	public void sort ( SortableSource source, int start, int end ) {
+		this.sort( source, start, end, 0, this.recursionDepthScheme.apply( end - start ) );
+	}
+
+	/**
+	 * Sorts the range of the source, recursing into the smaller side of every
+	 * partition and looping over the larger one.
+	 */
+	private void sort ( SortableSource source, int start, int end, int recursionDepth, int recursionDepthThreshold ) {
+		while ( end - start > 1 ) {
+			if ( end - start < this.leafThreshold ) {
+				if ( this.leafSort == LeafSort.SORTING_NETWORK ) {
+					networkSort.sort( source, start, end );
+				} else {
+					insertionSort.sort( source, start, end );
+				}
+				return;
+			}
+			if ( recursionDepth >= recursionDepthThreshold ) {
+				heapsort.sort( source, start, end );
+				return;
+			}
+			long bounds = quicksort.partition( source, start, end - 1 );
+			int lowerEnd = Partition.lowerEnd( bounds ), upperStart = Partition.upperStart( bounds );
+			recursionDepth++;
+			if ( lowerEnd - start < end - upperStart ) {
+				this.sort( source, start, lowerEnd, recursionDepth, recursionDepthThreshold );
+				start = upperStart;
+			} else {
+				this.sort( source, upperStart, end, recursionDepth, recursionDepthThreshold );
+				end = lowerEnd;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,350 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortMetrics;
+
+/**
+ * KWayMerge.java
+ * 
+ * A MergeSort which also merges any number of sorted arrays or ranges at once, for inputs which arrive as sorted
+ * shards: merging k shards of n elements in total costs O(n log k) comparisons rather than the O(n log n) of sorting
+ * their concatenation.
+ * 
+ * The shards are merged by a tournament tree of losers: every internal node holds the shard which lost the match
+ * played there, and the root the overall winner. Once the winner is output, only the path from its leaf to the root is
+ * replayed against the losers stored on it, which takes ceil(log2 k) comparisons per element. Ties are won by the
+ * earlier shard, so the merge is stable: equal elements keep the order of their shards, then of their positions.
+ * 
+ * Merges into an array of more than twice the parallel threshold are split on global rank: splitters are sampled from
+ * the shards, every splitter is located in each shard by binary search, and the output between consecutive splitters
+ * is merged concurrently on the pool of the sort, each part into its own offset of the output.
+ * 
+ * Every merge is an invocation of the sort: its comparisons are counted by metrics of its own, which are reported to
+ * the metrics listener once it has returned.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see MergeSort
+ * @param <T>
+ *            Parameterized type implements Comparable of that type
+ */
+public class KWayMerge<T extends Comparable<T>> extends MergeSort<T> {
+
+	/**
+	 * The number of samples taken for each part of a parallel merge.
+	 */
+	private static final int OVERSAMPLING = 16;
+
+	/**
+	 * Merges sorted arrays into the start of the output.
+	 * 
+	 * @param sources
+	 *            The sorted arrays to merge
+	 * @param out
+	 *            The array to write the merged elements to, at least as long as all the sources together
+	 */
+	public void merge(T[][] sources, T[] out) {
+		int[] starts = new int[sources.length], ends = new int[sources.length];
+		for (int i = 0; i < sources.length; i++) {
+			ends[i] = sources[i].length;
+		}
+		merge(sources, starts, ends, out, 0);
+	}
+
+	/**
+	 * Merges sorted ranges of arrays into the output.
+	 * 
+	 * @param sources
+	 *            The arrays whose ranges are merged
+	 * @param starts
+	 *            The start of the sorted range of every source inclusive
+	 * @param ends
+	 *            The end of the sorted range of every source exclusive
+	 * @param out
+	 *            The array to write the merged elements to. It must not overlap the ranges.
+	 * @param outStart
+	 *            The index of the output at which the first merged element is written
+	 * @throws IllegalArgumentException
+	 *             If the number of sources and bounds differ, or the output cannot hold every element of the ranges.
+	 */
+	public void merge(T[][] sources, int[] starts, int[] ends, T[] out, int outStart) {
+		long total = total(sources, starts, ends);
+		if (outStart < 0 || outStart + total > out.length) {
+			throw new IllegalArgumentException("Cannot merge " + total + " elements into an array of length "
+					+ out.length + " from index " + outStart + ".");
+		}
+		int parallelism = getPool().getParallelism();
+		if (parallelism < 2 || total / 2 <= getParallelThreshold() || sources.length < 2) {
+			this.invoke(new SortContext((int) total), 1,
+					() -> new LoserTree(sources, starts.clone(), ends).drainTo(out, outStart));
+		} else {
+			this.invoke(new SortContext((int) total), parallelism,
+					() -> this.mergeParallel(sources, starts, ends, out, outStart, total));
+		}
+	}
+
+	/**
+	 * Merges the ranges into the output in parts which run concurrently on the pool of the sort.
+	 */
+	private void mergeParallel(T[][] sources, int[] starts, int[] ends, T[] out, int outStart, long total) {
+		int parts = (int) Math.min(4 * getPool().getParallelism(), total / Math.max(1, getParallelThreshold()));
+		int[][] cuts = this.split(sources, starts, ends, parts, total);
+		SortMetrics metrics = this.metrics();
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(cuts.length - 1);
+		int dest = outStart;
+		for (int part = 0; part + 1 < cuts.length; part++) {
+			final int[] from = cuts[part], to = cuts[part + 1];
+			final int partStart = dest;
+			for (int i = 0; i < sources.length; i++) {
+				dest += to[i] - from[i];
+			}
+			tasks.add(ForkJoinTask.adapt(() -> {
+				SortMetrics previous = metrics != null ? bindMetrics(metrics) : null;
+				try {
+					new LoserTree(sources, from.clone(), to).drainTo(out, partStart);
+				} finally {
+					if (metrics != null) {
+						bindMetrics(previous);
+					}
+				}
+			}));
+		}
+		getPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+	}
+
+	/**
+	 * Merges sorted arrays into a sink, which receives the elements one at a time in order.
+	 * 
+	 * @param sources
+	 *            The sorted arrays to merge
+	 * @param sink
+	 *            Receives the merged elements
+	 */
+	public void merge(T[][] sources, Consumer<? super T> sink) {
+		int[] starts = new int[sources.length], ends = new int[sources.length];
+		for (int i = 0; i < sources.length; i++) {
+			ends[i] = sources[i].length;
+		}
+		merge(sources, starts, ends, sink);
+	}
+
+	/**
+	 * Merges sorted ranges of arrays into a sink, which receives the elements one at a time in order.
+	 * 
+	 * @param sources
+	 *            The arrays whose ranges are merged
+	 * @param starts
+	 *            The start of the sorted range of every source inclusive
+	 * @param ends
+	 *            The end of the sorted range of every source exclusive
+	 * @param sink
+	 *            Receives the merged elements
+	 * @throws IllegalArgumentException
+	 *             If the number of sources and bounds differ.
+	 */
+	public void merge(T[][] sources, int[] starts, int[] ends, Consumer<? super T> sink) {
+		long total = total(sources, starts, ends);
+		this.invoke(new SortContext((int) Math.min(total, Integer.MAX_VALUE)), 1,
+				() -> new LoserTree(sources, starts.clone(), ends).drainTo(sink));
+	}
+
+	private static long total(Object[][] sources, int[] starts, int[] ends) {
+		if (starts.length != sources.length || ends.length != sources.length) {
+			throw new IllegalArgumentException("Expected the bounds of " + sources.length + " sources, got "
+					+ starts.length + " starts and " + ends.length + " ends.");
+		}
+		long total = 0;
+		for (int i = 0; i < sources.length; i++) {
+			total += ends[i] - starts[i];
+		}
+		return total;
+	}
+
+	/**
+	 * Splits the ranges into parts of about equal size at sampled splitters. Every sample stands for the elements up to
+	 * the next sample of its source, and splitters are taken at every multiple of total / parts of the sorted samples.
+	 * 
+	 * @return The position of every part boundary in every source, from the starts to the ends.
+	 */
+	private int[][] split(T[][] sources, int[] starts, int[] ends, int parts, long total) {
+		int step = (int) Math.max(1, total / ((long) parts * OVERSAMPLING));
+		List<int[]> samples = new ArrayList<>();
+		for (int i = 0; i < sources.length; i++) {
+			for (int position = starts[i]; position < ends[i]; position += step) {
+				samples.add(new int[] { i, position, Math.min(step, ends[i] - position) });
+			}
+		}
+		samples.sort((a, b) -> this.compareElements(sources, a[0], a[1], b[0], b[1]));
+
+		int[][] cuts = new int[parts + 1][];
+		cuts[0] = starts.clone();
+		cuts[parts] = ends.clone();
+		long weight = 0;
+		int part = 1;
+		for (int[] sample : samples) {
+			if (part < parts && weight >= part * total / parts) {
+				cuts[part++] = this.cut(sources, starts, ends, sample[0], sample[1]);
+			}
+			weight += sample[2];
+		}
+		while (part < parts) {
+			cuts[part++] = ends.clone();
+		}
+		return cuts;
+	}
+
+	/**
+	 * Locates the splitter at the position of a source in every source: the elements which precede it in the stable
+	 * order of the merge are those less than it, and those equal to it in earlier sources.
+	 */
+	private int[] cut(T[][] sources, int[] starts, int[] ends, int source, int position) {
+		T splitter = sources[source][position];
+		int[] cut = new int[sources.length];
+		for (int i = 0; i < sources.length; i++) {
+			if (i == source) {
+				cut[i] = position;
+			} else {
+				cut[i] = this.bound(sources[i], starts[i], ends[i], splitter, i < source);
+			}
+		}
+		return cut;
+	}
+
+	/**
+	 * Finds the first element of the range greater than the key, or no less than the key unless inclusive.
+	 */
+	private int bound(T[] arr, int start, int end, T key, boolean inclusive) {
+		while (start < end) {
+			int mid = (start + end) >>> 1;
+			int cmp = compare(arr[mid], key);
+			if (cmp < 0 || (inclusive && cmp == 0)) {
+				start = mid + 1;
+			} else {
+				end = mid;
+			}
+		}
+		return start;
+	}
+
+	private int compareElements(T[][] sources, int source1, int position1, int source2, int position2) {
+		int cmp = compare(sources[source1][position1], sources[source2][position2]);
+		if (cmp != 0) {
+			return cmp;
+		}
+		return source1 != source2 ? Integer.compare(source1, source2) : Integer.compare(position1, position2);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T[] newArray(int length) {
+		return (T[]) new Comparable<?>[length];
+	}
+
+	/**
+	 * The tournament tree of a merge. The internal nodes 1 to k - 1 hold the losers of their matches and node 0 the
+	 * winner; the leaves k to 2k - 1 are the sources, so that any k forms a complete tree.
+	 */
+	private final class LoserTree {
+
+		private final T[][] sources;
+		private final int[] positions, ends;
+		private final int[] tree;
+		/* The next element of every source, kept together so that replaying a path does not visit the sources. */
+		private final T[] heads;
+
+		private LoserTree(T[][] sources, int[] positions, int[] ends) {
+			int k = sources.length;
+			this.sources = sources;
+			this.positions = positions;
+			this.ends = ends;
+			this.tree = new int[Math.max(1, k)];
+			this.heads = newArray(k);
+			for (int i = 0; i < k; i++) {
+				this.advance(i);
+			}
+
+			/* Play the initial tournament bottom-up, keeping the winner of every match to play the next. */
+			int[] winners = new int[2 * k];
+			for (int i = 0; i < k; i++) {
+				winners[k + i] = i;
+			}
+			for (int node = k - 1; node > 0; node--) {
+				int left = winners[2 * node], right = winners[2 * node + 1];
+				boolean leftWins = this.beats(left, right);
+				winners[node] = leftWins ? left : right;
+				tree[node] = leftWins ? right : left;
+			}
+			tree[0] = k > 0 ? winners[1] : 0;
+		}
+
+		/**
+		 * Whether the head of a source precedes the head of another. Exhausted sources lose to every other source, and
+		 * ties are won by the earlier source.
+		 */
+		private boolean beats(int source1, int source2) {
+			T head1 = heads[source1], head2 = heads[source2];
+			/* A null head is usually the mark of an exhausted source, unless the source holds null elements. */
+			if (head2 == null && positions[source2] == ends[source2]) {
+				return true;
+			}
+			if (head1 == null && positions[source1] == ends[source1]) {
+				return false;
+			}
+			int cmp = compare(heads[source1], heads[source2]);
+			return cmp < 0 || (cmp == 0 && source1 < source2);
+		}
+
+		private void advance(int source) {
+			heads[source] = positions[source] < ends[source] ? sources[source][positions[source]] : null;
+		}
+
+		private long remaining() {
+			long remaining = 0;
+			for (int i = 0; i < sources.length; i++) {
+				remaining += ends[i] - positions[i];
+			}
+			return remaining;
+		}
+
+		/**
+		 * Removes the head of the winning source, which must not be exhausted, and replays its path to the root.
+		 */
+		private T next() {
+			int winner = tree[0];
+			T element = heads[winner];
+			positions[winner]++;
+			this.advance(winner);
+			for (int node = (winner + sources.length) >>> 1; node > 0; node >>>= 1) {
+				int loser = tree[node];
+				if (this.beats(loser, winner)) {
+					tree[node] = winner;
+					winner = loser;
+				}
+			}
+			tree[0] = winner;
+			return element;
+		}
+
+		private void drainTo(T[] out, int dest) {
+			if (sources.length == 1) {
+				System.arraycopy(sources[0], positions[0], out, dest, ends[0] - positions[0]);
+				return;
+			}
+			for (long remaining = this.remaining(); remaining > 0; remaining--) {
+				out[dest++] = this.next();
+			}
+		}
+
+		private void drainTo(Consumer<? super T> sink) {
+			for (long remaining = this.remaining(); remaining > 0; remaining--) {
+				sink.accept(this.next());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,281 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import com.jeffreymanzione.sorting.ParallelSort;
+
+/**
+ * KeySort.java
+ * 
+ * Sorts objects by a key extracted from every element exactly once (decorate-sort-undecorate), for orders whose
+ * comparator is expensive: parsing, case folding or dereferencing nested objects on each of the O(nlogn) comparisons.
+ * 
+ * Primitive keys are mapped to longs which order like the keys, and each is packed with the index of its element into
+ * a single long which is sorted by {@link PackedKeySort}, then the elements are permuted once into the order of the
+ * indices. Keys spanning too wide a range to share a long with the index, which only happens with long and double
+ * keys, are sorted like Comparable keys instead.
+ * 
+ * Comparable keys are extracted into an array of key and element pairs which is sorted with {@link MergeSort}, then
+ * the elements are copied back in order.
+ * 
+ * Every key sort is stable. Ranges of more than twice the parallel threshold extract their keys, sort and permute in
+ * parallel on the pool of the sort.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see AmericanFlagSort
+ */
+public class KeySort {
+
+	/* Private fields */
+	private final PackedKeySort packedSort = new PackedKeySort();
+
+	/**
+	 * Sorts the array by an int key of its elements.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param key
+	 *            Extracts the key of an element.
+	 */
+	public <T> void sortByInt(T[] arr, ToIntFunction<? super T> key) {
+		sortByInt(arr, 0, arr.length, key);
+	}
+
+	/**
+	 * Sorts the range of the array by an int key of its elements.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param key
+	 *            Extracts the key of an element.
+	 */
+	public <T> void sortByInt(T[] arr, int start, int end, ToIntFunction<? super T> key) {
+		long[] keys = new long[end - start];
+		packedSort.forEachChunk(keys.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				keys[i] = PackedKeySort.sortable(key.applyAsInt(arr[start + i]));
+			}
+		});
+		this.sortBySortableKeys(arr, start, end, keys);
+	}
+
+	/**
+	 * Sorts the array by a long key of its elements.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param key
+	 *            Extracts the key of an element.
+	 */
+	public <T> void sortByLong(T[] arr, ToLongFunction<? super T> key) {
+		sortByLong(arr, 0, arr.length, key);
+	}
+
+	/**
+	 * Sorts the range of the array by a long key of its elements.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param key
+	 *            Extracts the key of an element.
+	 */
+	public <T> void sortByLong(T[] arr, int start, int end, ToLongFunction<? super T> key) {
+		long[] keys = new long[end - start];
+		packedSort.forEachChunk(keys.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				keys[i] = PackedKeySort.sortable(key.applyAsLong(arr[start + i]));
+			}
+		});
+		this.sortBySortableKeys(arr, start, end, keys);
+	}
+
+	/**
+	 * Sorts the array by a double key of its elements, in the order of {@link Double#compare(double, double)}.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param key
+	 *            Extracts the key of an element.
+	 */
+	public <T> void sortByDouble(T[] arr, ToDoubleFunction<? super T> key) {
+		sortByDouble(arr, 0, arr.length, key);
+	}
+
+	/**
+	 * Sorts the range of the array by a double key of its elements, in the order of
+	 * {@link Double#compare(double, double)}.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param key
+	 *            Extracts the key of an element.
+	 */
+	public <T> void sortByDouble(T[] arr, int start, int end, ToDoubleFunction<? super T> key) {
+		long[] keys = new long[end - start];
+		packedSort.forEachChunk(keys.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				keys[i] = PackedKeySort.sortable(key.applyAsDouble(arr[start + i]));
+			}
+		});
+		this.sortBySortableKeys(arr, start, end, keys);
+	}
+
+	/**
+	 * Sorts the array by a Comparable key of its elements.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param key
+	 *            Extracts the key of an element.
+	 */
+	public <T, K extends Comparable<? super K>> void sortBy(T[] arr, Function<? super T, ? extends K> key) {
+		sortBy(arr, 0, arr.length, key);
+	}
+
+	/**
+	 * Sorts the range of the array by a Comparable key of its elements.
+	 * 
+	 * @param arr
+	 *            The array to sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param key
+	 *            Extracts the key of an element.
+	 */
+	public <T, K extends Comparable<? super K>> void sortBy(T[] arr, int start, int end,
+			Function<? super T, ? extends K> key) {
+		@SuppressWarnings("unchecked")
+		Decorated<T, K>[] decorated = (Decorated<T, K>[]) new Decorated<?, ?>[end - start];
+		packedSort.forEachChunk(decorated.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				decorated[i] = new Decorated<>(key.apply(arr[start + i]), arr[start + i]);
+			}
+		});
+		this.sortDecorated(arr, start, decorated);
+	}
+
+	/**
+	 * Sorts the range by keys whose unsigned order is the order of the elements.
+	 */
+	private <T> void sortBySortableKeys(T[] arr, int start, int end, long[] keys) {
+		int length = end - start;
+		if (length < 2) {
+			return;
+		}
+
+		int[] index = packedSort.argsort(keys);
+		if (index == null) {
+			@SuppressWarnings("unchecked")
+			Decorated<T, Long>[] decorated = (Decorated<T, Long>[]) new Decorated<?, ?>[length];
+			packedSort.forEachChunk(length, (from, to) -> {
+				for (int i = from; i < to; i++) {
+					decorated[i] = new Decorated<>(keys[i] ^ Long.MIN_VALUE, arr[start + i]);
+				}
+			});
+			this.sortDecorated(arr, start, decorated);
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		T[] sorted = (T[]) new Object[length];
+		packedSort.forEachChunk(length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				sorted[i] = arr[start + index[i]];
+			}
+		});
+		packedSort.forEachChunk(length, (from, to) -> System.arraycopy(sorted, from, arr, start + from, to - from));
+	}
+
+	private <T, K extends Comparable<? super K>> void sortDecorated(T[] arr, int start, Decorated<T, K>[] decorated) {
+		MergeSort<Decorated<T, K>> mergeSort = new MergeSort<>();
+		mergeSort.setPool(getPool());
+		mergeSort.setParallelThreshold(getParallelThreshold());
+		if (packedSort.isParallel(decorated.length)) {
+			mergeSort.sortAsync(decorated).join();
+		} else {
+			mergeSort.sort(decorated);
+		}
+		packedSort.forEachChunk(decorated.length, (from, to) -> {
+			for (int i = from; i < to; i++) {
+				arr[start + i] = decorated[i].element;
+			}
+		});
+	}
+
+	/**
+	 * Sets the parallel threshold. Ranges of more than twice as many elements are sorted in parallel.
+	 * 
+	 * @param minNumElements
+	 *            The threshold for converting to serial from parallel sorting.
+	 */
+	public void setParallelThreshold(int minNumElements) {
+		packedSort.setParallelThreshold(minNumElements);
+	}
+
+	/**
+	 * Gets the parallel threshold.
+	 * 
+	 * @return The parallel threshold. By default {@link ParallelSort#DEFAULT_PARALLEL_THRESHOLD}.
+	 */
+	public int getParallelThreshold() {
+		return packedSort.getParallelThreshold();
+	}
+
+	/**
+	 * Sets the fork/join pool which extracts the keys, sorts and permutes in parallel.
+	 * 
+	 * @param pool
+	 *            The fork/join pool used for parallel sorting.
+	 */
+	public void setPool(ForkJoinPool pool) {
+		packedSort.setPool(pool);
+	}
+
+	/**
+	 * Gets the fork/join pool which extracts the keys, sorts and permutes in parallel.
+	 * 
+	 * @return The fork/join pool used for parallel sorting. By default {@link ForkJoinPool#commonPool()}.
+	 */
+	public ForkJoinPool getPool() {
+		return packedSort.getPool();
+	}
+
+	/**
+	 * An element decorated with its key.
+	 */
+	private static final class Decorated<T, K extends Comparable<? super K>> implements Comparable<Decorated<T, K>> {
+
+		private final K key;
+		private final T element;
+
+		private Decorated(K key, T element) {
+			this.key = key;
+			this.element = element;
+		}
+
+		@Override
+		public int compareTo(Decorated<T, K> o) {
+			return key.compareTo(o.key);
+		}
+	}
+}
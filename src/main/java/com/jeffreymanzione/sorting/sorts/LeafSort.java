@@ -0,0 +1,24 @@
+package com.jeffreymanzione.sorting.sorts;
+
+/**
+ * LeafSort.java
+ * 
+ * The sorts which {@link Introsort}, {@link Quicksort} and {@link PrimitiveIntrosort} apply to the ranges smaller than
+ * their leaf threshold instead of partitioning them further.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+public enum LeafSort {
+
+	/**
+	 * Binary insertion sort, see {@link InsertionSort}.
+	 */
+	INSERTION_SORT,
+	/**
+	 * A sorting network for the size of the range, see {@link NetworkSort}. Ranges of more than 32 elements are
+	 * insertion sorted.
+	 */
+	SORTING_NETWORK
+}
@@ -0,0 +1,414 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import com.jeffreymanzione.sorting.AbstractParallelSort;
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortMetrics;
+
+/**
+ * MergeSort.java
+ * 
+ * Stable top-down merge sort. The range is split in halves which are sorted recursively and then merged; ranges with
+ * fewer than {@link #INSERTION_SORT_THRESHOLD} elements are sorted with binary insertion sort, which is stable as well.
+ * Equal elements keep their relative order. Halves which are already in order are not merged, so sorted input is
+ * handled in O(n) comparisons per level. Guarantees O(nlogn) performance and uses O(n) extra space.
+ * 
+ * In parallel, both halves of a range larger than the parallel threshold are sorted concurrently and the merge which
+ * follows is itself split: the middle element of the longer run is located in the other run by binary search, and both
+ * halves of the output are merged concurrently. The merge of a range runs as a continuation once both of its halves
+ * are sorted, so no thread blocks waiting for another.
+ * 
+ * The scratch buffer of a call is kept in its {@link SortContext}. Once a call completes, its buffer is cleared and
+ * cached by the instance, and reused by the next call whose range fits in it.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * 
+ * @param <T>
+ *            Parameterized type implements Comparable of that type
+ */
+public class MergeSort<T extends Comparable<T>> extends AbstractParallelSort<T> {
+
+	/**
+	 * Ranges with fewer elements than this are sorted with insertion sort.
+	 */
+	public static final int INSERTION_SORT_THRESHOLD = 16;
+
+	private final InsertionSort<T> insertionSort = new InsertionSort<>();
+
+	/**
+	 * The largest scratch buffer released by a completed call, or null while it is in use by a call.
+	 */
+	private final AtomicReference<Comparable<?>[]> buffer = new AtomicReference<>();
+
+	/**
+	 * The state of a single call: its scratch buffer and the index of the array mapped to the start of the buffer.
+	 */
+	private class MergeContext extends SortContext {
+
+		private final T[] aux;
+		private final int offset;
+
+		private MergeContext(int start, int end, T[] aux) {
+			super(end - start);
+			this.aux = aux;
+			this.offset = start;
+		}
+	}
+
+	@Override
+	public void setComparator(Comparator<T> comparator) {
+		super.setComparator(comparator);
+		insertionSort.setComparator(comparator);
+	}
+
+	@Override
+	public boolean removeComparator() {
+		insertionSort.removeComparator();
+		return super.removeComparator();
+	}
+
+	@Override
+	public void setMetricsListener(Consumer<SortMetrics.Snapshot> metricsListener) {
+		super.setMetricsListener(metricsListener);
+		insertionSort.setMetricsListener(metricsListener);
+	}
+
+	@Override
+	protected SortContext createContext(T[] arr, int start, int end) {
+		return new MergeContext(start, end, acquireBuffer(end - start));
+	}
+
+	@Override
+	protected void completeContext(SortContext context) {
+		/* The merges of KWayMerge run with a plain context and no buffer. */
+		if (context instanceof MergeSort.MergeContext) {
+			MergeSort<?>.MergeContext mergeContext = (MergeSort<?>.MergeContext) context;
+			releaseBuffer(mergeContext.aux, mergeContext.getOriginalLength());
+		}
+	}
+
+	@Override
+	protected void sortImplementation(T[] arr, int start, int end, int recursionDepth, SortContext context,
+			boolean isParallel) {
+		MergeContext mergeContext = this.mergeContext(context, start, end);
+		/* Ranges are never split below the insertion sort threshold. */
+		int threshold = Math.max(getParallelThreshold(), INSERTION_SORT_THRESHOLD);
+		CountedCompleter<?> parent = isParallel ? currentTask() : null;
+
+		if (parent != null && end - start > threshold) {
+			this.fork(new SortTask(parent, arr, start, end, mergeContext, threshold));
+		} else {
+			this.sortRange(arr, start, end, mergeContext.aux, mergeContext.offset);
+		}
+	}
+
+	/**
+	 * Gets the context of the call as a MergeContext. Creates a context with its own buffer when the range is sorted
+	 * with the context of another sort.
+	 */
+	@SuppressWarnings("unchecked")
+	private MergeContext mergeContext(SortContext context, int start, int end) {
+		if (context instanceof MergeSort.MergeContext) {
+			return (MergeContext) context;
+		}
+		return new MergeContext(start, end, (T[]) new Comparable<?>[end - start]);
+	}
+
+	@SuppressWarnings("unchecked")
+	private T[] acquireBuffer(int length) {
+		Comparable<?>[] aux = buffer.getAndSet(null);
+		if (aux == null || aux.length < length) {
+			aux = new Comparable<?>[length];
+		}
+		return (T[]) aux;
+	}
+
+	private void releaseBuffer(Comparable<?>[] aux, int length) {
+		/* Drop the references to the sorted elements so that the cached buffer does not keep them reachable. */
+		Arrays.fill(aux, 0, length, null);
+		Comparable<?>[] cached = buffer.get();
+		if (cached == null || cached.length < aux.length) {
+			buffer.compareAndSet(cached, aux);
+		}
+	}
+
+	/**
+	 * Sorts the range [start, end) on the calling thread. This is the sort of every range which is not split any
+	 * further, so subclasses may replace it with any other stable sort. The parallel merges which follow only require
+	 * the range to be sorted.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param aux
+	 *            The scratch buffer. aux[i - offset] is free for use for every index i in the range.
+	 * @param offset
+	 *            The index of the array mapped to the start of the buffer.
+	 */
+	protected void sortRange(T[] arr, int start, int end, T[] aux, int offset) {
+		if (end - start < INSERTION_SORT_THRESHOLD) {
+			this.insertionSort(arr, start, start + 1, end);
+		} else {
+			int mid = (start + end) >>> 1;
+			this.sortRange(arr, start, mid, aux, offset);
+			this.sortRange(arr, mid, end, aux, offset);
+			this.merge(arr, start, mid, end, aux, offset);
+		}
+	}
+
+	/**
+	 * Binary insertion sorts the range [start, end) of which [start, sortedEnd) is already sorted.
+	 * 
+	 * @param arr
+	 *            The array to be sorted
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param sortedEnd
+	 *            The end of the sorted prefix of the range exclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 */
+	protected void insertionSort(T[] arr, int start, int sortedEnd, int end) {
+		if (sortedEnd < end) {
+			SortMetrics metrics = this.metrics();
+			if (metrics != null) {
+				metrics.recordInsertionSortFallback();
+			}
+			insertionSort.insert(arr, start, Math.max(sortedEnd, start + 1), end);
+		}
+	}
+
+	/**
+	 * Merges the sorted ranges [start, mid) and [mid, end) on the calling thread. Only the left run is copied to the
+	 * buffer: the merged elements are written from the start of the range, which never passes the next unread element
+	 * of the right run.
+	 */
+	private void merge(T[] arr, int start, int mid, int end, T[] aux, int offset) {
+		if (compare(arr[mid - 1], arr[mid]) <= 0) {
+			return;
+		}
+		int i = start - offset, leftEnd = i + mid - start;
+		System.arraycopy(arr, start, aux, i, mid - start);
+
+		int j = mid, k = start;
+		while (i < leftEnd && j < end) {
+			/* Take from the left run on ties to keep the sort stable. */
+			arr[k++] = compare(arr[j], aux[i]) < 0 ? arr[j++] : aux[i++];
+		}
+		System.arraycopy(aux, i, arr, k, leftEnd - i);
+	}
+
+	/**
+	 * Merges the sorted runs aux[leftStart, leftEnd) and aux[rightStart, rightEnd) into arr starting at dest.
+	 */
+	private void mergeRuns(T[] aux, int leftStart, int leftEnd, int rightStart, int rightEnd, T[] arr, int dest) {
+		int i = leftStart, j = rightStart, k = dest;
+		while (i < leftEnd && j < rightEnd) {
+			arr[k++] = compare(aux[j], aux[i]) < 0 ? aux[j++] : aux[i++];
+		}
+		System.arraycopy(aux, i, arr, k, leftEnd - i);
+		k += leftEnd - i;
+		System.arraycopy(aux, j, arr, k, rightEnd - j);
+	}
+
+	/**
+	 * @return The index of the first element of aux[start, end) not less than the key.
+	 */
+	private int lowerBound(T[] aux, int start, int end, T key) {
+		while (start < end) {
+			int mid = (start + end) >>> 1;
+			if (compare(aux[mid], key) < 0) {
+				start = mid + 1;
+			} else {
+				end = mid;
+			}
+		}
+		return start;
+	}
+
+	/**
+	 * @return The index of the first element of aux[start, end) greater than the key.
+	 */
+	private int upperBound(T[] aux, int start, int end, T key) {
+		while (start < end) {
+			int mid = (start + end) >>> 1;
+			if (compare(aux[mid], key) <= 0) {
+				start = mid + 1;
+			} else {
+				end = mid;
+			}
+		}
+		return start;
+	}
+
+	/**
+	 * Fork/join task sorting a range larger than the parallel threshold. Its halves are sorted by two child tasks, and
+	 * their merge is started from {@link #onCompletion(CountedCompleter)} once both have completed.
+	 */
+	private class SortTask extends CountedCompleter<Void> {
+
+		private static final long serialVersionUID = 2754816032919482640L;
+
+		private final T[] arr;
+		private final int start, mid, end, threshold;
+		private final MergeContext context;
+		private final SortMetrics metrics = metrics();
+
+		private SortTask(CountedCompleter<?> parent, T[] arr, int start, int end, MergeContext context,
+				int threshold) {
+			super(parent);
+			this.arr = arr;
+			this.start = start;
+			this.end = end;
+			this.context = context;
+			this.threshold = threshold;
+			this.mid = end - start > threshold ? (start + end) >>> 1 : -1;
+		}
+
+		@Override
+		public void compute() {
+			SortMetrics previous = metrics != null ? bindMetrics(metrics) : null;
+			try {
+				if (mid < 0 || context.isCancelled()) {
+					try {
+						if (!context.isCancelled()) {
+							sortRange(arr, start, end, context.aux, context.offset);
+						}
+					} catch (Throwable e) {
+						/* Complete as usual so that the invocation waits for the other ranges to return. */
+						context.fail(e);
+					}
+					tryComplete();
+				} else {
+					/* This task completes with the last of its two halves. */
+					MergeSort.this.fork(new SortTask(this, arr, start, mid, context, threshold));
+					new SortTask(this, arr, mid, end, context, threshold).compute();
+				}
+			} finally {
+				if (metrics != null) {
+					bindMetrics(previous);
+				}
+			}
+		}
+
+		@Override
+		public void onCompletion(CountedCompleter<?> caller) {
+			SortMetrics previous = metrics != null ? bindMetrics(metrics) : null;
+			try {
+				this.merge();
+			} catch (Throwable e) {
+				context.fail(e);
+			} finally {
+				if (metrics != null) {
+					bindMetrics(previous);
+				}
+			}
+		}
+
+		private void merge() {
+			if (mid < 0 || context.isCancelled() || compare(arr[mid - 1], arr[mid]) <= 0) {
+				return;
+			}
+			/*
+			 * Both runs are copied to the buffer so that the halves of the merge can write to the array concurrently.
+			 * The merge is attached to the completer of this task, which therefore waits for it.
+			 */
+			T[] aux = context.aux;
+			int auxStart = start - context.offset;
+			System.arraycopy(arr, start, aux, auxStart, end - start);
+			int auxMid = auxStart + mid - start, auxEnd = auxStart + end - start;
+			MergeSort.this.fork(new MergeTask(getCompleter(), arr, context, auxStart, auxMid, auxMid, auxEnd, start,
+					threshold));
+		}
+	}
+
+	/**
+	 * Fork/join task merging two sorted runs of the buffer into the array. Merges of more elements than the parallel
+	 * threshold are split in two independent merges.
+	 */
+	private class MergeTask extends CountedCompleter<Void> {
+
+		private static final long serialVersionUID = -3470977384541271358L;
+
+		private final T[] arr, aux;
+		private final int leftStart, leftEnd, rightStart, rightEnd, dest, threshold;
+		private final MergeContext context;
+		private final SortMetrics metrics = metrics();
+
+		private MergeTask(CountedCompleter<?> parent, T[] arr, MergeContext context, int leftStart, int leftEnd,
+				int rightStart, int rightEnd, int dest, int threshold) {
+			super(parent);
+			this.arr = arr;
+			this.aux = context.aux;
+			this.context = context;
+			this.leftStart = leftStart;
+			this.leftEnd = leftEnd;
+			this.rightStart = rightStart;
+			this.rightEnd = rightEnd;
+			this.dest = dest;
+			this.threshold = threshold;
+		}
+
+		@Override
+		public void compute() {
+			SortMetrics previous = metrics != null ? bindMetrics(metrics) : null;
+			try {
+				this.merge();
+			} finally {
+				if (metrics != null) {
+					bindMetrics(previous);
+				}
+			}
+		}
+
+		private void merge() {
+			int leftLength = leftEnd - leftStart, rightLength = rightEnd - rightStart;
+			if (leftLength + rightLength <= threshold || leftLength == 0 || rightLength == 0
+					|| context.isCancelled()) {
+				try {
+					if (!context.isCancelled()) {
+						mergeRuns(aux, leftStart, leftEnd, rightStart, rightEnd, arr, dest);
+					}
+				} catch (Throwable e) {
+					context.fail(e);
+				}
+				tryComplete();
+				return;
+			}
+
+			/*
+			 * Split the longer run at its middle element and the other run around that element. Elements equal to a
+			 * split element from the left run always end up before those from the right run.
+			 */
+			int leftSplit, rightSplit;
+			try {
+				if (leftLength >= rightLength) {
+					leftSplit = (leftStart + leftEnd) >>> 1;
+					rightSplit = lowerBound(aux, rightStart, rightEnd, aux[leftSplit]);
+				} else {
+					rightSplit = (rightStart + rightEnd) >>> 1;
+					leftSplit = upperBound(aux, leftStart, leftEnd, aux[rightSplit]);
+				}
+			} catch (Throwable e) {
+				context.fail(e);
+				tryComplete();
+				return;
+			}
+			int splitDest = dest + (leftSplit - leftStart) + (rightSplit - rightStart);
+
+			MergeSort.this.fork(new MergeTask(this, arr, context, leftSplit, leftEnd, rightSplit, rightEnd, splitDest,
+					threshold));
+			new MergeTask(this, arr, context, leftStart, leftSplit, rightStart, rightSplit, dest, threshold).compute();
+		}
+	}
+}
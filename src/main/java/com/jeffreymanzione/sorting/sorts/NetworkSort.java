@@ -0,0 +1,87 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+import com.jeffreymanzione.sorting.AbstractSort;
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortMetrics;
+import com.jeffreymanzione.sorting.SortableSource;
+import com.jeffreymanzione.sorting.SourceSort;
+
+/**
+ * NetworkSort.java
+ * 
+ * Sorts small ranges with a fixed sorting network for their size: a sequence of compare-exchanges which does not
+ * depend on the elements, so there is no data-dependent control flow besides the exchanges themselves. Ranges of up to
+ * 32 elements are sorted by networks; larger ranges are insertion sorted. The sort is not stable.
+ * 
+ * It is meant as the leaf sort of partitioning sorts, see {@link LeafSort#SORTING_NETWORK}.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see PrimitiveNetworkSort
+ * @param <T>
+ *            Parameterized type implements Comparable of that type
+ */
+public class NetworkSort<T extends Comparable<T>> extends AbstractSort<T> implements SourceSort {
+
+	private final InsertionSort<T> insertionSort = new InsertionSort<>();
+
+	@Override
+	public void setComparator(Comparator<T> comparator) {
+		super.setComparator(comparator);
+		insertionSort.setComparator(comparator);
+	}
+
+	@Override
+	public boolean removeComparator() {
+		insertionSort.removeComparator();
+		return super.removeComparator();
+	}
+
+	@Override
+	public void setMetricsListener(Consumer<SortMetrics.Snapshot> metricsListener) {
+		super.setMetricsListener(metricsListener);
+		insertionSort.setMetricsListener(metricsListener);
+	}
+
+	@Override
+	protected void sortImplementation(T[] arr, int start, int end, int recursionDepth, SortContext context) {
+		int length = end - start;
+		if (length > SortingNetworks.MAX_SIZE) {
+			insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, context);
+		} else if (length > 1) {
+			int[] network = SortingNetworks.network(length);
+			for (int c = 0; c < network.length; c += 2) {
+				int i = start + network[c], j = start + network[c + 1];
+				if (compare(arr[i], arr[j]) > 0) {
+					this.swap(arr, i, j);
+				}
+			}
+		}
+	}
+
+	@Override
+	public void sort(SortableSource source) {
+		sort(source, 0, source.size());
+	}
+
+	@Override
+	public void sort(SortableSource source, int start, int end) {
+		int length = end - start;
+		if (length > SortingNetworks.MAX_SIZE) {
+			insertionSort.sort(source, start, end);
+		} else if (length > 1) {
+			int[] network = SortingNetworks.network(length);
+			for (int c = 0; c < network.length; c += 2) {
+				int i = start + network[c], j = start + network[c + 1];
+				if (source.compare(i, j) > 0) {
+					source.swap(i, j);
+				}
+			}
+		}
+	}
+
+}
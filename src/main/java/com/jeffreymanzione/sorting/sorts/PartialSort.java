@@ -0,0 +1,302 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+
+import com.jeffreymanzione.sorting.Partition;
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortMetrics;
+
+/**
+ * PartialSort.java
+ * 
+ * A Quicksort which can stop once the first k elements are in place, for callers which only need the smallest k
+ * elements of a large input in order.
+ * 
+ * {@link #partialSort(Comparable[], int)} is an introselect: each partition step keeps only the ranges which overlap
+ * the first k positions, the lower ranges entirely below k are sorted with Introsort, and the ranges above k are left
+ * unsorted. The expected cost is O(n + k log k). Should the partitions degrade past 2*log2(n) steps, the remaining
+ * range is sorted with Introsort, which bounds the cost to O(n log n). Ranges of more than twice the parallel
+ * threshold first select the smallest k elements of several chunks in parallel on the pool of the sort, then select
+ * among those.
+ * 
+ * {@link #sortedView(Comparable[], int, int)} does the same lazily, one element at a time, for callers which do not
+ * know k in advance. See {@link SortedView}.
+ * 
+ * {@link #topK(Iterator, int)} keeps the smallest k elements of a stream in a bounded max heap which uses the sift
+ * steps of {@link Heapsort}, in O(n log k) time and O(k) space.
+ * 
+ * Either way, "smallest" follows the order of the sort, so a reversed comparator selects the largest elements. Every
+ * call of {@link #partialSort(Comparable[], int, int, int)} or {@link #topK(Iterator, int)} is an invocation of the
+ * sort, whose metrics are reported to the metrics listener once it has returned.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see Quicksort
+ * @param <T>
+ *            Parameterized type implements Comparable of that type
+ */
+public class PartialSort<T extends Comparable<T>> extends Quicksort<T> {
+
+	/* Private fields */
+	private final Introsort<T> introsort = new Introsort<>();
+	private final Heapsort<T> heap = new Heapsort<>();
+
+	@Override
+	public void setComparator(Comparator<T> comparator) {
+		super.setComparator(comparator);
+		introsort.setComparator(comparator);
+		heap.setComparator(comparator);
+	}
+
+	@Override
+	public boolean removeComparator() {
+		introsort.removeComparator();
+		heap.removeComparator();
+		return super.removeComparator();
+	}
+
+	@Override
+	public void setMetricsListener(Consumer<SortMetrics.Snapshot> metricsListener) {
+		super.setMetricsListener(metricsListener);
+		introsort.setMetricsListener(metricsListener);
+		heap.setMetricsListener(metricsListener);
+	}
+
+	/**
+	 * Moves the smallest k elements of the array to its start in sorted order. The other elements are left in an
+	 * arbitrary order after them.
+	 * 
+	 * @param arr
+	 *            The array to partially sort
+	 * @param k
+	 *            The number of elements to sort. The whole array is sorted if it has no more than k elements.
+	 */
+	public void partialSort(T[] arr, int k) {
+		partialSort(arr, 0, arr.length, k);
+	}
+
+	/**
+	 * Moves the smallest k elements of the range to its start in sorted order. The other elements of the range are left
+	 * in an arbitrary order after them.
+	 * 
+	 * @param arr
+	 *            The array to partially sort
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @param k
+	 *            The number of elements to sort. The whole range is sorted if it has no more than k elements.
+	 * @throws IllegalArgumentException
+	 *             If k is negative.
+	 */
+	public void partialSort(T[] arr, int start, int end, int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("Cannot sort the first " + k + " elements.");
+		}
+		k = Math.min(k, end - start);
+		if (k == 0) {
+			return;
+		}
+		int target = start + k, chunks = this.chunks(end - start, k);
+		SortContext context = this.createContext(arr, start, end);
+		this.invoke(context, chunks > 1 ? getPool().getParallelism() : 1, () -> {
+			int selectEnd = chunks > 1 ? this.selectChunks(arr, start, end, target - start, chunks) : end;
+			this.select(arr, start, selectEnd, target, context);
+		});
+	}
+
+	/**
+	 * The number of chunks to select from in parallel: only ranges of more than twice the parallel threshold are split,
+	 * into chunks at least four times as large as k so that the selected elements of every chunk fit before the next.
+	 */
+	private int chunks(int length, int k) {
+		int parallelism = getPool().getParallelism();
+		if (parallelism < 2 || length / 2 <= getParallelThreshold()) {
+			return 1;
+		}
+		int chunks = Math.min(4 * parallelism, length / Math.max(1, getParallelThreshold()));
+		while (chunks > 1 && length / chunks < 4 * k) {
+			chunks--;
+		}
+		return chunks;
+	}
+
+	/**
+	 * Selects the smallest k elements of every chunk of the range in parallel, then gathers them at the start of the
+	 * range.
+	 * 
+	 * @return The end of the gathered elements, among which are the smallest k elements of the range.
+	 */
+	private int selectChunks(T[] arr, int start, int end, int k, int chunks) {
+		SortMetrics metrics = this.metrics();
+		List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+		for (int chunk = 0; chunk < chunks; chunk++) {
+			final int chunkStart = chunkStart(start, end, chunks, chunk);
+			final int chunkEnd = chunkStart(start, end, chunks, chunk + 1);
+			tasks.add(ForkJoinTask.adapt(() -> {
+				SortMetrics previous = metrics != null ? bindMetrics(metrics) : null;
+				try {
+					this.select(arr, chunkStart, chunkEnd, chunkStart + k, this.createContext(arr, chunkStart, chunkEnd));
+				} finally {
+					if (metrics != null) {
+						bindMetrics(previous);
+					}
+				}
+			}));
+		}
+		getPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+
+		/* Every chunk holds at least 4k elements, so a block never lands on the selection of a later chunk. */
+		for (int chunk = 1; chunk < chunks; chunk++) {
+			int from = chunkStart(start, end, chunks, chunk), to = start + chunk * k;
+			for (int i = 0; i < k; i++) {
+				this.swap(arr, from + i, to + i);
+			}
+		}
+		return start + chunks * k;
+	}
+
+	private static int chunkStart(int start, int end, int chunks, int chunk) {
+		return start + (int) ((long) (end - start) * chunk / chunks);
+	}
+
+	/**
+	 * Sorts the range [start, target) with the smallest elements of [start, end).
+	 */
+	private void select(T[] arr, int start, int end, int target, SortContext context) {
+		PartitionScheme scheme = this.getPartitionScheme();
+		int steps = 2 * (31 - Integer.numberOfLeadingZeros(end - start));
+		while (target > start && end - start > 1) {
+			if (steps-- == 0) {
+				this.introsort(arr, start, end);
+				return;
+			}
+			long bounds = this.partition(scheme, arr, start, end - 1, 0, context);
+			int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+			if (target <= lowerEnd) {
+				end = lowerEnd;
+				continue;
+			}
+			this.introsort(arr, start, lowerEnd);
+			if (this.sortsMiddle(scheme, arr, bounds)) {
+				int middleStart = Partition.middleStart(bounds), middleEnd = Partition.middleEnd(bounds);
+				if (target <= middleEnd) {
+					start = middleStart;
+					end = middleEnd;
+					continue;
+				}
+				this.introsort(arr, middleStart, middleEnd);
+			}
+			start = upperStart;
+		}
+	}
+
+	/**
+	 * Sorts the range [start, end) with Introsort.
+	 */
+	void introsort(T[] arr, int start, int end) {
+		if (end - start > 1) {
+			introsort.sortImplementation(arr, start, end, 0, introsort.createContext(arr, start, end), false);
+		}
+	}
+
+	/**
+	 * Creates an iterator over the array in sorted order, which sorts the array in place only as far as it is iterated.
+	 * 
+	 * @param arr
+	 *            The array to iterate over
+	 * @return A lazily sorted view of the array.
+	 */
+	public SortedView<T> sortedView(T[] arr) {
+		return sortedView(arr, 0, arr.length);
+	}
+
+	/**
+	 * Creates an iterator over the range in sorted order, which sorts the range in place only as far as it is
+	 * iterated.
+	 * 
+	 * @param arr
+	 *            The array to iterate over
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range exclusive
+	 * @return A lazily sorted view of the range.
+	 */
+	public SortedView<T> sortedView(T[] arr, int start, int end) {
+		return new SortedView<>(this, arr, start, end, this.createContext(arr, start, end));
+	}
+
+	/**
+	 * Collects the smallest k elements of the source in sorted order.
+	 * 
+	 * @param source
+	 *            The elements to select from
+	 * @param k
+	 *            The number of elements to collect
+	 * @return The smallest k elements of the source, or all of them if it has no more than k elements, in sorted
+	 *         order.
+	 */
+	public List<T> topK(Iterable<? extends T> source, int k) {
+		return topK(source.iterator(), k);
+	}
+
+	/**
+	 * Collects the smallest k elements of the source in sorted order, with a bounded heap of the smallest k elements
+	 * consumed so far.
+	 * 
+	 * @param source
+	 *            The elements to select from, consumed entirely
+	 * @param k
+	 *            The number of elements to collect
+	 * @return The smallest k elements of the source, or all of them if it has no more than k elements, in sorted
+	 *         order.
+	 * @throws IllegalArgumentException
+	 *             If k is negative.
+	 */
+	public List<T> topK(Iterator<? extends T> source, int k) {
+		if (k < 0) {
+			throw new IllegalArgumentException("Cannot collect the first " + k + " elements.");
+		}
+		List<T> topK = new ArrayList<>();
+		this.invoke(new SortContext(k), 1, () -> topK.addAll(this.select(source, k)));
+		return topK;
+	}
+
+	/**
+	 * Selects the smallest k elements of the source in sorted order.
+	 */
+	private List<T> select(Iterator<? extends T> source, int k) {
+		@SuppressWarnings("unchecked")
+		T[] elements = (T[]) new Comparable<?>[Math.min(k, 1 << 10)];
+		int size = 0;
+		while (size < k && source.hasNext()) {
+			if (size == elements.length) {
+				elements = Arrays.copyOf(elements, (int) Math.min(k, 2L * size));
+			}
+			elements[size++] = source.next();
+		}
+		if (size == k && k > 0) {
+			/* The root of the max heap is the largest of the smallest k elements so far. */
+			heap.heapify(elements, 0, k);
+			while (source.hasNext()) {
+				T element = source.next();
+				if (compare(element, elements[0]) < 0) {
+					elements[0] = element;
+					heap.sift(elements, 0, k);
+				}
+			}
+		}
+		this.introsort(elements, 0, size);
+		return Arrays.asList(elements).subList(0, size);
+	}
+
+}
@@ -0,0 +1,33 @@
+package com.jeffreymanzione.sorting.sorts;
+
+/**
+ * PartitionScheme.java
+ * 
+ * The partitioning schemes of {@link Quicksort} and of the quicksort phase of {@link Introsort}.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+public enum PartitionScheme {
+
+	/**
+	 * Hoare partitioning around the middle element. Elements equal to the pivot may end up on either side, so runs of
+	 * equal keys keep being partitioned. This is the default.
+	 */
+	HOARE,
+
+	/**
+	 * Three-way ("fat pivot") partitioning around the middle element. Elements equal to the pivot are gathered in a
+	 * middle band which is never recursed into, so that a range of equal keys is handled in a single pass. Suited to
+	 * data with many duplicate keys.
+	 */
+	THREE_WAY,
+
+	/**
+	 * Dual-pivot partitioning around two pivots p1 {@literal <=} p2 taken from the first and last thirds of the range.
+	 * The range is split into elements less than p1, elements between p1 and p2, and elements greater than p2. The
+	 * middle range is not recursed into when p1 equals p2.
+	 */
+	DUAL_PIVOT;
+}
@@ -0,0 +1,212 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import com.jeffreymanzione.sorting.AbstractPrimitiveSort;
+
+/**
+ * PrimitiveHeapsort.java
+ * 
+ * Heapsort implementation for primitive arrays. It is the primitive counterpart of {@link Heapsort}: the elements are
+ * arranged in a max heap where the children of node n are 2n + 1 and 2n + 2 relative to the start of the range. The
+ * root is repeatedly swapped with the last element of the heap, the heap is shrunk by one, and the new root is sifted
+ * down.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see Heapsort
+ */
+public class PrimitiveHeapsort extends AbstractPrimitiveSort {
+
+	@Override
+	protected void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength) {
+		int size = end - start;
+		/* Establish the initial heap property */
+		for (int i = (size >>> 1) - 1; i >= 0; i--) {
+			sift(arr, start, i, size);
+		}
+		/* Sequential remove elements from the heap */
+		while (size > 1) {
+			/* Decrease the size of the heap */
+			size--;
+			/* Swap the root of the max heap with the element just beyond the size of the heap. */
+			int tmp = arr[start];
+			arr[start] = arr[start + size];
+			arr[start + size] = tmp;
+			/* Reestablish the heap property */
+			sift(arr, start, 0, size);
+		}
+	}
+
+	/**
+	 * Sifts the element at the specified node down the heap until it is no smaller than its children.
+	 * 
+	 * @param arr
+	 *            Array holding the heap
+	 * @param start
+	 *            The offset of the root of the heap in the array
+	 * @param index
+	 *            The node to sift down, relative to start
+	 * @param size
+	 *            The number of elements in the heap
+	 */
+	protected void sift(int[] arr, int start, int index, int size) {
+		int bubble = arr[start + index];
+		int child;
+		while ((child = 2 * index + 1) < size) {
+			if (child + 1 < size && arr[start + child] < arr[start + child + 1]) {
+				child++;
+			}
+			if (!(bubble < arr[start + child])) {
+				break;
+			}
+			arr[start + index] = arr[start + child];
+			index = child;
+		}
+		arr[start + index] = bubble;
+	}
+
+	@Override
+	protected void sortImplementation(long[] arr, int start, int end, int recursionDepth, int originalLength) {
+		int size = end - start;
+		/* Establish the initial heap property */
+		for (int i = (size >>> 1) - 1; i >= 0; i--) {
+			sift(arr, start, i, size);
+		}
+		/* Sequential remove elements from the heap */
+		while (size > 1) {
+			/* Decrease the size of the heap */
+			size--;
+			/* Swap the root of the max heap with the element just beyond the size of the heap. */
+			long tmp = arr[start];
+			arr[start] = arr[start + size];
+			arr[start + size] = tmp;
+			/* Reestablish the heap property */
+			sift(arr, start, 0, size);
+		}
+	}
+
+	/**
+	 * Sifts the element at the specified node down the heap until it is no smaller than its children.
+	 * 
+	 * @param arr
+	 *            Array holding the heap
+	 * @param start
+	 *            The offset of the root of the heap in the array
+	 * @param index
+	 *            The node to sift down, relative to start
+	 * @param size
+	 *            The number of elements in the heap
+	 */
+	protected void sift(long[] arr, int start, int index, int size) {
+		long bubble = arr[start + index];
+		int child;
+		while ((child = 2 * index + 1) < size) {
+			if (child + 1 < size && arr[start + child] < arr[start + child + 1]) {
+				child++;
+			}
+			if (!(bubble < arr[start + child])) {
+				break;
+			}
+			arr[start + index] = arr[start + child];
+			index = child;
+		}
+		arr[start + index] = bubble;
+	}
+
+	@Override
+	protected void sortImplementation(float[] arr, int start, int end, int recursionDepth, int originalLength) {
+		int size = end - start;
+		/* Establish the initial heap property */
+		for (int i = (size >>> 1) - 1; i >= 0; i--) {
+			sift(arr, start, i, size);
+		}
+		/* Sequential remove elements from the heap */
+		while (size > 1) {
+			/* Decrease the size of the heap */
+			size--;
+			/* Swap the root of the max heap with the element just beyond the size of the heap. */
+			float tmp = arr[start];
+			arr[start] = arr[start + size];
+			arr[start + size] = tmp;
+			/* Reestablish the heap property */
+			sift(arr, start, 0, size);
+		}
+	}
+
+	/**
+	 * Sifts the element at the specified node down the heap until it is no smaller than its children.
+	 * 
+	 * @param arr
+	 *            Array holding the heap
+	 * @param start
+	 *            The offset of the root of the heap in the array
+	 * @param index
+	 *            The node to sift down, relative to start
+	 * @param size
+	 *            The number of elements in the heap
+	 */
+	protected void sift(float[] arr, int start, int index, int size) {
+		float bubble = arr[start + index];
+		int child;
+		while ((child = 2 * index + 1) < size) {
+			if (child + 1 < size && compare(arr[start + child], arr[start + child + 1]) < 0) {
+				child++;
+			}
+			if (!(compare(bubble, arr[start + child]) < 0)) {
+				break;
+			}
+			arr[start + index] = arr[start + child];
+			index = child;
+		}
+		arr[start + index] = bubble;
+	}
+
+	@Override
+	protected void sortImplementation(double[] arr, int start, int end, int recursionDepth, int originalLength) {
+		int size = end - start;
+		/* Establish the initial heap property */
+		for (int i = (size >>> 1) - 1; i >= 0; i--) {
+			sift(arr, start, i, size);
+		}
+		/* Sequential remove elements from the heap */
+		while (size > 1) {
+			/* Decrease the size of the heap */
+			size--;
+			/* Swap the root of the max heap with the element just beyond the size of the heap. */
+			double tmp = arr[start];
+			arr[start] = arr[start + size];
+			arr[start + size] = tmp;
+			/* Reestablish the heap property */
+			sift(arr, start, 0, size);
+		}
+	}
+
+	/**
+	 * Sifts the element at the specified node down the heap until it is no smaller than its children.
+	 * 
+	 * @param arr
+	 *            Array holding the heap
+	 * @param start
+	 *            The offset of the root of the heap in the array
+	 * @param index
+	 *            The node to sift down, relative to start
+	 * @param size
+	 *            The number of elements in the heap
+	 */
+	protected void sift(double[] arr, int start, int index, int size) {
+		double bubble = arr[start + index];
+		int child;
+		while ((child = 2 * index + 1) < size) {
+			if (child + 1 < size && compare(arr[start + child], arr[start + child + 1]) < 0) {
+				child++;
+			}
+			if (!(compare(bubble, arr[start + child]) < 0)) {
+				break;
+			}
+			arr[start + index] = arr[start + child];
+			index = child;
+		}
+		arr[start + index] = bubble;
+	}
+
+}
@@ -0,0 +1,121 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import com.jeffreymanzione.sorting.AbstractPrimitiveSort;
+
+/**
+ * PrimitiveInsertionSort.java
+ * 
+ * Binary Insertion sort implementation for primitive arrays. It is the primitive counterpart of {@link InsertionSort}:
+ * a sorted portion is maintained on the left side and elements are sequentially inserted into their sorted position,
+ * found via a binary search of the sorted portion. Equal elements keep their relative order.
+ * 
+ * Text diagram: [ sorted | x | unsorted ]
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see InsertionSort
+ */
+public class PrimitiveInsertionSort extends AbstractPrimitiveSort {
+
+	@Override
+	protected void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength) {
+		if (end - start > 1) {
+			int tmp;
+			for (int i = start + 1; i < end; i++) {
+				tmp = arr[i];
+
+				int rangeStart = start, rangeEnd = i;
+				int mid;
+
+				while (rangeStart < rangeEnd) {
+					mid = (rangeStart + rangeEnd) >>> 1;
+					if (tmp >= arr[mid]) {
+						rangeStart = mid + 1;
+					} else {
+						rangeEnd = mid;
+					}
+				}
+
+				System.arraycopy(arr, rangeEnd, arr, rangeEnd + 1, i - rangeEnd);
+				arr[rangeEnd] = tmp;
+			}
+		}
+	}
+
+	@Override
+	protected void sortImplementation(long[] arr, int start, int end, int recursionDepth, int originalLength) {
+		if (end - start > 1) {
+			long tmp;
+			for (int i = start + 1; i < end; i++) {
+				tmp = arr[i];
+
+				int rangeStart = start, rangeEnd = i;
+				int mid;
+
+				while (rangeStart < rangeEnd) {
+					mid = (rangeStart + rangeEnd) >>> 1;
+					if (tmp >= arr[mid]) {
+						rangeStart = mid + 1;
+					} else {
+						rangeEnd = mid;
+					}
+				}
+
+				System.arraycopy(arr, rangeEnd, arr, rangeEnd + 1, i - rangeEnd);
+				arr[rangeEnd] = tmp;
+			}
+		}
+	}
+
+	@Override
+	protected void sortImplementation(float[] arr, int start, int end, int recursionDepth, int originalLength) {
+		if (end - start > 1) {
+			float tmp;
+			for (int i = start + 1; i < end; i++) {
+				tmp = arr[i];
+
+				int rangeStart = start, rangeEnd = i;
+				int mid;
+
+				while (rangeStart < rangeEnd) {
+					mid = (rangeStart + rangeEnd) >>> 1;
+					if (compare(tmp, arr[mid]) >= 0) {
+						rangeStart = mid + 1;
+					} else {
+						rangeEnd = mid;
+					}
+				}
+
+				System.arraycopy(arr, rangeEnd, arr, rangeEnd + 1, i - rangeEnd);
+				arr[rangeEnd] = tmp;
+			}
+		}
+	}
+
+	@Override
+	protected void sortImplementation(double[] arr, int start, int end, int recursionDepth, int originalLength) {
+		if (end - start > 1) {
+			double tmp;
+			for (int i = start + 1; i < end; i++) {
+				tmp = arr[i];
+
+				int rangeStart = start, rangeEnd = i;
+				int mid;
+
+				while (rangeStart < rangeEnd) {
+					mid = (rangeStart + rangeEnd) >>> 1;
+					if (compare(tmp, arr[mid]) >= 0) {
+						rangeStart = mid + 1;
+					} else {
+						rangeEnd = mid;
+					}
+				}
+
+				System.arraycopy(arr, rangeEnd, arr, rangeEnd + 1, i - rangeEnd);
+				arr[rangeEnd] = tmp;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,267 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import com.jeffreymanzione.sorting.AbstractParallelPrimitiveSort;
+import com.jeffreymanzione.sorting.Partition;
+
+/**
+ * PrimitiveIntrosort.java
+ * 
+ * Introsort implementation for primitive arrays. It is the primitive counterpart of {@link Introsort}: ranges are
+ * quicksorted until the recursion depth reaches 2*floor(log2(n)), at which point they are heapsorted, and ranges of
+ * fewer elements than the leaf threshold, 16 by default, are sorted with the leaf sort: binary insertion sort by
+ * default, or a sorting network, see {@link #setLeafSort(LeafSort)}. Guarantees O(nlogn) performance.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see Introsort
+ */
+public class PrimitiveIntrosort extends AbstractParallelPrimitiveSort {
+
+	/* Private fields */
+	private final PrimitiveInsertionSort insertionSort = new PrimitiveInsertionSort();
+	private final PrimitiveHeapsort heapsort = new PrimitiveHeapsort();
+	private final PrimitiveQuicksort quicksort = new PrimitiveQuicksort();
+	private final PrimitiveNetworkSort networkSort = new PrimitiveNetworkSort();
+
+	private volatile LeafSort leafSort = LeafSort.INSERTION_SORT;
+	private volatile int leafThreshold = Introsort.DEFAULT_LEAF_THRESHOLD;
+
+	/**
+	 * Sets the sort applied to the ranges smaller than the leaf threshold.
+	 * 
+	 * @param leafSort
+	 *            The leaf sort. By default {@link LeafSort#INSERTION_SORT}.
+	 */
+	public void setLeafSort(LeafSort leafSort) {
+		this.leafSort = leafSort;
+	}
+
+	/**
+	 * Gets the sort applied to the ranges smaller than the leaf threshold.
+	 * 
+	 * @return The leaf sort.
+	 */
+	public LeafSort getLeafSort() {
+		return leafSort;
+	}
+
+	/**
+	 * Sets the leaf threshold. Ranges with fewer elements are sorted with the leaf sort rather than partitioned.
+	 * 
+	 * @param leafThreshold
+	 *            The leaf threshold. By default {@link Introsort#DEFAULT_LEAF_THRESHOLD}.
+	 */
+	public void setLeafThreshold(int leafThreshold) {
+		this.leafThreshold = leafThreshold;
+	}
+
+	/**
+	 * Gets the leaf threshold.
+	 * 
+	 * @return The leaf threshold.
+	 */
+	public int getLeafThreshold() {
+		return leafThreshold;
+	}
+
+	/**
+	 * The recursion depth at which a range is heapsorted instead of quicksorted.
+	 * 
+	 * @param originalLength
+	 *            The original length of the array to be sorted.
+	 * @return 2*floor(log2(originalLength))
+	 */
+	protected static int recursionDepthThreshold(int originalLength) {
+		return 2 * (31 - Integer.numberOfLeadingZeros(originalLength));
+	}
+
+	@Override
+	protected void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		if (end - start > 1) {
+			/*
+			 * Sort the range with the leaf sort if it is under the leaf threshold.
+			 */
+			if (end - start < this.leafThreshold) {
+				if (this.leafSort == LeafSort.SORTING_NETWORK) {
+					networkSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+				} else {
+					insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+				}
+			}
+			/*
+			 * Heapsort if the recursion depth has reached the threshold.
+			 */
+			else if (recursionDepth >= recursionDepthThreshold(originalLength)) {
+				heapsort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+			}
+			/*
+			 * Otherwise use the partition method from quicksort and quicksort the elements.
+			 */
+			else {
+				if (isParallel) {
+					this.checkCancelled();
+				}
+				long bounds = quicksort.partition(arr, start, end - 1);
+				int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+
+				if (end - upperStart > getParallelThreshold()) {
+					this.subsort(arr, upperStart, end, recursionDepth + 1, originalLength, isParallel);
+				}
+
+				if (lowerEnd - start > getParallelThreshold()) {
+					this.subsort(arr, start, lowerEnd, recursionDepth + 1, originalLength, isParallel);
+				} else {
+					this.sortImplementation(arr, start, lowerEnd, recursionDepth + 1, originalLength);
+				}
+
+				if (end - upperStart <= getParallelThreshold()) {
+					this.sortImplementation(arr, upperStart, end, recursionDepth + 1, originalLength);
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void sortImplementation(long[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		if (end - start > 1) {
+			/*
+			 * Sort the range with the leaf sort if it is under the leaf threshold.
+			 */
+			if (end - start < this.leafThreshold) {
+				if (this.leafSort == LeafSort.SORTING_NETWORK) {
+					networkSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+				} else {
+					insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+				}
+			}
+			/*
+			 * Heapsort if the recursion depth has reached the threshold.
+			 */
+			else if (recursionDepth >= recursionDepthThreshold(originalLength)) {
+				heapsort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+			}
+			/*
+			 * Otherwise use the partition method from quicksort and quicksort the elements.
+			 */
+			else {
+				if (isParallel) {
+					this.checkCancelled();
+				}
+				long bounds = quicksort.partition(arr, start, end - 1);
+				int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+
+				if (end - upperStart > getParallelThreshold()) {
+					this.subsort(arr, upperStart, end, recursionDepth + 1, originalLength, isParallel);
+				}
+
+				if (lowerEnd - start > getParallelThreshold()) {
+					this.subsort(arr, start, lowerEnd, recursionDepth + 1, originalLength, isParallel);
+				} else {
+					this.sortImplementation(arr, start, lowerEnd, recursionDepth + 1, originalLength);
+				}
+
+				if (end - upperStart <= getParallelThreshold()) {
+					this.sortImplementation(arr, upperStart, end, recursionDepth + 1, originalLength);
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void sortImplementation(float[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		if (end - start > 1) {
+			/*
+			 * Sort the range with the leaf sort if it is under the leaf threshold.
+			 */
+			if (end - start < this.leafThreshold) {
+				if (this.leafSort == LeafSort.SORTING_NETWORK) {
+					networkSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+				} else {
+					insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+				}
+			}
+			/*
+			 * Heapsort if the recursion depth has reached the threshold.
+			 */
+			else if (recursionDepth >= recursionDepthThreshold(originalLength)) {
+				heapsort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+			}
+			/*
+			 * Otherwise use the partition method from quicksort and quicksort the elements.
+			 */
+			else {
+				if (isParallel) {
+					this.checkCancelled();
+				}
+				long bounds = quicksort.partition(arr, start, end - 1);
+				int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+
+				if (end - upperStart > getParallelThreshold()) {
+					this.subsort(arr, upperStart, end, recursionDepth + 1, originalLength, isParallel);
+				}
+
+				if (lowerEnd - start > getParallelThreshold()) {
+					this.subsort(arr, start, lowerEnd, recursionDepth + 1, originalLength, isParallel);
+				} else {
+					this.sortImplementation(arr, start, lowerEnd, recursionDepth + 1, originalLength);
+				}
+
+				if (end - upperStart <= getParallelThreshold()) {
+					this.sortImplementation(arr, upperStart, end, recursionDepth + 1, originalLength);
+				}
+			}
+		}
+	}
+
+	@Override
+	protected void sortImplementation(double[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		if (end - start > 1) {
+			/*
+			 * Sort the range with the leaf sort if it is under the leaf threshold.
+			 */
+			if (end - start < this.leafThreshold) {
+				if (this.leafSort == LeafSort.SORTING_NETWORK) {
+					networkSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+				} else {
+					insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+				}
+			}
+			/*
+			 * Heapsort if the recursion depth has reached the threshold.
+			 */
+			else if (recursionDepth >= recursionDepthThreshold(originalLength)) {
+				heapsort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+			}
+			/*
+			 * Otherwise use the partition method from quicksort and quicksort the elements.
+			 */
+			else {
+				if (isParallel) {
+					this.checkCancelled();
+				}
+				long bounds = quicksort.partition(arr, start, end - 1);
+				int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+
+				if (end - upperStart > getParallelThreshold()) {
+					this.subsort(arr, upperStart, end, recursionDepth + 1, originalLength, isParallel);
+				}
+
+				if (lowerEnd - start > getParallelThreshold()) {
+					this.subsort(arr, start, lowerEnd, recursionDepth + 1, originalLength, isParallel);
+				} else {
+					this.sortImplementation(arr, start, lowerEnd, recursionDepth + 1, originalLength);
+				}
+
+				if (end - upperStart <= getParallelThreshold()) {
+					this.sortImplementation(arr, upperStart, end, recursionDepth + 1, originalLength);
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import com.jeffreymanzione.sorting.AbstractPrimitiveSort;
+
+/**
+ * PrimitiveNetworkSort.java
+ * 
+ * Sorting network implementation for primitive arrays. It is the primitive counterpart of {@link NetworkSort}: ranges
+ * of up to 32 elements are sorted by a fixed sequence of compare-exchanges, larger ranges are insertion sorted.
+ * 
+ * The compare-exchanges of ints and longs are branch-free: each pair is replaced by its {@link Math#min(int, int)} and
+ * {@link Math#max(int, int)}, which compile to conditional moves. Those of floats and doubles select both results from
+ * a single comparison in the total order of {@link Double#compare(double, double)}, since min and max would
+ * duplicate NaNs.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see NetworkSort
+ */
+public class PrimitiveNetworkSort extends AbstractPrimitiveSort {
+
+	private final PrimitiveInsertionSort insertionSort = new PrimitiveInsertionSort();
+
+	@Override
+	protected void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength) {
+		int length = end - start;
+		if (length > SortingNetworks.MAX_SIZE) {
+			insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+		} else if (length > 1) {
+			int[] network = SortingNetworks.network(length);
+			for (int c = 0; c < network.length; c += 2) {
+				int i = start + network[c], j = start + network[c + 1];
+				int a = arr[i], b = arr[j];
+				arr[i] = Math.min(a, b);
+				arr[j] = Math.max(a, b);
+			}
+		}
+	}
+
+	@Override
+	protected void sortImplementation(long[] arr, int start, int end, int recursionDepth, int originalLength) {
+		int length = end - start;
+		if (length > SortingNetworks.MAX_SIZE) {
+			insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+		} else if (length > 1) {
+			int[] network = SortingNetworks.network(length);
+			for (int c = 0; c < network.length; c += 2) {
+				int i = start + network[c], j = start + network[c + 1];
+				long a = arr[i], b = arr[j];
+				arr[i] = Math.min(a, b);
+				arr[j] = Math.max(a, b);
+			}
+		}
+	}
+
+	@Override
+	protected void sortImplementation(float[] arr, int start, int end, int recursionDepth, int originalLength) {
+		int length = end - start;
+		if (length > SortingNetworks.MAX_SIZE) {
+			insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+		} else if (length > 1) {
+			int[] network = SortingNetworks.network(length);
+			for (int c = 0; c < network.length; c += 2) {
+				int i = start + network[c], j = start + network[c + 1];
+				float a = arr[i], b = arr[j];
+				boolean exchange = compare(a, b) > 0;
+				arr[i] = exchange ? b : a;
+				arr[j] = exchange ? a : b;
+			}
+		}
+	}
+
+	@Override
+	protected void sortImplementation(double[] arr, int start, int end, int recursionDepth, int originalLength) {
+		int length = end - start;
+		if (length > SortingNetworks.MAX_SIZE) {
+			insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, originalLength);
+		} else if (length > 1) {
+			int[] network = SortingNetworks.network(length);
+			for (int c = 0; c < network.length; c += 2) {
+				int i = start + network[c], j = start + network[c + 1];
+				double a = arr[i], b = arr[j];
+				boolean exchange = compare(a, b) > 0;
+				arr[i] = exchange ? b : a;
+				arr[j] = exchange ? a : b;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,269 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import com.jeffreymanzione.sorting.AbstractParallelPrimitiveSort;
+import com.jeffreymanzione.sorting.Partition;
+
+/**
+ * PrimitiveQuicksort.java
+ * 
+ * Quicksort implementation for primitive arrays. It is the primitive counterpart of {@link Quicksort} and, like it, is
+ * a parallel sort. The middle element of the range is selected as a pivot and the range is partitioned around it. Both
+ * partitions are then quicksorted, in parallel if they are larger than the parallel threshold. The bounds of the
+ * partitions are packed into a single long, see {@link Partition}, so that partitioning allocates nothing.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see Quicksort
+ */
+public class PrimitiveQuicksort extends AbstractParallelPrimitiveSort {
+
+	@Override
+	protected void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		if (end - start > 1) {
+			if (isParallel) {
+				this.checkCancelled();
+			}
+			long bounds = partition(arr, start, end - 1);
+			int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+
+			if (end - upperStart > getParallelThreshold()) {
+				this.subsort(arr, upperStart, end, recursionDepth + 1, originalLength, isParallel);
+			}
+
+			if (lowerEnd - start > getParallelThreshold()) {
+				this.subsort(arr, start, lowerEnd, recursionDepth + 1, originalLength, isParallel);
+			} else {
+				this.sortImplementation(arr, start, lowerEnd, recursionDepth + 1, originalLength);
+			}
+
+			if (end - upperStart <= getParallelThreshold()) {
+				this.sortImplementation(arr, upperStart, end, recursionDepth + 1, originalLength);
+			}
+		}
+	}
+
+	/**
+	 * Partitions the range around its middle element. Afterwards every element before the lower end is no greater
+	 * than the pivot, and every element from the upper start on is no smaller than the pivot.
+	 * 
+	 * @param arr
+	 *            The array to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param last
+	 *            The end of the range inclusive
+	 * @return The bounds of the two partitions, packed as described by {@link Partition}.
+	 */
+	protected long partition(int[] arr, int start, int last) {
+		int pivot = arr[start + ((last - start) >>> 1)];
+		int left = start;
+		int right = last;
+
+		while (left <= right) {
+			while (arr[left] < pivot) {
+				left++;
+			}
+			while (arr[right] > pivot) {
+				right--;
+			}
+			if (left <= right) {
+				int tmp = arr[left];
+				arr[left] = arr[right];
+				arr[right] = tmp;
+				left++;
+				right--;
+			}
+		}
+
+		return Partition.bounds(right + 1, left);
+	}
+
+	@Override
+	protected void sortImplementation(long[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		if (end - start > 1) {
+			if (isParallel) {
+				this.checkCancelled();
+			}
+			long bounds = partition(arr, start, end - 1);
+			int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+
+			if (end - upperStart > getParallelThreshold()) {
+				this.subsort(arr, upperStart, end, recursionDepth + 1, originalLength, isParallel);
+			}
+
+			if (lowerEnd - start > getParallelThreshold()) {
+				this.subsort(arr, start, lowerEnd, recursionDepth + 1, originalLength, isParallel);
+			} else {
+				this.sortImplementation(arr, start, lowerEnd, recursionDepth + 1, originalLength);
+			}
+
+			if (end - upperStart <= getParallelThreshold()) {
+				this.sortImplementation(arr, upperStart, end, recursionDepth + 1, originalLength);
+			}
+		}
+	}
+
+	/**
+	 * Partitions the range around its middle element. Afterwards every element before the lower end is no greater
+	 * than the pivot, and every element from the upper start on is no smaller than the pivot.
+	 * 
+	 * @param arr
+	 *            The array to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param last
+	 *            The end of the range inclusive
+	 * @return The bounds of the two partitions, packed as described by {@link Partition}.
+	 */
+	protected long partition(long[] arr, int start, int last) {
+		long pivot = arr[start + ((last - start) >>> 1)];
+		int left = start;
+		int right = last;
+
+		while (left <= right) {
+			while (arr[left] < pivot) {
+				left++;
+			}
+			while (arr[right] > pivot) {
+				right--;
+			}
+			if (left <= right) {
+				long tmp = arr[left];
+				arr[left] = arr[right];
+				arr[right] = tmp;
+				left++;
+				right--;
+			}
+		}
+
+		return Partition.bounds(right + 1, left);
+	}
+
+	@Override
+	protected void sortImplementation(float[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		if (end - start > 1) {
+			if (isParallel) {
+				this.checkCancelled();
+			}
+			long bounds = partition(arr, start, end - 1);
+			int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+
+			if (end - upperStart > getParallelThreshold()) {
+				this.subsort(arr, upperStart, end, recursionDepth + 1, originalLength, isParallel);
+			}
+
+			if (lowerEnd - start > getParallelThreshold()) {
+				this.subsort(arr, start, lowerEnd, recursionDepth + 1, originalLength, isParallel);
+			} else {
+				this.sortImplementation(arr, start, lowerEnd, recursionDepth + 1, originalLength);
+			}
+
+			if (end - upperStart <= getParallelThreshold()) {
+				this.sortImplementation(arr, upperStart, end, recursionDepth + 1, originalLength);
+			}
+		}
+	}
+
+	/**
+	 * Partitions the range around its middle element. Afterwards every element before the lower end is no greater
+	 * than the pivot, and every element from the upper start on is no smaller than the pivot.
+	 * 
+	 * @param arr
+	 *            The array to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param last
+	 *            The end of the range inclusive
+	 * @return The bounds of the two partitions, packed as described by {@link Partition}.
+	 */
+	protected long partition(float[] arr, int start, int last) {
+		float pivot = arr[start + ((last - start) >>> 1)];
+		int left = start;
+		int right = last;
+
+		while (left <= right) {
+			while (compare(arr[left], pivot) < 0) {
+				left++;
+			}
+			while (compare(arr[right], pivot) > 0) {
+				right--;
+			}
+			if (left <= right) {
+				float tmp = arr[left];
+				arr[left] = arr[right];
+				arr[right] = tmp;
+				left++;
+				right--;
+			}
+		}
+
+		return Partition.bounds(right + 1, left);
+	}
+
+	@Override
+	protected void sortImplementation(double[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		if (end - start > 1) {
+			if (isParallel) {
+				this.checkCancelled();
+			}
+			long bounds = partition(arr, start, end - 1);
+			int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+
+			if (end - upperStart > getParallelThreshold()) {
+				this.subsort(arr, upperStart, end, recursionDepth + 1, originalLength, isParallel);
+			}
+
+			if (lowerEnd - start > getParallelThreshold()) {
+				this.subsort(arr, start, lowerEnd, recursionDepth + 1, originalLength, isParallel);
+			} else {
+				this.sortImplementation(arr, start, lowerEnd, recursionDepth + 1, originalLength);
+			}
+
+			if (end - upperStart <= getParallelThreshold()) {
+				this.sortImplementation(arr, upperStart, end, recursionDepth + 1, originalLength);
+			}
+		}
+	}
+
+	/**
+	 * Partitions the range around its middle element. Afterwards every element before the lower end is no greater
+	 * than the pivot, and every element from the upper start on is no smaller than the pivot.
+	 * 
+	 * @param arr
+	 *            The array to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param last
+	 *            The end of the range inclusive
+	 * @return The bounds of the two partitions, packed as described by {@link Partition}.
+	 */
+	protected long partition(double[] arr, int start, int last) {
+		double pivot = arr[start + ((last - start) >>> 1)];
+		int left = start;
+		int right = last;
+
+		while (left <= right) {
+			while (compare(arr[left], pivot) < 0) {
+				left++;
+			}
+			while (compare(arr[right], pivot) > 0) {
+				right--;
+			}
+			if (left <= right) {
+				double tmp = arr[left];
+				arr[left] = arr[right];
+				arr[right] = tmp;
+				left++;
+				right--;
+			}
+		}
+
+		return Partition.bounds(right + 1, left);
+	}
+
+}
@@ -0,0 +1,225 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.IntConsumer;
+
+import com.jeffreymanzione.sorting.AbstractParallelPrimitiveSort;
+
+/**
+ * PrimitiveRadixSort.java
+ * 
+ * Least significant digit radix sort for int and long arrays. The keys are sorted one byte at a time, from the least
+ * significant to the most significant, with one counting pass and one stable scatter pass per byte between the array
+ * and a buffer of the same length. The sign bit is flipped when extracting digits so that negative values order before
+ * positive ones. A byte which is the same for every element is skipped, so keys spanning a narrow range cost fewer
+ * passes. Performs in O(n) time for a fixed key width and uses O(n) extra space.
+ * 
+ * In parallel, the range is split in chunks whose histograms are counted concurrently. The histograms are then
+ * combined so that every chunk owns a disjoint slice of every bucket, and the chunks are scattered concurrently. The
+ * result is the same as the serial sort. The sort checks whether its invocation was cancelled or failed before every
+ * digit.
+ * 
+ * Ranges of fewer than {@link #RADIX_THRESHOLD} elements, as well as float and double arrays, are sorted with
+ * {@link PrimitiveIntrosort}.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see AmericanFlagSort
+ */
+public class PrimitiveRadixSort extends AbstractParallelPrimitiveSort {
+
+	/**
+	 * Ranges with fewer elements than this are sorted with {@link PrimitiveIntrosort}.
+	 */
+	public static final int RADIX_THRESHOLD = 4_096;
+
+	private static final int DIGIT_BITS = 8;
+	private static final int RADIX = 1 << DIGIT_BITS;
+	private static final int DIGIT_MASK = RADIX - 1;
+
+	/* Private fields */
+	private final PrimitiveIntrosort introsort = new PrimitiveIntrosort();
+
+	@Override
+	protected void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		int length = end - start;
+		if (length < RADIX_THRESHOLD) {
+			introsort.sortImplementation(arr, start, end, recursionDepth, originalLength, false);
+			return;
+		}
+
+		int chunks = isParallel ? this.chunks(length) : 1;
+		int[][] counts = new int[chunks][RADIX];
+		int[] buffer = new int[length];
+
+		int[] src = arr, dst = buffer;
+		int srcStart = start, dstStart = 0;
+		for (int shift = 0; shift < Integer.SIZE; shift += DIGIT_BITS) {
+			/* The passes run within a single subsort, so they check for cancellation themselves. */
+			this.checkCancelled();
+			final int[] from = src, to = dst;
+			final int fromStart = srcStart, toStart = dstStart, digitShift = shift;
+
+			this.forEachChunk(chunks, chunk -> {
+				int[] count = counts[chunk];
+				Arrays.fill(count, 0);
+				int chunkEnd = fromStart + chunkStart(chunk + 1, chunks, length);
+				for (int i = fromStart + chunkStart(chunk, chunks, length); i < chunkEnd; i++) {
+					count[digit(from[i], digitShift)]++;
+				}
+			});
+			if (!offsets(counts, toStart, length)) {
+				continue;
+			}
+			this.forEachChunk(chunks, chunk -> {
+				int[] offset = counts[chunk];
+				int chunkEnd = fromStart + chunkStart(chunk + 1, chunks, length);
+				for (int i = fromStart + chunkStart(chunk, chunks, length); i < chunkEnd; i++) {
+					to[offset[digit(from[i], digitShift)]++] = from[i];
+				}
+			});
+
+			src = to;
+			dst = from;
+			srcStart = toStart;
+			dstStart = fromStart;
+		}
+
+		if (src != arr) {
+			System.arraycopy(src, srcStart, arr, start, length);
+		}
+	}
+
+	@Override
+	protected void sortImplementation(long[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		int length = end - start;
+		if (length < RADIX_THRESHOLD) {
+			introsort.sortImplementation(arr, start, end, recursionDepth, originalLength, false);
+			return;
+		}
+
+		int chunks = isParallel ? this.chunks(length) : 1;
+		int[][] counts = new int[chunks][RADIX];
+		long[] buffer = new long[length];
+
+		long[] src = arr, dst = buffer;
+		int srcStart = start, dstStart = 0;
+		for (int shift = 0; shift < Long.SIZE; shift += DIGIT_BITS) {
+			/* The passes run within a single subsort, so they check for cancellation themselves. */
+			this.checkCancelled();
+			final long[] from = src, to = dst;
+			final int fromStart = srcStart, toStart = dstStart, digitShift = shift;
+
+			this.forEachChunk(chunks, chunk -> {
+				int[] count = counts[chunk];
+				Arrays.fill(count, 0);
+				int chunkEnd = fromStart + chunkStart(chunk + 1, chunks, length);
+				for (int i = fromStart + chunkStart(chunk, chunks, length); i < chunkEnd; i++) {
+					count[digit(from[i], digitShift)]++;
+				}
+			});
+			if (!offsets(counts, toStart, length)) {
+				continue;
+			}
+			this.forEachChunk(chunks, chunk -> {
+				int[] offset = counts[chunk];
+				int chunkEnd = fromStart + chunkStart(chunk + 1, chunks, length);
+				for (int i = fromStart + chunkStart(chunk, chunks, length); i < chunkEnd; i++) {
+					to[offset[digit(from[i], digitShift)]++] = from[i];
+				}
+			});
+
+			src = to;
+			dst = from;
+			srcStart = toStart;
+			dstStart = fromStart;
+		}
+
+		if (src != arr) {
+			System.arraycopy(src, srcStart, arr, start, length);
+		}
+	}
+
+	@Override
+	protected void sortImplementation(float[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		introsort.sortImplementation(arr, start, end, recursionDepth, originalLength, false);
+	}
+
+	@Override
+	protected void sortImplementation(double[] arr, int start, int end, int recursionDepth, int originalLength,
+			boolean isParallel) {
+		introsort.sortImplementation(arr, start, end, recursionDepth, originalLength, false);
+	}
+
+	private static int digit(int value, int shift) {
+		return ((value ^ Integer.MIN_VALUE) >>> shift) & DIGIT_MASK;
+	}
+
+	private static int digit(long value, int shift) {
+		return (int) ((value ^ Long.MIN_VALUE) >>> shift) & DIGIT_MASK;
+	}
+
+	/**
+	 * @return The number of chunks a parallel pass over the range is split in: one per parallel threshold elements, but
+	 *         no more than four per thread of the pool.
+	 */
+	private int chunks(int length) {
+		int perThreshold = length / Math.max(1, getParallelThreshold());
+		return Math.max(1, Math.min(perThreshold, 4 * getPool().getParallelism()));
+	}
+
+	private static int chunkStart(int chunk, int chunks, int length) {
+		return (int) ((long) chunk * length / chunks);
+	}
+
+	/**
+	 * Replaces the histogram of every chunk with the index at which the chunk scatters its first element of each
+	 * bucket. Buckets are laid out in order of digit and, within a bucket, the chunks in order, which keeps the scatter
+	 * stable.
+	 * 
+	 * @return False if every element falls in the same bucket, in which case the pass can be skipped.
+	 */
+	private static boolean offsets(int[][] counts, int start, int length) {
+		int offset = start;
+		for (int digit = 0; digit < RADIX; digit++) {
+			int bucketStart = offset;
+			for (int[] count : counts) {
+				int c = count[digit];
+				count[digit] = offset;
+				offset += c;
+			}
+			if (offset - bucketStart == length) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Runs the task for every chunk, concurrently on the fork/join pool when there is more than one.
+	 */
+	private void forEachChunk(int chunks, IntConsumer task) {
+		if (chunks == 1) {
+			task.accept(0);
+		} else {
+			List<ForkJoinTask<?>> tasks = new ArrayList<>(chunks);
+			for (int chunk = 0; chunk < chunks; chunk++) {
+				final int c = chunk;
+				tasks.add(ForkJoinTask.adapt(() -> task.accept(c)));
+			}
+			/* A thread helping from outside of the pool would run the chunks on the common pool. */
+			if (ForkJoinTask.getPool() == getPool()) {
+				ForkJoinTask.invokeAll(tasks);
+			} else {
+				getPool().invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+			}
+		}
+	}
+}
@@ -1,164 +1,530 @@
-package com.jeffreymanzione.sorting.sorts;
-
-import com.jeffreymanzione.sorting.AbstractParallelSort;
-
-/**
- * Quicksort.java
- * 
- * Quicksort implementation. As it is written, it is a parallel sort. This sort is by partition. The middle element of
- * the array is selected as a pivot. all elements are compared to the pivot. If {@link #compare(Comparable, Comparable)}
- * {@literal >} 0 the pivot, the element is brought to the left of the pivot. If
- * {@link #compare(Comparable, Comparable)} {@literal <} 0, it goes to the right of the pivot. Once the partition is
- * complete, the two partitioned portions are quicksorted until there only remains one element to be quicksorted. Upper
- * bound is O(n^2) and lower/average is O(nlogn).
- * 
- * @author Jeffrey J. Manzione
- * @version 0.1
- * @since August 23, 2014
- *
- * @param <T>
- *            Parameterized type implements Comparable of that type
- */
-public class Quicksort<T extends Comparable<T>> extends AbstractParallelSort<T> {
-
-	@Override
-	protected void sortImplementation(T[] arr, int start, int end, int recursionDepth, int originalLength,
-			boolean isParallel) {
-		end--;
-		// System.out.println("RANGE=[" + start + "," + end + ")");
-		if (end - start > 0) {
-			Range[] partitions = this.partition(arr, start, end, recursionDepth, originalLength);
-
-			if (partitions != null) {
-
-				Range range1 = partitions[0];
-
-				if (range1.end - range1.start > getParallelThreshold()) {
-					this.subsort(arr, range1.start, range1.end, recursionDepth + 1, originalLength, isParallel);
-				}
-
-				if (partitions.length > 1) {
-					Range range2 = partitions[1];
-					if (range2.end - range2.start > getParallelThreshold()) {
-						this.subsort(arr, range2.start, range2.end, recursionDepth + 1, originalLength, isParallel);
-					} else {
-						this.sortImplementation(arr, range2.start, range2.end, recursionDepth + 1, originalLength);
-					}
-				}
-
-				if (range1.end - range1.start <= getParallelThreshold()) {
-					this.sortImplementation(arr, range1.start, range1.end, recursionDepth + 1, originalLength);
-				}
-			}
-		}
-
-	}
-
-	protected Range[] partition(T[] arr, int start, int end, int recursionDepth, int originalLength) {
-		T pivot = arr[(int) (start + (end - start) / 2)];
-		int left = start;
-		int right = end;
-
-		boolean swapped = false;
-
-		while (left <= right) {
-			while (compare(arr[left], pivot) < 0) {
-				left++;
-			}
-			while (compare(arr[right], pivot) > 0) {
-				right--;
-			}
-			if (left <= right) {
-				T tmp = arr[left];
-				arr[left] = arr[right];
-				arr[right] = tmp;
-				left++;
-				right--;
-				swapped = true;
-			}
-		}
-
-		if (swapped) {
-
-			Range leftPartition = null, rightPartition = null;
-
-			if (end - left == 1) {
-				if (compare(arr[left], arr[end]) > 0) {
-					T tmp = arr[left];
-					arr[left] = arr[end];
-					arr[end] = tmp;
-				}
-			} else if (end - left == 2) {
-				if (compare(arr[left], arr[left + 1]) > 0) {
-					T tmp = arr[left];
-					arr[left] = arr[left + 1];
-					arr[left + 1] = tmp;
-				}
-
-				if (compare(arr[left + 1], arr[end]) > 0) {
-					T tmp = arr[left + 1];
-					arr[left + 1] = arr[end];
-					arr[end] = tmp;
-
-					if (compare(arr[left], arr[left + 1]) > 0) {
-						tmp = arr[left];
-						arr[left] = arr[left + 1];
-						arr[left + 1] = tmp;
-					}
-
-				}
-
-			} else {
-				leftPartition = new Range(left, end + 1);
-
-			}
-
-			if (right - start == 1) {
-				if (compare(arr[right], arr[start]) < 0) {
-					T tmp = arr[right];
-					arr[right] = arr[start];
-					arr[start] = tmp;
-				}
-			} else if (right - start == 2) {
-				if (compare(arr[start], arr[start + 1]) > 0) {
-					T tmp = arr[start];
-					arr[start] = arr[start + 1];
-					arr[start + 1] = tmp;
-				}
-
-				if (compare(arr[start + 1], arr[right]) > 0) {
-					T tmp = arr[start + 1];
-					arr[start + 1] = arr[right];
-					arr[right] = tmp;
-
-					if (compare(arr[start], arr[start + 1]) > 0) {
-						tmp = arr[start];
-						arr[start] = arr[start + 1];
-						arr[start + 1] = tmp;
-					}
-				}
-
-			} else {
-				rightPartition = new Range(start, right + 1);
-
-			}
-
-			if (leftPartition != null) {
-				if (rightPartition != null) {
-					return new Range[] { leftPartition, rightPartition };
-				} else {
-					return new Range[] { leftPartition };
-				}
-			} else {
-				if (rightPartition != null) {
-					return new Range[] { rightPartition };
-				} else {
-					return null;
-				}
-			}
-		} else {
-			return null;
-		}
-	}
-
-}
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.Comparator;
+import java.util.function.Consumer;
+
+import com.jeffreymanzione.sorting.AbstractParallelSort;
+import com.jeffreymanzione.sorting.Partition;
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortMetrics;
+import com.jeffreymanzione.sorting.SortableSource;
+import com.jeffreymanzione.sorting.SourceSort;
+
+/**
+ * Quicksort.java
+ * 
+ * Quicksort implementation. As it is written, it is a parallel sort. This sort is by partition. The middle element of
+ * the array is selected as a pivot. all elements are compared to the pivot. If {@link #compare(Comparable, Comparable)}
+ * {@literal >} 0 the pivot, the element is brought to the left of the pivot. If
+ * {@link #compare(Comparable, Comparable)} {@literal <} 0, it goes to the right of the pivot. Once the partition is
+ * complete, the two partitioned portions are quicksorted until there only remains one element to be quicksorted. Upper
+ * bound is O(n^2) and lower/average is O(nlogn).
+ * 
+ * Partitioning allocates nothing: the bounds of the partitions which remain to be sorted are packed into a single long
+ * as described by {@link Partition}. Besides the default Hoare partitioning, three-way and dual-pivot partitioning can
+ * be selected with {@link #setPartitionScheme(PartitionScheme)}; see {@link PartitionScheme}.
+ * 
+ * By default the first partition of a parallel sort runs on a single thread, and parallelism only starts once the
+ * range is split. With {@link #setParallelPartitioning(boolean)}, the whole range of a parallel sort is instead split by
+ * a parallel sample sort step, see {@link #sampleSort(Comparable[], int, int, int, SortContext)}.
+ * 
+ * Ranges are partitioned down to single elements unless a leaf threshold is set with {@link #setLeafThreshold(int)}, in
+ * which case the ranges smaller than the threshold are sorted with the leaf sort instead, see
+ * {@link #setLeafSort(LeafSort)}.
+ * 
+ * A {@link SortableSource} is sorted in place on the calling thread, with Hoare partitioning around a median of three
+ * whatever the partitioning scheme, see {@link #partition(SortableSource, int, int)}.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since August 23, 2014
+ * 
+ * @param <T>
+ *            Parameterized type implements Comparable of that type
+ */
+public class Quicksort<T extends Comparable<T>> extends AbstractParallelSort<T> implements SourceSort {
+
+	private final InsertionSort<T> insertionSort = new InsertionSort<>();
+	private final NetworkSort<T> networkSort = new NetworkSort<>();
+
+	private volatile PartitionScheme partitionScheme;
+	private volatile boolean parallelPartitioning;
+	private volatile LeafSort leafSort = LeafSort.INSERTION_SORT;
+	private volatile int leafThreshold;
+
+	/**
+	 * Default constructor. Uses Hoare partitioning.
+	 * 
+	 * @see PartitionScheme#HOARE
+	 */
+	public Quicksort() {
+		this(PartitionScheme.HOARE);
+	}
+
+	/**
+	 * Constructor which sets the partitioning scheme.
+	 * 
+	 * @param partitionScheme
+	 *            The scheme used to partition the ranges.
+	 */
+	public Quicksort(PartitionScheme partitionScheme) {
+		super();
+		this.partitionScheme = partitionScheme;
+	}
+
+	/**
+	 * Sets the partitioning scheme.
+	 * 
+	 * @param partitionScheme
+	 *            The scheme used to partition the ranges.
+	 */
+	public void setPartitionScheme(PartitionScheme partitionScheme) {
+		this.partitionScheme = partitionScheme;
+	}
+
+	/**
+	 * Gets the partitioning scheme of this instance of Quicksort.
+	 * 
+	 * @return The scheme used to partition the ranges.
+	 */
+	public PartitionScheme getPartitionScheme() {
+		return partitionScheme;
+	}
+
+	/**
+	 * Sets whether the whole range of a parallel sort is split by a parallel sample sort step rather than by a partition
+	 * on a single thread.
+	 * 
+	 * @param parallelPartitioning
+	 *            <b>true</b> to split the range in parallel. By default <b>false</b>.
+	 */
+	public void setParallelPartitioning(boolean parallelPartitioning) {
+		this.parallelPartitioning = parallelPartitioning;
+	}
+
+	/**
+	 * Gets whether the whole range of a parallel sort is split by a parallel sample sort step.
+	 * 
+	 * @return <b>true</b> if the range is split in parallel.
+	 */
+	public boolean isParallelPartitioning() {
+		return parallelPartitioning;
+	}
+
+	/**
+	 * Sets the sort applied to the ranges smaller than the leaf threshold.
+	 * 
+	 * @param leafSort
+	 *            The leaf sort. By default {@link LeafSort#INSERTION_SORT}.
+	 */
+	public void setLeafSort(LeafSort leafSort) {
+		this.leafSort = leafSort;
+	}
+
+	/**
+	 * Gets the sort applied to the ranges smaller than the leaf threshold.
+	 * 
+	 * @return The leaf sort.
+	 */
+	public LeafSort getLeafSort() {
+		return leafSort;
+	}
+
+	/**
+	 * Sets the leaf threshold. Ranges with fewer elements are sorted with the leaf sort rather than partitioned.
+	 * 
+	 * @param leafThreshold
+	 *            The leaf threshold. By default 0, which partitions every range.
+	 */
+	public void setLeafThreshold(int leafThreshold) {
+		this.leafThreshold = leafThreshold;
+	}
+
+	/**
+	 * Gets the leaf threshold.
+	 * 
+	 * @return The leaf threshold.
+	 */
+	public int getLeafThreshold() {
+		return leafThreshold;
+	}
+
+	@Override
+	public void setComparator(Comparator<T> comparator) {
+		super.setComparator(comparator);
+		insertionSort.setComparator(comparator);
+		networkSort.setComparator(comparator);
+	}
+
+	@Override
+	public boolean removeComparator() {
+		insertionSort.removeComparator();
+		networkSort.removeComparator();
+		return super.removeComparator();
+	}
+
+	@Override
+	public void setMetricsListener(Consumer<SortMetrics.Snapshot> metricsListener) {
+		super.setMetricsListener(metricsListener);
+		insertionSort.setMetricsListener(metricsListener);
+		networkSort.setMetricsListener(metricsListener);
+	}
+
+	@Override
+	protected void sortImplementation(T[] arr, int start, int end, int recursionDepth, SortContext context,
+			boolean isParallel) {
+		if (this.parallelPartitioning && this.isSampleSortable(start, end, recursionDepth, isParallel)) {
+			this.sampleSort(arr, start, end, recursionDepth, context);
+			return;
+		}
+		if (end - start < this.leafThreshold) {
+			if (this.leafSort == LeafSort.SORTING_NETWORK) {
+				networkSort.sortImplementation(arr, start, end, recursionDepth + 1, context);
+			} else {
+				SortMetrics metrics = this.metrics();
+				if (metrics != null) {
+					metrics.recordInsertionSortFallback();
+				}
+				insertionSort.sortImplementation(arr, start, end, recursionDepth + 1, context);
+			}
+			return;
+		}
+		end--;
+		// System.out.println("RANGE=[" + start + "," + end + ")");
+		if (end - start > 0) {
+			PartitionScheme scheme = this.partitionScheme;
+			long bounds = this.partition(scheme, arr, start, end, recursionDepth, context);
+			this.sortPartitions(arr, start, end + 1, bounds, this.sortsMiddle(scheme, arr, bounds), recursionDepth,
+					context, isParallel);
+		}
+
+	}
+
+	/**
+	 * Partitions the range with the partitioning scheme of this instance.
+	 * 
+	 * @param arr
+	 *            The array to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range inclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param context
+	 *            The context of the invocation of the sort.
+	 * @return The bounds of the ranges which remain to be sorted, packed as described by {@link Partition}.
+	 */
+	protected long partition(T[] arr, int start, int end, int recursionDepth, SortContext context) {
+		return partition(this.partitionScheme, arr, start, end, recursionDepth, context);
+	}
+
+	/**
+	 * Partitions the range with the specified partitioning scheme.
+	 * 
+	 * @param scheme
+	 *            The partitioning scheme
+	 * @param arr
+	 *            The array to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range inclusive
+	 * @param recursionDepth
+	 *            The number of recurrences of the sort before this iteration.
+	 * @param context
+	 *            The context of the invocation of the sort.
+	 * @return The bounds of the ranges which remain to be sorted, packed as described by {@link Partition}.
+	 */
+	protected long partition(PartitionScheme scheme, T[] arr, int start, int end, int recursionDepth,
+			SortContext context) {
+		context.checkCancelled();
+		switch (scheme) {
+		case THREE_WAY:
+			return partitionThreeWay(arr, start, end);
+		case DUAL_PIVOT:
+			return partitionDualPivot(arr, start, end);
+		default:
+			return partitionHoare(arr, start, end);
+		}
+	}
+
+	/**
+	 * Whether the middle range left by a partition step remains to be sorted. Only dual-pivot partitioning leaves a
+	 * middle range, and it is already sorted when both pivots are equal.
+	 * 
+	 * @param scheme
+	 *            The partitioning scheme of the step
+	 * @param arr
+	 *            The partitioned array
+	 * @param bounds
+	 *            The bounds returned by the partition step
+	 * @return <b>true</b> if the middle range has to be sorted.
+	 */
+	protected boolean sortsMiddle(PartitionScheme scheme, T[] arr, long bounds) {
+		return scheme == PartitionScheme.DUAL_PIVOT
+				&& compare(arr[Partition.lowerEnd(bounds)], arr[Partition.upperStart(bounds) - 1]) != 0;
+	}
+
+	/**
+	 * Partitions the range around its middle element. Afterwards every element of the lower range is no greater than
+	 * the pivot, and every element of the upper range is no smaller than the pivot. A range of two or three elements is
+	 * sorted on the spot and returned empty.
+	 * 
+	 * @param arr
+	 *            The array to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range inclusive
+	 * @return The bounds of the ranges which remain to be sorted, packed as described by {@link Partition}.
+	 */
+	protected long partitionHoare(T[] arr, int start, int end) {
+		T pivot = arr[(int) (start + (end - start) / 2)];
+		int left = start;
+		int right = end;
+
+		boolean swapped = false;
+
+		while (left <= right) {
+			while (compare(arr[left], pivot) < 0) {
+				left++;
+			}
+			while (compare(arr[right], pivot) > 0) {
+				right--;
+			}
+			if (left <= right) {
+				this.swap(arr, left, right);
+				left++;
+				right--;
+				swapped = true;
+			}
+		}
+
+		if (swapped) {
+
+			int lowerEnd = right + 1, upperStart = left;
+
+			if (end - left == 1) {
+				if (compare(arr[left], arr[end]) > 0) {
+					this.swap(arr, left, end);
+				}
+				upperStart = end + 1;
+			} else if (end - left == 2) {
+				if (compare(arr[left], arr[left + 1]) > 0) {
+					this.swap(arr, left, left + 1);
+				}
+
+				if (compare(arr[left + 1], arr[end]) > 0) {
+					this.swap(arr, left + 1, end);
+
+					if (compare(arr[left], arr[left + 1]) > 0) {
+						this.swap(arr, left, left + 1);
+					}
+
+				}
+				upperStart = end + 1;
+			}
+
+			if (right - start == 1) {
+				if (compare(arr[right], arr[start]) < 0) {
+					this.swap(arr, right, start);
+				}
+				lowerEnd = start;
+			} else if (right - start == 2) {
+				if (compare(arr[start], arr[start + 1]) > 0) {
+					this.swap(arr, start, start + 1);
+				}
+
+				if (compare(arr[start + 1], arr[right]) > 0) {
+					this.swap(arr, start + 1, right);
+
+					if (compare(arr[start], arr[start + 1]) > 0) {
+						this.swap(arr, start, start + 1);
+					}
+				}
+				lowerEnd = start;
+			}
+
+			return Partition.bounds(lowerEnd, upperStart);
+		} else {
+			return Partition.bounds(start, end + 1);
+		}
+	}
+
+	/**
+	 * Partitions the range into the elements less than, equal to and greater than its middle element. The elements
+	 * equal to the pivot are left between the lower and upper ranges and need no further sorting.
+	 * 
+	 * @param arr
+	 *            The array to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range inclusive
+	 * @return The bounds of the ranges which remain to be sorted, packed as described by {@link Partition}.
+	 */
+	protected long partitionThreeWay(T[] arr, int start, int end) {
+		T pivot = arr[start + (end - start) / 2];
+		int lt = start, i = start, gt = end;
+
+		/*
+		 * Invariant: [start, lt) < pivot, [lt, i) == pivot, (gt, end] > pivot.
+		 */
+		while (i <= gt) {
+			int cmp = compare(arr[i], pivot);
+			if (cmp < 0) {
+				this.swap(arr, lt, i);
+				lt++;
+				i++;
+			} else if (cmp > 0) {
+				this.swap(arr, gt, i);
+				gt--;
+			} else {
+				i++;
+			}
+		}
+
+		return Partition.bounds(lt, gt + 1);
+	}
+
+	/**
+	 * Partitions the range around two pivots p1 {@literal <=} p2 taken from its first and last thirds. Afterwards p1 is
+	 * at the lower end and p2 just before the upper start, the lower range is less than p1, the upper range is greater
+	 * than p2, and the middle range in between is no less than p1 and no greater than p2.
+	 * 
+	 * @param arr
+	 *            The array to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range inclusive
+	 * @return The bounds of the ranges which remain to be sorted, packed as described by {@link Partition}.
+	 */
+	protected long partitionDualPivot(T[] arr, int start, int end) {
+		int third = (end - start) / 3;
+		this.swap(arr, start, start + third);
+		this.swap(arr, end, end - third);
+		if (compare(arr[start], arr[end]) > 0) {
+			this.swap(arr, start, end);
+		}
+
+		T pivot1 = arr[start], pivot2 = arr[end];
+		int lt = start + 1, i = start + 1, gt = end - 1;
+
+		/*
+		 * Invariant: (start, lt) < pivot1, pivot1 <= [lt, i) <= pivot2, (gt, end) > pivot2.
+		 */
+		while (i <= gt) {
+			if (compare(arr[i], pivot1) < 0) {
+				this.swap(arr, lt, i);
+				lt++;
+			} else if (compare(arr[i], pivot2) > 0) {
+				while (i < gt && compare(arr[gt], pivot2) > 0) {
+					gt--;
+				}
+				this.swap(arr, gt, i);
+				gt--;
+				if (compare(arr[i], pivot1) < 0) {
+					this.swap(arr, lt, i);
+					lt++;
+				}
+			}
+			i++;
+		}
+
+		/* Move the pivots into their final positions. */
+		lt--;
+		gt++;
+		arr[start] = arr[lt];
+		arr[lt] = pivot1;
+		arr[end] = arr[gt];
+		arr[gt] = pivot2;
+
+		return Partition.bounds(lt, gt + 1);
+	}
+
+	@Override
+	public void sort(SortableSource source) {
+		sort(source, 0, source.size());
+	}
+
+	/**
+	 * Sorts the range of the source. The smaller side of every partition is sorted recursively and the larger one
+	 * iteratively, so that the recursion stays O(logn) deep.
+	 */
+	@Override
+	public void sort(SortableSource source, int start, int end) {
+		while (end - start > 1) {
+			if (end - start < this.leafThreshold) {
+				if (this.leafSort == LeafSort.SORTING_NETWORK) {
+					networkSort.sort(source, start, end);
+				} else {
+					insertionSort.sort(source, start, end);
+				}
+				return;
+			}
+			long bounds = this.partition(source, start, end - 1);
+			int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+			if (lowerEnd - start < end - upperStart) {
+				this.sort(source, start, lowerEnd);
+				start = upperStart;
+			} else {
+				this.sort(source, upperStart, end);
+				end = lowerEnd;
+			}
+		}
+	}
+
+	/**
+	 * Partitions the range of a source around the median of its first, middle and last elements. The pivot is kept at
+	 * the start of the range while the rest is partitioned, since the source cannot hold it aside, and is then swapped
+	 * into its final position between the lower and upper ranges. A range of two or three elements is sorted on the
+	 * spot and returned empty.
+	 * 
+	 * @param source
+	 *            The source to partition
+	 * @param start
+	 *            The start of the range inclusive
+	 * @param end
+	 *            The end of the range inclusive
+	 * @return The bounds of the ranges which remain to be sorted, packed as described by {@link Partition}.
+	 */
+	protected long partition(SortableSource source, int start, int end) {
+		int mid = start + (end - start) / 2;
+		if (source.compare(start, mid) > 0) {
+			source.swap(start, mid);
+		}
+		if (source.compare(mid, end) > 0) {
+			source.swap(mid, end);
+			if (source.compare(start, mid) > 0) {
+				source.swap(start, mid);
+			}
+		}
+		if (end - start < 3) {
+			return Partition.bounds(start, end + 1);
+		}
+		source.swap(start, mid);
+
+		/*
+		 * Invariant: (start, left) <= pivot, (right, end] >= pivot. Both scans stop on elements equal to the pivot, so
+		 * that runs of equal elements are split evenly.
+		 */
+		int left = start + 1, right = end;
+		while (true) {
+			while (left <= right && source.compare(left, start) < 0) {
+				left++;
+			}
+			while (left <= right && source.compare(right, start) > 0) {
+				right--;
+			}
+			if (left >= right) {
+				break;
+			}
+			source.swap(left++, right--);
+		}
+		source.swap(start, right);
+		return Partition.bounds(right, right + 1);
+	}
+
+}
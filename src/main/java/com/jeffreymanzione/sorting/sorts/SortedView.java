@@ -0,0 +1,145 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.jeffreymanzione.sorting.Partition;
+import com.jeffreymanzione.sorting.SortContext;
+
+/**
+ * SortedView.java
+ * 
+ * An iterator over a range of an array in sorted order which sorts the range lazily, as an incremental quicksort: each
+ * call to {@link #next()} partitions the range only until the next element is in its final position. The ranges which
+ * remain to be partitioned are kept on a stack of their ends, nearest first, together with whether they are already
+ * sorted, such as the elements equal to a pivot. The first k elements cost O(n + k log k) expected time, and iterating
+ * over the whole range O(n log n), as much as sorting it up front.
+ * 
+ * Ranges of up to {@link #LEAF_SIZE} elements, and ranges which were partitioned more than 2*log2(n) times without
+ * shrinking enough, are sorted at once with Introsort.
+ * 
+ * The view sorts the array in place: every element returned so far is in its final position, the others are in an
+ * arbitrary order after it. The array must not be modified while the view is in use. Views are created by
+ * {@link PartialSort#sortedView(Comparable[], int, int)}, and follow its partitioning scheme and order.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * @see PartialSort
+ * @param <T>
+ *            Parameterized type implements Comparable of that type
+ */
+public final class SortedView<T extends Comparable<T>> implements Iterator<T> {
+
+	/**
+	 * The size up to which a range is sorted at once rather than partitioned.
+	 */
+	public static final int LEAF_SIZE = 16;
+
+	/* Private fields */
+	private final PartialSort<T> sort;
+	private final PartitionScheme scheme;
+	private final SortContext context;
+	private final T[] arr;
+	private final int start, end, maxDepth;
+
+	/* The next element to return. */
+	private int position;
+
+	/* The pending ranges, each from the end of the range above it on the stack (or position) to its own end. */
+	private int[] ends, depths;
+	private boolean[] sorted;
+	private int size;
+
+	SortedView(PartialSort<T> sort, T[] arr, int start, int end, SortContext context) {
+		this.sort = sort;
+		this.scheme = sort.getPartitionScheme();
+		this.context = context;
+		this.arr = arr;
+		this.start = start;
+		this.position = start;
+		this.end = end;
+		this.maxDepth = 2 * (31 - Integer.numberOfLeadingZeros(Math.max(1, end - start)));
+		this.ends = new int[32];
+		this.depths = new int[32];
+		this.sorted = new boolean[32];
+		this.push(end, 0, false);
+	}
+
+	@Override
+	public boolean hasNext() {
+		return position < end;
+	}
+
+	@Override
+	public T next() {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+		this.settle();
+		return arr[position++];
+	}
+
+	/**
+	 * Gets the number of elements returned so far, which are the first elements of the range.
+	 * 
+	 * @return The number of elements returned so far.
+	 */
+	public int consumed() {
+		return position - start;
+	}
+
+	/**
+	 * Partitions the nearest pending range until the element at the position is in its final place.
+	 */
+	private void settle() {
+		while (true) {
+			int top = size - 1, rangeEnd = ends[top];
+			if (rangeEnd == position) {
+				size--;
+				continue;
+			}
+			if (sorted[top] || rangeEnd - position == 1) {
+				return;
+			}
+			int depth = depths[top];
+			if (rangeEnd - position <= LEAF_SIZE || depth >= maxDepth) {
+				sort.introsort(arr, position, rangeEnd);
+				sorted[top] = true;
+				return;
+			}
+			context.checkCancelled();
+			long bounds = sort.partition(scheme, arr, position, rangeEnd - 1, depth, context);
+			int lowerEnd = Partition.lowerEnd(bounds), upperStart = Partition.upperStart(bounds);
+			/* The upper range keeps the entry of the partitioned range. */
+			depths[top] = depth + 1;
+			if (sort.sortsMiddle(scheme, arr, bounds)) {
+				int middleStart = Partition.middleStart(bounds), middleEnd = Partition.middleEnd(bounds);
+				this.push(upperStart, depth + 1, true);
+				this.push(middleEnd, depth + 1, false);
+				this.push(middleStart, depth + 1, true);
+			} else {
+				this.push(upperStart, depth + 1, true);
+			}
+			this.push(lowerEnd, depth + 1, false);
+		}
+	}
+
+	private void push(int rangeEnd, int depth, boolean isSorted) {
+		/* The range below ends where it would start, so it is empty and replaced. */
+		if (size > 0 && rangeEnd == ends[size - 1]) {
+			size--;
+		}
+		if (size == ends.length) {
+			ends = Arrays.copyOf(ends, 2 * size);
+			depths = Arrays.copyOf(depths, 2 * size);
+			sorted = Arrays.copyOf(sorted, 2 * size);
+		}
+		ends[size] = rangeEnd;
+		depths[size] = depth;
+		sorted[size] = isSorted;
+		size++;
+	}
+
+}
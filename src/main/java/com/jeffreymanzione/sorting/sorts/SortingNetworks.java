@@ -0,0 +1,71 @@
+package com.jeffreymanzione.sorting.sorts;
+
+/**
+ * SortingNetworks.java
+ * 
+ * The sorting networks of {@link NetworkSort} and {@link PrimitiveNetworkSort} for 2 to {@link #MAX_SIZE} elements.
+ * Each network is Batcher's odd-even merge sort for the next power of two, with the comparators that touch the missing
+ * elements removed, which is correct since the missing elements behave as if they were greater than every other. The
+ * networks are optimal up to 8 elements and within 3 comparators of the best known ones up to 16, e.g. 63 comparators
+ * against 60 for 16 elements.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ */
+final class SortingNetworks {
+
+	/**
+	 * The largest number of elements sorted by a network.
+	 */
+	static final int MAX_SIZE = 32;
+
+	private static final int[][] NETWORKS = new int[MAX_SIZE + 1][];
+
+	static {
+		for (int size = 0; size <= MAX_SIZE; size++) {
+			NETWORKS[size] = build(size);
+		}
+	}
+
+	private SortingNetworks() {
+	}
+
+	/**
+	 * Gets the network sorting the given number of elements.
+	 * 
+	 * @param size
+	 *            The number of elements, at most {@link #MAX_SIZE}
+	 * @return The comparators of the network in order, as pairs of offsets {@code i < j} laid out as
+	 *         {@code [i0, j0, i1, j1, ...]}. Must not be modified.
+	 */
+	static int[] network(int size) {
+		return NETWORKS[size];
+	}
+
+	private static int[] build(int size) {
+		int powerOfTwo = 1;
+		while (powerOfTwo < size) {
+			powerOfTwo <<= 1;
+		}
+		int[] comparators = new int[2 * powerOfTwo * powerOfTwo];
+		int count = 0;
+		for (int t = 1; t < powerOfTwo; t <<= 1) {
+			for (int k = t; k >= 1; k >>= 1) {
+				for (int j = k % t; j < powerOfTwo - k; j += 2 * k) {
+					for (int i = 0; i < Math.min(k, powerOfTwo - j - k); i++) {
+						int a = i + j, b = i + j + k;
+						/* Only compare elements of the same pair of merged runs, and skip the missing elements. */
+						if (a / (2 * t) == b / (2 * t) && b < size) {
+							comparators[count++] = a;
+							comparators[count++] = b;
+						}
+					}
+				}
+			}
+		}
+		int[] network = new int[count];
+		System.arraycopy(comparators, 0, network, 0, count);
+		return network;
+	}
+}
@@ -0,0 +1,385 @@
+package com.jeffreymanzione.sorting.sorts;
+
+/**
+ * TimSort.java
+ * 
+ * Adaptive, stable merge sort after the description of Tim Peters' listsort (listsort.txt in the CPython sources). The
+ * range is scanned for natural runs: ascending runs are kept as they are and strictly descending runs are reversed in
+ * place (strictly, so that reversing keeps the sort stable). Runs shorter than a minimum run length computed from the
+ * length of the range are extended with binary insertion sort.
+ * 
+ * Pending runs are merged by the powersort policy of Munro and Wild, which listsort has used since CPython 3.11: the
+ * boundary between two adjacent runs is given the depth at which it would split the range in a perfectly balanced merge
+ * tree, and runs on the stack are merged as soon as a later boundary is shallower than theirs. Each merge first skips
+ * the elements of both runs which are already in place, then merges the shorter run back from the buffer. Once one run
+ * wins several comparisons in a row, the merge gallops: it searches the other run exponentially for the end of the
+ * block to move at once, so that merging runs which barely interleave costs far fewer than one comparison per element.
+ * 
+ * Sorted and reverse sorted input are a single run and cost O(n); input made of a few sorted runs costs O(n log r) for r
+ * runs. Guarantees O(nlogn) performance and uses at most n / 2 extra space.
+ * 
+ * In parallel, the range is split and merged as by {@link MergeSort}, with every range no longer split sorted by
+ * TimSort. Ranges which are already in order are never merged, so sorted input costs O(n) in parallel as well.
+ * 
+ * @author Jeffrey J. Manzione
+ * @version 0.1
+ * @since October 18, 2026
+ * 
+ * @param <T>
+ *            Parameterized type implements Comparable of that type
+ */
+public class TimSort<T extends Comparable<T>> extends MergeSort<T> {
+
+	/**
+	 * The number of leading bits of the length of a range kept in the minimum run length, which then lies in [16, 32).
+	 */
+	private static final int MIN_RUN_BITS = 5;
+
+	/**
+	 * The number of consecutive comparisons a run must win before a merge starts galloping, at first.
+	 */
+	private static final int INITIAL_GALLOP_THRESHOLD = 7;
+
+	/**
+	 * The maximum number of pending runs. The boundary depths on the stack strictly increase and are at most 32 for
+	 * any array, so at most 33 runs are pending at once.
+	 */
+	private static final int MAX_PENDING_RUNS = 34;
+
+	@Override
+	protected void sortRange(T[] arr, int start, int end, T[] aux, int offset) {
+		int length = end - start;
+		if (length < 2) {
+			return;
+		}
+		int minRun = minRunLength(length);
+		if (minRun >= length) {
+			this.insertionSort(arr, start, this.naturalRunEnd(arr, start, end), end);
+			return;
+		}
+
+		Runs runs = new Runs(arr, start, length, aux, start - offset);
+		for (int runStart = start; runStart < end;) {
+			int runEnd = this.naturalRunEnd(arr, runStart, end);
+			if (runEnd - runStart < minRun) {
+				int extendedEnd = Math.min(end, runStart + minRun);
+				this.insertionSort(arr, runStart, runEnd, extendedEnd);
+				runEnd = extendedEnd;
+			}
+			runs.add(runStart, runEnd);
+			runStart = runEnd;
+		}
+		runs.mergeAll();
+	}
+
+	/**
+	 * Computes the minimum run length of a range of the given length: the leading {@value #MIN_RUN_BITS} bits of the
+	 * length, plus one if any of the other bits is set, so that the length divided by the minimum run length is a
+	 * power of two or slightly less. Ranges shorter than 32 elements are a single run.
+	 */
+	private static int minRunLength(int length) {
+		int dropped = Math.max(0, Integer.SIZE - Integer.numberOfLeadingZeros(length) - MIN_RUN_BITS);
+		int minRun = length >>> dropped;
+		return (length & ((1 << dropped) - 1)) != 0 ? minRun + 1 : minRun;
+	}
+
+	/**
+	 * Finds the end of the natural run starting at start, reversing the run if it is strictly descending.
+	 *
+	 * @return The end of the run exclusive.
+	 */
+	private int naturalRunEnd(T[] arr, int start, int end) {
+		int runEnd = start + 1;
+		if (runEnd == end) {
+			return end;
+		}
+		boolean descending = compare(arr[runEnd], arr[start]) < 0;
+		for (runEnd++; runEnd < end; runEnd++) {
+			int cmp = compare(arr[runEnd], arr[runEnd - 1]);
+			if (descending ? cmp >= 0 : cmp < 0) {
+				break;
+			}
+		}
+		if (descending) {
+			for (int i = start, j = runEnd - 1; i < j; i++, j--) {
+				T tmp = arr[i];
+				arr[i] = arr[j];
+				arr[j] = tmp;
+			}
+		}
+		return runEnd;
+	}
+
+	/**
+	 * Whether the element precedes the key in a merge: if it is less than the key, or no greater than it when ties go
+	 * to the element.
+	 */
+	private boolean precedes(T element, T key, boolean tiesFirst) {
+		int cmp = compare(element, key);
+		return cmp < 0 || (tiesFirst && cmp == 0);
+	}
+
+	/**
+	 * Counts the elements at the start of the sorted range a[from, to) which precede the key, probing positions 1, 3,
+	 * 7, ... from the start before searching the last gap by bisection. Costs O(log c) comparisons for a count of c.
+	 */
+	private int countLeading(T key, T[] a, int from, int to, boolean tiesFirst) {
+		int length = to - from, known = 0, probe = 1;
+		while (probe <= length && this.precedes(a[from + probe - 1], key, tiesFirst)) {
+			known = probe;
+			probe = probe > length / 2 ? length + 1 : 2 * probe + 1;
+		}
+		int low = known, high = Math.min(probe - 1, length);
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (this.precedes(a[from + mid], key, tiesFirst)) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Counts the elements at the end of the sorted range a[from, to) which the key precedes, probing from the end the
+	 * same way as {@link #countLeading(Comparable, Comparable[], int, int, boolean)}.
+	 */
+	private int countTrailing(T key, T[] a, int from, int to, boolean tiesFirst) {
+		int length = to - from, known = 0, probe = 1;
+		while (probe <= length && this.precedes(key, a[to - probe], tiesFirst)) {
+			known = probe;
+			probe = probe > length / 2 ? length + 1 : 2 * probe + 1;
+		}
+		int low = known, high = Math.min(probe - 1, length);
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (this.precedes(key, a[to - 1 - mid], tiesFirst)) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * The pending runs of the TimSort of a single range, with the galloping threshold of its merges. The shorter run of
+	 * every merge is copied to the buffer starting at tmpBase.
+	 */
+	private final class Runs {
+
+		private final T[] arr, tmp;
+		private final int rangeStart, rangeLength, tmpBase;
+
+		/* Run i spans [starts[i], starts[i + 1]); depths[i] is the depth of the boundary before run i. */
+		private final int[] starts = new int[MAX_PENDING_RUNS + 1];
+		private final int[] depths = new int[MAX_PENDING_RUNS];
+		private int count = 0;
+
+		/**
+		 * Lowered while galloping pays off and raised when it stops paying off.
+		 */
+		private int gallopThreshold = INITIAL_GALLOP_THRESHOLD;
+
+		private Runs(T[] arr, int rangeStart, int rangeLength, T[] tmp, int tmpBase) {
+			this.arr = arr;
+			this.rangeStart = rangeStart;
+			this.rangeLength = rangeLength;
+			this.tmp = tmp;
+			this.tmpBase = tmpBase;
+		}
+
+		/**
+		 * Pushes the run [start, end), which follows the last pending run, after merging the pending runs whose
+		 * boundaries are deeper than the boundary before it.
+		 */
+		private void add(int start, int end) {
+			if (count > 0) {
+				int depth = this.depth(starts[count - 1], start, end);
+				while (count > 1 && depths[count - 1] > depth) {
+					this.mergeLast();
+				}
+				depths[count] = depth;
+			}
+			starts[count++] = start;
+			starts[count] = end;
+		}
+
+		/**
+		 * Merges every pending run into one.
+		 */
+		private void mergeAll() {
+			while (count > 1) {
+				this.mergeLast();
+			}
+		}
+
+		/**
+		 * Computes the depth of the boundary between the adjacent runs [start1, start2) and [start2, end): the first
+		 * level of halving of the range at which their midpoints fall in different halves.
+		 */
+		private int depth(int start1, int start2, int end) {
+			/* Twice the offsets of the midpoints, so that they stay integers, against twice the length. */
+			long mid1 = (long) (start1 - rangeStart) + (start2 - rangeStart);
+			long mid2 = (long) (start2 - rangeStart) + (end - rangeStart);
+			long length = rangeLength;
+			int depth = 0;
+			do {
+				depth++;
+				if (mid1 >= length) {
+					mid1 -= length;
+					mid2 -= length;
+				} else if (mid2 >= length) {
+					break;
+				}
+				mid1 <<= 1;
+				mid2 <<= 1;
+			} while (true);
+			return depth;
+		}
+
+		/**
+		 * Merges the last two pending runs.
+		 */
+		private void mergeLast() {
+			int low = starts[count - 2], mid = starts[count - 1], high = starts[count];
+			count--;
+			starts[count] = high;
+
+			/* Elements of the left run up to the first of the right run, and after it those of the right run from the
+			 * last of the left run, are already in place. */
+			low += countLeading(arr[mid], arr, low, mid, true);
+			if (low == mid) {
+				return;
+			}
+			high -= countTrailing(arr[mid - 1], arr, mid, high, true);
+			if (mid == high) {
+				return;
+			}
+			if (mid - low <= high - mid) {
+				this.mergeForward(low, mid, high);
+			} else {
+				this.mergeBackward(low, mid, high);
+			}
+		}
+
+		/**
+		 * Merges the adjacent runs [low, mid) and [mid, high) from their starts, moving the left run to the buffer.
+		 */
+		private void mergeForward(int low, int mid, int high) {
+			System.arraycopy(arr, low, tmp, tmpBase, mid - low);
+			int left = tmpBase, leftEnd = tmpBase + (mid - low), right = mid, dest = low;
+			int threshold = gallopThreshold;
+
+			while (left < leftEnd && right < high) {
+				/* One element at a time, until a run wins often enough in a row. */
+				int leftWins = 0, rightWins = 0;
+				while (left < leftEnd && right < high && leftWins < threshold && rightWins < threshold) {
+					if (compare(arr[right], tmp[left]) < 0) {
+						arr[dest++] = arr[right++];
+						rightWins++;
+						leftWins = 0;
+					} else {
+						arr[dest++] = tmp[left++];
+						leftWins++;
+						rightWins = 0;
+					}
+				}
+
+				/* Whole blocks at a time, while the blocks stay long. */
+				while (left < leftEnd && right < high) {
+					int leftBlock = countLeading(arr[right], tmp, left, leftEnd, true);
+					System.arraycopy(tmp, left, arr, dest, leftBlock);
+					left += leftBlock;
+					dest += leftBlock;
+					if (left == leftEnd) {
+						break;
+					}
+					arr[dest++] = arr[right++];
+					if (right == high) {
+						break;
+					}
+
+					int rightBlock = countLeading(tmp[left], arr, right, high, false);
+					System.arraycopy(arr, right, arr, dest, rightBlock);
+					right += rightBlock;
+					dest += rightBlock;
+					if (right == high) {
+						break;
+					}
+					arr[dest++] = tmp[left++];
+
+					if (leftBlock < INITIAL_GALLOP_THRESHOLD && rightBlock < INITIAL_GALLOP_THRESHOLD) {
+						threshold += 2;
+						break;
+					}
+					threshold = Math.max(1, threshold - 1);
+				}
+			}
+			gallopThreshold = threshold;
+
+			/* The rest of the right run is already in place. */
+			System.arraycopy(tmp, left, arr, dest, leftEnd - left);
+		}
+
+		/**
+		 * Merges the adjacent runs [low, mid) and [mid, high) from their ends, moving the right run to the buffer.
+		 */
+		private void mergeBackward(int low, int mid, int high) {
+			System.arraycopy(arr, mid, tmp, tmpBase, high - mid);
+			int left = mid, right = tmpBase + (high - mid), dest = high;
+			int threshold = gallopThreshold;
+
+			while (left > low && right > tmpBase) {
+				/* One element at a time, until a run wins often enough in a row. */
+				int leftWins = 0, rightWins = 0;
+				while (left > low && right > tmpBase && leftWins < threshold && rightWins < threshold) {
+					if (compare(tmp[right - 1], arr[left - 1]) < 0) {
+						arr[--dest] = arr[--left];
+						leftWins++;
+						rightWins = 0;
+					} else {
+						arr[--dest] = tmp[--right];
+						rightWins++;
+						leftWins = 0;
+					}
+				}
+
+				/* Whole blocks at a time, while the blocks stay long. */
+				while (left > low && right > tmpBase) {
+					int leftBlock = countTrailing(tmp[right - 1], arr, low, left, false);
+					left -= leftBlock;
+					dest -= leftBlock;
+					System.arraycopy(arr, left, arr, dest, leftBlock);
+					if (left == low) {
+						break;
+					}
+					arr[--dest] = tmp[--right];
+					if (right == tmpBase) {
+						break;
+					}
+
+					int rightBlock = countTrailing(arr[left - 1], tmp, tmpBase, right, true);
+					right -= rightBlock;
+					dest -= rightBlock;
+					System.arraycopy(tmp, right, arr, dest, rightBlock);
+					if (right == tmpBase) {
+						break;
+					}
+					arr[--dest] = arr[--left];
+
+					if (leftBlock < INITIAL_GALLOP_THRESHOLD && rightBlock < INITIAL_GALLOP_THRESHOLD) {
+						threshold += 2;
+						break;
+					}
+					threshold = Math.max(1, threshold - 1);
+				}
+			}
+			gallopThreshold = threshold;
+
+			/* The rest of the left run is already in place. */
+			System.arraycopy(tmp, tmpBase, arr, dest - (right - tmpBase), right - tmpBase);
+		}
+	}
+}
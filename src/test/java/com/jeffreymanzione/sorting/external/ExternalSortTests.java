@@ -0,0 +1,166 @@
+package com.jeffreymanzione.sorting.external;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.sorts.Introsort;
+
+public class ExternalSortTests {
+
+	private Path directory, input, output;
+
+	@Before
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("external-sort");
+		input = directory.resolve("input");
+		output = directory.resolve("output");
+	}
+
+	@After
+	public void tearDown() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			for (Path file : (Iterable<Path>) files::iterator) {
+				Files.delete(file);
+			}
+		}
+		Files.delete(directory);
+	}
+
+	private static <T> void write(Path path, RecordSerializer<T> serializer, List<T> records) throws IOException {
+		try (RecordWriter<T> writer = new RecordWriter<>(path, serializer)) {
+			for (T record : records) {
+				writer.write(record);
+			}
+		}
+	}
+
+	private static <T> List<T> read(Path path, RecordSerializer<T> serializer, int window) throws IOException {
+		List<T> records = new ArrayList<>();
+		try (MappedRecordReader<T> reader = new MappedRecordReader<>(path, serializer, window)) {
+			T record;
+			while ((record = reader.next()) != null) {
+				records.add(record);
+			}
+		}
+		return records;
+	}
+
+	private void assertOnlyOutputLeft() throws IOException {
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(2, files.count());
+		}
+	}
+
+	@Test
+	public void testInts() throws IOException {
+		Random random = new Random(1);
+		List<Integer> records = new ArrayList<>();
+		for (int i = 0; i < 1_000_000; i++) {
+			records.add(random.nextInt());
+		}
+		write(input, RecordSerializers.ints(), records);
+
+		ExternalSort<Integer> sort = new ExternalSort<>(RecordSerializers.ints());
+		sort.setTempDirectory(directory);
+		sort.setRunSize(10_000);
+		sort.setFanIn(8);
+		sort.setMapWindow(1 << 16);
+		sort.sort(input, output);
+
+		Collections.sort(records);
+		assertEquals(records, read(output, RecordSerializers.ints(), 1 << 20));
+		assertOnlyOutputLeft();
+	}
+
+	@Test
+	public void testVariableLengthRecords() throws IOException {
+		Random random = new Random(2);
+		List<String> records = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			StringBuilder record = new StringBuilder();
+			for (int j = random.nextInt(40); j >= 0; j--) {
+				record.append((char) ('a' + random.nextInt(26)));
+			}
+			records.add(record.toString());
+		}
+		write(input, RecordSerializers.strings(), records);
+
+		Introsort<String> introsort = new Introsort<>();
+		introsort.setComparator((s1, s2) -> s2.compareTo(s1));
+		ExternalSort<String> sort = new ExternalSort<>(RecordSerializers.strings(), introsort);
+		sort.setTempDirectory(directory);
+		sort.setMemoryBudget(50_000);
+		sort.setFanIn(3);
+		sort.setMapWindow(1_000);
+		sort.sort(input, output);
+
+		records.sort(Collections.reverseOrder());
+		assertEquals(records, read(output, RecordSerializers.strings(), 1_000));
+		assertOnlyOutputLeft();
+	}
+
+	@Test
+	public void testSmallInputs() throws IOException {
+		ExternalSort<Long> sort = new ExternalSort<>(RecordSerializers.longs());
+		sort.setTempDirectory(directory);
+
+		write(input, RecordSerializers.longs(), Collections.emptyList());
+		sort.sort(input, output);
+		assertEquals(0, Files.size(output));
+
+		write(input, RecordSerializers.longs(), java.util.Arrays.asList(3L, -1L, 2L));
+		sort.sort(input, output);
+		assertEquals(java.util.Arrays.asList(-1L, 2L, 3L), read(output, RecordSerializers.longs(), 1 << 10));
+		assertOnlyOutputLeft();
+	}
+
+	@Test
+	public void testComparatorFailure() throws IOException {
+		List<Integer> records = new ArrayList<>();
+		for (int i = 0; i < 100_000; i++) {
+			records.add(i ^ 0x5555);
+		}
+		write(input, RecordSerializers.ints(), records);
+
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setParallelThreshold(1_000);
+		introsort.setComparator((i1, i2) -> {
+			if (i1 == 4_242 || i2 == 4_242) {
+				throw new IllegalStateException("Comparator failure");
+			}
+			return i1.compareTo(i2);
+		});
+		ExternalSort<Integer> sort = new ExternalSort<>(RecordSerializers.ints(), introsort);
+		sort.setTempDirectory(directory);
+		sort.setRunSize(10_000);
+		try {
+			sort.sort(input, output);
+			fail("The failure of the run sort should have been rethrown");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage(), e.getMessage().endsWith("Comparator failure"));
+		}
+		/* Only the input is left: the run files were deleted and no output was written. */
+		try (Stream<Path> files = Files.list(directory)) {
+			assertEquals(1, files.count());
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testTruncatedInput() throws IOException {
+		Files.write(input, new byte[] { 0, 0, 0, 1, 0, 0 });
+		new ExternalSort<>(RecordSerializers.ints()).sort(input, output);
+	}
+
+}
@@ -0,0 +1,208 @@
+package com.jeffreymanzione.sorting.external;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.sorts.PackedKeySort;
+
+public class RecordSortTests {
+
+	/** Records of 28 bytes: the record number, a 16-byte key field and an 8-byte long key. */
+	private static final int WIDTH = 28;
+
+	/**
+	 * Fills a buffer with records whose int, long and byte keys are drawn from few values, so that equal keys are
+	 * frequent and stability shows.
+	 */
+	private static ByteBuffer records(int count, int bound, boolean direct, ByteOrder order, long seed) {
+		Random random = new Random(seed);
+		ByteBuffer records = (direct ? ByteBuffer.allocateDirect(count * WIDTH) : ByteBuffer.allocate(count * WIDTH))
+				.order(order);
+		for (int i = 0; i < count; i++) {
+			int record = i * WIDTH;
+			records.putInt(record, i);
+			for (int b = 0; b < 16; b++) {
+				records.put(record + 4 + b, (byte) random.nextInt(Math.min(256, bound)));
+			}
+			/* Unbounded long keys span too many values to be radix sorted. */
+			records.putLong(record + 20,
+					bound == Integer.MAX_VALUE ? random.nextLong() : random.nextInt(bound) - bound / 2L);
+		}
+		return records;
+	}
+
+	private static byte[] record(ByteBuffer records, int index) {
+		byte[] record = new byte[WIDTH];
+		for (int b = 0; b < WIDTH; b++) {
+			record[b] = records.get(index * WIDTH + b);
+		}
+		return record;
+	}
+
+	/** Checks the records are a stable sort of the original records in the order of the comparator. */
+	private static void check(String message, ByteBuffer original, ByteBuffer sorted, Comparator<byte[]> order) {
+		int count = original.capacity() / WIDTH;
+		List<byte[]> expected = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			expected.add(record(original, i));
+		}
+		/* The record numbers make every record distinct, so a stable sort has a single result. */
+		expected.sort(order);
+		for (int i = 0; i < count; i++) {
+			assertArrayEquals(message + " at " + i, expected.get(i), record(sorted, i));
+		}
+	}
+
+	private static ByteBuffer copy(ByteBuffer records) {
+		ByteBuffer copy = ByteBuffer.allocate(records.capacity()).order(records.order());
+		copy.put(records.duplicate());
+		copy.clear();
+		return copy;
+	}
+
+	private static Comparator<byte[]> byInt(ByteOrder order) {
+		return Comparator.comparingInt(r -> ByteBuffer.wrap(r).order(order).getInt(4));
+	}
+
+	private static Comparator<byte[]> byLong(ByteOrder order) {
+		return Comparator.comparingLong(r -> ByteBuffer.wrap(r).order(order).getLong(20));
+	}
+
+	private static Comparator<byte[]> byBytes(int length) {
+		return (r1, r2) -> {
+			for (int b = 4; b < 4 + length; b++) {
+				int cmp = Integer.compare(r1[b] & 0xFF, r2[b] & 0xFF);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+			return 0;
+		};
+	}
+
+	private static void checkAll(RecordSort... sorts) {
+		for (boolean direct : new boolean[] { false, true }) {
+			for (ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+				for (int bound : new int[] { 3, Integer.MAX_VALUE }) {
+					ByteBuffer original = records(10_000, bound, direct, order, bound);
+					check("int", original, sort(sorts[0], copy(original)), byInt(order));
+					check("long", original, sort(sorts[1], copy(original)), byLong(order));
+					check("bytes 3", original, sort(sorts[2], copy(original)), byBytes(3));
+					check("bytes 16", original, sort(sorts[3], copy(original)), byBytes(16));
+				}
+			}
+		}
+	}
+
+	private static ByteBuffer sort(RecordSort sort, ByteBuffer records) {
+		sort.sort(records);
+		assertEquals(0, records.position());
+		assertEquals(records.capacity(), records.limit());
+		return records;
+	}
+
+	private static RecordSort[] sorts() {
+		return new RecordSort[] { RecordSort.byIntKey(WIDTH, 4), RecordSort.byLongKey(WIDTH, 20),
+				RecordSort.byBytesKey(WIDTH, 4, 3), RecordSort.byBytesKey(WIDTH, 4, 16) };
+	}
+
+	@Test
+	public void testSort() {
+		checkAll(sorts());
+	}
+
+	@Test
+	public void testSortParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			RecordSort[] sorts = sorts();
+			for (RecordSort sort : sorts) {
+				sort.setPool(pool);
+				sort.setParallelThreshold(1_000);
+			}
+			checkAll(sorts);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testShortBytesKeysArePacked() {
+		ByteBuffer records = records(100_000, Integer.MAX_VALUE, false, ByteOrder.BIG_ENDIAN, 4);
+		RecordSort sort = RecordSort.byBytesKey(WIDTH, 4, 4);
+		/* Keys of four bytes span 32 bits, which leaves room for the 17 bits of the record numbers. */
+		int[] packed = new PackedKeySort().argsort(sort.sortableKeys(records));
+		assertNotNull(packed);
+		assertArrayEquals(packed, sort.sortedIndex(records));
+		check("bytes 4", copy(records), sort(sort, records), byBytes(4));
+	}
+
+	@Test
+	public void testSortedIndexAndRange() {
+		ByteBuffer records = records(1_000, 100, true, ByteOrder.BIG_ENDIAN, 1);
+		ByteBuffer original = copy(records);
+		records.position(10 * WIDTH).limit(990 * WIDTH);
+		int[] index = RecordSort.byIntKey(WIDTH, 4).sortedIndex(records);
+		assertEquals(980, index.length);
+		for (int i = 1; i < index.length; i++) {
+			int previous = records.getInt((10 + index[i - 1]) * WIDTH + 4), current = records.getInt((10 + index[i])
+					* WIDTH + 4);
+			assertTrue(previous < current || (previous == current && index[i - 1] < index[i]));
+		}
+		records.clear();
+		assertEquals(original, records);
+
+		records.position(10 * WIDTH).limit(990 * WIDTH);
+		RecordSort.byIntKey(WIDTH, 4).sort(records);
+		records.clear();
+		for (int i = 0; i < 1_000; i++) {
+			int expected = i < 10 || i >= 990 ? i : 10 + index[i - 10];
+			assertEquals(expected, records.getInt(i * WIDTH));
+		}
+	}
+
+	@Test
+	public void testMappedFile() throws IOException {
+		Path file = Files.createTempFile("record-sort", null);
+		try {
+			ByteBuffer original = records(10_000, 1_000, false, ByteOrder.BIG_ENDIAN, 2);
+			Files.write(file, original.array());
+			RecordSort.byLongKey(WIDTH, 20).sort(file);
+			check("mapped", original, ByteBuffer.wrap(Files.readAllBytes(file)), byLong(ByteOrder.BIG_ENDIAN));
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPartialRecord() {
+		RecordSort.byIntKey(WIDTH, 4).sort(ByteBuffer.allocate(WIDTH + 1));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testKeyOutsideRecord() {
+		RecordSort.byLongKey(WIDTH, WIDTH - 4);
+	}
+
+	@Test
+	public void testEmptyAndSingle() {
+		RecordSort.byIntKey(WIDTH, 4).sort(ByteBuffer.allocate(0));
+		ByteBuffer single = records(1, 10, false, ByteOrder.BIG_ENDIAN, 3), original = copy(single);
+		RecordSort.byIntKey(WIDTH, 4).sort(single);
+		assertEquals(original, single);
+		assertArrayEquals(new int[0], RecordSort.byIntKey(WIDTH, 4).sortedIndex(ByteBuffer.allocate(0)));
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.jeffreymanzione.sorting.kernels;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class SortKernelsTests {
+
+	private static final int SIZE = 100_000;
+
+	private static Integer[][] inputs() {
+		Random random = new Random(SIZE);
+		Integer[] randoms = new Integer[SIZE], sorted = new Integer[SIZE], reversed = new Integer[SIZE],
+				fewUnique = new Integer[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			randoms[i] = random.nextInt();
+			sorted[i] = i;
+			reversed[i] = SIZE - i;
+			fewUnique[i] = random.nextInt(16);
+		}
+		return new Integer[][] { randoms, sorted, reversed, fewUnique, { 1 }, {} };
+	}
+
+	@Test
+	public void testNaturalOrder() {
+		SortKernel<Integer> kernel = SortKernels.naturalOrder(Integer.class);
+		for (Integer[] input : inputs()) {
+			Integer[] expected = Arrays.copyOf(input, input.length);
+			Arrays.sort(expected);
+			kernel.sort(input);
+			assertArrayEquals(expected, input);
+		}
+	}
+
+	@Test
+	public void testComparing() {
+		Comparator<Integer> reversed = Comparator.reverseOrder();
+		SortKernel<Integer> kernel = SortKernels.comparing(reversed);
+		for (Integer[] input : inputs()) {
+			Integer[] expected = Arrays.copyOf(input, input.length);
+			Arrays.sort(expected, reversed);
+			kernel.sort(input);
+			assertArrayEquals(expected, input);
+		}
+	}
+
+	@Test
+	public void testRange() {
+		Integer[] input = inputs()[0];
+		Integer[] expected = Arrays.copyOf(input, SIZE);
+		Arrays.sort(expected, 100, SIZE - 100);
+		SortKernels.of(Integer.class, null).sort(input, 100, SIZE - 100);
+		assertArrayEquals(expected, input);
+	}
+
+	@Test
+	public void testSpecialization() {
+		Comparator<Integer> ascending = (a, b) -> Integer.compare(a, b), descending = (a, b) -> Integer.compare(b, a);
+
+		Class<?> integers = SortKernels.naturalOrder(Integer.class).getClass();
+		Class<?> strings = SortKernels.naturalOrder(String.class).getClass();
+		Class<?> ascendingKernel = SortKernels.comparing(ascending).getClass();
+		Class<?> descendingKernel = SortKernels.comparing(descending).getClass();
+
+		assertNotSame(NaturalOrderKernel.class, integers);
+		assertNotSame(integers, strings);
+		assertSame(integers, SortKernels.naturalOrder(Integer.class).getClass());
+		assertEquals(NaturalOrderKernel.class.getName(), integers.getName());
+		assertNotSame(ComparatorKernel.class, ascendingKernel);
+		assertNotSame(ascendingKernel, descendingKernel);
+		assertSame(ascendingKernel, SortKernels.comparing(ascending).getClass());
+	}
+
+}
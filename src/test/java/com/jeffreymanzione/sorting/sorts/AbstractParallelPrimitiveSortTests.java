@@ -0,0 +1,135 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.AbstractParallelPrimitiveSort;
+import com.jeffreymanzione.sorting.SortHandle;
+
+public abstract class AbstractParallelPrimitiveSortTests extends AbstractPrimitiveSortTests {
+
+	protected AbstractParallelPrimitiveSort sortParallel;
+
+	public AbstractParallelPrimitiveSortTests(Class<? extends AbstractParallelPrimitiveSort> sortClass, int size) {
+		super(sortClass, size);
+	}
+
+	@Override
+	public void setUp() throws InstantiationException, IllegalAccessException {
+		super.setUp();
+		sortParallel = (AbstractParallelPrimitiveSort) sortClass.newInstance();
+	}
+
+	/**
+	 * @return A sort of the tested class whose first parallel range of ints blocks until the latch is released, or
+	 *         null to skip {@link #testSortAsyncCancellation()}.
+	 */
+	protected AbstractParallelPrimitiveSort blockingSort(CountDownLatch released) {
+		return null;
+	}
+
+	/**
+	 * Waits for the latch from a sort built by {@link #blockingSort(CountDownLatch)}.
+	 */
+	protected static void await(CountDownLatch released) {
+		try {
+			released.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Test
+	public void testIntsParallel() {
+		sortParallel.sortParallel(ints);
+		sortParallel.awaitCompletion();
+		assertArrayEquals(intsExpected, ints);
+	}
+
+	@Test
+	public void testIntsReverseSortedParallel() {
+		sortParallel.sortParallel(intsReverse);
+		sortParallel.awaitCompletion();
+		assertArrayEquals(intsSorted, intsReverse);
+	}
+
+	@Test
+	public void testLongsParallel() {
+		sortParallel.sortParallel(longs);
+		sortParallel.awaitCompletion();
+		assertArrayEquals(longsExpected, longs);
+	}
+
+	@Test
+	public void testFloatsParallel() {
+		sortParallel.sortParallel(floats);
+		sortParallel.awaitCompletion();
+		assertArrayEquals(floatsExpected, floats, 0.0f);
+	}
+
+	@Test
+	public void testDoublesParallel() {
+		sortParallel.sortParallel(doubles);
+		sortParallel.awaitCompletion();
+		assertArrayEquals(doublesExpected, doubles, 0.0);
+	}
+
+	@Test
+	public void testAsync() throws InterruptedException, ExecutionException {
+		assertSame(ints, sortParallel.sortAsync(ints).get());
+		assertSame(doubles, sortParallel.sortAsync(doubles).get());
+		assertArrayEquals(intsExpected, ints);
+		assertArrayEquals(doublesExpected, doubles, 0.0);
+	}
+
+	@Test
+	public void testSortAsyncCancellation() throws InterruptedException {
+		CountDownLatch released = new CountDownLatch(1);
+		AbstractParallelPrimitiveSort sort = blockingSort(released);
+		assumeTrue(sort != null);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		sort.setPool(pool);
+		sort.setParallelThreshold(1_000);
+		try {
+			int[] arr = Arrays.copyOf(ints, size);
+			SortHandle<int[]> handle = sort.sortAsync(arr);
+			assertFalse(handle.await(10, TimeUnit.MILLISECONDS));
+			assertTrue(handle.cancel(false));
+			released.countDown();
+
+			try {
+				handle.join();
+				fail("The handle should have been cancelled");
+			} catch (CancellationException e) {
+				/* Expected */
+			}
+			/* The blocked range is abandoned at its first check, before anything is written to the array. */
+			assertTrue(handle.await(10, TimeUnit.SECONDS));
+			assertArrayEquals(ints, arr);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testAllTypesParallel() {
+		sortParallel.sortParallel(ints);
+		sortParallel.sortParallel(longs);
+		sortParallel.sortParallel(floats);
+		sortParallel.sortParallel(doubles);
+		sortParallel.awaitCompletion();
+		assertArrayEquals(intsExpected, ints);
+		assertArrayEquals(longsExpected, longs);
+		assertArrayEquals(floatsExpected, floats, 0.0f);
+		assertArrayEquals(doublesExpected, doubles, 0.0);
+	}
+}
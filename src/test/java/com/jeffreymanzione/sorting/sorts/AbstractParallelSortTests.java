@@ -1,78 +1,243 @@
-package com.jeffreymanzione.sorting.sorts;
-
-import java.util.Arrays;
-
-import org.junit.Before;
-import org.junit.Test;
-
-import com.jeffreymanzione.sorting.ParallelSort;
-import com.jeffreymanzione.sorting.exceptions.SortIsNotParallelException;
-
-public abstract class AbstractParallelSortTests extends AbstractSortTests {
-
-	protected Integer[] testParallel, testReverseParallel, testSortedParallel;
-	protected ParallelSort<Integer> sortParallel, sortReverseParallel, sortSortedParallel;
-
-	protected Class<? extends ParallelSort<Integer>> parallelSortClass;
-
-	public AbstractParallelSortTests(Class<? extends ParallelSort<Integer>> sortClass, int size) {
-		super(sortClass, size);
-		this.parallelSortClass = sortClass;
-	}
-
-	@Override
-	@Before
-	public void setUp() throws InstantiationException, IllegalAccessException, SortIsNotParallelException {
-		super.setUp();
-
-		testParallel = Arrays.copyOf(super.test, size);
-		testReverseParallel = Arrays.copyOf(super.testReverse, size);
-		testSortedParallel = Arrays.copyOf(super.testSorted, size);
-
-		sortParallel = parallelSortClass.newInstance();
-		sortReverseParallel = parallelSortClass.newInstance();
-		sortSortedParallel = parallelSortClass.newInstance();
-
-	}
-
-	@Test
-	public void testParallel() throws InstantiationException, IllegalAccessException, SortIsNotParallelException {
-		System.out.println(this.getClass().getSimpleName().toString() + ": "
-				+ Thread.currentThread().getStackTrace()[1].getMethodName());
-
-		long time = System.currentTimeMillis();
-		sortParallel.sortParallel(testParallel);
-		sortParallel.awaitCompletion();
-		time = System.currentTimeMillis() - time;
-		System.out.println("Time: " + ((double) time) / 1_000 + " ms");
-		check(ints, testParallel);
-
-	}
-
-	@Test
-	public void testSortedParallel() throws InstantiationException, IllegalAccessException, SortIsNotParallelException {
-		System.out.println(this.getClass().getSimpleName().toString() + ": "
-				+ Thread.currentThread().getStackTrace()[1].getMethodName());
-
-		long time = System.currentTimeMillis();
-		sortSortedParallel.sortParallel(testSortedParallel);
-		sortParallel.awaitCompletion();
-		time = System.currentTimeMillis() - time;
-		System.out.println("Time: " + ((double) time) / 1_000 + " ms");
-		check(ints, testSortedParallel);
-	}
-
-	@Test
-	public void testReverseSortedParallel() throws InstantiationException, IllegalAccessException,
-			SortIsNotParallelException {
-		System.out.println(this.getClass().getSimpleName().toString() + ": "
-				+ Thread.currentThread().getStackTrace()[1].getMethodName());
-
-		long time = System.currentTimeMillis();
-		sortReverseParallel.sortParallel(testReverseParallel);
-		sortParallel.awaitCompletion();
-		time = System.currentTimeMillis() - time;
-		System.out.println("Time: " + ((double) time) / 1_000 + " ms");
-		check(ints, testReverseParallel);
-	}
-}
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.AbstractParallelSort;
+import com.jeffreymanzione.sorting.ParallelSort;
+import com.jeffreymanzione.sorting.SortMetrics;
+import com.jeffreymanzione.sorting.exceptions.SortIsNotParallelException;
+
+public abstract class AbstractParallelSortTests extends AbstractSortTests {
+
+	protected Integer[] testParallel, testReverseParallel, testSortedParallel;
+	protected ParallelSort<Integer> sortParallel, sortReverseParallel, sortSortedParallel;
+
+	protected Class<? extends ParallelSort<Integer>> parallelSortClass;
+
+	public AbstractParallelSortTests(Class<? extends ParallelSort<Integer>> sortClass, int size) {
+		super(sortClass, size);
+		this.parallelSortClass = sortClass;
+	}
+
+	@Override
+	@Before
+	public void setUp() throws InstantiationException, IllegalAccessException, SortIsNotParallelException {
+		super.setUp();
+
+		testParallel = Arrays.copyOf(super.test, size);
+		testReverseParallel = Arrays.copyOf(super.testReverse, size);
+		testSortedParallel = Arrays.copyOf(super.testSorted, size);
+
+		sortParallel = parallelSortClass.newInstance();
+		sortReverseParallel = parallelSortClass.newInstance();
+		sortSortedParallel = parallelSortClass.newInstance();
+
+	}
+
+	@Test
+	public void testParallel() throws InstantiationException, IllegalAccessException, SortIsNotParallelException {
+		System.out.println(this.getClass().getSimpleName().toString() + ": "
+				+ Thread.currentThread().getStackTrace()[1].getMethodName());
+
+		long time = System.currentTimeMillis();
+		sortParallel.sortParallel(testParallel);
+		sortParallel.awaitCompletion();
+		time = System.currentTimeMillis() - time;
+		System.out.println("Time: " + time + " ms");
+		check(ints, testParallel);
+
+	}
+
+	@Test
+	public void testSortedParallel() throws InstantiationException, IllegalAccessException, SortIsNotParallelException {
+		System.out.println(this.getClass().getSimpleName().toString() + ": "
+				+ Thread.currentThread().getStackTrace()[1].getMethodName());
+
+		long time = System.currentTimeMillis();
+		sortSortedParallel.sortParallel(testSortedParallel);
+		sortSortedParallel.awaitCompletion();
+		time = System.currentTimeMillis() - time;
+		System.out.println("Time: " + time + " ms");
+		check(ints, testSortedParallel);
+	}
+
+	@Test
+	public void testReverseSortedParallel() throws InstantiationException, IllegalAccessException,
+			SortIsNotParallelException {
+		System.out.println(this.getClass().getSimpleName().toString() + ": "
+				+ Thread.currentThread().getStackTrace()[1].getMethodName());
+
+		long time = System.currentTimeMillis();
+		sortReverseParallel.sortParallel(testReverseParallel);
+		sortReverseParallel.awaitCompletion();
+		time = System.currentTimeMillis() - time;
+		System.out.println("Time: " + time + " ms");
+		check(ints, testReverseParallel);
+	}
+
+	@Test
+	public void testSortAsync() throws InterruptedException, ExecutionException {
+		assertSame(testParallel, sortParallel.sortAsync(testParallel).thenApply(sorted -> {
+			check(ints, sorted);
+			return sorted;
+		}).get());
+	}
+
+	/**
+	 * Creates the sort under test partitioning with the scheme.
+	 * 
+	 * @return The sort, or null if the sort does not partition.
+	 */
+	protected ParallelSort<Integer> withPartitionScheme(PartitionScheme scheme) {
+		return null;
+	}
+
+	/**
+	 * Creates the sort under test sorting the ranges under the leaf threshold with the leaf sort.
+	 * 
+	 * @return The sort, or null if the sort has no leaf sort.
+	 */
+	protected ParallelSort<Integer> withLeafSort(LeafSort leafSort, int leafThreshold) {
+		return null;
+	}
+
+	/**
+	 * Creates the sort under test splitting the whole range of a parallel invocation by a sample sort step, counting
+	 * the steps.
+	 * 
+	 * @return The sort, or null if the sort cannot split the range in parallel.
+	 */
+	protected AbstractParallelSort<Integer> withParallelPartitioning(AtomicInteger sampleSorts) {
+		return null;
+	}
+
+	@Test
+	public void testPartitionSchemes() {
+		for (PartitionScheme scheme : PartitionScheme.values()) {
+			ParallelSort<Integer> sort = this.withPartitionScheme(scheme);
+			assumeTrue(sort != null);
+			for (Integer[] input : new Integer[][] { test, testSorted, testReverse, fewUnique(size, 8),
+					fewUnique(size, 1) }) {
+				Integer[] expected = Arrays.copyOf(input, input.length);
+				Arrays.sort(expected);
+
+				Integer[] serial = Arrays.copyOf(input, input.length);
+				sort.sort(serial);
+				assertArrayEquals(scheme.toString(), expected, serial);
+
+				Integer[] parallel = Arrays.copyOf(input, input.length);
+				sort.sortParallel(parallel);
+				sort.awaitCompletion();
+				assertArrayEquals(scheme.toString(), expected, parallel);
+			}
+		}
+	}
+
+	@Test
+	public void testLeafSorts() {
+		for (LeafSort leafSort : LeafSort.values()) {
+			for (int leafThreshold : new int[] { 4, 16, 33, 64 }) {
+				ParallelSort<Integer> sort = this.withLeafSort(leafSort, leafThreshold);
+				assumeTrue(sort != null);
+				for (Integer[] input : new Integer[][] { Arrays.copyOf(test, 100_000),
+						Arrays.copyOf(testReverse, 100_000), fewUnique(100_000, 8) }) {
+					Integer[] expected = Arrays.copyOf(input, input.length);
+					Arrays.sort(expected);
+					sort.sort(input);
+					assertArrayEquals(leafSort + " " + leafThreshold, expected, input);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testParallelPartitioning() {
+		AtomicInteger sampleSorts = new AtomicInteger();
+		AbstractParallelSort<Integer> sort = this.withParallelPartitioning(sampleSorts);
+		assumeTrue(sort != null);
+		ForkJoinPool pool = new ForkJoinPool(4);
+		sort.setPool(pool);
+		try {
+			Integer[][] inputs = { test, testSorted, testReverse, fewUnique(size, 8), fewUnique(size, 1) };
+			for (Integer[] input : inputs) {
+				Integer[] expected = Arrays.copyOf(input, input.length);
+				Arrays.sort(expected);
+				Integer[] parallel = Arrays.copyOf(input, input.length);
+				sort.sortParallel(parallel);
+				sort.awaitCompletion();
+				assertArrayEquals(expected, parallel);
+			}
+			assertEquals(inputs.length, sampleSorts.get());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testParallelPartitioningFailureUnbindsMetrics() throws Exception {
+		AbstractParallelSort<Integer> sort = this.withParallelPartitioning(new AtomicInteger());
+		assumeTrue(sort != null);
+		int threads = 4;
+		ForkJoinPool pool = new ForkJoinPool(threads);
+		sort.setPool(pool);
+		List<SortMetrics.Snapshot> snapshots = Collections.synchronizedList(new ArrayList<>());
+		sort.setMetricsListener(snapshots::add);
+		/* Past the comparisons of sorting the sample, every comparison of classifying the elements throws. */
+		AtomicBoolean failing = new AtomicBoolean(true);
+		AtomicLong comparisons = new AtomicLong();
+		sort.setComparator((a, b) -> {
+			if (failing.get() && comparisons.incrementAndGet() > 100_000) {
+				throw new IllegalStateException("comparator");
+			}
+			return a.compareTo(b);
+		});
+		try {
+			try {
+				sort.sortAsync(Arrays.copyOf(test, test.length)).join();
+				fail("Expected the comparator to fail");
+			} catch (CompletionException e) {
+				assertEquals("comparator", e.getCause().getMessage());
+			}
+			failing.set(false);
+			snapshots.clear();
+
+			/* Hold every worker of the pool in its own serial sort, each of which must report metrics of its own. */
+			CyclicBarrier barrier = new CyclicBarrier(threads);
+			List<ForkJoinTask<?>> sorts = new ArrayList<>();
+			for (int i = 0; i < threads; i++) {
+				sorts.add(pool.submit(() -> {
+					barrier.await(10, TimeUnit.SECONDS);
+					sort.sort(Arrays.copyOf(test, 1_000));
+					return null;
+				}));
+			}
+			for (ForkJoinTask<?> task : sorts) {
+				task.get();
+			}
+			assertEquals(threads, snapshots.size());
+			for (SortMetrics.Snapshot snapshot : snapshots) {
+				assertTrue(snapshot.getComparisons() > 0);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
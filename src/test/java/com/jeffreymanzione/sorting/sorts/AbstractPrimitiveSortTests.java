@@ -0,0 +1,123 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.AbstractPrimitiveSort;
+
+public abstract class AbstractPrimitiveSortTests {
+
+	protected Class<? extends AbstractPrimitiveSort> sortClass;
+
+	protected AbstractPrimitiveSort sort;
+
+	protected int[] ints, intsSorted, intsReverse, intsExpected;
+	protected long[] longs, longsExpected;
+	protected float[] floats, floatsExpected;
+	protected double[] doubles, doublesExpected;
+
+	/**
+	 * Default number of elements for the test.
+	 */
+	protected final int size;
+
+	public AbstractPrimitiveSortTests(Class<? extends AbstractPrimitiveSort> sortClass, int size) {
+		this.sortClass = sortClass;
+		this.size = size;
+	}
+
+	/**
+	 * Set up the test by generating the necessary arrays before hand. The floating point arrays contain the values
+	 * which only a total order sorts consistently: NaN, both zeros and both infinities.
+	 * 
+	 * @throws IllegalAccessException
+	 * @throws InstantiationException
+	 */
+	@Before
+	public void setUp() throws InstantiationException, IllegalAccessException {
+		Random random = new Random(size);
+		sort = sortClass.newInstance();
+
+		ints = new int[size];
+		intsSorted = new int[size];
+		intsReverse = new int[size];
+		longs = new long[size];
+		floats = new float[size];
+		doubles = new double[size];
+		for (int i = 0; i < size; i++) {
+			ints[i] = random.nextInt();
+			intsSorted[i] = i;
+			intsReverse[size - i - 1] = i;
+			longs[i] = random.nextLong();
+			floats[i] = (random.nextFloat() - 0.5f) * size;
+			doubles[i] = (random.nextDouble() - 0.5) * size;
+		}
+		float[] specialFloats = { Float.NaN, -0.0f, 0.0f, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY };
+		double[] specialDoubles = { Double.NaN, -0.0, 0.0, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY };
+		for (int i = 0; i < size; i += 7) {
+			floats[i] = specialFloats[i % specialFloats.length];
+			doubles[i] = specialDoubles[i % specialDoubles.length];
+		}
+
+		intsExpected = Arrays.copyOf(ints, size);
+		Arrays.sort(intsExpected);
+		longsExpected = Arrays.copyOf(longs, size);
+		Arrays.sort(longsExpected);
+		floatsExpected = Arrays.copyOf(floats, size);
+		Arrays.sort(floatsExpected);
+		doublesExpected = Arrays.copyOf(doubles, size);
+		Arrays.sort(doublesExpected);
+	}
+
+	@Test
+	public void testInts() {
+		sort.sort(ints);
+		assertArrayEquals(intsExpected, ints);
+	}
+
+	@Test
+	public void testIntsSorted() {
+		int[] expected = Arrays.copyOf(intsSorted, size);
+		sort.sort(intsSorted);
+		assertArrayEquals(expected, intsSorted);
+	}
+
+	@Test
+	public void testIntsReverseSorted() {
+		sort.sort(intsReverse);
+		assertArrayEquals(intsSorted, intsReverse);
+	}
+
+	@Test
+	public void testIntsRange() {
+		int[] expected = Arrays.copyOf(ints, size);
+		Arrays.sort(expected, size / 4, size / 2);
+		sort.sort(ints, size / 4, size / 2);
+		assertArrayEquals(expected, ints);
+	}
+
+	@Test
+	public void testLongs() {
+		sort.sort(longs);
+		assertArrayEquals(longsExpected, longs);
+	}
+
+	@Test
+	public void testFloats() {
+		sort.sort(floats);
+		assertArrayEquals(floatsExpected, floats, 0.0f);
+		assertEquals(Float.floatToIntBits(-0.0f), Float.floatToIntBits(floats[Arrays.binarySearch(floats, -0.0f)]));
+	}
+
+	@Test
+	public void testDoubles() {
+		sort.sort(doubles);
+		assertArrayEquals(doublesExpected, doubles, 0.0);
+		assertTrue(Double.isNaN(doubles[size - 1]));
+	}
+}
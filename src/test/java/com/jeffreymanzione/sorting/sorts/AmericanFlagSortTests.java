@@ -0,0 +1,123 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.SortMetrics;
+
+public class AmericanFlagSortTests {
+
+	private static final int SIZE = 1_000_000;
+
+	private Integer[] random, expected;
+
+	@Before
+	public void setUp() {
+		Random rand = new Random(SIZE);
+		random = new Integer[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			random[i] = rand.nextInt();
+		}
+		expected = Arrays.copyOf(random, SIZE);
+		Arrays.sort(expected);
+	}
+
+	@Test
+	public void test() {
+		AmericanFlagSort<Integer> sort = new AmericanFlagSort<>(Integer::intValue);
+		sort.sort(random);
+		assertArrayEquals(expected, random);
+	}
+
+	@Test
+	public void testParallel() {
+		AmericanFlagSort<Integer> sort = new AmericanFlagSort<>(Integer::intValue);
+		sort.setParallelThreshold(1_000);
+		sort.sortParallel(random);
+		sort.awaitCompletion();
+		assertArrayEquals(expected, random);
+	}
+
+	@Test
+	public void testRange() {
+		Integer[] expected = Arrays.copyOf(random, SIZE);
+		Arrays.sort(expected, 100, SIZE - 100);
+
+		AmericanFlagSort<Integer> sort = new AmericanFlagSort<>(Integer::intValue);
+		sort.sort(random, 100, SIZE - 100);
+		assertArrayEquals(expected, random);
+	}
+
+	@Test
+	public void testNarrowKeys() {
+		for (int keys : new int[] { 1, 3, 300, 70_000 }) {
+			Integer[] arr = AbstractSortTests.fewUnique(SIZE, keys);
+			for (int i = 0; i < SIZE; i += 2) {
+				arr[i] = -arr[i];
+			}
+			Integer[] expected = Arrays.copyOf(arr, SIZE);
+			Arrays.sort(expected);
+
+			AmericanFlagSort<Integer> sort = new AmericanFlagSort<>(Integer::intValue);
+			sort.sortParallel(arr);
+			sort.awaitCompletion();
+			assertArrayEquals(expected, arr);
+		}
+	}
+
+	@Test
+	public void testExtractedKey() {
+		String[] words = new String[100_000];
+		Random rand = new Random(words.length);
+		for (int i = 0; i < words.length; i++) {
+			words[i] = Integer.toString(rand.nextInt(1_000_000));
+		}
+
+		AmericanFlagSort<String> sort = new AmericanFlagSort<>(String::length);
+		sort.sort(words);
+		for (int i = 1; i < words.length; i++) {
+			assertTrue(words[i - 1].length() <= words[i].length());
+		}
+	}
+
+	@Test
+	public void testMetricsOfOneInvocation() {
+		List<SortMetrics.Snapshot> snapshots = new ArrayList<>();
+		AmericanFlagSort<Integer> sort = new AmericanFlagSort<>(Integer::intValue);
+		sort.setMetricsListener(snapshots::add);
+		sort.sort(random);
+		assertArrayEquals(expected, random);
+		/* The buckets sorted with Introsort count into the invocation rather than reporting their own metrics. */
+		assertEquals(1, snapshots.size());
+		assertTrue(snapshots.get(0).getComparisons() > 0);
+	}
+
+	@Test
+	public void testComparatorOrdersTies() {
+		String[] words = new String[100_000];
+		Random rand = new Random(words.length);
+		for (int i = 0; i < words.length; i++) {
+			words[i] = Integer.toString(rand.nextInt(1_000_000));
+		}
+		String[] expected = Arrays.copyOf(words, words.length);
+		Arrays.sort(expected, Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()));
+
+		AmericanFlagSort<String> sort = new AmericanFlagSort<>(String::length);
+		sort.setComparator(Comparator.naturalOrder());
+		sort.setParallelThreshold(1_000);
+		sort.sortParallel(words);
+		sort.awaitCompletion();
+		assertArrayEquals(expected, words);
+		assertTrue(sort.removeComparator());
+		assertNull(sort.getComparator());
+	}
+
+}
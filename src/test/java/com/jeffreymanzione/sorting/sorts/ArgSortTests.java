@@ -0,0 +1,143 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntBinaryOperator;
+
+import org.junit.Test;
+
+public class ArgSortTests {
+
+	private static final int SIZE = 100_000;
+
+	/** Checks the index is a permutation which orders the keys, with equal keys in ascending index order. */
+	private static void checkOrder(String message, int[] index, IntBinaryOperator compare) {
+		boolean[] seen = new boolean[index.length];
+		for (int i = 0; i < index.length; i++) {
+			assertFalse(message, seen[index[i]]);
+			seen[index[i]] = true;
+			if (i > 0) {
+				int cmp = compare.applyAsInt(index[i - 1], index[i]);
+				assertTrue(message + " at " + i, cmp < 0 || (cmp == 0 && index[i - 1] < index[i]));
+			}
+		}
+	}
+
+	private static void checkArgsort(ArgSort argSort) {
+		Random random = new Random(SIZE);
+		for (int bound : new int[] { 4, Integer.MAX_VALUE }) {
+			int[] ints = new int[SIZE];
+			long[] longs = new long[SIZE], wideLongs = new long[SIZE];
+			double[] doubles = new double[SIZE];
+			String[] strings = new String[SIZE];
+			for (int i = 0; i < SIZE; i++) {
+				ints[i] = random.nextInt(bound) - bound / 2;
+				longs[i] = ints[i] * 3L;
+				wideLongs[i] = bound == Integer.MAX_VALUE ? random.nextLong() : random.nextInt(bound) * Long.MIN_VALUE;
+				doubles[i] = i % 1000 == 0 ? Double.NaN : ints[i] / 7.0;
+				strings[i] = Integer.toString(ints[i]);
+			}
+			int[] intsCopy = ints.clone();
+			checkOrder("int", argSort.argsort(ints), (i, j) -> Integer.compare(ints[i], ints[j]));
+			assertArrayEquals(intsCopy, ints);
+			checkOrder("long", argSort.argsort(longs), (i, j) -> Long.compare(longs[i], longs[j]));
+			checkOrder("wide long", argSort.argsort(wideLongs), (i, j) -> Long.compare(wideLongs[i], wideLongs[j]));
+			checkOrder("double", argSort.argsort(doubles), (i, j) -> Double.compare(doubles[i], doubles[j]));
+			checkOrder("string", argSort.argsort(strings), (i, j) -> strings[i].compareTo(strings[j]));
+			checkOrder("reversed", argSort.argsort(strings, Comparator.reverseOrder()),
+					(i, j) -> strings[j].compareTo(strings[i]));
+		}
+	}
+
+	@Test
+	public void testArgsort() {
+		checkArgsort(new ArgSort());
+		assertArrayEquals(new int[0], new ArgSort().argsort(new int[0]));
+		assertArrayEquals(new int[] { 0 }, new ArgSort().argsort(new long[] { 5 }));
+	}
+
+	@Test
+	public void testArgsortParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			ArgSort argSort = new ArgSort();
+			argSort.setPool(pool);
+			argSort.setParallelThreshold(1_000);
+			checkArgsort(argSort);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testCoSort() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			ArgSort parallel = new ArgSort();
+			parallel.setPool(pool);
+			parallel.setParallelThreshold(1_000);
+			for (ArgSort argSort : new ArgSort[] { new ArgSort(), parallel }) {
+				Random random = new Random(1);
+				int[] keys = new int[SIZE], rows = new int[SIZE];
+				long[] longs = new long[SIZE];
+				double[] doubles = new double[SIZE];
+				String[] strings = new String[SIZE];
+				byte[] bytes = new byte[SIZE];
+				boolean[] booleans = new boolean[SIZE];
+				for (int i = 0; i < SIZE; i++) {
+					keys[i] = random.nextInt(1_000);
+					rows[i] = i;
+					longs[i] = keys[i] * 2L;
+					doubles[i] = keys[i] / 2.0;
+					strings[i] = Integer.toString(keys[i]);
+					bytes[i] = (byte) keys[i];
+					booleans[i] = keys[i] % 2 == 0;
+				}
+				int[] expected = keys.clone();
+				Arrays.sort(expected);
+
+				argSort.coSort(keys, rows, longs, doubles, strings, bytes, booleans);
+				assertArrayEquals(expected, keys);
+				for (int i = 0; i < SIZE; i++) {
+					if (i > 0 && keys[i - 1] == keys[i]) {
+						assertTrue(rows[i - 1] < rows[i]);
+					}
+					assertEquals(keys[i] * 2L, longs[i]);
+					assertEquals(keys[i] / 2.0, doubles[i], 0.0);
+					assertEquals(Integer.toString(keys[i]), strings[i]);
+					assertEquals((byte) keys[i], bytes[i]);
+					assertEquals(keys[i] % 2 == 0, booleans[i]);
+				}
+
+				argSort.coSort(Comparator.reverseOrder(), strings, keys);
+				for (int i = 0; i < SIZE; i++) {
+					assertEquals(Integer.toString(keys[i]), strings[i]);
+					assertTrue(i == 0 || strings[i - 1].compareTo(strings[i]) >= 0);
+				}
+
+				argSort.coSort(doubles, longs);
+				for (int i = 0; i < SIZE; i++) {
+					assertEquals((long) (doubles[i] * 4), longs[i]);
+					assertTrue(i == 0 || doubles[i - 1] <= doubles[i]);
+				}
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCompanionLength() {
+		new ArgSort().coSort(new int[3], new int[3], new String[2]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testCompanionNotArray() {
+		new ArgSort().coSort(new long[3], "companion");
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.sorts.CompositeSort.Column;
+
+public class CompositeSortTests {
+
+	private static final int SIZE = 100_000;
+
+	/** Rows of (region, day, score descending, id), with few distinct regions and days so the groups are large. */
+	private static final class Rows {
+
+		private final String[] regions = new String[SIZE];
+		private final int[] days = new int[SIZE];
+		private final double[] scores = new double[SIZE];
+		private final long[] ids = new long[SIZE];
+
+		private Rows(long seed) {
+			Random random = new Random(seed);
+			for (int i = 0; i < SIZE; i++) {
+				regions[i] = i % 97 == 0 ? null : "region" + random.nextInt(8);
+				days[i] = random.nextInt(30) - 10;
+				scores[i] = i % 501 == 0 ? Double.NaN : random.nextInt(20) / 4.0 - 2;
+				ids[i] = random.nextInt(4) == 0 ? random.nextLong() : random.nextInt(50);
+			}
+		}
+
+		private Integer[] expected(Comparator<String> regionOrder) {
+			Integer[] rows = new Integer[SIZE];
+			for (int i = 0; i < SIZE; i++) {
+				rows[i] = i;
+			}
+			Comparator<Integer> order = Comparator.comparing((Integer row) -> regions[row], regionOrder)
+					.thenComparingInt(row -> days[row])
+					.thenComparing((r1, r2) -> Double.compare(scores[r2], scores[r1]))
+					.thenComparingLong(row -> ids[row]);
+			/* Arrays.sort of objects is stable, so ties stay in row order. */
+			Arrays.sort(rows, order);
+			return rows;
+		}
+	}
+
+	private static void check(CompositeSort sort) {
+		Rows rows = new Rows(SIZE);
+		int[] index = sort.argsort(Column.of(rows.regions), Column.ofInts(rows.days),
+				Column.ofDoubles(rows.scores).descending(), Column.ofLongs(rows.ids));
+		Integer[] expected = rows.expected(Comparator.nullsLast(Comparator.<String> naturalOrder()));
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals("at " + i, (int) expected[i], index[i]);
+		}
+
+		index = sort.argsort(Column.of(rows.regions, Comparator.<String> naturalOrder()).descending().nullsFirst(),
+				Column.ofInts(rows.days), Column.ofDoubles(rows.scores).descending(), Column.ofLongs(rows.ids));
+		expected = rows.expected(Comparator.nullsFirst(Comparator.<String> reverseOrder()));
+		for (int i = 0; i < SIZE; i++) {
+			assertEquals("at " + i, (int) expected[i], index[i]);
+		}
+	}
+
+	@Test
+	public void testArgsort() {
+		check(new CompositeSort());
+		assertArrayEquals(new int[0], new CompositeSort().argsort(Column.ofInts(new int[0])));
+		assertArrayEquals(new int[0], new CompositeSort().argsort());
+		assertArrayEquals(new int[] { 0 }, new CompositeSort().argsort(Column.ofLongs(new long[] { 5 })));
+	}
+
+	@Test
+	public void testParallel() {
+		CompositeSort sort = new CompositeSort();
+		sort.setPool(new ForkJoinPool(4));
+		sort.setParallelThreshold(1_000);
+		check(sort);
+	}
+
+	@Test
+	public void testDescendingInts() {
+		int[] values = { 3, Integer.MIN_VALUE, 7, 3, Integer.MAX_VALUE, -1 };
+		assertArrayEquals(new int[] { 4, 2, 0, 3, 5, 1 },
+				new CompositeSort().argsort(Column.ofInts(values).descending()));
+	}
+
+	@Test
+	public void testSortWithCompanions() {
+		int[] days = { 2, 1, 2, 1, 2 };
+		String[] names = { "e", "d", "c", "b", "a" };
+		long[] amounts = { 10, 20, 30, 40, 50 };
+		new CompositeSort().sort(Arrays.asList(Column.ofInts(days), Column.of(names)), amounts);
+		assertArrayEquals(new int[] { 1, 1, 2, 2, 2 }, days);
+		assertArrayEquals(new String[] { "b", "d", "a", "c", "e" }, names);
+		assertArrayEquals(new long[] { 40, 20, 50, 30, 10 }, amounts);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMismatchedLengths() {
+		new CompositeSort().argsort(Column.ofInts(new int[3]), Column.ofLongs(new long[4]));
+	}
+
+}
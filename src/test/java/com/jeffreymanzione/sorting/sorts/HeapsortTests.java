@@ -1,12 +1,40 @@
-package com.jeffreymanzione.sorting.sorts;
-
-
-import com.jeffreymanzione.sorting.Sort;
-
-public class HeapsortTests extends AbstractSortTests {
-
-	@SuppressWarnings("unchecked")
-	public HeapsortTests() {
-		super((Class<? extends Sort<Integer>>) Heapsort.class, 1_000_000);
-	}
-}
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.Sort;
+
+public class HeapsortTests extends AbstractSortTests {
+
+	@SuppressWarnings("unchecked")
+	public HeapsortTests() {
+		super((Class<? extends Sort<Integer>>) (Class<?>) Heapsort.class, 1_000_000);
+	}
+
+	@Test
+	public void testAritiesOnRanges() {
+		for (int arity : new int[] { 2, 3, 4, 8 }) {
+			Heapsort<Integer> heapsort = new Heapsort<>(arity);
+			for (Integer[] input : new Integer[][] { Arrays.copyOf(test, 10_000), fewUnique(10_000, 8) }) {
+				for (int start : new int[] { 0, 1, 17, 5_000 }) {
+					for (int end : new int[] { start, start + 1, start + 2, start + 9, 9_999, 10_000 }) {
+						Integer[] expected = Arrays.copyOf(input, input.length), arr = Arrays.copyOf(input,
+								input.length);
+						Arrays.sort(expected, start, end);
+						heapsort.sort(arr, start, end);
+						assertArrayEquals("arity " + arity + " [" + start + ", " + end + ")", expected, arr);
+					}
+				}
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testArityOfOne() {
+		new Heapsort<Integer>(1);
+	}
+}
@@ -1,11 +1,11 @@
-package com.jeffreymanzione.sorting.sorts;
-
-
-import com.jeffreymanzione.sorting.Sort;
-
-public class InsertionSortTests extends AbstractSortTests {
-	@SuppressWarnings("unchecked")
-	public InsertionSortTests() {
-		super((Class<? extends Sort<Integer>>) InsertionSort.class, 10_000);
-	}
-}
+package com.jeffreymanzione.sorting.sorts;
+
+
+import com.jeffreymanzione.sorting.Sort;
+
+public class InsertionSortTests extends AbstractSortTests {
+	@SuppressWarnings("unchecked")
+	public InsertionSortTests() {
+		super((Class<? extends Sort<Integer>>) (Class<?>) InsertionSort.class, 10_000);
+	}
+}
@@ -1,12 +1,420 @@
-package com.jeffreymanzione.sorting.sorts;
-
-import com.jeffreymanzione.sorting.ParallelSort;
-
-public class IntrosortTests extends AbstractParallelSortTests {
-
-	@SuppressWarnings("unchecked")
-	public IntrosortTests() {
-		super((Class<? extends ParallelSort<Integer>>) Introsort.class, 1_000_000);
-	}
-
-}
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.AbstractParallelSort;
+import com.jeffreymanzione.sorting.ParallelSort;
+import com.jeffreymanzione.sorting.SortContext;
+import com.jeffreymanzione.sorting.SortHandle;
+import com.jeffreymanzione.sorting.SortMetrics;
+import com.jeffreymanzione.sorting.kernels.ComparatorKernel;
+
+public class IntrosortTests extends AbstractParallelSortTests {
+
+	@SuppressWarnings("unchecked")
+	public IntrosortTests() {
+		super((Class<? extends ParallelSort<Integer>>) (Class<?>) Introsort.class, 1_000_000);
+	}
+
+	@Test
+	public void testHeapsortFallbackOnRanges() {
+		for (int arity : new int[] { 2, 4, 8 }) {
+			Integer[] arr = Arrays.copyOf(test, 100_000);
+			Integer[] expected = Arrays.copyOf(arr, arr.length);
+			Arrays.sort(expected, 10, 99_990);
+
+			/* Partition twice, then heapsort every range off the start of the array. */
+			Introsort<Integer> introsort = new Introsort<>(n -> 2);
+			introsort.setHeapArity(arity);
+			introsort.sort(arr, 10, 99_990);
+			assertArrayEquals("arity " + arity, expected, arr);
+		}
+	}
+
+	@Test
+	public void testSpecializedKernels() {
+		AtomicInteger kernelComparisons = new AtomicInteger(), otherComparisons = new AtomicInteger();
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setComparator((a, b) -> {
+			boolean inKernel = Arrays.stream(new Throwable().getStackTrace())
+					.anyMatch(frame -> frame.getClassName().equals(ComparatorKernel.class.getName()));
+			(inKernel ? kernelComparisons : otherComparisons).incrementAndGet();
+			return Integer.compare(b, a);
+		});
+		introsort.setSpecializedKernels(true);
+		Integer[] expected = Arrays.copyOf(test, 10_000);
+		Arrays.sort(expected, Collections.reverseOrder());
+
+		Integer[] serial = Arrays.copyOf(test, 10_000);
+		introsort.sort(serial);
+		assertArrayEquals(expected, serial);
+		assertTrue(kernelComparisons.get() > 0);
+		assertEquals(0, otherComparisons.get());
+
+		/* Only the ranges left to sort serially go to the kernel. */
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			introsort.setPool(pool);
+			introsort.setParallelThreshold(1_000);
+			kernelComparisons.set(0);
+			Integer[] parallel = Arrays.copyOf(test, 10_000);
+			introsort.sortAsync(parallel).join();
+			assertArrayEquals(expected, parallel);
+			assertTrue(kernelComparisons.get() > 0);
+			assertTrue(otherComparisons.get() > 0);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testRecursionDepthPerCall() {
+		List<Integer> lengths = Collections.synchronizedList(new ArrayList<>());
+		Introsort<Integer> introsort = new Introsort<>(n -> {
+			lengths.add(n);
+			return Introsort.Depth_2nLog2n.apply(n);
+		});
+
+		introsort.sort(Arrays.copyOf(test, 100));
+		introsort.sort(test);
+		introsort.sortParallel(testParallel, 0, 1_000);
+		introsort.awaitCompletion();
+
+		assertEquals(Arrays.asList(100, size, 1_000), lengths);
+		check(ints, test);
+	}
+
+	@Test
+	public void testConcurrentCallers() throws Exception {
+		Introsort<Integer> shared = new Introsort<>();
+		ExecutorService callers = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				final int length = 1 + i * 4_099;
+				final boolean parallel = i % 2 == 0;
+				results.add(callers.submit(() -> {
+					Integer[] arr = new Integer[length];
+					Random random = new Random(length);
+					for (int j = 0; j < length; j++) {
+						arr[j] = random.nextInt(length);
+					}
+					Integer[] expected = Arrays.copyOf(arr, length);
+					Arrays.sort(expected);
+					if (parallel) {
+						shared.sortParallel(arr);
+						shared.awaitCompletion();
+					} else {
+						shared.sort(arr);
+					}
+					assertArrayEquals(expected, arr);
+					return null;
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} finally {
+			callers.shutdown();
+		}
+	}
+
+	@Test
+	public void testSortAsyncFailure() throws InterruptedException {
+		AtomicInteger comparisons = new AtomicInteger();
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setComparator((i1, i2) -> {
+			if (comparisons.incrementAndGet() == 100_000) {
+				throw new IllegalStateException("Comparator failure");
+			}
+			return i1.compareTo(i2);
+		});
+		ForkJoinPool pool = new ForkJoinPool(4);
+		introsort.setPool(pool);
+		introsort.setParallelThreshold(1_000);
+		try {
+			SortHandle<Integer[]> handle = introsort.sortAsync(testParallel);
+			try {
+				handle.get();
+				fail("The handle should have failed");
+			} catch (ExecutionException e) {
+				assertEquals("Comparator failure", e.getCause().getMessage());
+			}
+			assertTrue(handle.isCompletedExceptionally());
+
+			/* The handle only fails once the other subsorts have abandoned their ranges. */
+			int compared = comparisons.get();
+			assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+			assertEquals(compared, comparisons.get());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testAwaitCompletionFailure() {
+		AtomicInteger comparisons = new AtomicInteger();
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setComparator((i1, i2) -> {
+			if (comparisons.incrementAndGet() == 100_000) {
+				throw new IllegalStateException("Comparator failure");
+			}
+			return i1.compareTo(i2);
+		});
+
+		introsort.sortParallel(testParallel);
+		try {
+			introsort.awaitCompletion();
+			fail("The failure should have been rethrown");
+		} catch (IllegalStateException e) {
+			/* Rethrown from another thread, the exception may be a copy wrapping the original. */
+			assertTrue(e.getMessage(), e.getMessage().endsWith("Comparator failure"));
+		}
+		/* The failed invocation is not waited for again. */
+		introsort.awaitCompletion();
+	}
+
+	@Test
+	public void testAwaitCompletionError() {
+		AtomicInteger comparisons = new AtomicInteger();
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setComparator((i1, i2) -> {
+			if (comparisons.incrementAndGet() == 100_000) {
+				throw new AssertionError("Comparator error");
+			}
+			return i1.compareTo(i2);
+		});
+
+		Integer[] failing = Arrays.copyOf(testParallel, testParallel.length);
+		Integer[] other = Arrays.copyOf(testParallel, testParallel.length);
+		introsort.sortParallel(failing);
+		introsort.sortParallel(other);
+		try {
+			introsort.awaitCompletion();
+			fail("The error should have been rethrown");
+		} catch (AssertionError e) {
+			/* Rethrown from another thread, the error may be a copy caused by the original. */
+			Throwable error = e.getCause() instanceof AssertionError ? e.getCause() : e;
+			assertEquals("Comparator error", error.getMessage());
+		}
+		/* Both invocations were joined and dropped, so the error is not rethrown again. */
+		check(ints, other);
+		introsort.awaitCompletion();
+	}
+
+	@Test
+	public void testSortAsyncCancellation() throws InterruptedException {
+		AtomicInteger comparisons = new AtomicInteger();
+		CountDownLatch cancelled = new CountDownLatch(1);
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setComparator((i1, i2) -> {
+			if (comparisons.incrementAndGet() == 1) {
+				try {
+					cancelled.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return i1.compareTo(i2);
+		});
+		ForkJoinPool pool = new ForkJoinPool(2);
+		introsort.setPool(pool);
+		try {
+			SortHandle<Integer[]> handle = introsort.sortAsync(testParallel);
+			assertFalse(handle.await(10, TimeUnit.MILLISECONDS));
+			assertTrue(handle.cancel(false));
+			assertTrue(handle.isDone());
+			cancelled.countDown();
+
+			try {
+				handle.join();
+				fail("The handle should have been cancelled");
+			} catch (CancellationException e) {
+				/* Expected */
+			}
+			/* The first partition pass over the whole range completes, but nothing after it. */
+			assertTrue(handle.await(10, TimeUnit.SECONDS));
+			int compared = comparisons.get();
+			assertTrue("Compared " + compared + " times", compared < 2 * size);
+			assertTrue(pool.awaitQuiescence(10, TimeUnit.SECONDS));
+			assertEquals(compared, comparisons.get());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testMetrics() throws InterruptedException, ExecutionException {
+		AtomicLong comparisons = new AtomicLong();
+		List<SortMetrics.Snapshot> snapshots = Collections.synchronizedList(new ArrayList<>());
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setComparator((i1, i2) -> {
+			comparisons.incrementAndGet();
+			return i1.compareTo(i2);
+		});
+		introsort.setMetricsListener(snapshots::add);
+
+		introsort.sort(test);
+		assertEquals(1, snapshots.size());
+		SortMetrics.Snapshot serial = snapshots.get(0);
+		assertEquals(comparisons.getAndSet(0), serial.getComparisons());
+		assertTrue(serial.getSwaps() > 0);
+		assertTrue(serial.getMaxRecursionDepth() > 0);
+		assertTrue(serial.getInsertionSortFallbacks() > 0);
+		assertEquals(0, serial.getHeapsortFallbacks());
+		assertEquals(0, serial.getSubsorts());
+
+		introsort.sortAsync(testParallel).get();
+		assertEquals(2, snapshots.size());
+		SortMetrics.Snapshot parallel = snapshots.get(1);
+		assertEquals(comparisons.getAndSet(0), parallel.getComparisons());
+		assertTrue(parallel.getSubsorts() > 0);
+		check(ints, testParallel);
+
+		introsort.setRecursionDepthScheme(n -> 0);
+		introsort.sort(testReverse);
+		assertEquals(3, snapshots.size());
+		assertEquals(1, snapshots.get(2).getHeapsortFallbacks());
+
+		introsort.setMetricsListener(null);
+		introsort.sort(testSorted);
+		assertEquals(3, snapshots.size());
+	}
+
+	@Test
+	public void testFlightRecorderEvents() throws IOException {
+		Path dump = Files.createTempFile("introsort", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("com.jeffreymanzione.sorting.Sort");
+			recording.enable("com.jeffreymanzione.sorting.Subsort");
+			recording.start();
+			Introsort<Integer> introsort = new Introsort<>();
+			introsort.sort(test);
+			introsort.sortParallel(testParallel);
+			introsort.awaitCompletion();
+			recording.stop();
+			recording.dump(dump);
+
+			List<RecordedEvent> sorts = new ArrayList<>(), subsorts = new ArrayList<>();
+			for (RecordedEvent event : RecordingFile.readAllEvents(dump)) {
+				String name = event.getEventType().getName();
+				if (name.equals("com.jeffreymanzione.sorting.Sort")) {
+					sorts.add(event);
+				} else if (name.equals("com.jeffreymanzione.sorting.Subsort")) {
+					subsorts.add(event);
+				}
+			}
+
+			assertEquals(2, sorts.size());
+			for (RecordedEvent event : sorts) {
+				assertEquals(Introsort.class.getName(), event.getString("algorithm"));
+				assertEquals(size, event.getInt("size"));
+				assertFalse(event.getDuration().isNegative());
+			}
+			assertTrue(sorts.stream().anyMatch(event -> event.getBoolean("parallel")));
+			assertTrue(subsorts.size() > 1);
+			assertTrue(subsorts.stream().anyMatch(event -> event.getInt("recursionDepth") == 0
+					&& event.getInt("rangeSize") == size));
+			check(ints, testParallel);
+		} finally {
+			Files.delete(dump);
+		}
+	}
+
+	@Test
+	public void testFlightRecorderEventOfFailedSort() throws IOException {
+		List<SortMetrics.Snapshot> snapshots = new ArrayList<>();
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setComparator((i1, i2) -> {
+			throw new IllegalStateException("Comparator failure");
+		});
+		introsort.setMetricsListener(snapshots::add);
+		Path dump = Files.createTempFile("introsort", ".jfr");
+		try (Recording recording = new Recording()) {
+			recording.enable("com.jeffreymanzione.sorting.Sort");
+			recording.start();
+			try {
+				introsort.sort(test);
+				fail("The failure should have been thrown");
+			} catch (IllegalStateException e) {
+				/* Expected */
+			}
+			recording.stop();
+			recording.dump(dump);
+
+			List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+			assertEquals(1, events.size());
+			assertTrue(events.get(0).getBoolean("failed"));
+			/* The context is closed all the same. */
+			assertEquals(1, snapshots.size());
+		} finally {
+			Files.delete(dump);
+		}
+	}
+
+	@Test
+	public void testSortDoesNotAllocatePerElement() {
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.sort(Arrays.copyOf(test, 1_000));
+
+		long allocated = allocatedBytes(() -> introsort.sort(test));
+		assumeTrue(allocated >= 0);
+		assertTrue("Allocated " + allocated + " bytes", allocated < 1_024);
+		check(ints, test);
+	}
+
+	@Override
+	protected ParallelSort<Integer> withPartitionScheme(PartitionScheme scheme) {
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setPartitionScheme(scheme);
+		return introsort;
+	}
+
+	@Override
+	protected ParallelSort<Integer> withLeafSort(LeafSort leafSort, int leafThreshold) {
+		Introsort<Integer> introsort = new Introsort<>();
+		introsort.setLeafSort(leafSort);
+		introsort.setLeafThreshold(leafThreshold);
+		return introsort;
+	}
+
+	@Override
+	protected AbstractParallelSort<Integer> withParallelPartitioning(AtomicInteger sampleSorts) {
+		Introsort<Integer> introsort = new Introsort<Integer>() {
+			@Override
+			protected void sampleSort(Integer[] arr, int start, int end, int recursionDepth, SortContext context) {
+				sampleSorts.incrementAndGet();
+				super.sampleSort(arr, start, end, recursionDepth, context);
+			}
+		};
+		introsort.setParallelPartitioning(true);
+		return introsort;
+	}
+
+}
@@ -0,0 +1,189 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.SortMetrics;
+
+public class KWayMergeTests {
+
+	/** Creates sorted shards of random sizes, each of values drawn from [0, bound). */
+	private static Integer[][] shards(int count, int maxSize, int bound, long seed) {
+		Random random = new Random(seed);
+		Integer[][] shards = new Integer[count][];
+		for (int i = 0; i < count; i++) {
+			shards[i] = new Integer[random.nextInt(maxSize + 1)];
+			for (int j = 0; j < shards[i].length; j++) {
+				/* Distinct instances, so that stability can be checked by identity. */
+				shards[i][j] = new Integer(random.nextInt(bound));
+			}
+			Arrays.sort(shards[i]);
+		}
+		return shards;
+	}
+
+	/** The stable merge of the shards: their concatenation stably sorted. */
+	private static Integer[] expected(Integer[][] shards) {
+		List<Integer> all = new ArrayList<>();
+		for (Integer[] shard : shards) {
+			all.addAll(Arrays.asList(shard));
+		}
+		Integer[] expected = all.toArray(new Integer[all.size()]);
+		Arrays.sort(expected);
+		return expected;
+	}
+
+	private static void assertSameElements(String message, Integer[] expected, Integer[] actual, int offset) {
+		for (int i = 0; i < expected.length; i++) {
+			assertSame(message + " at " + i, expected[i], actual[offset + i]);
+		}
+	}
+
+	@Test
+	public void testMerge() {
+		KWayMerge<Integer> merge = new KWayMerge<>();
+		for (int count : new int[] { 0, 1, 2, 3, 7, 64, 1_000 }) {
+			for (int bound : new int[] { 10, Integer.MAX_VALUE }) {
+				Integer[][] shards = shards(count, 300, bound, count + bound);
+				Integer[] expected = expected(shards);
+				Integer[] out = new Integer[expected.length];
+				merge.merge(shards, out);
+				assertSameElements(count + " shards", expected, out, 0);
+
+				List<Integer> sink = new ArrayList<>();
+				merge.merge(shards, sink::add);
+				assertEquals(Arrays.asList(expected), sink);
+			}
+		}
+	}
+
+	@Test
+	public void testMergeRanges() {
+		KWayMerge<Integer> merge = new KWayMerge<>();
+		Integer[][] shards = shards(10, 100, 50, 1);
+		int[] starts = new int[10], ends = new int[10];
+		Integer[][] ranges = new Integer[10][];
+		for (int i = 0; i < 10; i++) {
+			starts[i] = shards[i].length / 4;
+			ends[i] = shards[i].length - shards[i].length / 4;
+			ranges[i] = Arrays.copyOfRange(shards[i], starts[i], ends[i]);
+		}
+		Integer[] expected = expected(ranges);
+		Integer[] out = new Integer[expected.length + 20];
+		merge.merge(shards, starts, ends, out, 10);
+		assertSameElements("ranges", expected, out, 10);
+		assertNull(out[9]);
+		assertNull(out[expected.length + 10]);
+	}
+
+	@Test
+	public void testMergeComparator() {
+		KWayMerge<Integer> merge = new KWayMerge<>();
+		merge.setComparator(Comparator.reverseOrder());
+		Integer[][] shards = shards(20, 100, 30, 2);
+		for (Integer[] shard : shards) {
+			Arrays.sort(shard, Comparator.reverseOrder());
+		}
+		Integer[] expected = expected(shards);
+		Arrays.sort(expected, Comparator.reverseOrder());
+		Integer[] out = new Integer[expected.length];
+		merge.merge(shards, out);
+		assertArrayEquals(expected, out);
+	}
+
+	@Test
+	public void testMergeParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			KWayMerge<Integer> merge = new KWayMerge<>();
+			merge.setPool(pool);
+			merge.setParallelThreshold(1_000);
+			for (int count : new int[] { 2, 5, 100 }) {
+				for (int bound : new int[] { 3, Integer.MAX_VALUE }) {
+					Integer[][] shards = shards(count, 200_000 / count, bound, count * 31 + bound);
+					Integer[] expected = expected(shards);
+					Integer[] out = new Integer[expected.length + 1];
+					merge.merge(shards, new int[count], lengths(shards), out, 1);
+					assertSameElements("parallel " + count, expected, out, 1);
+				}
+			}
+			/* Shards of disjoint and skewed value ranges. */
+			Integer[][] shards = shards(8, 20_000, 1_000_000, 3);
+			for (int i = 0; i < shards.length; i++) {
+				for (int j = 0; j < shards[i].length; j++) {
+					shards[i][j] = shards[i][j] + (i % 2) * 1_000_000;
+				}
+			}
+			Integer[] expected = expected(shards), out = new Integer[expected.length];
+			merge.merge(shards, out);
+			assertArrayEquals(expected, out);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testMetrics() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			AtomicLong comparisons = new AtomicLong();
+			List<SortMetrics.Snapshot> snapshots = new ArrayList<>();
+			KWayMerge<Integer> merge = new KWayMerge<>();
+			merge.setComparator((a, b) -> {
+				comparisons.incrementAndGet();
+				return Integer.compare(a, b);
+			});
+			merge.setMetricsListener(snapshots::add);
+			merge.setPool(pool);
+			merge.setParallelThreshold(1_000);
+			Integer[][] shards = shards(8, 10_000, 1_000, 5);
+			Integer[] out = new Integer[expected(shards).length];
+
+			/* Serial into a sink, serial into an array, then parallel into an array. */
+			merge.merge(shards, element -> {
+			});
+			merge.setParallelThreshold(Integer.MAX_VALUE);
+			merge.merge(shards, out);
+			merge.setParallelThreshold(1_000);
+			merge.merge(shards, out);
+
+			assertEquals(3, snapshots.size());
+			long total = 0;
+			for (SortMetrics.Snapshot snapshot : snapshots) {
+				assertTrue(snapshot.getComparisons() > 0);
+				total += snapshot.getComparisons();
+			}
+			assertEquals(comparisons.get(), total);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	private static int[] lengths(Integer[][] shards) {
+		int[] lengths = new int[shards.length];
+		for (int i = 0; i < shards.length; i++) {
+			lengths[i] = shards[i].length;
+		}
+		return lengths;
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testOutputTooShort() {
+		new KWayMerge<Integer>().merge(new Integer[][] { { 1 } }, new Integer[0]);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testMismatchedBounds() {
+		new KWayMerge<Integer>().merge(new Integer[][] { { 1 }, { 2 } }, new int[2], new int[1], new Integer[2], 0);
+	}
+
+}
@@ -0,0 +1,142 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class KeySortTests {
+
+	private static final int SIZE = 200_000;
+
+	private static final class Item {
+		private final long key;
+		private final int position;
+
+		private Item(long key, int position) {
+			this.key = key;
+			this.position = position;
+		}
+	}
+
+	private static Item[] items(int size, long keyRange) {
+		Random random = new Random(size);
+		Item[] items = new Item[size];
+		for (int i = 0; i < size; i++) {
+			items[i] = new Item(keyRange == 0 ? random.nextLong() : (long) (random.nextDouble() * keyRange) - keyRange / 2,
+					i);
+		}
+		return items;
+	}
+
+	/** Sorts a copy stably by the comparator, checks the sorted items match it in order. */
+	private static void check(Item[] unsorted, Item[] sorted, int start, int end, Comparator<Item> comparator) {
+		Item[] expected = Arrays.copyOf(unsorted, unsorted.length);
+		Arrays.sort(expected, start, end, comparator);
+		assertArrayEquals(expected, sorted);
+	}
+
+	@Test
+	public void testSortByInt() {
+		Item[] unsorted = items(SIZE, 1_000);
+		Item[] items = Arrays.copyOf(unsorted, SIZE);
+		AtomicInteger extractions = new AtomicInteger();
+
+		new KeySort().sortByInt(items, 10, SIZE - 10, item -> {
+			extractions.incrementAndGet();
+			return (int) item.key;
+		});
+
+		assertEquals(SIZE - 20, extractions.get());
+		check(unsorted, items, 10, SIZE - 10, Comparator.comparingInt(item -> (int) item.key));
+	}
+
+	@Test
+	public void testSortByLong() {
+		Item[] unsorted = items(SIZE, 1L << 40);
+		Item[] items = Arrays.copyOf(unsorted, SIZE);
+
+		new KeySort().sortByLong(items, item -> item.key);
+
+		check(unsorted, items, 0, SIZE, Comparator.comparingLong(item -> item.key));
+	}
+
+	@Test
+	public void testSortByWideLong() {
+		Item[] unsorted = items(SIZE, 0);
+		Item[] items = Arrays.copyOf(unsorted, SIZE);
+
+		new KeySort().sortByLong(items, item -> item.key);
+
+		check(unsorted, items, 0, SIZE, Comparator.comparingLong(item -> item.key));
+	}
+
+	@Test
+	public void testSortByDouble() {
+		Item[] unsorted = items(SIZE, 1_000);
+		unsorted[0] = new Item(0, -1);
+		unsorted[1] = new Item(Long.MIN_VALUE, -2);
+		Item[] items = Arrays.copyOf(unsorted, SIZE);
+		Comparator<Item> comparator = Comparator.comparingDouble(KeySortTests::value);
+
+		new KeySort().sortByDouble(items, KeySortTests::value);
+
+		check(unsorted, items, 0, SIZE, comparator);
+	}
+
+	private static double value(Item item) {
+		if (item.position == -1) {
+			return -0.0;
+		} else if (item.position == -2) {
+			return Double.NaN;
+		}
+		return item.key / 7.0;
+	}
+
+	@Test
+	public void testSortBy() {
+		Item[] unsorted = items(SIZE, 1_000);
+		Item[] items = Arrays.copyOf(unsorted, SIZE);
+		AtomicInteger extractions = new AtomicInteger();
+
+		new KeySort().sortBy(items, item -> {
+			extractions.incrementAndGet();
+			return Long.toString(item.key);
+		});
+
+		assertEquals(SIZE, extractions.get());
+		check(unsorted, items, 0, SIZE, Comparator.comparing(item -> Long.toString(item.key)));
+	}
+
+	@Test
+	public void testParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			KeySort keySort = new KeySort();
+			keySort.setPool(pool);
+			keySort.setParallelThreshold(10_000);
+
+			Item[] unsorted = items(SIZE, 1_000);
+			Item[] items = Arrays.copyOf(unsorted, SIZE);
+			keySort.sortByInt(items, item -> (int) item.key);
+			check(unsorted, items, 0, SIZE, Comparator.comparingInt(item -> (int) item.key));
+
+			unsorted = items(SIZE, 0);
+			items = Arrays.copyOf(unsorted, SIZE);
+			keySort.sortByLong(items, item -> item.key);
+			check(unsorted, items, 0, SIZE, Comparator.comparingLong(item -> item.key));
+
+			items = Arrays.copyOf(unsorted, SIZE);
+			keySort.sortBy(items, 5, SIZE - 5, item -> Long.toString(item.key));
+			check(unsorted, items, 5, SIZE - 5, Comparator.comparing(item -> Long.toString(item.key)));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
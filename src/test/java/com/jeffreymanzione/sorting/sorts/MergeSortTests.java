@@ -0,0 +1,157 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.ParallelSort;
+import com.jeffreymanzione.sorting.SortMetrics;
+
+public class MergeSortTests extends AbstractParallelSortTests {
+
+	@SuppressWarnings("unchecked")
+	public MergeSortTests() {
+		super((Class<? extends ParallelSort<Integer>>) (Class<?>) MergeSort.class, 1_000_000);
+	}
+
+	/**
+	 * An element ordered by its key only, which remembers its original position.
+	 */
+	private static class Keyed implements Comparable<Keyed> {
+
+		private final int key, index;
+
+		private Keyed(int key, int index) {
+			this.key = key;
+			this.index = index;
+		}
+
+		@Override
+		public int compareTo(Keyed o) {
+			return Integer.compare(key, o.key);
+		}
+	}
+
+	private static Keyed[] keyed(int size, int keys) {
+		Random random = new Random(size);
+		Keyed[] arr = new Keyed[size];
+		for (int i = 0; i < size; i++) {
+			arr[i] = new Keyed(random.nextInt(keys), i);
+		}
+		return arr;
+	}
+
+	private static void checkStable(Keyed[] arr) {
+		for (int i = 1; i < arr.length; i++) {
+			assertTrue(arr[i - 1].key <= arr[i].key);
+			if (arr[i - 1].key == arr[i].key) {
+				assertTrue("Unstable at " + i, arr[i - 1].index < arr[i].index);
+			}
+		}
+	}
+
+	@Test
+	public void testStable() {
+		for (int keys : new int[] { 1, 16, 1_000 }) {
+			MergeSort<Keyed> mergeSort = new MergeSort<>();
+			Keyed[] serial = keyed(100_000, keys);
+			mergeSort.sort(serial);
+			checkStable(serial);
+
+			mergeSort.setParallelThreshold(100);
+			Keyed[] parallel = keyed(100_000, keys);
+			mergeSort.sortParallel(parallel);
+			mergeSort.awaitCompletion();
+			checkStable(parallel);
+		}
+	}
+
+	@Test
+	public void testRange() {
+		Integer[] expected = Arrays.copyOf(test, size);
+		Arrays.sort(expected, 1_000, size - 1_000);
+
+		MergeSort<Integer> mergeSort = new MergeSort<>();
+		mergeSort.setParallelThreshold(1_000);
+		mergeSort.sortParallel(testParallel, 1_000, size - 1_000);
+		mergeSort.awaitCompletion();
+		assertArrayEquals(expected, testParallel);
+
+		mergeSort.sort(test, 1_000, size - 1_000);
+		assertArrayEquals(expected, test);
+	}
+
+	@Test
+	public void testBufferIsReused() {
+		MergeSort<Integer> mergeSort = new MergeSort<>();
+		mergeSort.sort(Arrays.copyOf(test, size));
+
+		long allocated = allocatedBytes(() -> mergeSort.sort(test));
+		assumeTrue(allocated >= 0);
+		assertTrue("Allocated " + allocated + " bytes", allocated < 1_024);
+		check(ints, test);
+	}
+
+	@Test
+	public void testConcurrentCallers() throws Exception {
+		MergeSort<Integer> shared = new MergeSort<>();
+		shared.setParallelThreshold(1_000);
+		ExecutorService callers = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> results = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				final int length = 1 + i * 4_099;
+				final boolean parallel = i % 2 == 0;
+				results.add(callers.submit(() -> {
+					Integer[] arr = fewUnique(length, length / 2 + 1);
+					Integer[] expected = Arrays.copyOf(arr, length);
+					Arrays.sort(expected);
+					if (parallel) {
+						shared.sortParallel(arr);
+						shared.awaitCompletion();
+					} else {
+						shared.sort(arr);
+					}
+					assertArrayEquals(expected, arr);
+					return null;
+				}));
+			}
+			for (Future<?> result : results) {
+				result.get();
+			}
+		} finally {
+			callers.shutdown();
+		}
+	}
+
+	@Test
+	public void testMetricsOfParallelMerges() {
+		AtomicLong comparisons = new AtomicLong();
+		AtomicReference<SortMetrics.Snapshot> snapshot = new AtomicReference<>();
+		MergeSort<Integer> mergeSort = new MergeSort<>();
+		mergeSort.setComparator((i1, i2) -> {
+			comparisons.incrementAndGet();
+			return i1.compareTo(i2);
+		});
+		mergeSort.setMetricsListener(snapshot::set);
+
+		mergeSort.sortParallel(testParallel);
+		mergeSort.awaitCompletion();
+		check(ints, testParallel);
+		assertEquals(comparisons.get(), snapshot.get().getComparisons());
+		assertTrue(snapshot.get().getSubsorts() > 0);
+		assertTrue(snapshot.get().getInsertionSortFallbacks() > 0);
+	}
+
+}
@@ -0,0 +1,58 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.Sort;
+
+public class NetworkSortTests extends AbstractSortTests {
+
+	@SuppressWarnings("unchecked")
+	public NetworkSortTests() {
+		super((Class<? extends Sort<Integer>>) (Class<?>) NetworkSort.class, SortingNetworks.MAX_SIZE);
+	}
+
+	/**
+	 * By the 0-1 principle, a network sorts every input if it sorts every input of zeros and ones. The inputs are the
+	 * bits of a mask, so that a compare-exchange moves the set bit of the lower wire to the upper one.
+	 */
+	@Test
+	public void testNetworksSortZerosAndOnes() {
+		for (int n = 2; n <= 20; n++) {
+			int[] network = SortingNetworks.network(n);
+			for (int input = 0; input < 1 << n; input++) {
+				int bits = input;
+				for (int c = 0; c < network.length; c += 2) {
+					int i = network[c], j = network[c + 1];
+					if ((bits >>> i & 1) == 1 && (bits >>> j & 1) == 0) {
+						bits ^= 1 << i | 1 << j;
+					}
+				}
+				int ones = Integer.bitCount(input);
+				assertEquals("size " + n + ", input " + input, -1 << (n - ones) & (1 << n) - 1, bits);
+			}
+		}
+	}
+
+	@Test
+	public void testEverySize() {
+		Random random = new Random(size);
+		NetworkSort<Integer> networkSort = new NetworkSort<>();
+		for (int n = 0; n <= 2 * SortingNetworks.MAX_SIZE; n++) {
+			for (int round = 0; round < 100; round++) {
+				Integer[] arr = new Integer[n + 6];
+				for (int i = 0; i < arr.length; i++) {
+					arr[i] = random.nextInt(n + 1);
+				}
+				Integer[] expected = Arrays.copyOf(arr, arr.length);
+				Arrays.sort(expected, 3, n + 3);
+				networkSort.sort(arr, 3, n + 3);
+				assertArrayEquals("size " + n, expected, arr);
+			}
+		}
+	}
+}
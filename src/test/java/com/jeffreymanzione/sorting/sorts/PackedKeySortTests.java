@@ -0,0 +1,81 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class PackedKeySortTests {
+
+	private static final int SIZE = 100_000;
+
+	private static void checkArgsort(PackedKeySort packedSort) {
+		Random random = new Random(SIZE);
+		int[] values = new int[SIZE];
+		long[] keys = new long[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			values[i] = random.nextInt(1_000) - 500;
+			keys[i] = PackedKeySort.sortable(values[i]);
+		}
+		int[] index = packedSort.argsort(keys);
+		boolean[] seen = new boolean[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			assertFalse(seen[index[i]]);
+			seen[index[i]] = true;
+			if (i > 0) {
+				int cmp = Integer.compare(values[index[i - 1]], values[index[i]]);
+				assertTrue("at " + i, cmp < 0 || (cmp == 0 && index[i - 1] < index[i]));
+			}
+		}
+	}
+
+	@Test
+	public void testArgsort() {
+		checkArgsort(new PackedKeySort());
+		assertArrayEquals(new int[0], new PackedKeySort().argsort(new long[0]));
+		assertArrayEquals(new int[] { 0 }, new PackedKeySort().argsort(new long[] { 5 }));
+	}
+
+	@Test
+	public void testArgsortParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			PackedKeySort packedSort = new PackedKeySort();
+			packedSort.setPool(pool);
+			packedSort.setParallelThreshold(1_000);
+			checkArgsort(packedSort);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testSortableOrder() {
+		double[] doubles = { Double.NEGATIVE_INFINITY, -1.5, -0.0, 0.0, Double.MIN_VALUE, 2.0, Double.NaN };
+		for (int i = 1; i < doubles.length; i++) {
+			assertTrue(Long.compareUnsigned(PackedKeySort.sortable(doubles[i - 1]),
+					PackedKeySort.sortable(doubles[i])) < 0);
+		}
+		assertTrue(Long.compareUnsigned(PackedKeySort.sortable(Long.MIN_VALUE), PackedKeySort.sortable(-1L)) < 0);
+		assertTrue(Long.compareUnsigned(PackedKeySort.sortable(-1), PackedKeySort.sortable(0)) < 0);
+	}
+
+	@Test
+	public void testSortRangeOfRows() {
+		long[] keys = { 9, 3, 7, 3, 1, 0 };
+		int[] rows = { 5, 4, 3, 2, 1, 0 };
+		assertTrue(new PackedKeySort().sort(keys, rows, 1, 4));
+		/* Keys 3, 7, 3 of rows 4, 3, 2: the rows of the equal keys end up in ascending order. */
+		assertArrayEquals(new int[] { 5, 2, 4, 3, 1, 0 }, rows);
+	}
+
+	@Test
+	public void testWideKeysAreNotPacked() {
+		long[] keys = { 0, -1L, 1L << 62, 5 };
+		long[] copy = keys.clone();
+		assertNull(new PackedKeySort().argsort(keys));
+		assertArrayEquals(copy, keys);
+	}
+}
@@ -0,0 +1,205 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.SortMetrics;
+
+public class PartialSortTests {
+
+	private static final int SIZE = 200_000;
+
+	private static Integer[] randoms(int size, int bound) {
+		Random random = new Random(size + bound);
+		Integer[] randoms = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			randoms[i] = random.nextInt(bound);
+		}
+		return randoms;
+	}
+
+	/** Checks the range starts with its smallest k elements in order and still holds the same elements. */
+	private static void check(String message, Integer[] input, Integer[] arr, int start, int end, int k) {
+		Integer[] expected = Arrays.copyOfRange(input, start, end), actual = Arrays.copyOfRange(arr, start, end);
+		Arrays.sort(expected);
+		assertArrayEquals(message, Arrays.copyOf(expected, k), Arrays.copyOf(actual, k));
+		Arrays.sort(actual);
+		assertArrayEquals(message, expected, actual);
+		for (int i = 0; i < input.length; i++) {
+			if (i < start || i >= end) {
+				assertSame(message, input[i], arr[i]);
+			}
+		}
+	}
+
+	@Test
+	public void testPartialSort() {
+		for (PartitionScheme scheme : PartitionScheme.values()) {
+			PartialSort<Integer> partialSort = new PartialSort<>();
+			partialSort.setPartitionScheme(scheme);
+			for (Integer[] input : new Integer[][] { randoms(SIZE, Integer.MAX_VALUE), randoms(SIZE, 8) }) {
+				for (int k : new int[] { 0, 1, 2, 100, 5_000, SIZE - 1, SIZE }) {
+					Integer[] arr = Arrays.copyOf(input, SIZE);
+					partialSort.partialSort(arr, k);
+					check(scheme + " " + k, input, arr, 0, SIZE, k);
+				}
+				Integer[] arr = Arrays.copyOf(input, SIZE);
+				partialSort.partialSort(arr, 10, SIZE - 10, 1_000);
+				check(scheme + " range", input, arr, 10, SIZE - 10, 1_000);
+			}
+		}
+	}
+
+	@Test
+	public void testPartialSortSorted() {
+		Integer[] sorted = new Integer[SIZE], reversed = new Integer[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			sorted[i] = i;
+			reversed[i] = SIZE - i;
+		}
+		PartialSort<Integer> partialSort = new PartialSort<>();
+		for (Integer[] input : new Integer[][] { sorted, reversed }) {
+			Integer[] arr = Arrays.copyOf(input, SIZE);
+			partialSort.partialSort(arr, 100);
+			check("sorted", input, arr, 0, SIZE, 100);
+		}
+	}
+
+	@Test
+	public void testMetrics() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			AtomicLong comparisons = new AtomicLong();
+			List<SortMetrics.Snapshot> snapshots = new ArrayList<>();
+			PartialSort<Integer> partialSort = new PartialSort<>();
+			partialSort.setComparator((a, b) -> {
+				comparisons.incrementAndGet();
+				return Integer.compare(a, b);
+			});
+			partialSort.setMetricsListener(snapshots::add);
+			partialSort.setPool(pool);
+			Integer[] input = randoms(SIZE, Integer.MAX_VALUE);
+
+			/* Serial, then parallel over chunks, then from a stream. */
+			partialSort.partialSort(Arrays.copyOf(input, SIZE), 100);
+			partialSort.setParallelThreshold(1_000);
+			partialSort.partialSort(Arrays.copyOf(input, SIZE), 100);
+			partialSort.topK(Arrays.asList(input), 100);
+
+			assertEquals(3, snapshots.size());
+			long total = 0;
+			for (SortMetrics.Snapshot snapshot : snapshots) {
+				assertTrue(snapshot.getComparisons() > 0);
+				total += snapshot.getComparisons();
+			}
+			assertEquals(comparisons.get(), total);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testPartialSortParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			PartialSort<Integer> partialSort = new PartialSort<>();
+			partialSort.setPool(pool);
+			partialSort.setParallelThreshold(10_000);
+			Integer[] input = randoms(SIZE, Integer.MAX_VALUE);
+			for (int k : new int[] { 1, 100, 2_000, 50_000 }) {
+				Integer[] arr = Arrays.copyOf(input, SIZE);
+				partialSort.partialSort(arr, 5, SIZE, k);
+				check("parallel " + k, input, arr, 5, SIZE, k);
+			}
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void testTopK() {
+		PartialSort<Integer> partialSort = new PartialSort<>();
+		List<Integer> input = Arrays.asList(randoms(SIZE, 1_000));
+		List<Integer> sorted = new ArrayList<>(input);
+		Collections.sort(sorted);
+
+		assertEquals(sorted.subList(0, 100), partialSort.topK(input, 100));
+		assertEquals(sorted.subList(0, 1), partialSort.topK(input.iterator(), 1));
+		assertEquals(Collections.emptyList(), partialSort.topK(input, 0));
+		assertEquals(sorted, partialSort.topK(input, SIZE + 1));
+
+		partialSort.setComparator(Comparator.reverseOrder());
+		Collections.reverse(sorted);
+		assertEquals(sorted.subList(0, 5_000), partialSort.topK(input, 5_000));
+	}
+
+	@Test
+	public void testSortedView() {
+		for (PartitionScheme scheme : PartitionScheme.values()) {
+			PartialSort<Integer> partialSort = new PartialSort<>();
+			partialSort.setPartitionScheme(scheme);
+			for (Integer[] input : new Integer[][] { randoms(SIZE, Integer.MAX_VALUE), randoms(SIZE, 8) }) {
+				Integer[] expected = Arrays.copyOf(input, SIZE);
+				Arrays.sort(expected);
+
+				Integer[] arr = Arrays.copyOf(input, SIZE);
+				SortedView<Integer> view = partialSort.sortedView(arr);
+				for (int i = 0; i < 1_000; i++) {
+					assertEquals(scheme + " " + i, expected[i], view.next());
+				}
+				assertEquals(1_000, view.consumed());
+				check(scheme + " prefix", input, arr, 0, SIZE, 1_000);
+
+				List<Integer> rest = new ArrayList<>();
+				view.forEachRemaining(rest::add);
+				assertEquals(Arrays.asList(expected).subList(1_000, SIZE), rest);
+				assertArrayEquals(expected, arr);
+				assertFalse(view.hasNext());
+			}
+		}
+	}
+
+	@Test
+	public void testSortedViewRange() {
+		Integer[] sorted = new Integer[SIZE], reversed = new Integer[SIZE];
+		for (int i = 0; i < SIZE; i++) {
+			sorted[i] = i;
+			reversed[i] = SIZE - i;
+		}
+		PartialSort<Integer> partialSort = new PartialSort<>();
+		for (Integer[] input : new Integer[][] { sorted, reversed, randoms(SIZE, 1_000) }) {
+			Integer[] arr = Arrays.copyOf(input, SIZE);
+			SortedView<Integer> view = partialSort.sortedView(arr, 10, SIZE - 10);
+			while (view.hasNext()) {
+				view.next();
+			}
+			check("range", input, arr, 10, SIZE - 10, SIZE - 20);
+		}
+		assertFalse(partialSort.sortedView(new Integer[0]).hasNext());
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void testSortedViewExhausted() {
+		SortedView<Integer> view = new PartialSort<Integer>().sortedView(new Integer[] { 2, 1 });
+		assertEquals(Integer.valueOf(1), view.next());
+		assertEquals(Integer.valueOf(2), view.next());
+		view.next();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testNegativeK() {
+		new PartialSort<Integer>().partialSort(randoms(10, 10), -1);
+	}
+
+}
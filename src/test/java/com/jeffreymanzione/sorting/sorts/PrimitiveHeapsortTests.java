@@ -0,0 +1,8 @@
+package com.jeffreymanzione.sorting.sorts;
+
+public class PrimitiveHeapsortTests extends AbstractPrimitiveSortTests {
+
+	public PrimitiveHeapsortTests() {
+		super(PrimitiveHeapsort.class, 1_000_000);
+	}
+}
@@ -0,0 +1,8 @@
+package com.jeffreymanzione.sorting.sorts;
+
+public class PrimitiveInsertionSortTests extends AbstractPrimitiveSortTests {
+
+	public PrimitiveInsertionSortTests() {
+		super(PrimitiveInsertionSort.class, 10_000);
+	}
+}
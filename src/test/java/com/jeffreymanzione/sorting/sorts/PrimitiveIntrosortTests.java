@@ -0,0 +1,53 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.AbstractParallelPrimitiveSort;
+
+public class PrimitiveIntrosortTests extends AbstractParallelPrimitiveSortTests {
+
+	public PrimitiveIntrosortTests() {
+		super(PrimitiveIntrosort.class, 1_000_000);
+	}
+
+	@Override
+	protected AbstractParallelPrimitiveSort blockingSort(CountDownLatch released) {
+		AtomicBoolean blocked = new AtomicBoolean();
+		return new PrimitiveIntrosort() {
+			@Override
+			protected void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength,
+					boolean isParallel) {
+				if (isParallel && blocked.compareAndSet(false, true)) {
+					await(released);
+				}
+				super.sortImplementation(arr, start, end, recursionDepth, originalLength, isParallel);
+			}
+		};
+	}
+
+	@Test
+	public void testLeafSorts() {
+		for (LeafSort leafSort : LeafSort.values()) {
+			for (int leafThreshold : new int[] { 2, 16, 33, 64 }) {
+				PrimitiveIntrosort introsort = new PrimitiveIntrosort();
+				introsort.setLeafSort(leafSort);
+				introsort.setLeafThreshold(leafThreshold);
+
+				int[] sortedInts = Arrays.copyOf(ints, size);
+				introsort.sort(sortedInts);
+				assertArrayEquals(leafSort + " " + leafThreshold, intsExpected, sortedInts);
+
+				double[] sortedDoubles = Arrays.copyOf(doubles, size);
+				introsort.sort(sortedDoubles);
+				assertArrayEquals(leafSort + " " + leafThreshold, doublesExpected, sortedDoubles, 0.0);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,8 @@
+package com.jeffreymanzione.sorting.sorts;
+
+public class PrimitiveNetworkSortTests extends AbstractPrimitiveSortTests {
+
+	public PrimitiveNetworkSortTests() {
+		super(PrimitiveNetworkSort.class, SortingNetworks.MAX_SIZE);
+	}
+}
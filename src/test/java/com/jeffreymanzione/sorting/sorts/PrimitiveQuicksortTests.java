@@ -0,0 +1,9 @@
+package com.jeffreymanzione.sorting.sorts;
+
+public class PrimitiveQuicksortTests extends AbstractParallelPrimitiveSortTests {
+
+	public PrimitiveQuicksortTests() {
+		super(PrimitiveQuicksort.class, 1_000_000);
+	}
+
+}
@@ -0,0 +1,67 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.AbstractParallelPrimitiveSort;
+
+public class PrimitiveRadixSortTests extends AbstractParallelPrimitiveSortTests {
+
+	public PrimitiveRadixSortTests() {
+		super(PrimitiveRadixSort.class, 1_000_000);
+	}
+
+	@Override
+	protected AbstractParallelPrimitiveSort blockingSort(CountDownLatch released) {
+		AtomicBoolean blocked = new AtomicBoolean();
+		return new PrimitiveRadixSort() {
+			@Override
+			protected void sortImplementation(int[] arr, int start, int end, int recursionDepth, int originalLength,
+					boolean isParallel) {
+				if (isParallel && blocked.compareAndSet(false, true)) {
+					await(released);
+				}
+				super.sortImplementation(arr, start, end, recursionDepth, originalLength, isParallel);
+			}
+		};
+	}
+
+	@Test
+	public void testNarrowKeysParallel() {
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			PrimitiveRadixSort radixSort = new PrimitiveRadixSort();
+			radixSort.setPool(pool);
+			radixSort.setParallelThreshold(10_000);
+
+			Random random = new Random(size);
+			int[] narrowInts = new int[size];
+			long[] narrowLongs = new long[size];
+			for (int i = 0; i < size; i++) {
+				narrowInts[i] = random.nextInt(1_000) - 500;
+				narrowLongs[i] = (random.nextInt(1_000) - 500) * (1L << 40);
+			}
+			int[] expectedInts = Arrays.copyOf(narrowInts, size);
+			Arrays.sort(expectedInts, 10, size - 10);
+			long[] expectedLongs = Arrays.copyOf(narrowLongs, size);
+			Arrays.sort(expectedLongs);
+
+			radixSort.sortParallel(narrowInts, 10, size - 10);
+			radixSort.sortParallel(narrowLongs);
+			radixSort.awaitCompletion();
+
+			assertArrayEquals(expectedInts, narrowInts);
+			assertArrayEquals(expectedLongs, narrowLongs);
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+}
@@ -1,12 +1,62 @@
-package com.jeffreymanzione.sorting.sorts;
-
-import com.jeffreymanzione.sorting.ParallelSort;
-
-public class QuicksortTests extends AbstractParallelSortTests {
-
-	@SuppressWarnings("unchecked")
-	public QuicksortTests() {
-		super((Class<? extends ParallelSort<Integer>>) Quicksort.class, 1_000_000);
-	}
-
-}
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.AbstractParallelSort;
+import com.jeffreymanzione.sorting.ParallelSort;
+import com.jeffreymanzione.sorting.SortContext;
+
+public class QuicksortTests extends AbstractParallelSortTests {
+
+	@SuppressWarnings("unchecked")
+	public QuicksortTests() {
+		super((Class<? extends ParallelSort<Integer>>) (Class<?>) Quicksort.class, 1_000_000);
+	}
+
+	@Test
+	public void testSortDoesNotAllocatePerElement() {
+		Quicksort<Integer> quicksort = new Quicksort<>();
+		/* Warm up on an input of the same size, so that loading and compiling the code is not counted. */
+		quicksort.sort(Arrays.copyOf(test, size));
+
+		long allocated = allocatedBytes(() -> quicksort.sort(test));
+		assumeTrue(allocated >= 0);
+		assertTrue("Allocated " + allocated + " bytes", allocated < 1_024);
+		check(ints, test);
+	}
+
+	@Override
+	protected ParallelSort<Integer> withPartitionScheme(PartitionScheme scheme) {
+		Quicksort<Integer> quicksort = new Quicksort<>();
+		quicksort.setPartitionScheme(scheme);
+		return quicksort;
+	}
+
+	@Override
+	protected ParallelSort<Integer> withLeafSort(LeafSort leafSort, int leafThreshold) {
+		Quicksort<Integer> quicksort = new Quicksort<>();
+		quicksort.setLeafSort(leafSort);
+		quicksort.setLeafThreshold(leafThreshold);
+		return quicksort;
+	}
+
+	@Override
+	protected AbstractParallelSort<Integer> withParallelPartitioning(AtomicInteger sampleSorts) {
+		Quicksort<Integer> quicksort = new Quicksort<Integer>() {
+			@Override
+			protected void sampleSort(Integer[] arr, int start, int end, int recursionDepth, SortContext context) {
+				sampleSorts.incrementAndGet();
+				super.sampleSort(arr, start, end, recursionDepth, context);
+			}
+		};
+		quicksort.setParallelPartitioning(true);
+		return quicksort;
+	}
+
+}
@@ -0,0 +1,168 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.SortableSource;
+import com.jeffreymanzione.sorting.SortableSources;
+import com.jeffreymanzione.sorting.SourceSort;
+
+public class SourceSortTests {
+
+	private static final int SIZE = 50_000;
+
+	private static List<SourceSort> sorts() {
+		Quicksort<Integer> networkQuicksort = new Quicksort<>();
+		networkQuicksort.setLeafSort(LeafSort.SORTING_NETWORK);
+		networkQuicksort.setLeafThreshold(24);
+		Introsort<Integer> networkIntrosort = new Introsort<>();
+		networkIntrosort.setLeafSort(LeafSort.SORTING_NETWORK);
+		return Arrays.asList(new Quicksort<Integer>(), networkQuicksort, new Introsort<Integer>(), networkIntrosort,
+				new Introsort<Integer>(n -> 2), new Heapsort<Integer>(), new Heapsort<Integer>(2),
+				new NetworkSort<Integer>());
+	}
+
+	private static int[] randoms(int size, int bound, long seed) {
+		Random random = new Random(seed);
+		int[] randoms = new int[size];
+		for (int i = 0; i < size; i++) {
+			randoms[i] = random.nextInt(bound);
+		}
+		return randoms;
+	}
+
+	private static List<int[]> inputs(int size) {
+		int[] sorted = new int[size], reversed = new int[size];
+		for (int i = 0; i < size; i++) {
+			sorted[i] = i;
+			reversed[i] = size - i;
+		}
+		return Arrays.asList(randoms(size, Integer.MAX_VALUE, size), randoms(size, 5, size), sorted, reversed,
+				new int[size]);
+	}
+
+	/** Insertion and network sorts are quadratic above small ranges, so they get smaller inputs. */
+	private static int size(SourceSort sort) {
+		return sort instanceof NetworkSort ? 2_000 : SIZE;
+	}
+
+	@Test
+	public void testLists() {
+		for (SourceSort sort : sorts()) {
+			for (int[] input : inputs(size(sort))) {
+				List<Integer> list = new ArrayList<>();
+				for (int value : input) {
+					list.add(value);
+				}
+				List<Integer> expected = new ArrayList<>(list);
+				Collections.sort(expected);
+				sort.sort(SortableSources.of(list));
+				assertEquals(sort.getClass().getSimpleName(), expected, list);
+
+				Collections.reverse(expected);
+				sort.sort(SortableSources.of(list, Comparator.reverseOrder()));
+				assertEquals(sort.getClass().getSimpleName(), expected, list);
+			}
+		}
+	}
+
+	@Test
+	public void testBuffers() {
+		for (SourceSort sort : sorts()) {
+			for (int[] input : inputs(size(sort))) {
+				int[] expected = Arrays.copyOf(input, input.length);
+				Arrays.sort(expected);
+
+				IntBuffer ints = ByteBuffer.allocateDirect(4 * input.length).asIntBuffer();
+				ints.put(input).flip();
+				sort.sort(SortableSources.of(ints));
+				int[] actual = new int[input.length];
+				ints.get(actual);
+				assertArrayEquals(sort.getClass().getSimpleName(), expected, actual);
+
+				LongBuffer longs = LongBuffer.allocate(input.length + 2);
+				longs.put(-1);
+				for (int value : input) {
+					longs.put(value + (long) Integer.MAX_VALUE);
+				}
+				longs.put(-1).flip().position(1).limit(input.length + 1);
+				sort.sort(SortableSources.of(longs));
+				assertEquals(1, longs.position());
+				longs.limit(input.length + 2);
+				assertEquals(-1, longs.get(0));
+				assertEquals(-1, longs.get(input.length + 1));
+				for (int i = 0; i < input.length; i++) {
+					assertEquals(expected[i] + (long) Integer.MAX_VALUE, longs.get(i + 1));
+				}
+			}
+		}
+	}
+
+	/** A caller-defined store: parallel key and payload columns, swapped together. */
+	private static final class Columns implements SortableSource {
+
+		private final int[] keys, payloads;
+
+		private Columns(int[] keys) {
+			this.keys = keys;
+			this.payloads = new int[keys.length];
+			for (int i = 0; i < keys.length; i++) {
+				payloads[i] = keys[i] * 31;
+			}
+		}
+
+		@Override
+		public int size() {
+			return keys.length;
+		}
+
+		@Override
+		public int compare(int i, int j) {
+			return Integer.compare(keys[i], keys[j]);
+		}
+
+		@Override
+		public void swap(int i, int j) {
+			int key = keys[i], payload = payloads[i];
+			keys[i] = keys[j];
+			payloads[i] = payloads[j];
+			keys[j] = key;
+			payloads[j] = payload;
+		}
+	}
+
+	@Test
+	public void testCustomSourceRanges() {
+		for (SourceSort sort : sorts()) {
+			int size = size(sort);
+			int[] input = randoms(size, 1_000, 7);
+			Columns columns = new Columns(Arrays.copyOf(input, size));
+			sort.sort(columns, 10, size - 10);
+
+			int[] expected = Arrays.copyOf(input, size);
+			Arrays.sort(expected, 10, size - 10);
+			assertArrayEquals(sort.getClass().getSimpleName(), expected, columns.keys);
+			for (int i = 0; i < size; i++) {
+				assertEquals(columns.keys[i] * 31, columns.payloads[i]);
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSequentialList() {
+		SortableSources.of(new LinkedList<Integer>());
+	}
+
+}
@@ -0,0 +1,95 @@
+package com.jeffreymanzione.sorting.sorts;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.jeffreymanzione.sorting.ParallelSort;
+
+public class TimSortTests extends AbstractParallelSortTests {
+
+	@SuppressWarnings("unchecked")
+	public TimSortTests() {
+		super((Class<? extends ParallelSort<Integer>>) (Class<?>) TimSort.class, 1_000_000);
+	}
+
+	/**
+	 * @return A comparator ordering by key / 1_000_000 only, which counts its comparisons.
+	 */
+	private static Comparator<Integer> byKey(AtomicLong comparisons) {
+		return (a, b) -> {
+			comparisons.incrementAndGet();
+			return Integer.compare(a / 1_000_000, b / 1_000_000);
+		};
+	}
+
+	@Test
+	public void testSortedIsLinear() {
+		for (Integer[] input : new Integer[][] { testSorted, testReverse }) {
+			AtomicLong comparisons = new AtomicLong();
+			TimSort<Integer> timSort = new TimSort<>();
+			timSort.setComparator((a, b) -> {
+				comparisons.incrementAndGet();
+				return a.compareTo(b);
+			});
+			timSort.sort(input);
+			check(ints, input);
+			assertTrue("Comparisons: " + comparisons, comparisons.get() < size);
+		}
+	}
+
+	@Test
+	public void testStable() {
+		Random random = new Random(size);
+		for (int keys : new int[] { 1, 7, 1_000 }) {
+			/* Every value is key * 1_000_000 + its original position. */
+			Integer[] serial = new Integer[100_000];
+			for (int i = 0; i < serial.length; i++) {
+				serial[i] = random.nextInt(keys) * 1_000_000 + i;
+			}
+			Integer[] parallel = Arrays.copyOf(serial, serial.length);
+			Integer[] expected = Arrays.copyOf(serial, serial.length);
+			Arrays.sort(expected);
+
+			TimSort<Integer> timSort = new TimSort<>();
+			timSort.setComparator(byKey(new AtomicLong()));
+			timSort.sort(serial);
+			assertArrayEquals(expected, serial);
+
+			timSort.setParallelThreshold(1_000);
+			timSort.sortParallel(parallel);
+			timSort.awaitCompletion();
+			assertArrayEquals(expected, parallel);
+		}
+	}
+
+	@Test
+	public void testNaturalRuns() {
+		Random random = new Random(size);
+		Integer[] input = new Integer[size];
+		for (int i = 0; i < size;) {
+			int length = Math.min(size - i, 1 + random.nextInt(50_000));
+			int first = random.nextInt(size), step = random.nextBoolean() ? 1 : -1;
+			for (int j = 0; j < length; j++) {
+				input[i++] = first + step * j;
+			}
+		}
+		Integer[] expected = Arrays.copyOf(input, size);
+		Arrays.sort(expected);
+
+		TimSort<Integer> timSort = new TimSort<>();
+		Integer[] serial = Arrays.copyOf(input, size);
+		timSort.sort(serial);
+		assertArrayEquals(expected, serial);
+
+		timSort.sortParallel(input);
+		timSort.awaitCompletion();
+		assertArrayEquals(expected, input);
+	}
+
+}